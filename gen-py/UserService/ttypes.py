@@ -98,59 +98,805 @@ class User(object):
         return not (self == other)
 
 
+class UserFilter(object):
+    """
+    Attributes:
+     - minAge
+     - maxAge
+     - namePrefix
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, minAge = None, maxAge = None, namePrefix = None,):
+        self.minAge = minAge
+        self.maxAge = maxAge
+        self.namePrefix = namePrefix
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.I32:
+                    self.minAge = iprot.readI32()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.I32:
+                    self.maxAge = iprot.readI32()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.STRING:
+                    self.namePrefix = iprot.readString().decode('utf-8', errors='replace') if sys.version_info[0] == 2 else iprot.readString()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('UserFilter')
+        if self.minAge is not None:
+            oprot.writeFieldBegin('minAge', TType.I32, 1)
+            oprot.writeI32(self.minAge)
+            oprot.writeFieldEnd()
+        if self.maxAge is not None:
+            oprot.writeFieldBegin('maxAge', TType.I32, 2)
+            oprot.writeI32(self.maxAge)
+            oprot.writeFieldEnd()
+        if self.namePrefix is not None:
+            oprot.writeFieldBegin('namePrefix', TType.STRING, 3)
+            oprot.writeString(self.namePrefix.encode('utf-8') if sys.version_info[0] == 2 else self.namePrefix)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class UserProjection(object):
+    """
+    Attributes:
+     - id
+     - name
+     - age
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, id = None, name = None, age = None,):
+        self.id = id
+        self.name = name
+        self.age = age
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.BOOL:
+                    self.id = iprot.readBool()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.BOOL:
+                    self.name = iprot.readBool()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.BOOL:
+                    self.age = iprot.readBool()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('UserProjection')
+        if self.id is not None:
+            oprot.writeFieldBegin('id', TType.BOOL, 1)
+            oprot.writeBool(self.id)
+            oprot.writeFieldEnd()
+        if self.name is not None:
+            oprot.writeFieldBegin('name', TType.BOOL, 2)
+            oprot.writeBool(self.name)
+            oprot.writeFieldEnd()
+        if self.age is not None:
+            oprot.writeFieldBegin('age', TType.BOOL, 3)
+            oprot.writeBool(self.age)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class UserView(object):
+    """
+    Attributes:
+     - id
+     - name
+     - age
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, id = None, name = None, age = None,):
+        self.id = id
+        self.name = name
+        self.age = age
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.I64:
+                    self.id = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.STRING:
+                    self.name = iprot.readString().decode('utf-8', errors='replace') if sys.version_info[0] == 2 else iprot.readString()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.I32:
+                    self.age = iprot.readI32()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('UserView')
+        if self.id is not None:
+            oprot.writeFieldBegin('id', TType.I64, 1)
+            oprot.writeI64(self.id)
+            oprot.writeFieldEnd()
+        if self.name is not None:
+            oprot.writeFieldBegin('name', TType.STRING, 2)
+            oprot.writeString(self.name.encode('utf-8') if sys.version_info[0] == 2 else self.name)
+            oprot.writeFieldEnd()
+        if self.age is not None:
+            oprot.writeFieldBegin('age', TType.I32, 3)
+            oprot.writeI32(self.age)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class AgeCount(object):
+    """
+    Attributes:
+     - age
+     - count
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, age = None, count = None,):
+        self.age = age
+        self.count = count
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.I32:
+                    self.age = iprot.readI32()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.I64:
+                    self.count = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('AgeCount')
+        if self.age is not None:
+            oprot.writeFieldBegin('age', TType.I32, 1)
+            oprot.writeI32(self.age)
+            oprot.writeFieldEnd()
+        if self.count is not None:
+            oprot.writeFieldBegin('count', TType.I64, 2)
+            oprot.writeI64(self.count)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class InvalidationBatch(object):
+    """
+    Attributes:
+     - sequence
+     - userIds
+     - reset
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, sequence = None, userIds = None, reset = None,):
+        self.sequence = sequence
+        self.userIds = userIds
+        self.reset = reset
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.I64:
+                    self.sequence = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.LIST:
+                    self.userIds = []
+                    (_etype3, _size0) = iprot.readListBegin()
+                    for _i4 in range(_size0):
+                        _elem5 = iprot.readI64()
+                        self.userIds.append(_elem5)
+                    iprot.readListEnd()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.BOOL:
+                    self.reset = iprot.readBool()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('InvalidationBatch')
+        if self.sequence is not None:
+            oprot.writeFieldBegin('sequence', TType.I64, 1)
+            oprot.writeI64(self.sequence)
+            oprot.writeFieldEnd()
+        if self.userIds is not None:
+            oprot.writeFieldBegin('userIds', TType.LIST, 2)
+            oprot.writeListBegin(TType.I64, len(self.userIds))
+            for iter6 in self.userIds:
+                oprot.writeI64(iter6)
+            oprot.writeListEnd()
+            oprot.writeFieldEnd()
+        if self.reset is not None:
+            oprot.writeFieldBegin('reset', TType.BOOL, 3)
+            oprot.writeBool(self.reset)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
 class UserNotFoundException(TException):
     """
     Attributes:
-     - message
+     - message
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, message = None,):
+        super(UserNotFoundException, self).__setattr__('message', message)
+
+    def __setattr__(self, *args):
+        raise TypeError("can't modify immutable instance")
+
+    def __delattr__(self, *args):
+        raise TypeError("can't modify immutable instance")
+
+    def __hash__(self):
+        return hash(self.__class__) ^ hash((self.message, ))
+
+    @classmethod
+    def read(cls, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and cls.thrift_spec is not None:
+            return iprot._fast_decode(None, iprot, [cls, cls.thrift_spec])
+        iprot.readStructBegin()
+        message = None
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.STRING:
+                    message = iprot.readString().decode('utf-8', errors='replace') if sys.version_info[0] == 2 else iprot.readString()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+        return cls(
+            message=message,
+        )
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('UserNotFoundException')
+        if self.message is not None:
+            oprot.writeFieldBegin('message', TType.STRING, 1)
+            oprot.writeString(self.message.encode('utf-8') if sys.version_info[0] == 2 else self.message)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __str__(self):
+        return repr(self)
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class MethodStats(object):
+    """
+    Attributes:
+     - method
+     - calls
+     - totalMicros
+     - maxMicros
+     - allocatedBytes
+     - bytesIn
+     - bytesOut
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, method = None, calls = None, totalMicros = None, maxMicros = None, allocatedBytes = None, bytesIn = None, bytesOut = None,):
+        self.method = method
+        self.calls = calls
+        self.totalMicros = totalMicros
+        self.maxMicros = maxMicros
+        self.allocatedBytes = allocatedBytes
+        self.bytesIn = bytesIn
+        self.bytesOut = bytesOut
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.STRING:
+                    self.method = iprot.readString().decode('utf-8', errors='replace') if sys.version_info[0] == 2 else iprot.readString()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.I64:
+                    self.calls = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.I64:
+                    self.totalMicros = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 4:
+                if ftype == TType.I64:
+                    self.maxMicros = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 5:
+                if ftype == TType.I64:
+                    self.allocatedBytes = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 6:
+                if ftype == TType.I64:
+                    self.bytesIn = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 7:
+                if ftype == TType.I64:
+                    self.bytesOut = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('MethodStats')
+        if self.method is not None:
+            oprot.writeFieldBegin('method', TType.STRING, 1)
+            oprot.writeString(self.method.encode('utf-8') if sys.version_info[0] == 2 else self.method)
+            oprot.writeFieldEnd()
+        if self.calls is not None:
+            oprot.writeFieldBegin('calls', TType.I64, 2)
+            oprot.writeI64(self.calls)
+            oprot.writeFieldEnd()
+        if self.totalMicros is not None:
+            oprot.writeFieldBegin('totalMicros', TType.I64, 3)
+            oprot.writeI64(self.totalMicros)
+            oprot.writeFieldEnd()
+        if self.maxMicros is not None:
+            oprot.writeFieldBegin('maxMicros', TType.I64, 4)
+            oprot.writeI64(self.maxMicros)
+            oprot.writeFieldEnd()
+        if self.allocatedBytes is not None:
+            oprot.writeFieldBegin('allocatedBytes', TType.I64, 5)
+            oprot.writeI64(self.allocatedBytes)
+            oprot.writeFieldEnd()
+        if self.bytesIn is not None:
+            oprot.writeFieldBegin('bytesIn', TType.I64, 6)
+            oprot.writeI64(self.bytesIn)
+            oprot.writeFieldEnd()
+        if self.bytesOut is not None:
+            oprot.writeFieldBegin('bytesOut', TType.I64, 7)
+            oprot.writeI64(self.bytesOut)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class ServiceStats(object):
+    """
+    Attributes:
+     - userCount
+     - uptimeMillis
+     - protocol
+     - replicationLagMutations
+     - replicationLagMillis
+     - methods
 
     """
     thrift_spec = None
 
 
-    def __init__(self, message = None,):
-        super(UserNotFoundException, self).__setattr__('message', message)
+    def __init__(self, userCount = None, uptimeMillis = None, protocol = None, replicationLagMutations = None, replicationLagMillis = None, methods = None,):
+        self.userCount = userCount
+        self.uptimeMillis = uptimeMillis
+        self.protocol = protocol
+        self.replicationLagMutations = replicationLagMutations
+        self.replicationLagMillis = replicationLagMillis
+        self.methods = methods
 
-    def __setattr__(self, *args):
-        raise TypeError("can't modify immutable instance")
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.I64:
+                    self.userCount = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.I64:
+                    self.uptimeMillis = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.STRING:
+                    self.protocol = iprot.readString().decode('utf-8', errors='replace') if sys.version_info[0] == 2 else iprot.readString()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 4:
+                if ftype == TType.I64:
+                    self.replicationLagMutations = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 5:
+                if ftype == TType.I64:
+                    self.replicationLagMillis = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 6:
+                if ftype == TType.LIST:
+                    self.methods = []
+                    (_etype10, _size7) = iprot.readListBegin()
+                    for _i11 in range(_size7):
+                        _elem12 = MethodStats()
+                        _elem12.read(iprot)
+                        self.methods.append(_elem12)
+                    iprot.readListEnd()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
 
-    def __delattr__(self, *args):
-        raise TypeError("can't modify immutable instance")
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('ServiceStats')
+        if self.userCount is not None:
+            oprot.writeFieldBegin('userCount', TType.I64, 1)
+            oprot.writeI64(self.userCount)
+            oprot.writeFieldEnd()
+        if self.uptimeMillis is not None:
+            oprot.writeFieldBegin('uptimeMillis', TType.I64, 2)
+            oprot.writeI64(self.uptimeMillis)
+            oprot.writeFieldEnd()
+        if self.protocol is not None:
+            oprot.writeFieldBegin('protocol', TType.STRING, 3)
+            oprot.writeString(self.protocol.encode('utf-8') if sys.version_info[0] == 2 else self.protocol)
+            oprot.writeFieldEnd()
+        if self.replicationLagMutations is not None:
+            oprot.writeFieldBegin('replicationLagMutations', TType.I64, 4)
+            oprot.writeI64(self.replicationLagMutations)
+            oprot.writeFieldEnd()
+        if self.replicationLagMillis is not None:
+            oprot.writeFieldBegin('replicationLagMillis', TType.I64, 5)
+            oprot.writeI64(self.replicationLagMillis)
+            oprot.writeFieldEnd()
+        if self.methods is not None:
+            oprot.writeFieldBegin('methods', TType.LIST, 6)
+            oprot.writeListBegin(TType.STRUCT, len(self.methods))
+            for iter13 in self.methods:
+                iter13.write(oprot)
+            oprot.writeListEnd()
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
 
-    def __hash__(self):
-        return hash(self.__class__) ^ hash((self.message, ))
+    def validate(self):
+        return
 
-    @classmethod
-    def read(cls, iprot):
-        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and cls.thrift_spec is not None:
-            return iprot._fast_decode(None, iprot, [cls, cls.thrift_spec])
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class Mutation(object):
+    """
+    Attributes:
+     - sequence
+     - userId
+     - user
+     - timestampMillis
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, sequence = None, userId = None, user = None, timestampMillis = None,):
+        self.sequence = sequence
+        self.userId = userId
+        self.user = user
+        self.timestampMillis = timestampMillis
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
         iprot.readStructBegin()
-        message = None
         while True:
             (fname, ftype, fid) = iprot.readFieldBegin()
             if ftype == TType.STOP:
                 break
             if fid == 1:
-                if ftype == TType.STRING:
-                    message = iprot.readString().decode('utf-8', errors='replace') if sys.version_info[0] == 2 else iprot.readString()
+                if ftype == TType.I64:
+                    self.sequence = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.I64:
+                    self.userId = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.STRUCT:
+                    self.user = User()
+                    self.user.read(iprot)
+                else:
+                    iprot.skip(ftype)
+            elif fid == 4:
+                if ftype == TType.I64:
+                    self.timestampMillis = iprot.readI64()
                 else:
                     iprot.skip(ftype)
             else:
                 iprot.skip(ftype)
             iprot.readFieldEnd()
         iprot.readStructEnd()
-        return cls(
-            message=message,
-        )
 
     def write(self, oprot):
         self.validate()
         if oprot._fast_encode is not None and self.thrift_spec is not None:
             oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
             return
-        oprot.writeStructBegin('UserNotFoundException')
-        if self.message is not None:
-            oprot.writeFieldBegin('message', TType.STRING, 1)
-            oprot.writeString(self.message.encode('utf-8') if sys.version_info[0] == 2 else self.message)
+        oprot.writeStructBegin('Mutation')
+        if self.sequence is not None:
+            oprot.writeFieldBegin('sequence', TType.I64, 1)
+            oprot.writeI64(self.sequence)
+            oprot.writeFieldEnd()
+        if self.userId is not None:
+            oprot.writeFieldBegin('userId', TType.I64, 2)
+            oprot.writeI64(self.userId)
+            oprot.writeFieldEnd()
+        if self.user is not None:
+            oprot.writeFieldBegin('user', TType.STRUCT, 3)
+            self.user.write(oprot)
+            oprot.writeFieldEnd()
+        if self.timestampMillis is not None:
+            oprot.writeFieldBegin('timestampMillis', TType.I64, 4)
+            oprot.writeI64(self.timestampMillis)
             oprot.writeFieldEnd()
         oprot.writeFieldStop()
         oprot.writeStructEnd()
@@ -158,8 +904,174 @@ class UserNotFoundException(TException):
     def validate(self):
         return
 
-    def __str__(self):
-        return repr(self)
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class MutationBatch(object):
+    """
+    Attributes:
+     - mutations
+     - primarySequence
+     - snapshotRequired
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, mutations = None, primarySequence = None, snapshotRequired = None,):
+        self.mutations = mutations
+        self.primarySequence = primarySequence
+        self.snapshotRequired = snapshotRequired
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.LIST:
+                    self.mutations = []
+                    (_etype17, _size14) = iprot.readListBegin()
+                    for _i18 in range(_size14):
+                        _elem19 = Mutation()
+                        _elem19.read(iprot)
+                        self.mutations.append(_elem19)
+                    iprot.readListEnd()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.I64:
+                    self.primarySequence = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 3:
+                if ftype == TType.BOOL:
+                    self.snapshotRequired = iprot.readBool()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('MutationBatch')
+        if self.mutations is not None:
+            oprot.writeFieldBegin('mutations', TType.LIST, 1)
+            oprot.writeListBegin(TType.STRUCT, len(self.mutations))
+            for iter20 in self.mutations:
+                iter20.write(oprot)
+            oprot.writeListEnd()
+            oprot.writeFieldEnd()
+        if self.primarySequence is not None:
+            oprot.writeFieldBegin('primarySequence', TType.I64, 2)
+            oprot.writeI64(self.primarySequence)
+            oprot.writeFieldEnd()
+        if self.snapshotRequired is not None:
+            oprot.writeFieldBegin('snapshotRequired', TType.BOOL, 3)
+            oprot.writeBool(self.snapshotRequired)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
+
+    def __repr__(self):
+        L = ['%s=%r' % (key, value)
+             for key, value in self.__dict__.items()]
+        return '%s(%s)' % (self.__class__.__name__, ', '.join(L))
+
+    def __eq__(self, other):
+        return isinstance(other, self.__class__) and self.__dict__ == other.__dict__
+
+    def __ne__(self, other):
+        return not (self == other)
+
+
+class Snapshot(object):
+    """
+    Attributes:
+     - users
+     - sequence
+
+    """
+    thrift_spec = None
+
+
+    def __init__(self, users = None, sequence = None,):
+        self.users = users
+        self.sequence = sequence
+
+    def read(self, iprot):
+        if iprot._fast_decode is not None and isinstance(iprot.trans, TTransport.CReadableTransport) and self.thrift_spec is not None:
+            iprot._fast_decode(self, iprot, [self.__class__, self.thrift_spec])
+            return
+        iprot.readStructBegin()
+        while True:
+            (fname, ftype, fid) = iprot.readFieldBegin()
+            if ftype == TType.STOP:
+                break
+            if fid == 1:
+                if ftype == TType.LIST:
+                    self.users = []
+                    (_etype24, _size21) = iprot.readListBegin()
+                    for _i25 in range(_size21):
+                        _elem26 = User()
+                        _elem26.read(iprot)
+                        self.users.append(_elem26)
+                    iprot.readListEnd()
+                else:
+                    iprot.skip(ftype)
+            elif fid == 2:
+                if ftype == TType.I64:
+                    self.sequence = iprot.readI64()
+                else:
+                    iprot.skip(ftype)
+            else:
+                iprot.skip(ftype)
+            iprot.readFieldEnd()
+        iprot.readStructEnd()
+
+    def write(self, oprot):
+        self.validate()
+        if oprot._fast_encode is not None and self.thrift_spec is not None:
+            oprot.trans.write(oprot._fast_encode(self, [self.__class__, self.thrift_spec]))
+            return
+        oprot.writeStructBegin('Snapshot')
+        if self.users is not None:
+            oprot.writeFieldBegin('users', TType.LIST, 1)
+            oprot.writeListBegin(TType.STRUCT, len(self.users))
+            for iter27 in self.users:
+                iter27.write(oprot)
+            oprot.writeListEnd()
+            oprot.writeFieldEnd()
+        if self.sequence is not None:
+            oprot.writeFieldBegin('sequence', TType.I64, 2)
+            oprot.writeI64(self.sequence)
+            oprot.writeFieldEnd()
+        oprot.writeFieldStop()
+        oprot.writeStructEnd()
+
+    def validate(self):
+        return
 
     def __repr__(self):
         L = ['%s=%r' % (key, value)
@@ -178,10 +1090,86 @@ User.thrift_spec = (
     (2, TType.STRING, 'name', 'UTF8', None, ),  # 2
     (3, TType.I32, 'age', None, None, ),  # 3
 )
+all_structs.append(UserFilter)
+UserFilter.thrift_spec = (
+    None,  # 0
+    (1, TType.I32, 'minAge', None, None, ),  # 1
+    (2, TType.I32, 'maxAge', None, None, ),  # 2
+    (3, TType.STRING, 'namePrefix', 'UTF8', None, ),  # 3
+)
+all_structs.append(UserProjection)
+UserProjection.thrift_spec = (
+    None,  # 0
+    (1, TType.BOOL, 'id', None, None, ),  # 1
+    (2, TType.BOOL, 'name', None, None, ),  # 2
+    (3, TType.BOOL, 'age', None, None, ),  # 3
+)
+all_structs.append(UserView)
+UserView.thrift_spec = (
+    None,  # 0
+    (1, TType.I64, 'id', None, None, ),  # 1
+    (2, TType.STRING, 'name', 'UTF8', None, ),  # 2
+    (3, TType.I32, 'age', None, None, ),  # 3
+)
+all_structs.append(AgeCount)
+AgeCount.thrift_spec = (
+    None,  # 0
+    (1, TType.I32, 'age', None, None, ),  # 1
+    (2, TType.I64, 'count', None, None, ),  # 2
+)
+all_structs.append(InvalidationBatch)
+InvalidationBatch.thrift_spec = (
+    None,  # 0
+    (1, TType.I64, 'sequence', None, None, ),  # 1
+    (2, TType.LIST, 'userIds', (TType.I64, None, False), None, ),  # 2
+    (3, TType.BOOL, 'reset', None, None, ),  # 3
+)
 all_structs.append(UserNotFoundException)
 UserNotFoundException.thrift_spec = (
     None,  # 0
     (1, TType.STRING, 'message', 'UTF8', None, ),  # 1
 )
+all_structs.append(MethodStats)
+MethodStats.thrift_spec = (
+    None,  # 0
+    (1, TType.STRING, 'method', 'UTF8', None, ),  # 1
+    (2, TType.I64, 'calls', None, None, ),  # 2
+    (3, TType.I64, 'totalMicros', None, None, ),  # 3
+    (4, TType.I64, 'maxMicros', None, None, ),  # 4
+    (5, TType.I64, 'allocatedBytes', None, None, ),  # 5
+    (6, TType.I64, 'bytesIn', None, None, ),  # 6
+    (7, TType.I64, 'bytesOut', None, None, ),  # 7
+)
+all_structs.append(ServiceStats)
+ServiceStats.thrift_spec = (
+    None,  # 0
+    (1, TType.I64, 'userCount', None, None, ),  # 1
+    (2, TType.I64, 'uptimeMillis', None, None, ),  # 2
+    (3, TType.STRING, 'protocol', 'UTF8', None, ),  # 3
+    (4, TType.I64, 'replicationLagMutations', None, None, ),  # 4
+    (5, TType.I64, 'replicationLagMillis', None, None, ),  # 5
+    (6, TType.LIST, 'methods', (TType.STRUCT, [MethodStats, None], False), None, ),  # 6
+)
+all_structs.append(Mutation)
+Mutation.thrift_spec = (
+    None,  # 0
+    (1, TType.I64, 'sequence', None, None, ),  # 1
+    (2, TType.I64, 'userId', None, None, ),  # 2
+    (3, TType.STRUCT, 'user', [User, None], None, ),  # 3
+    (4, TType.I64, 'timestampMillis', None, None, ),  # 4
+)
+all_structs.append(MutationBatch)
+MutationBatch.thrift_spec = (
+    None,  # 0
+    (1, TType.LIST, 'mutations', (TType.STRUCT, [Mutation, None], False), None, ),  # 1
+    (2, TType.I64, 'primarySequence', None, None, ),  # 2
+    (3, TType.BOOL, 'snapshotRequired', None, None, ),  # 3
+)
+all_structs.append(Snapshot)
+Snapshot.thrift_spec = (
+    None,  # 0
+    (1, TType.LIST, 'users', (TType.STRUCT, [User, None], False), None, ),  # 1
+    (2, TType.I64, 'sequence', None, None, ),  # 2
+)
 fix_spec(all_structs)
 del all_structs
@@ -141,6 +141,125 @@ module UserService
       def send_logUserActivity(action, userId, timestamp)
         send_oneway_message('logUserActivity', LogUserActivity_args, :action => action, :userId => userId, :timestamp => timestamp)
       end
+      def findUsersByName(name)
+        send_findUsersByName(name)
+        return recv_findUsersByName()
+      end
+
+      def send_findUsersByName(name)
+        send_message('findUsersByName', FindUsersByName_args, :name => name)
+      end
+
+      def recv_findUsersByName()
+        fname, mtype, rseqid = receive_message_begin()
+        handle_exception(mtype)
+        if reply_seqid(rseqid)==false
+          raise "seqid reply faild"
+        end
+        result = receive_message(FindUsersByName_result)
+        return result.success unless result.success.nil?
+        raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'findUsersByName failed: unknown result')
+      end
+
+      def findUsersByNamePrefix(prefix, limit)
+        send_findUsersByNamePrefix(prefix, limit)
+        return recv_findUsersByNamePrefix()
+      end
+
+      def send_findUsersByNamePrefix(prefix, limit)
+        send_message('findUsersByNamePrefix', FindUsersByNamePrefix_args, :prefix => prefix, :limit => limit)
+      end
+
+      def recv_findUsersByNamePrefix()
+        fname, mtype, rseqid = receive_message_begin()
+        handle_exception(mtype)
+        if reply_seqid(rseqid)==false
+          raise "seqid reply faild"
+        end
+        result = receive_message(FindUsersByNamePrefix_result)
+        return result.success unless result.success.nil?
+        raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'findUsersByNamePrefix failed: unknown result')
+      end
+
+      def findUsersByAgeRange(minAge, maxAge, cursor, limit)
+        send_findUsersByAgeRange(minAge, maxAge, cursor, limit)
+        return recv_findUsersByAgeRange()
+      end
+
+      def send_findUsersByAgeRange(minAge, maxAge, cursor, limit)
+        send_message('findUsersByAgeRange', FindUsersByAgeRange_args, :minAge => minAge, :maxAge => maxAge, :cursor => cursor, :limit => limit)
+      end
+
+      def recv_findUsersByAgeRange()
+        fname, mtype, rseqid = receive_message_begin()
+        handle_exception(mtype)
+        if reply_seqid(rseqid)==false
+          raise "seqid reply faild"
+        end
+        result = receive_message(FindUsersByAgeRange_result)
+        return result.success unless result.success.nil?
+        raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'findUsersByAgeRange failed: unknown result')
+      end
+
+      def countByAge(minAge, maxAge)
+        send_countByAge(minAge, maxAge)
+        return recv_countByAge()
+      end
+
+      def send_countByAge(minAge, maxAge)
+        send_message('countByAge', CountByAge_args, :minAge => minAge, :maxAge => maxAge)
+      end
+
+      def recv_countByAge()
+        fname, mtype, rseqid = receive_message_begin()
+        handle_exception(mtype)
+        if reply_seqid(rseqid)==false
+          raise "seqid reply faild"
+        end
+        result = receive_message(CountByAge_result)
+        return result.success unless result.success.nil?
+        raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'countByAge failed: unknown result')
+      end
+
+      def listUsers(filter, projection)
+        send_listUsers(filter, projection)
+        return recv_listUsers()
+      end
+
+      def send_listUsers(filter, projection)
+        send_message('listUsers', ListUsers_args, :filter => filter, :projection => projection)
+      end
+
+      def recv_listUsers()
+        fname, mtype, rseqid = receive_message_begin()
+        handle_exception(mtype)
+        if reply_seqid(rseqid)==false
+          raise "seqid reply faild"
+        end
+        result = receive_message(ListUsers_result)
+        return result.success unless result.success.nil?
+        raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'listUsers failed: unknown result')
+      end
+
+      def pollInvalidations(sinceSequence)
+        send_pollInvalidations(sinceSequence)
+        return recv_pollInvalidations()
+      end
+
+      def send_pollInvalidations(sinceSequence)
+        send_message('pollInvalidations', PollInvalidations_args, :sinceSequence => sinceSequence)
+      end
+
+      def recv_pollInvalidations()
+        fname, mtype, rseqid = receive_message_begin()
+        handle_exception(mtype)
+        if reply_seqid(rseqid)==false
+          raise "seqid reply faild"
+        end
+        result = receive_message(PollInvalidations_result)
+        return result.success unless result.success.nil?
+        raise ::Thrift::ApplicationException.new(::Thrift::ApplicationException::MISSING_RESULT, 'pollInvalidations failed: unknown result')
+      end
     end
 
     class Processor
@@ -206,6 +325,48 @@ module UserService
         return
       end
 
+      def process_findUsersByName(seqid, iprot, oprot)
+        args = read_args(iprot, FindUsersByName_args)
+        result = FindUsersByName_result.new()
+        result.success = @handler.findUsersByName(args.name)
+        write_result(result, oprot, 'findUsersByName', seqid)
+      end
+
+      def process_findUsersByNamePrefix(seqid, iprot, oprot)
+        args = read_args(iprot, FindUsersByNamePrefix_args)
+        result = FindUsersByNamePrefix_result.new()
+        result.success = @handler.findUsersByNamePrefix(args.prefix, args.limit)
+        write_result(result, oprot, 'findUsersByNamePrefix', seqid)
+      end
+
+      def process_findUsersByAgeRange(seqid, iprot, oprot)
+        args = read_args(iprot, FindUsersByAgeRange_args)
+        result = FindUsersByAgeRange_result.new()
+        result.success = @handler.findUsersByAgeRange(args.minAge, args.maxAge, args.cursor, args.limit)
+        write_result(result, oprot, 'findUsersByAgeRange', seqid)
+      end
+
+      def process_countByAge(seqid, iprot, oprot)
+        args = read_args(iprot, CountByAge_args)
+        result = CountByAge_result.new()
+        result.success = @handler.countByAge(args.minAge, args.maxAge)
+        write_result(result, oprot, 'countByAge', seqid)
+      end
+
+      def process_listUsers(seqid, iprot, oprot)
+        args = read_args(iprot, ListUsers_args)
+        result = ListUsers_result.new()
+        result.success = @handler.listUsers(args.filter, args.projection)
+        write_result(result, oprot, 'listUsers', seqid)
+      end
+
+      def process_pollInvalidations(seqid, iprot, oprot)
+        args = read_args(iprot, PollInvalidations_args)
+        result = PollInvalidations_result.new()
+        result.success = @handler.pollInvalidations(args.sinceSequence)
+        write_result(result, oprot, 'pollInvalidations', seqid)
+      end
+
     end
 
     # HELPER FUNCTIONS AND STRUCTURES
@@ -449,6 +610,210 @@ module UserService
       ::Thrift::Struct.generate_accessors self
     end
 
+    class FindUsersByName_args
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      NAME = 1
+
+      FIELDS = {
+        NAME => {:type => ::Thrift::Types::STRING, :name => 'name'}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class FindUsersByName_result
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      SUCCESS = 0
+
+      FIELDS = {
+        SUCCESS => {:type => ::Thrift::Types::LIST, :name => 'success', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::User}}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class FindUsersByNamePrefix_args
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      PREFIX = 1
+      LIMIT = 2
+
+      FIELDS = {
+        PREFIX => {:type => ::Thrift::Types::STRING, :name => 'prefix'},
+        LIMIT => {:type => ::Thrift::Types::I32, :name => 'limit'}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class FindUsersByNamePrefix_result
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      SUCCESS = 0
+
+      FIELDS = {
+        SUCCESS => {:type => ::Thrift::Types::LIST, :name => 'success', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::User}}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class FindUsersByAgeRange_args
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      MINAGE = 1
+      MAXAGE = 2
+      CURSOR = 3
+      LIMIT = 4
+
+      FIELDS = {
+        MINAGE => {:type => ::Thrift::Types::I32, :name => 'minAge'},
+        MAXAGE => {:type => ::Thrift::Types::I32, :name => 'maxAge'},
+        CURSOR => {:type => ::Thrift::Types::I64, :name => 'cursor'},
+        LIMIT => {:type => ::Thrift::Types::I32, :name => 'limit'}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class FindUsersByAgeRange_result
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      SUCCESS = 0
+
+      FIELDS = {
+        SUCCESS => {:type => ::Thrift::Types::LIST, :name => 'success', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::User}}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class CountByAge_args
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      MINAGE = 1
+      MAXAGE = 2
+
+      FIELDS = {
+        MINAGE => {:type => ::Thrift::Types::I32, :name => 'minAge'},
+        MAXAGE => {:type => ::Thrift::Types::I32, :name => 'maxAge'}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class CountByAge_result
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      SUCCESS = 0
+
+      FIELDS = {
+        SUCCESS => {:type => ::Thrift::Types::LIST, :name => 'success', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::AgeCount}}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class ListUsers_args
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      FILTER = 1
+      PROJECTION = 2
+
+      FIELDS = {
+        FILTER => {:type => ::Thrift::Types::STRUCT, :name => 'filter', :class => ::UserService::UserFilter},
+        PROJECTION => {:type => ::Thrift::Types::STRUCT, :name => 'projection', :class => ::UserService::UserProjection}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class ListUsers_result
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      SUCCESS = 0
+
+      FIELDS = {
+        SUCCESS => {:type => ::Thrift::Types::LIST, :name => 'success', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::UserView}}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class PollInvalidations_args
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      SINCESEQUENCE = 1
+
+      FIELDS = {
+        SINCESEQUENCE => {:type => ::Thrift::Types::I64, :name => 'sinceSequence'}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
+    class PollInvalidations_result
+      include ::Thrift::Struct, ::Thrift::Struct_Union
+      SUCCESS = 0
+
+      FIELDS = {
+        SUCCESS => {:type => ::Thrift::Types::STRUCT, :name => 'success', :class => ::UserService::InvalidationBatch}
+      }
+
+      def struct_fields; FIELDS; end
+
+      def validate
+      end
+
+      ::Thrift::Struct.generate_accessors self
+    end
+
   end
 
 end
@@ -0,0 +1,174 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Near-cache in front of {@code getUser}. Entries expire after a TTL, and the
+ * cache is bounded: once full, a new user is only admitted if it has been
+ * requested more often than the least recently used entry (TinyLFU admission).
+ * Staleness is bounded by polling the server's invalidation log at most once
+ * per poll interval on the read path; this client's own updates and deletes
+ * invalidate immediately.
+ *
+ * Like the Thrift client it wraps, this class is not thread-safe.
+ */
+public class CachingUserClient {
+    private final UserService.Iface delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long pollIntervalNanos;
+    private final LongSupplier clock;
+    private final FrequencySketch sketch;
+    // Access order, so the first entry is the LRU eviction candidate
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long invalidationSequence = 0;
+    private long lastPollNanos;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+    private long invalidations;
+
+    public CachingUserClient(UserService.Iface delegate, int maxSize, long ttlMillis, long pollIntervalMillis) {
+        this(delegate, maxSize, ttlMillis, pollIntervalMillis, System::nanoTime);
+    }
+
+    CachingUserClient(UserService.Iface delegate, int maxSize, long ttlMillis, long pollIntervalMillis, LongSupplier clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.pollIntervalNanos = pollIntervalMillis * 1_000_000L;
+        this.clock = clock;
+        this.sketch = new FrequencySketch(maxSize);
+        this.lastPollNanos = clock.getAsLong() - pollIntervalNanos;
+    }
+
+    public User getUser(long userId) throws UserNotFoundException, TException {
+        long now = clock.getAsLong();
+        if (now - lastPollNanos >= pollIntervalNanos) {
+            pollInvalidations();
+        }
+        sketch.increment(userId);
+
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            hits++;
+            return entry.user.deepCopy();
+        }
+        if (entry != null) {
+            entries.remove(userId);
+        }
+        misses++;
+
+        User user = delegate.getUser(userId);
+        admit(userId, new Entry(user.deepCopy(), now));
+        return user;
+    }
+
+    public User updateUser(User user) throws UserNotFoundException, TException {
+        invalidate(user.getId());
+        return delegate.updateUser(user);
+    }
+
+    public void deleteUser(long userId) throws UserNotFoundException, TException {
+        invalidate(userId);
+        delegate.deleteUser(userId);
+    }
+
+    /**
+     * Drops every entry the server reports as updated or deleted since the
+     * last poll, or the whole cache if the server's log no longer reaches
+     * back that far.
+     */
+    public void pollInvalidations() throws TException {
+        lastPollNanos = clock.getAsLong();
+        InvalidationBatch batch = delegate.pollInvalidations(invalidationSequence);
+        if (batch.isReset()) {
+            invalidations += entries.size();
+            entries.clear();
+        } else {
+            for (long userId : batch.getUserIds()) {
+                invalidate(userId);
+            }
+        }
+        invalidationSequence = batch.getSequence();
+    }
+
+    public void invalidate(long userId) {
+        if (entries.remove(userId) != null) {
+            invalidations++;
+        }
+    }
+
+    private void admit(long userId, Entry entry) {
+        if (entries.size() < maxSize) {
+            entries.put(userId, entry);
+            return;
+        }
+        if (entries.isEmpty()) {
+            rejections++;
+            return;
+        }
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        Map.Entry<Long, Entry> victim = eldest.next();
+        if (sketch.frequency(userId) > sketch.frequency(victim.getKey())) {
+            eldest.remove();
+            evictions++;
+            entries.put(userId, entry);
+        } else {
+            rejections++;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
+    }
+
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    public long getRejectionCount() {
+        return rejections;
+    }
+
+    public long getInvalidationCount() {
+        return invalidations;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingUserClient(size:%d, hits:%d, misses:%d, hitRate:%.2f, evictions:%d, rejections:%d, invalidations:%d)",
+            entries.size(), hits, misses, getHitRate(), evictions, rejections, invalidations);
+    }
+
+    private static final class Entry {
+        private final User user;
+        private final long loadedAt;
+
+        private Entry(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring mapping user IDs to named nodes. Each node is placed at
+ * a configurable number of virtual positions; a user belongs to the first
+ * position at or after the hash of its ID, wrapping around. Adding or removing
+ * a node only moves the ranges next to its own positions, and both operations
+ * report exactly which ranges moved so the data can be migrated.
+ */
+public class ConsistentHashRing<N> {
+    private final int virtualNodes;
+    private final TreeMap<Long, String> positions = new TreeMap<>();
+    private final Map<String, N> nodes = new LinkedHashMap<>();
+
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("At least one virtual node is required: " + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    /**
+     * A ring range (fromHash, toHash] whose owner changed from one node to another.
+     */
+    public static final class MovedRange {
+        public final long fromHash;
+        public final long toHash;
+        public final String fromNode;
+        public final String toNode;
+
+        MovedRange(long fromHash, long toHash, String fromNode, String toNode) {
+            this.fromHash = fromHash;
+            this.toHash = toHash;
+            this.fromNode = fromNode;
+            this.toNode = toNode;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + fromHash + ", " + toHash + "] " + fromNode + " -> " + toNode;
+        }
+    }
+
+    /**
+     * Adds a node and returns the ranges it took over from existing nodes.
+     */
+    public List<MovedRange> addNode(String name, N node) {
+        if (nodes.containsKey(name)) {
+            throw new IllegalArgumentException("Node already on the ring: " + name);
+        }
+        TreeMap<Long, String> before = new TreeMap<>(positions);
+        nodes.put(name, node);
+        for (long position : positionsOf(name)) {
+            positions.putIfAbsent(position, name);
+        }
+
+        List<MovedRange> moved = new ArrayList<>();
+        if (before.isEmpty()) {
+            return moved;
+        }
+        for (Map.Entry<Long, String> entry : positions.entrySet()) {
+            if (entry.getValue().equals(name)) {
+                long position = entry.getKey();
+                // Nothing of the old ring lies between the predecessor and this
+                // position, so the old owner of the whole range is the old
+                // owner of this position
+                moved.add(new MovedRange(predecessor(positions, position), position, ownerIn(before, position), name));
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Removes a node and returns the ranges its neighbours took over.
+     */
+    public List<MovedRange> removeNode(String name) {
+        if (!nodes.containsKey(name)) {
+            throw new IllegalArgumentException("Node not on the ring: " + name);
+        }
+        List<Long> owned = new ArrayList<>();
+        List<Long> predecessors = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : positions.entrySet()) {
+            if (entry.getValue().equals(name)) {
+                owned.add(entry.getKey());
+                predecessors.add(predecessor(positions, entry.getKey()));
+            }
+        }
+        owned.forEach(positions::remove);
+        nodes.remove(name);
+
+        List<MovedRange> moved = new ArrayList<>();
+        for (int i = 0; i < owned.size(); i++) {
+            String newOwner = positions.isEmpty() ? null : ownerIn(positions, owned.get(i));
+            moved.add(new MovedRange(predecessors.get(i), owned.get(i), name, newOwner));
+        }
+        return moved;
+    }
+
+    public N nodeFor(long userId) {
+        if (positions.isEmpty()) {
+            throw new IllegalStateException("No nodes on the ring");
+        }
+        return nodes.get(ownerIn(positions, hash(userId)));
+    }
+
+    public String nodeNameFor(long userId) {
+        if (positions.isEmpty()) {
+            throw new IllegalStateException("No nodes on the ring");
+        }
+        return ownerIn(positions, hash(userId));
+    }
+
+    public N getNode(String name) {
+        return nodes.get(name);
+    }
+
+    public Map<String, N> getNodes() {
+        return Collections.unmodifiableMap(nodes);
+    }
+
+    // Must match RingHash.hash on the server (MurmurHash3 fmix64)
+    public static long hash(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private List<Long> positionsOf(String name) {
+        List<Long> result = new ArrayList<>(virtualNodes);
+        for (int i = 0; i < virtualNodes; i++) {
+            // FNV-1a over "name#i", then mixed so similar names spread out
+            long h = 0xcbf29ce484222325L;
+            for (byte b : (name + "#" + i).getBytes(StandardCharsets.UTF_8)) {
+                h ^= (b & 0xff);
+                h *= 0x100000001b3L;
+            }
+            result.add(hash(h));
+        }
+        return result;
+    }
+
+    private static String ownerIn(TreeMap<Long, String> ring, long hash) {
+        Map.Entry<Long, String> owner = ring.ceilingEntry(hash);
+        return (owner != null ? owner : ring.firstEntry()).getValue();
+    }
+
+    private static long predecessor(TreeMap<Long, String> ring, long position) {
+        Long previous = ring.lowerKey(position);
+        return previous != null ? previous : ring.lastKey();
+    }
+}
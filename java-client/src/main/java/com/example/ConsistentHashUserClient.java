@@ -0,0 +1,141 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes UserService calls across a fleet with a {@link ConsistentHashRing}.
+ * Adding or removing a node streams only the moved ring ranges between
+ * servers through BulkService.exportUsers/importUsers, a page at a time.
+ *
+ * IDs are assigned by the server that creates a user, so a new user is moved
+ * to its ring owner when that is a different node. Servers must run with
+ * distinct THRIFT_SHARD_ID values so IDs are unique across the fleet.
+ * Migration is not coordinated with concurrent writes to the moving ranges,
+ * and like the Thrift clients it wraps this class is not thread-safe.
+ */
+public class ConsistentHashUserClient {
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+    public static final int MIGRATION_PAGE_SIZE = 500;
+
+    private final ConsistentHashRing<Node> ring;
+    private int nextCreateNode;
+    private long migratedUsers;
+
+    public ConsistentHashUserClient() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashUserClient(int virtualNodes) {
+        this.ring = new ConsistentHashRing<>(virtualNodes);
+    }
+
+    /**
+     * A server's UserService and BulkService clients, typically from one
+     * {@link MultiplexedClientFactory} connection.
+     */
+    public static final class Node {
+        final UserService.Iface users;
+        final BulkService.Iface bulk;
+
+        public Node(UserService.Iface users, BulkService.Iface bulk) {
+            this.users = users;
+            this.bulk = bulk;
+        }
+    }
+
+    /**
+     * Adds a server to the ring and migrates the users it now owns to it.
+     * Returns the number of users moved.
+     */
+    public long addNode(String name, UserService.Iface users, BulkService.Iface bulk) throws TException {
+        return migrate(ring.addNode(name, new Node(users, bulk)), null);
+    }
+
+    /**
+     * Migrates every user off a server and removes it from the ring.
+     * Returns the number of users moved.
+     */
+    public long removeNode(String name) throws TException {
+        Node leaving = ring.getNode(name);
+        if (leaving != null && ring.getNodes().size() == 1) {
+            throw new IllegalStateException("Cannot remove the last node: " + name);
+        }
+        return migrate(ring.removeNode(name), leaving);
+    }
+
+    public User createUser(String name, int age) throws TException {
+        List<String> names = new ArrayList<>(ring.getNodes().keySet());
+        if (names.isEmpty()) {
+            throw new IllegalStateException("No nodes on the ring");
+        }
+        String creatorName = names.get(Math.floorMod(nextCreateNode++, names.size()));
+        Node creator = ring.getNode(creatorName);
+        User user = creator.users.createUser(name, age);
+
+        String ownerName = ring.nodeNameFor(user.getId());
+        if (!ownerName.equals(creatorName)) {
+            ring.getNode(ownerName).bulk.importUsers(List.of(user));
+            creator.bulk.deleteUsers(List.of(user.getId()));
+        }
+        return user;
+    }
+
+    public User getUser(long userId) throws UserNotFoundException, TException {
+        return ring.nodeFor(userId).users.getUser(userId);
+    }
+
+    public User updateUser(User user) throws UserNotFoundException, TException {
+        return ring.nodeFor(user.getId()).users.updateUser(user);
+    }
+
+    public void deleteUser(long userId) throws UserNotFoundException, TException {
+        ring.nodeFor(userId).users.deleteUser(userId);
+    }
+
+    public List<User> getAllUsers() throws TException {
+        List<User> allUsers = new ArrayList<>();
+        for (Node node : ring.getNodes().values()) {
+            allUsers.addAll(node.users.getAllUsers());
+        }
+        return allUsers;
+    }
+
+    public String nodeNameFor(long userId) {
+        return ring.nodeNameFor(userId);
+    }
+
+    public long getMigratedUserCount() {
+        return migratedUsers;
+    }
+
+    // A removed node is no longer on the ring, so it is passed in as the source
+    private long migrate(List<ConsistentHashRing.MovedRange> ranges, Node removed) throws TException {
+        long moved = 0;
+        for (ConsistentHashRing.MovedRange range : ranges) {
+            Node source = (removed != null) ? removed : ring.getNode(range.fromNode);
+            Node target = ring.getNode(range.toNode);
+            long cursor = 0;
+            while (true) {
+                List<User> page = source.bulk.exportUsers(range.fromHash, range.toHash, cursor, MIGRATION_PAGE_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+                List<Long> ids = new ArrayList<>(page.size());
+                for (User user : page) {
+                    ids.add(user.getId());
+                }
+                // Import before delete, so a failure part-way leaves a copy rather than a loss
+                target.bulk.importUsers(page);
+                source.bulk.deleteUsers(ids);
+                moved += page.size();
+                cursor = ids.get(ids.size() - 1);
+            }
+        }
+        migratedUsers += moved;
+        return moved;
+    }
+}
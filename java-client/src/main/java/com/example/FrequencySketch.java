@@ -0,0 +1,70 @@
+package com.example;
+
+/**
+ * Count-min sketch of recent access frequencies, used as the TinyLFU
+ * admission filter for {@link CachingUserClient}. Four 4-bit counters per key
+ * are packed into longs; all counters are halved once the number of recorded
+ * accesses reaches ten times the table width, so old popularity fades out.
+ */
+class FrequencySketch {
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int expectedSize) {
+        int width = Integer.highestOneBit(Math.max(8, expectedSize - 1) << 1);
+        this.table = new long[width];
+        this.sampleSize = 10 * width;
+    }
+
+    int frequency(long key) {
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, counter(key, i));
+        }
+        return frequency;
+    }
+
+    void increment(long key) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(key, i);
+            int offset = offsetOf(key, i);
+            if (((table[index] >>> offset) & 0xfL) != 0xfL) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private int counter(long key, int i) {
+        return (int) ((table[indexOf(key, i)] >>> offsetOf(key, i)) & 0xfL);
+    }
+
+    private int indexOf(long key, int i) {
+        long hash = (key + SEEDS[i]) * SEEDS[i];
+        hash ^= hash >>> 32;
+        return (int) hash & (table.length - 1);
+    }
+
+    // Each row owns 4 of the 16 nibbles in a long
+    private int offsetOf(long key, int i) {
+        long hash = key * SEEDS[(i + 1) % SEEDS.length];
+        return ((i << 2) + (int) ((hash >>> 61) & 0x3L)) << 2;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+}
@@ -0,0 +1,277 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.transport.TTransportException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cuts tail latency of idempotent reads (getUser, getAllUsers,
+ * validateUserData). If a read has not answered within the recent p95
+ * latency for that method, a hedge is sent to the next replica and the first
+ * answer wins. Reads that fail at the transport level, or are shed by an
+ * overloaded server, are retried with jittered exponential backoff. Hedges and
+ * retries both draw from a {@link RetryBudget}, so they cannot multiply load
+ * during an outage.
+ *
+ * Writes go to the primary exactly once: createUser is never retried, since
+ * a lost reply does not mean the user was not created.
+ *
+ * Thread-safe: every attempt borrows its own pooled connection.
+ */
+public class HedgingUserClient implements AutoCloseable {
+    public static final double HEDGE_PERCENTILE = 0.95;
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    // Matches the server's ConcurrencyLimitingProcessor.OVERLOADED
+    static final int OVERLOADED = 100;
+
+    private static final long DEFAULT_INITIAL_HEDGE_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DEFAULT_BACKOFF_BASE_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    /**
+     * One call against a borrowed client.
+     */
+    public interface Call<T> {
+        T apply(UserService.Iface client) throws TException;
+    }
+
+    private final ReplicaPool primary;
+    private final List<ReplicaPool> replicas;
+    private final RetryBudget budget;
+    private final int maxAttempts;
+    private final long initialHedgeDelayNanos;
+    private final long backoffBaseMillis;
+    private final ExecutorService executor;
+    private final Map<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    public HedgingUserClient(ReplicaPool primary, List<ReplicaPool> replicas, RetryBudget budget) {
+        this(primary, replicas, budget, DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_HEDGE_DELAY_NANOS, DEFAULT_BACKOFF_BASE_MILLIS);
+    }
+
+    HedgingUserClient(ReplicaPool primary, List<ReplicaPool> replicas, RetryBudget budget,
+                      int maxAttempts, long initialHedgeDelayNanos, long backoffBaseMillis) {
+        this.primary = primary;
+        this.replicas = replicas.isEmpty() ? List.of(primary) : new ArrayList<>(replicas);
+        this.budget = budget;
+        this.maxAttempts = maxAttempts;
+        this.initialHedgeDelayNanos = initialHedgeDelayNanos;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "hedging-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public User getUser(long userId) throws UserNotFoundException, TException {
+        return read("getUser", client -> client.getUser(userId));
+    }
+
+    public List<User> getAllUsers() throws TException {
+        return read("getAllUsers", UserService.Iface::getAllUsers);
+    }
+
+    public String validateUserData(String name, int age, boolean isActive) throws TException {
+        return read("validateUserData", client -> client.validateUserData(name, age, isActive));
+    }
+
+    public User createUser(String name, int age) throws TException {
+        return write(client -> client.createUser(name, age));
+    }
+
+    public User updateUser(User user) throws UserNotFoundException, TException {
+        return write(client -> client.updateUser(user));
+    }
+
+    public void deleteUser(long userId) throws UserNotFoundException, TException {
+        write(client -> {
+            client.deleteUser(userId);
+            return null;
+        });
+    }
+
+    private <T> T write(Call<T> call) throws TException {
+        return invoke(primary, call);
+    }
+
+    private <T> T read(String method, Call<T> call) throws TException {
+        budget.deposit();
+        LatencyTracker tracker = latencies.computeIfAbsent(method, m -> new LatencyTracker(HEDGE_PERCENTILE, initialHedgeDelayNanos));
+        TException failure = null;
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            if (attempt > 0) {
+                if (!budget.tryWithdraw()) {
+                    budgetExhausted.incrementAndGet();
+                    break;
+                }
+                retries.incrementAndGet();
+                sleep(backoffMillis(attempt));
+            }
+            try {
+                return hedged(tracker, call);
+            } catch (TException e) {
+                if (!isRetryable(e)) {
+                    throw e;
+                }
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Sends the call, plus at most one hedge once the tracked percentile
+     * latency has passed. Returns the first answer; a retryable failure of
+     * one attempt waits for the other.
+     */
+    private <T> T hedged(LatencyTracker tracker, Call<T> call) throws TException {
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        long start = System.nanoTime();
+        completion.submit(() -> invoke(pickReplica(), call));
+        int outstanding = 1;
+        Future<T> hedge = null;
+        boolean hedgeConsidered = false;
+        TException failure = null;
+        try {
+            while (outstanding > 0) {
+                Future<T> done = hedgeConsidered
+                    ? completion.take()
+                    : completion.poll(tracker.getPercentileNanos(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    hedgeConsidered = true;
+                    if (budget.tryWithdraw()) {
+                        hedges.incrementAndGet();
+                        hedge = completion.submit(() -> invoke(pickReplica(), call));
+                        outstanding++;
+                    } else {
+                        budgetExhausted.incrementAndGet();
+                    }
+                    continue;
+                }
+                outstanding--;
+                hedgeConsidered = true;
+                try {
+                    T result = done.get();
+                    tracker.record(System.nanoTime() - start);
+                    if (done == hedge) {
+                        hedgeWins.incrementAndGet();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    TException cause = asTException(e.getCause());
+                    if (!isRetryable(cause)) {
+                        throw cause;
+                    }
+                    failure = cause;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTransportException(TTransportException.UNKNOWN, "Interrupted while waiting for a reply", e);
+        }
+        throw failure;
+    }
+
+    private <T> T invoke(ReplicaPool pool, Call<T> call) throws TException {
+        UserService.Iface client = pool.borrow();
+        try {
+            T result = call.apply(client);
+            pool.release(client);
+            return result;
+        } catch (TTransportException e) {
+            pool.discard(client);
+            throw e;
+        } catch (TException e) {
+            // Declared and application exceptions leave the connection usable
+            pool.release(client);
+            throw e;
+        } catch (RuntimeException e) {
+            pool.discard(client);
+            throw e;
+        }
+    }
+
+    private ReplicaPool pickReplica() {
+        return replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+    }
+
+    static boolean isRetryable(TException e) {
+        return e instanceof TTransportException
+            || (e instanceof TApplicationException && ((TApplicationException) e).getType() == OVERLOADED);
+    }
+
+    // Full jitter: uniform in [0, min(cap, base * 2^attempt)]
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, backoffBaseMillis << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static TException asTException(Throwable cause) {
+        if (cause instanceof TException) {
+            return (TException) cause;
+        }
+        return new TApplicationException(TApplicationException.INTERNAL_ERROR, String.valueOf(cause));
+    }
+
+    private static void sleep(long millis) throws TException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTransportException(TTransportException.UNKNOWN, "Interrupted during retry backoff", e);
+        }
+    }
+
+    public long getHedgeCount() {
+        return hedges.get();
+    }
+
+    public long getHedgeWinCount() {
+        return hedgeWins.get();
+    }
+
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    public long getBudgetExhaustedCount() {
+        return budgetExhausted.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        primary.close();
+        for (ReplicaPool replica : replicas) {
+            if (replica != primary) {
+                replica.close();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingUserClient(hedges:" + hedges.get() + ", hedgeWins:" + hedgeWins.get()
+            + ", retries:" + retries.get() + ", budgetExhausted:" + budgetExhausted.get() + ")";
+    }
+}
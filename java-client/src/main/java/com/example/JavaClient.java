@@ -12,6 +12,10 @@ import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class JavaClient {
@@ -28,34 +32,64 @@ public class JavaClient {
             String protocolName = (envProtocol != null && !envProtocol.isEmpty()) ? envProtocol : (argProtocol != null ? argProtocol : "binary");
             protocolName = protocolName.trim().toLowerCase();
 
-            transport = new TSocket(SERVER_HOST, SERVER_PORT);
-            TProtocol protocol;
-            switch (protocolName) {
-                case "compact":
-                    protocol = new TCompactProtocol(transport);
-                    break;
-                case "json":
-                    protocol = new TJSONProtocol(transport);
-                    break;
-                case "simplejson":
-                    protocol = new TSimpleJSONProtocol(transport);
-                    break;
-                case "binary":
-                default:
-                    protocol = new TBinaryProtocol(transport);
-            }
-
             // Set env variable for child processes (optional, for demo)
             System.setProperty("THRIFT_PROTOCOL", protocolName);
 
+            // Sharded mode: THRIFT_SHARDS servers listening on SERVER_PORT, SERVER_PORT + 1, ...
+            String envShards = System.getenv("THRIFT_SHARDS");
+            int shardCount = (envShards != null && !envShards.isEmpty()) ? Integer.parseInt(envShards.trim()) : 1;
+            if (shardCount > 1) {
+                runShardedDemo(protocolName, shardCount);
+                return;
+            }
+
+            // Replicated mode: THRIFT_REPLICAS=host:port,... read replicas of the primary at SERVER_PORT
+            String envReplicas = System.getenv("THRIFT_REPLICAS");
+            if (envReplicas != null && !envReplicas.isEmpty()) {
+                runReplicatedDemo(protocolName, envReplicas.trim().split(","));
+                return;
+            }
+
+            // HTTP mode: THRIFT_HTTP_URL=http://host:port/thrift of the server's HTTP endpoint
+            String envHttpUrl = System.getenv("THRIFT_HTTP_URL");
+            if (envHttpUrl != null && !envHttpUrl.isEmpty()) {
+                runHttpDemo(protocolName, envHttpUrl.trim());
+                return;
+            }
+
+            // THRIFT_UNIX_SOCKET connects through the server's Unix domain socket file instead of TCP
+            String envUnixSocket = System.getenv("THRIFT_UNIX_SOCKET");
+            TSocket socket = null;
+            if (envUnixSocket != null && !envUnixSocket.isEmpty()) {
+                transport = UnixSocketTransport.connect(Paths.get(envUnixSocket.trim()));
+            } else {
+                socket = new TSocket(SERVER_HOST, SERVER_PORT);
+                transport = socket;
+            }
+            // Without headers set, the wire format is unchanged
+            RequestHeaderProtocol headers = new RequestHeaderProtocol(createProtocol(transport, protocolName));
+            TProtocol protocol = headers;
+
+            // Optional client ID, used by the server for per-client rate limits
+            String clientId = System.getenv("THRIFT_CLIENT_ID");
+            if (clientId != null && !clientId.isEmpty()) {
+                headers.setHeader(RequestHeaderProtocol.CLIENT_ID, clientId.trim());
+            }
+
             UserService.Client client = new UserService.Client(protocol);
 
             // Open transport
             transport.open();
-            System.out.println("Connected to Thrift server at " + SERVER_HOST + ":" + SERVER_PORT + " using protocol: " + protocolName);
+            String serverAddress = (socket != null) ? SERVER_HOST + ":" + SERVER_PORT : "Unix socket " + envUnixSocket.trim();
+            System.out.println("Connected to Thrift server at " + serverAddress + " using protocol: " + protocolName);
 
             // Demo operations
             performUserOperations(client);
+            // Deadlines rely on socket read timeouts, which Unix socket channels do not have
+            if (socket != null) {
+                performDeadlineOperations(client, headers, socket);
+            }
+            performMultiplexedOperations(new MultiplexedClientFactory(protocol));
 
         } catch (TTransportException e) {
             System.err.println("Transport error: " + e.getMessage());
@@ -72,6 +106,180 @@ public class JavaClient {
         }
     }
 
+    static TProtocol createProtocol(TTransport transport, String protocolName) {
+        switch (protocolName) {
+            case "compact":
+                return new TCompactProtocol(transport);
+            case "json":
+                return new TJSONProtocol(transport);
+            case "fastjson":
+                return new FastJSONProtocol(transport);
+            case "simplejson":
+                return new TSimpleJSONProtocol(transport);
+            case "binary":
+            default:
+                return new TBinaryProtocol(transport);
+        }
+    }
+
+    private static void runShardedDemo(String protocolName, int shardCount) throws TException {
+        List<TTransport> transports = new ArrayList<>();
+        List<UserService.Client> shards = new ArrayList<>();
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                TTransport shardTransport = new TSocket(SERVER_HOST, SERVER_PORT + shard);
+                shardTransport.open();
+                transports.add(shardTransport);
+                shards.add(new UserService.Client(createProtocol(shardTransport, protocolName)));
+            }
+            System.out.println("Connected to " + shardCount + " shards at " + SERVER_HOST + ":" + SERVER_PORT + "-" + (SERVER_PORT + shardCount - 1) + " using protocol: " + protocolName);
+
+            try (ShardedUserClient client = new ShardedUserClient(shards)) {
+                System.out.println("\n=== Sharded Client Demo ===");
+
+                System.out.println("\n1. Creating users across shards...");
+                List<User> created = new ArrayList<>();
+                for (String name : new String[] {"Alice Johnson", "Bob Smith", "Carol Davis", "Dave Wilson"}) {
+                    User user = client.createUser(name, 30);
+                    created.add(user);
+                    System.out.println("  Created on shard " + ShardedUserClient.shardOf(user.getId()) + ": " + user);
+                }
+
+                System.out.println("\n2. Getting users from their owning shards...");
+                for (User user : created) {
+                    System.out.println("  Retrieved: " + client.getUser(user.getId()));
+                }
+
+                System.out.println("\n3. Scatter-gather getAllUsers...");
+                for (User user : client.getAllUsers()) {
+                    System.out.println("  User: " + user);
+                }
+
+                System.out.println("\n4. Deleting a user on its shard...");
+                client.deleteUser(created.get(1).getId());
+                System.out.println("  Remaining users: " + client.getAllUsers().size());
+
+                System.out.println("\n=== Sharded Client Demo Complete ===");
+            }
+        } finally {
+            for (TTransport shardTransport : transports) {
+                shardTransport.close();
+            }
+        }
+    }
+
+    private static void runReplicatedDemo(String protocolName, String[] replicaAddresses) throws TException {
+        List<TTransport> transports = new ArrayList<>();
+        try {
+            TTransport primaryTransport = new TSocket(SERVER_HOST, SERVER_PORT);
+            primaryTransport.open();
+            transports.add(primaryTransport);
+            UserService.Client primary = new UserService.Client(createProtocol(primaryTransport, protocolName));
+
+            List<UserService.Client> replicas = new ArrayList<>();
+            for (String address : replicaAddresses) {
+                String[] hostPort = address.trim().split(":");
+                TTransport replicaTransport = new TSocket(hostPort[0], Integer.parseInt(hostPort[1]));
+                replicaTransport.open();
+                transports.add(replicaTransport);
+                replicas.add(new UserService.Client(createProtocol(replicaTransport, protocolName)));
+            }
+            System.out.println("Connected to primary at " + SERVER_HOST + ":" + SERVER_PORT + " and " + replicas.size() + " replicas using protocol: " + protocolName);
+
+            ReplicatedUserClient client = new ReplicatedUserClient(primary, replicas, true);
+            System.out.println("\n=== Replicated Client Demo ===");
+
+            System.out.println("\n1. Creating users on the primary...");
+            List<User> created = new ArrayList<>();
+            for (String name : new String[] {"Alice Johnson", "Bob Smith", "Carol Davis"}) {
+                User user = client.createUser(name, 30);
+                created.add(user);
+                System.out.println("  Created: " + user);
+            }
+
+            System.out.println("\n2. Reading users from replicas...");
+            for (User user : created) {
+                System.out.println("  Retrieved: " + client.getUser(user.getId()));
+            }
+            System.out.println("  All users: " + client.getAllUsers().size());
+            System.out.println("  Replica reads: " + client.getReplicaReadCount() + ", primary fallbacks: " + client.getPrimaryFallbackCount());
+
+            System.out.println("\n3. Hedged reads across replicas...");
+            List<ReplicaPool> replicaPools = new ArrayList<>();
+            for (String address : replicaAddresses) {
+                String[] hostPort = address.trim().split(":");
+                replicaPools.add(new ReplicaPool(address.trim(), connector(hostPort[0], Integer.parseInt(hostPort[1]), protocolName)));
+            }
+            ReplicaPool primaryPool = new ReplicaPool(SERVER_HOST + ":" + SERVER_PORT, connector(SERVER_HOST, SERVER_PORT, protocolName));
+            try (HedgingUserClient hedging = new HedgingUserClient(primaryPool, replicaPools, new RetryBudget())) {
+                for (int i = 0; i < 100; i++) {
+                    hedging.getUser(created.get(i % created.size()).getId());
+                }
+                System.out.println("  100 reads: " + hedging);
+            }
+
+            System.out.println("\n=== Replicated Client Demo Complete ===");
+        } finally {
+            for (TTransport openTransport : transports) {
+                openTransport.close();
+            }
+        }
+    }
+
+    private static void runHttpDemo(String protocolName, String url) throws TException, InterruptedException {
+        try (PooledHttpTransportFactory transports = new PooledHttpTransportFactory(url)) {
+            RequestHeaderProtocol headers = new RequestHeaderProtocol(createProtocol(transports.newTransport(), protocolName));
+            String clientId = System.getenv("THRIFT_CLIENT_ID");
+            if (clientId != null && !clientId.isEmpty()) {
+                headers.setHeader(RequestHeaderProtocol.CLIENT_ID, clientId.trim());
+            }
+            System.out.println("Calling Thrift server over HTTP at " + url + " using protocol: " + protocolName);
+
+            // Deadlines rely on socket timeouts, so the deadline demo is socket-only
+            performUserOperations(new UserService.Client(headers));
+            performMultiplexedOperations(new MultiplexedClientFactory(headers));
+
+            System.out.println("\n=== HTTP Connection Reuse ===");
+            int threads = 4;
+            int callsPerThread = 250;
+            List<Thread> workers = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                UserService.Client worker = new UserService.Client(createProtocol(transports.newTransport(), protocolName));
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < callsPerThread; i++) {
+                            worker.getAllUsers();
+                        }
+                    } catch (TException e) {
+                        System.err.println("HTTP call failed: " + e.getMessage());
+                    }
+                });
+                workers.add(thread);
+                thread.start();
+            }
+            for (Thread thread : workers) {
+                thread.join();
+            }
+            long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            System.out.println("  " + (threads * callsPerThread) + " calls on " + threads + " threads in " + elapsedMillis + " ms ("
+                + (threads * callsPerThread * 1000L / elapsedMillis) + " calls/s) over " + transports.getOpenConnections() + " pooled connections");
+        } catch (IOException e) {
+            throw new TTransportException("Could not close HTTP connection pool", e);
+        }
+    }
+
+    /**
+     * Opens a new connection per pooled client.
+     */
+    static ReplicaPool.Connector connector(String host, int port, String protocolName) {
+        return () -> {
+            TSocket socket = new TSocket(host, port);
+            socket.open();
+            return new UserService.Client(createProtocol(socket, protocolName));
+        };
+    }
+
     private static void performUserOperations(UserService.Client client) throws TException, InterruptedException {
         System.out.println("\n=== Java Client Demo ===");
 
@@ -188,6 +396,112 @@ public class JavaClient {
             System.out.println("  ✗ Unexpected error in oneway call: " + e.getMessage());
         }
 
+        // Name index lookups
+        System.out.println("\n10. Searching users by name...");
+        System.out.println("  Exact 'Alice Johnson': " + client.findUsersByName("Alice Johnson"));
+        System.out.println("  Prefix 'C' (limit 5): " + client.findUsersByNamePrefix("C", 5));
+
+        // Age index queries
+        System.out.println("\n11. Querying users by age...");
+        System.out.println("  Aged 25-45 (first page of 10): " + client.findUsersByAgeRange(25, 45, 0L, 10));
+        System.out.println("  Age histogram: " + client.countByAge(0, 150));
+
+        // Filtered, projected listing
+        System.out.println("\n12. Listing names of users aged 30 and over...");
+        UserFilter filter = new UserFilter();
+        filter.setMinAge(30);
+        UserProjection namesOnly = new UserProjection();
+        namesOnly.setName(true);
+        for (UserView view : client.listUsers(filter, namesOnly)) {
+            System.out.println("  " + view);
+        }
+
+        // Near-cache with server-driven invalidation
+        System.out.println("\n13. Reading through the near-cache...");
+        CachingUserClient cache = new CachingUserClient(client, 1000, 30_000, 500);
+        for (int i = 0; i < 5; i++) {
+            cache.getUser(alice.getId());
+        }
+        cache.updateUser(alice);
+        cache.getUser(alice.getId());
+        System.out.println("  " + cache);
+
         System.out.println("\n=== Java Client Demo Complete ===");
     }
+
+    /**
+     * A single Thrift call, for running it under a deadline.
+     */
+    interface ThriftCall<T> {
+        T call() throws TException;
+    }
+
+    /**
+     * Runs one call with a deadline. The server drops the call if the deadline
+     * has passed when it arrives and aborts long scans once it passes. The
+     * socket read gives up at the same time. A call that timed out on the
+     * client leaves its reply unread, so the connection must not be reused.
+     */
+    static <T> T callWithDeadline(RequestHeaderProtocol headers, TSocket socket, long timeoutMillis, ThriftCall<T> call) throws TException {
+        headers.setDeadline(timeoutMillis);
+        socket.setTimeout((int) Math.max(1, timeoutMillis));
+        try {
+            return call.call();
+        } finally {
+            headers.clearDeadline();
+            socket.setTimeout(0);
+        }
+    }
+
+    private static void performDeadlineOperations(UserService.Client client, RequestHeaderProtocol headers, TSocket socket) throws TException {
+        System.out.println("\n14. Calling with per-call deadlines...");
+        List<User> users = callWithDeadline(headers, socket, 1000, client::getAllUsers);
+        System.out.println("  getAllUsers within 1000 ms: " + users.size() + " users");
+        // A deadline already spent upstream is dropped without running the call
+        try {
+            headers.setDeadline(-1);
+            client.getAllUsers();
+            System.out.println("  ✗ Expired call should have been dropped");
+        } catch (TApplicationException e) {
+            System.out.println("  ✓ Expired call dropped by the server: " + e.getType() + " - " + e.getMessage());
+        } finally {
+            headers.clearDeadline();
+        }
+    }
+
+    private static void performMultiplexedOperations(MultiplexedClientFactory factory) throws TException {
+        System.out.println("\n=== Multiplexed Services Demo (same connection) ===");
+
+        // Admin service
+        System.out.println("\n1. Pinging admin service...");
+        AdminService.Client admin = factory.adminService();
+        System.out.println("  Ping: " + admin.ping());
+
+        // Bulk service
+        System.out.println("\n2. Bulk creating users...");
+        BulkService.Client bulk = factory.bulkService();
+        List<User> created = bulk.createUsers(Arrays.asList(
+            new User(0, "Dave Wilson", 31),
+            new User(0, "Eve Brown", 26)));
+        for (User user : created) {
+            System.out.println("  Created: " + user);
+        }
+
+        System.out.println("\n3. Bulk getting users...");
+        List<Long> ids = Arrays.asList(created.get(0).getId(), created.get(1).getId(), 999L);
+        List<User> found = bulk.getUsers(ids);
+        System.out.println("  Found " + found.size() + " of " + ids.size() + " requested users");
+
+        // Multiplexed user service on the same connection
+        System.out.println("\n4. Getting user via multiplexed UserService...");
+        System.out.println("  Retrieved: " + factory.userService().getUser(created.get(0).getId()));
+
+        System.out.println("\n5. Bulk deleting users...");
+        System.out.println("  Deleted " + bulk.deleteUsers(ids) + " users");
+
+        System.out.println("\n6. Server stats...");
+        System.out.println("  Stats: " + admin.getStats());
+
+        System.out.println("\n=== Multiplexed Services Demo Complete ===");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example;
+
+import java.util.Arrays;
+
+/**
+ * Percentile of recent call latencies, over a ring of the last samples.
+ * The percentile is recomputed every few samples rather than on every read.
+ */
+class LatencyTracker {
+    private static final int SAMPLES = 1024;
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final double percentile;
+    private final long[] samples = new long[SAMPLES];
+    private int count;
+    private int next;
+    private int sinceRecompute;
+    private volatile long percentileNanos;
+
+    LatencyTracker(double percentile, long initialNanos) {
+        this.percentile = percentile;
+        this.percentileNanos = initialNanos;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % SAMPLES;
+        count = Math.min(count + 1, SAMPLES);
+        if (++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.min(count - 1, (int) (count * percentile))];
+        }
+    }
+
+    long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+
+/**
+ * Creates clients for every service multiplexed on the server port, all sharing
+ * one underlying connection. Clients created from the same factory share the
+ * transport, so calls on them must not be made concurrently.
+ */
+public class MultiplexedClientFactory {
+    // Must match the names the server registers on its TMultiplexedProcessor
+    public static final String USER_SERVICE = "UserService";
+    public static final String ADMIN_SERVICE = "AdminService";
+    public static final String BULK_SERVICE = "BulkService";
+
+    private final TProtocol protocol;
+
+    public MultiplexedClientFactory(TProtocol protocol) {
+        this.protocol = protocol;
+    }
+
+    public UserService.Client userService() {
+        return new UserService.Client(new TMultiplexedProtocol(protocol, USER_SERVICE));
+    }
+
+    public AdminService.Client adminService() {
+        return new AdminService.Client(new TMultiplexedProtocol(protocol, ADMIN_SERVICE));
+    }
+
+    public BulkService.Client bulkService() {
+        return new BulkService.Client(new TMultiplexedProtocol(protocol, BULK_SERVICE));
+    }
+}
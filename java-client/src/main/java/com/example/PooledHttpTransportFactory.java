@@ -0,0 +1,63 @@
+package com.example;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
+import org.apache.thrift.transport.THttpClient;
+import org.apache.thrift.transport.TTransportException;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Creates THttpClient transports that share one pool of keep-alive HTTP/1.1
+ * connections to the server's HTTP endpoint. Each call is a POST, so a
+ * transport is only busy for one call at a time; a transport must still not be
+ * used from two threads at once, so give each thread its own.
+ */
+public class PooledHttpTransportFactory implements Closeable {
+    public static final int DEFAULT_MAX_CONNECTIONS = 8;
+    private static final Timeout CONNECT_TIMEOUT = Timeout.ofSeconds(5);
+
+    private final String url;
+    private final PoolingHttpClientConnectionManager connections;
+    private final CloseableHttpClient httpClient;
+
+    public PooledHttpTransportFactory(String url) {
+        this(url, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    public PooledHttpTransportFactory(String url, int maxConnections) {
+        this.url = url;
+        this.connections = new PoolingHttpClientConnectionManager();
+        // One server behind the URL, so the whole pool can go to that route
+        connections.setMaxTotal(maxConnections);
+        connections.setDefaultMaxPerRoute(maxConnections);
+        connections.setDefaultConnectionConfig(ConnectionConfig.custom().setConnectTimeout(CONNECT_TIMEOUT).build());
+        this.httpClient = HttpClients.custom().setConnectionManager(connections).build();
+    }
+
+    public THttpClient newTransport() throws TTransportException {
+        return new THttpClient(url, httpClient);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Connections currently open, idle or in use
+     */
+    public int getOpenConnections() {
+        PoolStats stats = connections.getTotalStats();
+        return stats.getLeased() + stats.getAvailable();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
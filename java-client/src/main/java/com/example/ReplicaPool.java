@@ -0,0 +1,81 @@
+package com.example;
+
+import UserService.UserService;
+import org.apache.thrift.TException;
+import org.apache.thrift.TServiceClient;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of connections to one server. Thrift clients are not thread-safe,
+ * so every concurrent call borrows its own; a connection that failed at the
+ * transport level is closed rather than returned.
+ */
+public class ReplicaPool implements AutoCloseable {
+    public static final int DEFAULT_MAX_IDLE = 8;
+
+    /**
+     * Opens a new connected client.
+     */
+    public interface Connector {
+        UserService.Iface connect() throws TException;
+    }
+
+    private final String name;
+    private final Connector connector;
+    private final int maxIdle;
+    private final ConcurrentLinkedQueue<UserService.Iface> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public ReplicaPool(String name, Connector connector) {
+        this(name, connector, DEFAULT_MAX_IDLE);
+    }
+
+    public ReplicaPool(String name, Connector connector, int maxIdle) {
+        this.name = name;
+        this.connector = connector;
+        this.maxIdle = maxIdle;
+    }
+
+    public UserService.Iface borrow() throws TException {
+        UserService.Iface client = idle.poll();
+        if (client != null) {
+            idleCount.decrementAndGet();
+            return client;
+        }
+        return connector.connect();
+    }
+
+    public void release(UserService.Iface client) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(client);
+        } else {
+            idleCount.decrementAndGet();
+            closeQuietly(client);
+        }
+    }
+
+    public void discard(UserService.Iface client) {
+        closeQuietly(client);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        UserService.Iface client;
+        while ((client = idle.poll()) != null) {
+            idleCount.decrementAndGet();
+            closeQuietly(client);
+        }
+    }
+
+    private static void closeQuietly(UserService.Iface client) {
+        if (client instanceof TServiceClient) {
+            ((TServiceClient) client).getInputProtocol().getTransport().close();
+        }
+    }
+}
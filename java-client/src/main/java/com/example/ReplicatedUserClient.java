@@ -0,0 +1,101 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends writes to the primary and spreads reads round-robin over read
+ * replicas. Replicas apply the primary's mutations asynchronously, so a read
+ * may briefly miss a recent write; a replica read that fails, including a
+ * user not found there yet, is retried on the primary.
+ *
+ * Like the Thrift clients it wraps, this class is not thread-safe.
+ */
+public class ReplicatedUserClient {
+    private final UserService.Iface primary;
+    private final List<UserService.Iface> replicas;
+    private final boolean readFromReplicas;
+    private int next = 0;
+    private long replicaReads;
+    private long primaryFallbacks;
+
+    public ReplicatedUserClient(UserService.Iface primary, List<? extends UserService.Iface> replicas, boolean readFromReplicas) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas);
+        this.readFromReplicas = readFromReplicas;
+    }
+
+    public User createUser(String name, int age) throws TException {
+        return primary.createUser(name, age);
+    }
+
+    public User updateUser(User user) throws UserNotFoundException, TException {
+        return primary.updateUser(user);
+    }
+
+    public void deleteUser(long userId) throws UserNotFoundException, TException {
+        primary.deleteUser(userId);
+    }
+
+    public User getUser(long userId) throws UserNotFoundException, TException {
+        UserService.Iface replica = nextReplica();
+        if (replica != null) {
+            try {
+                User user = replica.getUser(userId);
+                replicaReads++;
+                return user;
+            } catch (TException e) {
+                primaryFallbacks++;
+            }
+        }
+        return primary.getUser(userId);
+    }
+
+    public List<User> getAllUsers() throws TException {
+        UserService.Iface replica = nextReplica();
+        if (replica != null) {
+            try {
+                List<User> users = replica.getAllUsers();
+                replicaReads++;
+                return users;
+            } catch (TException e) {
+                primaryFallbacks++;
+            }
+        }
+        return primary.getAllUsers();
+    }
+
+    public List<User> findUsersByName(String name) throws TException {
+        UserService.Iface replica = nextReplica();
+        if (replica != null) {
+            try {
+                List<User> users = replica.findUsersByName(name);
+                replicaReads++;
+                return users;
+            } catch (TException e) {
+                primaryFallbacks++;
+            }
+        }
+        return primary.findUsersByName(name);
+    }
+
+    private UserService.Iface nextReplica() {
+        if (!readFromReplicas || replicas.isEmpty()) {
+            return null;
+        }
+        UserService.Iface replica = replicas.get(next);
+        next = (next + 1) % replicas.size();
+        return replica;
+    }
+
+    public long getReplicaReadCount() {
+        return replicaReads;
+    }
+
+    public long getPrimaryFallbackCount() {
+        return primaryFallbacks;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends request headers as a suffix on each outgoing message name
+ * ({@code getUser#client=batch-7}), the format the server's
+ * RequestHeaderProcessor strips. Only servers that strip the suffix
+ * understand these calls. Works inside or outside TMultiplexedProtocol.
+ */
+public class RequestHeaderProtocol extends TProtocolDecorator {
+    public static final char SEPARATOR = '#';
+    public static final String CLIENT_ID = "client";
+    // Milliseconds a call has left when sent; the server starts the deadline on its own clock
+    // and drops or aborts calls past it
+    public static final String TIMEOUT = "timeout";
+
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private boolean hasDeadline;
+    private long deadlineNanos;
+
+    public RequestHeaderProtocol(TProtocol protocol) {
+        super(protocol);
+    }
+
+    public RequestHeaderProtocol setHeader(String name, String value) {
+        if (value == null) {
+            headers.remove(name);
+        } else {
+            headers.put(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the deadline for the calls that follow to timeoutMillis from now.
+     * Each call carries the time left when it is sent, measured on this
+     * process's monotonic clock, so the two clocks never need to agree.
+     */
+    public RequestHeaderProtocol setDeadline(long timeoutMillis) {
+        deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        hasDeadline = true;
+        return this;
+    }
+
+    public RequestHeaderProtocol clearDeadline() {
+        hasDeadline = false;
+        return this;
+    }
+
+    @Override
+    public void writeMessageBegin(TMessage message) throws TException {
+        if (headers.isEmpty() && !hasDeadline) {
+            super.writeMessageBegin(message);
+            return;
+        }
+        StringBuilder name = new StringBuilder(message.name);
+        char separator = SEPARATOR;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            name.append(separator).append(header.getKey()).append('=').append(header.getValue());
+            separator = ';';
+        }
+        if (hasDeadline) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            name.append(separator).append(TIMEOUT).append('=').append(Math.max(0, remainingMillis));
+        }
+        super.writeMessageBegin(new TMessage(name.toString(), message.type, message.seqid));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries and hedges to a fraction of normal traffic. Every request
+ * deposits the ratio of a token, every retry or hedge withdraws a whole one,
+ * and the balance never exceeds the given number of tokens. During an outage
+ * the extra load is therefore bounded by the ratio instead of multiplying.
+ */
+public class RetryBudget {
+    public static final double DEFAULT_RATIO = 0.1;
+    public static final int DEFAULT_MAX_TOKENS = 10;
+    // Balance is kept in thousandths of a token
+    private static final long UNIT = 1000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget() {
+        this(DEFAULT_RATIO, DEFAULT_MAX_TOKENS);
+    }
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.deposit = (long) (ratio * UNIT);
+        this.maxBalance = maxTokens * UNIT;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes UserService calls across shard servers. The owning shard is encoded
+ * in the top bits of every user ID, so ID-based calls go straight to one
+ * shard, new users are spread round-robin, and getAllUsers queries every shard
+ * in parallel and merges the results.
+ *
+ * Each shard client is used by one call at a time, so this class is not
+ * thread-safe.
+ */
+public class ShardedUserClient implements AutoCloseable {
+    // Must match ShardIds.SEQUENCE_BITS on the server
+    private static final int SEQUENCE_BITS = 53;
+
+    private final List<UserService.Iface> shards;
+    private final ExecutorService executor;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    public ShardedUserClient(List<? extends UserService.Iface> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = new ArrayList<>(shards);
+        this.executor = Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "shard-gather");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static int shardOf(long userId) {
+        return (int) (userId >>> SEQUENCE_BITS);
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public User createUser(String name, int age) throws TException {
+        int shard = Math.floorMod(nextShard.getAndIncrement(), shards.size());
+        return shards.get(shard).createUser(name, age);
+    }
+
+    public User getUser(long userId) throws UserNotFoundException, TException {
+        return shardFor(userId).getUser(userId);
+    }
+
+    public User updateUser(User user) throws UserNotFoundException, TException {
+        return shardFor(user.getId()).updateUser(user);
+    }
+
+    public void deleteUser(long userId) throws UserNotFoundException, TException {
+        shardFor(userId).deleteUser(userId);
+    }
+
+    public List<User> getAllUsers() throws TException {
+        List<Future<List<User>>> pending = new ArrayList<>(shards.size());
+        for (UserService.Iface shard : shards) {
+            pending.add(executor.submit(shard::getAllUsers));
+        }
+        List<User> allUsers = new ArrayList<>();
+        try {
+            for (Future<List<User>> result : pending) {
+                allUsers.addAll(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TException("Interrupted while gathering users from shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TException) {
+                throw (TException) e.getCause();
+            }
+            throw new TException("Failed to gather users from shards", e.getCause());
+        } finally {
+            for (Future<List<User>> result : pending) {
+                result.cancel(true);
+            }
+        }
+        return allUsers;
+    }
+
+    private UserService.Iface shardFor(long userId) throws UserNotFoundException {
+        int shard = shardOf(userId);
+        if (shard >= shards.size()) {
+            throw new UserNotFoundException("User with ID " + userId + " not found");
+        }
+        return shards.get(shard);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,229 @@
+package com.example;
+
+import org.apache.thrift.TConfiguration;
+import org.apache.thrift.transport.TEndpointTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Transport over a Unix domain socket, for clients on the same host as the
+ * server. Bytes go through the kernel's socket buffers without the TCP/IP
+ * stack, so there are no checksums, no Nagle or delayed ACK and no loopback
+ * routing on each call.
+ *
+ * Reads and writes go straight to the NIO channel through one buffer each.
+ * The read buffer is exposed to protocols (getBuffer and friends), so the
+ * binary and compact protocols decode fields in place as they do with
+ * framed transports.
+ *
+ * UnixDomainSocketAddress and the UNIX protocol family arrived in Java 16,
+ * while the build still targets Java 11, so both are looked up reflectively
+ * and {@link #isSupported()} tells whether the running JVM has them.
+ */
+public class UnixSocketTransport extends TEndpointTransport {
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final Class<?> ADDRESS_TYPE;
+    private static final ProtocolFamily UNIX;
+
+    static {
+        Class<?> addressType = null;
+        ProtocolFamily unix = null;
+        try {
+            addressType = Class.forName("java.net.UnixDomainSocketAddress");
+            unix = StandardProtocolFamily.valueOf("UNIX");
+        } catch (ClassNotFoundException | IllegalArgumentException e) {
+            // Older JVM: Unix domain sockets stay unavailable
+        }
+        ADDRESS_TYPE = addressType;
+        UNIX = unix;
+    }
+
+    private final SocketChannel channel;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    UnixSocketTransport(SocketChannel channel) throws TTransportException {
+        super(new TConfiguration());
+        this.channel = channel;
+        readBuffer.flip();
+    }
+
+    /**
+     * Connects to the server listening on the socket file at path
+     */
+    public static UnixSocketTransport connect(Path path) throws TTransportException {
+        SocketChannel channel = openChannel(SocketChannel.class);
+        try {
+            channel.connect(address(path));
+            return new UnixSocketTransport(channel);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new TTransportException(TTransportException.NOT_OPEN, "Could not connect to " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    public static boolean isSupported() {
+        return ADDRESS_TYPE != null && UNIX != null;
+    }
+
+    static SocketAddress address(Path path) throws TTransportException {
+        requireSupport();
+        try {
+            return (SocketAddress) ADDRESS_TYPE.getMethod("of", Path.class).invoke(null, path);
+        } catch (ReflectiveOperationException e) {
+            throw new TTransportException(TTransportException.UNKNOWN, "Invalid socket path " + path, unwrap(e));
+        }
+    }
+
+    /**
+     * Opens a SocketChannel or ServerSocketChannel of the UNIX family
+     */
+    static <T> T openChannel(Class<T> channelType) throws TTransportException {
+        requireSupport();
+        try {
+            return channelType.cast(channelType.getMethod("open", ProtocolFamily.class).invoke(null, UNIX));
+        } catch (ReflectiveOperationException e) {
+            throw new TTransportException(TTransportException.UNKNOWN, "Could not open a Unix domain socket", unwrap(e));
+        }
+    }
+
+    private static void requireSupport() throws TTransportException {
+        if (!isSupported()) {
+            throw new TTransportException(TTransportException.UNKNOWN,
+                "Unix domain sockets need Java 16 or later (running " + System.getProperty("java.version") + ")");
+        }
+    }
+
+    private static Throwable unwrap(ReflectiveOperationException e) {
+        return (e instanceof InvocationTargetException) ? e.getCause() : e;
+    }
+
+    static void closeQuietly(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    /**
+     * The channel is connected when the transport is created; this only
+     * checks it is still open, so callers written for TSocket work unchanged.
+     */
+    @Override
+    public void open() throws TTransportException {
+        if (!channel.isOpen()) {
+            throw new TTransportException(TTransportException.NOT_OPEN, "Unix socket is closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+    }
+
+    /**
+     * Ends reading after the current call, like Socket.shutdownInput
+     */
+    public void shutdownInput() throws IOException {
+        channel.shutdownInput();
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws TTransportException {
+        if (!readBuffer.hasRemaining()) {
+            if (len >= BUFFER_SIZE) {
+                // Large reads skip the copy through the buffer
+                return readChannel(ByteBuffer.wrap(buf, off, len));
+            }
+            readBuffer.clear();
+            try {
+                readChannel(readBuffer);
+            } finally {
+                readBuffer.flip();
+            }
+        }
+        int count = Math.min(len, readBuffer.remaining());
+        readBuffer.get(buf, off, count);
+        return count;
+    }
+
+    private int readChannel(ByteBuffer target) throws TTransportException {
+        try {
+            int count = channel.read(target);
+            if (count < 0) {
+                throw new TTransportException(TTransportException.END_OF_FILE, "Unix socket closed by peer");
+            }
+            return count;
+        } catch (IOException e) {
+            throw new TTransportException(TTransportException.UNKNOWN, e);
+        }
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) throws TTransportException {
+        if (len > writeBuffer.remaining()) {
+            flush();
+            if (len >= BUFFER_SIZE) {
+                writeChannel(ByteBuffer.wrap(buf, off, len));
+                return;
+            }
+        }
+        writeBuffer.put(buf, off, len);
+    }
+
+    @Override
+    public void flush() throws TTransportException {
+        writeBuffer.flip();
+        try {
+            writeChannel(writeBuffer);
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private void writeChannel(ByteBuffer source) throws TTransportException {
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } catch (IOException e) {
+            throw new TTransportException(TTransportException.NOT_OPEN, e);
+        }
+    }
+
+    @Override
+    public byte[] getBuffer() {
+        return readBuffer.array();
+    }
+
+    @Override
+    public int getBufferPosition() {
+        return readBuffer.position();
+    }
+
+    @Override
+    public int getBytesRemainingInBuffer() {
+        return readBuffer.remaining();
+    }
+
+    @Override
+    public void consumeBuffer(int len) {
+        readBuffer.position(readBuffer.position() + len);
+    }
+}
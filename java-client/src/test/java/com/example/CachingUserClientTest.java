@@ -0,0 +1,161 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the getUser near-cache, against a mocked service
+ */
+@DisplayName("Caching User Client Tests")
+class CachingUserClientTest {
+
+    private UserService.Iface service;
+    private long now;
+
+    @BeforeEach
+    void setUp() throws TException {
+        service = mock(UserService.Iface.class);
+        now = 0L;
+        when(service.getUser(anyLong())).thenAnswer(call -> new User(call.getArgument(0), "User" + call.getArgument(0), 30));
+        when(service.pollInvalidations(anyLong())).thenAnswer(call -> new InvalidationBatch(call.getArgument(0), new ArrayList<>(), false));
+    }
+
+    private CachingUserClient newCache(int maxSize) {
+        return new CachingUserClient(service, maxSize, 1000, 100, () -> now);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache and report hit rate")
+    void testCacheHit() throws TException {
+        // Given
+        CachingUserClient cache = newCache(10);
+
+        // When
+        cache.getUser(1L);
+        cache.getUser(1L);
+        cache.getUser(1L);
+
+        // Then
+        verify(service, times(1)).getUser(1L);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2.0 / 3, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should reload entries after the TTL expires")
+    void testTtlExpiry() throws TException {
+        // Given
+        CachingUserClient cache = newCache(10);
+        cache.getUser(1L);
+
+        // When
+        now += 1_001_000_000L;
+        cache.getUser(1L);
+
+        // Then
+        verify(service, times(2)).getUser(1L);
+    }
+
+    @Test
+    @DisplayName("Should drop entries the server reports as invalidated")
+    void testServerInvalidation() throws TException {
+        // Given
+        CachingUserClient cache = newCache(10);
+        cache.getUser(1L);
+        cache.getUser(2L);
+        when(service.pollInvalidations(0L)).thenReturn(new InvalidationBatch(1L, List.of(1L), false));
+
+        // When
+        now += 100_000_000L;
+        cache.getUser(1L);
+        cache.getUser(2L);
+
+        // Then
+        verify(service, times(2)).getUser(1L);
+        verify(service, times(1)).getUser(2L);
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    @DisplayName("Should clear the cache when the server asks for a reset")
+    void testServerReset() throws TException {
+        // Given
+        CachingUserClient cache = newCache(10);
+        cache.getUser(1L);
+        cache.getUser(2L);
+        when(service.pollInvalidations(0L)).thenReturn(new InvalidationBatch(50L, new ArrayList<>(), true));
+
+        // When
+        cache.pollInvalidations();
+
+        // Then
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getInvalidationCount());
+    }
+
+    @Test
+    @DisplayName("Should invalidate locally on update and delete")
+    void testLocalInvalidation() throws TException {
+        // Given
+        CachingUserClient cache = newCache(10);
+        cache.getUser(1L);
+        cache.getUser(2L);
+
+        // When
+        cache.updateUser(new User(1L, "Renamed", 31));
+        cache.deleteUser(2L);
+
+        // Then
+        assertEquals(0, cache.size());
+        verify(service).updateUser(any(User.class));
+        verify(service).deleteUser(2L);
+    }
+
+    @Test
+    @DisplayName("Should only admit a new user over a more frequently used victim")
+    void testTinyLfuAdmission() throws TException {
+        // Given
+        CachingUserClient cache = newCache(2);
+        for (int i = 0; i < 5; i++) {
+            cache.getUser(1L);
+            cache.getUser(2L);
+        }
+
+        // When: a one-off read must not displace the hot entries
+        cache.getUser(3L);
+        // and a repeatedly read user eventually wins admission
+        for (int i = 0; i < 10; i++) {
+            cache.getUser(4L);
+        }
+
+        // Then
+        assertEquals(2, cache.size());
+        assertTrue(cache.getRejectionCount() >= 1);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Should return copies so callers cannot corrupt cached users")
+    void testDefensiveCopies() throws TException {
+        // Given
+        CachingUserClient cache = newCache(10);
+        User first = cache.getUser(1L);
+
+        // When
+        first.setName("Mutated");
+
+        // Then
+        assertEquals("User1", cache.getUser(1L).getName());
+    }
+}
@@ -0,0 +1,198 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the consistent-hash ring and the routing client's migration
+ */
+@DisplayName("Consistent Hash Ring Tests")
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+
+    private static boolean inRange(long hash, long fromHash, long toHash) {
+        return fromHash < toHash ? hash > fromHash && hash <= toHash : hash > fromHash || hash <= toHash;
+    }
+
+    private static Map<Long, String> owners(ConsistentHashRing<String> ring) {
+        Map<Long, String> owners = new HashMap<>();
+        for (long id = 1; id <= KEYS; id++) {
+            owners.put(id, ring.nodeNameFor(id));
+        }
+        return owners;
+    }
+
+    @Test
+    @DisplayName("Should use the same ID hash as the server")
+    void testHashMatchesServer() {
+        // Values from RingHash.hash in java-server
+        assertEquals(-5451962507482445012L, ConsistentHashRing.hash(1L));
+        assertEquals(-9148929187392628276L, ConsistentHashRing.hash(42L));
+    }
+
+    @Test
+    @DisplayName("Should spread keys roughly evenly with virtual nodes")
+    void testBalancedDistribution() {
+        // Given
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(128);
+        for (String name : new String[] {"a", "b", "c", "d"}) {
+            ring.addNode(name, name);
+        }
+
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        owners(ring).values().forEach(name -> counts.merge(name, 1, Integer::sum));
+
+        // Then
+        assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(count > KEYS / 4 * 0.7 && count < KEYS / 4 * 1.3, "unbalanced: " + counts);
+        }
+    }
+
+    @Test
+    @DisplayName("Should move only keys in the reported ranges when adding a node")
+    void testAddNodeMovesOnlyReportedRanges() {
+        // Given
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(64);
+        ring.addNode("a", "a");
+        ring.addNode("b", "b");
+        ring.addNode("c", "c");
+        Map<Long, String> before = owners(ring);
+
+        // When
+        List<ConsistentHashRing.MovedRange> moved = ring.addNode("d", "d");
+        Map<Long, String> after = owners(ring);
+
+        // Then
+        int changed = 0;
+        for (long id = 1; id <= KEYS; id++) {
+            long hash = ConsistentHashRing.hash(id);
+            String previousOwner = before.get(id);
+            boolean reported = moved.stream().anyMatch(r -> inRange(hash, r.fromHash, r.toHash) && r.fromNode.equals(previousOwner));
+            if (!before.get(id).equals(after.get(id))) {
+                changed++;
+                assertEquals("d", after.get(id));
+                assertTrue(reported, "key " + id + " moved outside reported ranges");
+            } else {
+                assertFalse(reported, "key " + id + " reported but did not move");
+            }
+        }
+        // About a quarter of the keys, not a full reshuffle
+        assertTrue(changed > KEYS * 0.15 && changed < KEYS * 0.35, "moved " + changed);
+    }
+
+    @Test
+    @DisplayName("Should hand a removed node's keys to the remaining nodes only")
+    void testRemoveNode() {
+        // Given
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(64);
+        ring.addNode("a", "a");
+        ring.addNode("b", "b");
+        ring.addNode("c", "c");
+        Map<Long, String> before = owners(ring);
+
+        // When
+        List<ConsistentHashRing.MovedRange> moved = ring.removeNode("b");
+        Map<Long, String> after = owners(ring);
+
+        // Then
+        assertTrue(moved.stream().allMatch(r -> r.fromNode.equals("b") && !r.toNode.equals("b")));
+        for (long id = 1; id <= KEYS; id++) {
+            if (!before.get(id).equals("b")) {
+                assertEquals(before.get(id), after.get(id));
+            }
+        }
+    }
+
+    /**
+     * Mocks one server's UserService and BulkService over an in-memory map
+     */
+    private ConsistentHashUserClient.Node mockNode(TreeMap<Long, User> store, AtomicLong ids) throws TException {
+        UserService.Iface users = mock(UserService.Iface.class);
+        BulkService.Iface bulk = mock(BulkService.Iface.class);
+        when(users.createUser(anyString(), anyInt())).thenAnswer(call -> {
+            User user = new User(ids.incrementAndGet(), call.getArgument(0), call.getArgument(1));
+            store.put(user.getId(), user);
+            return user;
+        });
+        when(users.getUser(anyLong())).thenAnswer(call -> {
+            User user = store.get((Long) call.getArgument(0));
+            if (user == null) {
+                throw new UserNotFoundException("not found");
+            }
+            return user;
+        });
+        when(users.getAllUsers()).thenAnswer(call -> new ArrayList<>(store.values()));
+        when(bulk.exportUsers(anyLong(), anyLong(), anyLong(), anyInt())).thenAnswer(call -> {
+            List<User> page = new ArrayList<>();
+            for (User user : store.tailMap(call.getArgument(2), false).values()) {
+                if (page.size() < (int) call.getArgument(3)
+                        && inRange(ConsistentHashRing.hash(user.getId()), call.getArgument(0), call.getArgument(1))) {
+                    page.add(user);
+                }
+            }
+            return page;
+        });
+        when(bulk.importUsers(anyList())).thenAnswer(call -> {
+            List<User> imported = call.getArgument(0);
+            imported.forEach(user -> store.put(user.getId(), user));
+            return imported.size();
+        });
+        when(bulk.deleteUsers(anyList())).thenAnswer(call -> {
+            List<Long> deleted = call.getArgument(0);
+            deleted.forEach(store::remove);
+            return deleted.size();
+        });
+        return new ConsistentHashUserClient.Node(users, bulk);
+    }
+
+    @Test
+    @DisplayName("Should place new users on their owner and migrate them when nodes change")
+    void testRouterMigration() throws TException {
+        // Given: two nodes with disjoint ID spaces
+        ConsistentHashUserClient client = new ConsistentHashUserClient(32);
+        Map<String, TreeMap<Long, User>> stores = new HashMap<>();
+        Map<String, ConsistentHashUserClient.Node> nodes = new HashMap<>();
+        long base = 0;
+        for (String name : new String[] {"a", "b", "c"}) {
+            stores.put(name, new TreeMap<>());
+            nodes.put(name, mockNode(stores.get(name), new AtomicLong(base)));
+            base += 1_000_000;
+        }
+        client.addNode("a", nodes.get("a").users, nodes.get("a").bulk);
+        client.addNode("b", nodes.get("b").users, nodes.get("b").bulk);
+        List<User> created = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            created.add(client.createUser("User" + i, 30));
+        }
+
+        // When
+        long movedIn = client.addNode("c", nodes.get("c").users, nodes.get("c").bulk);
+        long movedOut = client.removeNode("a");
+
+        // Then
+        assertTrue(movedIn > 0 && movedIn < 200);
+        assertTrue(movedOut > 0);
+        assertTrue(stores.get("a").isEmpty());
+        assertEquals(200, client.getAllUsers().size());
+        for (User user : created) {
+            assertEquals(user.getName(), client.getUser(user.getId()).getName());
+            assertTrue(stores.get(client.nodeNameFor(user.getId())).containsKey(user.getId()));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for hedged and retried reads, against mocked replicas
+ */
+@DisplayName("Hedging User Client Tests")
+class HedgingUserClientTest {
+
+    private static final User ALICE = new User(1L, "Alice", 30);
+
+    private static ReplicaPool pool(String name, UserService.Iface client) {
+        return new ReplicaPool(name, () -> client);
+    }
+
+    private static HedgingUserClient newClient(ReplicaPool primary, RetryBudget budget, ReplicaPool... replicas) {
+        return new HedgingUserClient(primary, Arrays.asList(replicas), budget, 3, TimeUnit.MILLISECONDS.toNanos(200), 1);
+    }
+
+    @Test
+    @DisplayName("Should hedge a slow read to another replica and return the first answer")
+    void testHedgeWins() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        UserService.Iface slow = mock(UserService.Iface.class);
+        when(slow.getUser(1L)).thenAnswer(call -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ALICE;
+        });
+        UserService.Iface fast = mock(UserService.Iface.class);
+        when(fast.getUser(1L)).thenReturn(ALICE);
+
+        try (HedgingUserClient client = newClient(pool("primary", fast), new RetryBudget(), pool("slow", slow), pool("fast", fast))) {
+            // When
+            long start = System.nanoTime();
+            User user = client.getUser(1L);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            release.countDown();
+
+            // Then
+            assertEquals(ALICE, user);
+            assertTrue(elapsedMillis < 2000);
+            assertEquals(1, client.getHedgeCount());
+            assertEquals(1, client.getHedgeWinCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry reads after transport errors but never retry createUser")
+    void testRetriesReadsOnly() throws TException {
+        // Given
+        UserService.Iface flaky = mock(UserService.Iface.class);
+        when(flaky.getAllUsers())
+            .thenThrow(new TTransportException("connection reset"))
+            .thenReturn(Arrays.asList(ALICE));
+        when(flaky.createUser(anyString(), anyInt())).thenThrow(new TTransportException("connection reset"));
+
+        try (HedgingUserClient client = newClient(pool("primary", flaky), new RetryBudget(), pool("replica", flaky))) {
+            // When
+            int users = client.getAllUsers().size();
+
+            // Then
+            assertEquals(1, users);
+            assertEquals(1, client.getRetryCount());
+            assertThrows(TTransportException.class, () -> client.createUser("Bob", 40));
+            verify(flaky, times(1)).createUser("Bob", 40);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop retrying when the retry budget is spent")
+    void testRetryBudget() throws TException {
+        // Given
+        UserService.Iface down = mock(UserService.Iface.class);
+        when(down.getUser(anyLong())).thenThrow(new TTransportException("connection refused"));
+
+        try (HedgingUserClient client = newClient(pool("primary", down), new RetryBudget(0.0, 2), pool("replica", down))) {
+            // When
+            for (int i = 0; i < 3; i++) {
+                assertThrows(TTransportException.class, () -> client.getUser(1L));
+            }
+
+            // Then
+            assertEquals(2, client.getRetryCount());
+            assertEquals(5, mockingDetails(down).getInvocations().size());
+            assertTrue(client.getBudgetExhaustedCount() >= 2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return application errors without retrying")
+    void testApplicationErrorsNotRetried() throws TException {
+        // Given
+        UserService.Iface replica = mock(UserService.Iface.class);
+        when(replica.getUser(9L)).thenThrow(new UserNotFoundException("User with ID 9 not found"));
+        when(replica.validateUserData(anyString(), anyInt(), anyBoolean()))
+            .thenThrow(new TApplicationException(TApplicationException.UNKNOWN, "Age must be between 0 and 150"));
+
+        try (HedgingUserClient client = newClient(pool("primary", replica), new RetryBudget(), pool("replica", replica))) {
+            // When / Then
+            assertThrows(UserNotFoundException.class, () -> client.getUser(9L));
+            assertThrows(TApplicationException.class, () -> client.validateUserData("Jane", 200, false));
+            assertEquals(0, client.getRetryCount());
+        }
+    }
+}
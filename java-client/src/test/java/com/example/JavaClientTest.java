@@ -3,6 +3,8 @@ package com.example;
 import UserService.*;
 import org.apache.thrift.TException;
 import org.apache.thrift.protocol.*;
+import org.apache.thrift.transport.THttpClient;
+import org.apache.thrift.transport.TMemoryBuffer;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
@@ -10,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.mockito.Mockito;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -64,6 +69,21 @@ class JavaClientTest {
         assertTrue(protocol instanceof TJSONProtocol);
     }
 
+    @Test
+    @DisplayName("Should create fast JSON protocol")
+    void testFastJsonProtocolSelection() {
+        // Given
+        TTransport mockTransport = mock(TTransport.class);
+        String protocolType = "fastjson";
+
+        // When
+        TProtocol protocol = createProtocol(mockTransport, protocolType);
+
+        // Then
+        assertNotNull(protocol);
+        assertTrue(protocol instanceof FastJSONProtocol);
+    }
+
     @Test
     @DisplayName("Should create SimpleJSON protocol")
     void testSimpleJsonProtocolSelection() {
@@ -219,6 +239,67 @@ class JavaClientTest {
         assertNotNull(client);
     }
 
+    @Test
+    @DisplayName("Should prefix method names with the service name for multiplexed clients")
+    void testMultiplexedClientPrefixesServiceName() throws TException {
+        // Given
+        TMemoryBuffer buffer = new TMemoryBuffer(256);
+        MultiplexedClientFactory factory = new MultiplexedClientFactory(new TBinaryProtocol(buffer));
+
+        // When
+        factory.adminService().send_ping();
+        factory.userService().send_getUser(1L);
+        TProtocol reader = new TBinaryProtocol(buffer);
+        TMessage adminMessage = reader.readMessageBegin();
+        reader.skip(TType.STRUCT);
+        reader.readMessageEnd();
+        TMessage userMessage = reader.readMessageBegin();
+
+        // Then
+        assertEquals("AdminService:ping", adminMessage.name);
+        assertEquals("UserService:getUser", userMessage.name);
+    }
+
+    @Test
+    @DisplayName("Should create all multiplexed clients on one protocol")
+    void testMultiplexedClientFactoryCreatesClients() {
+        // Given
+        TTransport mockTransport = mock(TTransport.class);
+        MultiplexedClientFactory factory = new MultiplexedClientFactory(new TBinaryProtocol(mockTransport));
+
+        // When & Then
+        assertNotNull(factory.userService());
+        assertNotNull(factory.adminService());
+        assertNotNull(factory.bulkService());
+    }
+
+    @Test
+    @DisplayName("Should create HTTP transports that share one connection pool")
+    void testPooledHttpTransports() throws Exception {
+        // Given
+        try (PooledHttpTransportFactory factory = new PooledHttpTransportFactory("http://localhost:9092/thrift", 4)) {
+            // When
+            THttpClient first = factory.newTransport();
+            THttpClient second = factory.newTransport();
+
+            // Then
+            assertNotSame(first, second);
+            assertTrue(first.isOpen());
+            assertEquals("http://localhost:9092/thrift", factory.getUrl());
+            assertEquals(0, factory.getOpenConnections());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail to connect when no server listens on the Unix socket")
+    void testUnixSocketConnectFailure() {
+        // Given
+        Path missing = Paths.get(System.getProperty("java.io.tmpdir"), "thrift-missing-" + System.nanoTime() + ".sock");
+
+        // When & Then
+        assertThrows(TTransportException.class, () -> UnixSocketTransport.connect(missing));
+    }
+
     /**
      * Helper method that mimics the protocol selection logic from JavaClient.java
      */
@@ -234,6 +315,8 @@ class JavaClientTest {
                 return new TCompactProtocol(transport);
             case "json":
                 return new TJSONProtocol(transport);
+            case "fastjson":
+                return new FastJSONProtocol(transport);
             case "simplejson":
                 return new TSimpleJSONProtocol(transport);
             case "binary":
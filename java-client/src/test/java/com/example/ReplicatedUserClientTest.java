@@ -0,0 +1,88 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for primary/replica routing, against mocked services
+ */
+@DisplayName("Replicated User Client Tests")
+class ReplicatedUserClientTest {
+
+    private UserService.Iface primary;
+    private UserService.Iface replicaA;
+    private UserService.Iface replicaB;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(UserService.Iface.class);
+        replicaA = mock(UserService.Iface.class);
+        replicaB = mock(UserService.Iface.class);
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary and spread reads over replicas")
+    void testWritesToPrimaryReadsToReplicas() throws TException {
+        // Given
+        ReplicatedUserClient client = new ReplicatedUserClient(primary, Arrays.asList(replicaA, replicaB), true);
+        User alice = new User(1L, "Alice", 30);
+        when(primary.createUser("Alice", 30)).thenReturn(alice);
+        when(replicaA.getUser(1L)).thenReturn(alice);
+        when(replicaB.getUser(1L)).thenReturn(alice);
+
+        // When
+        client.createUser("Alice", 30);
+        client.getUser(1L);
+        client.getUser(1L);
+        client.deleteUser(1L);
+
+        // Then
+        verify(primary).createUser("Alice", 30);
+        verify(primary).deleteUser(1L);
+        verify(primary, never()).getUser(anyLong());
+        verify(replicaA).getUser(1L);
+        verify(replicaB).getUser(1L);
+        verifyNoMoreInteractions(replicaA, replicaB);
+        assertEquals(2, client.getReplicaReadCount());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when a replica has not caught up")
+    void testFallbackToPrimary() throws TException {
+        // Given
+        ReplicatedUserClient client = new ReplicatedUserClient(primary, Arrays.asList(replicaA), true);
+        User alice = new User(1L, "Alice", 30);
+        when(replicaA.getUser(1L)).thenThrow(new UserNotFoundException("User with ID 1 not found"));
+        when(primary.getUser(1L)).thenReturn(alice);
+
+        // When
+        User user = client.getUser(1L);
+
+        // Then
+        assertEquals(alice, user);
+        assertEquals(1, client.getPrimaryFallbackCount());
+        assertEquals(0, client.getReplicaReadCount());
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when replica reads are disabled")
+    void testReplicaReadsDisabled() throws TException {
+        // Given
+        ReplicatedUserClient client = new ReplicatedUserClient(primary, Arrays.asList(replicaA), false);
+
+        // When
+        client.getAllUsers();
+
+        // Then
+        verify(primary).getAllUsers();
+        verifyNoInteractions(replicaA);
+    }
+}
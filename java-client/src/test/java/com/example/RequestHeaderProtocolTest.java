@@ -0,0 +1,81 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for request headers carried on the message name
+ */
+@DisplayName("Request Header Protocol Tests")
+class RequestHeaderProtocolTest {
+
+    private String writtenName(TProtocol protocol, TMemoryBuffer buffer) throws TException {
+        protocol.writeMessageBegin(new TMessage("getUser", TMessageType.CALL, 1));
+        return new TBinaryProtocol(buffer).readMessageBegin().name;
+    }
+
+    @Test
+    @DisplayName("Should append headers to the message name")
+    void testHeadersOnMessageName() throws TException {
+        // Given
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        RequestHeaderProtocol protocol = new RequestHeaderProtocol(new TBinaryProtocol(buffer));
+        protocol.setHeader(RequestHeaderProtocol.CLIENT_ID, "batch-7").setHeader("zone", "eu");
+
+        // When
+        String name = writtenName(protocol, buffer);
+
+        // Then
+        assertEquals("getUser#client=batch-7;zone=eu", name);
+    }
+
+    @Test
+    @DisplayName("Should compose with TMultiplexedProtocol and leave names alone without headers")
+    void testMultiplexedAndEmpty() throws TException {
+        // Given
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        RequestHeaderProtocol headers = new RequestHeaderProtocol(new TBinaryProtocol(buffer));
+
+        // When
+        String plain = writtenName(headers, buffer);
+        headers.setHeader(RequestHeaderProtocol.CLIENT_ID, "web");
+        String multiplexed = writtenName(new TMultiplexedProtocol(headers, "UserService"), buffer);
+
+        // Then
+        assertEquals("getUser", plain);
+        assertEquals("UserService:getUser#client=web", multiplexed);
+    }
+
+    @Test
+    @DisplayName("Should send the time left before the deadline with each call and clear it")
+    void testDeadlineHeader() throws Exception {
+        // Given
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        RequestHeaderProtocol headers = new RequestHeaderProtocol(new TBinaryProtocol(buffer));
+
+        // When
+        String first = writtenName(headers.setDeadline(500), buffer);
+        Thread.sleep(50);
+        String later = writtenName(headers, buffer);
+        String spent = writtenName(headers.setDeadline(-1), buffer);
+        String cleared = writtenName(headers.clearDeadline(), buffer);
+
+        // Then
+        assertTrue(first.startsWith("getUser#timeout="));
+        long firstTimeout = Long.parseLong(first.substring("getUser#timeout=".length()));
+        long laterTimeout = Long.parseLong(later.substring("getUser#timeout=".length()));
+        assertTrue(firstTimeout > 400 && firstTimeout <= 500);
+        assertTrue(laterTimeout <= firstTimeout - 50);
+        assertEquals("getUser#timeout=0", spent);
+        assertEquals("getUser", cleared);
+    }
+}
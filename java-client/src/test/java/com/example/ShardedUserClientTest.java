@@ -0,0 +1,116 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for routing calls across shards, against mocked shard servers
+ */
+@DisplayName("Sharded User Client Tests")
+class ShardedUserClientTest {
+
+    private UserService.Iface shard0;
+    private UserService.Iface shard1;
+    private ShardedUserClient client;
+
+    private static long idOnShard(int shard, long sequence) {
+        return ((long) shard << 53) | sequence;
+    }
+
+    @BeforeEach
+    void setUp() {
+        shard0 = mock(UserService.Iface.class);
+        shard1 = mock(UserService.Iface.class);
+        client = new ShardedUserClient(Arrays.asList(shard0, shard1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Should decode the shard from the top bits of the ID")
+    void testShardOf() {
+        assertEquals(0, ShardedUserClient.shardOf(1L));
+        assertEquals(1, ShardedUserClient.shardOf(idOnShard(1, 1)));
+        assertEquals(1023, ShardedUserClient.shardOf(idOnShard(1023, 42)));
+    }
+
+    @Test
+    @DisplayName("Should route ID-based calls to the owning shard")
+    void testRoutesToOwningShard() throws TException {
+        // Given
+        long id = idOnShard(1, 7);
+        User user = new User(id, "Alice", 30);
+        when(shard1.getUser(id)).thenReturn(user);
+
+        // When
+        User found = client.getUser(id);
+        client.updateUser(user);
+        client.deleteUser(id);
+
+        // Then
+        assertSame(user, found);
+        verify(shard1).getUser(id);
+        verify(shard1).updateUser(user);
+        verify(shard1).deleteUser(id);
+        verifyNoInteractions(shard0);
+    }
+
+    @Test
+    @DisplayName("Should report IDs of unknown shards as not found")
+    void testUnknownShard() {
+        assertThrows(UserNotFoundException.class, () -> client.getUser(idOnShard(5, 1)));
+    }
+
+    @Test
+    @DisplayName("Should spread new users round-robin across shards")
+    void testCreateRoundRobin() throws TException {
+        // When
+        client.createUser("Alice", 30);
+        client.createUser("Bob", 31);
+        client.createUser("Carol", 32);
+
+        // Then
+        verify(shard0).createUser("Alice", 30);
+        verify(shard1).createUser("Bob", 31);
+        verify(shard0).createUser("Carol", 32);
+    }
+
+    @Test
+    @DisplayName("Should scatter-gather getAllUsers across every shard")
+    void testScatterGatherGetAllUsers() throws TException {
+        // Given
+        when(shard0.getAllUsers()).thenReturn(List.of(new User(1L, "Alice", 30)));
+        when(shard1.getAllUsers()).thenReturn(List.of(new User(idOnShard(1, 1), "Bob", 31), new User(idOnShard(1, 2), "Carol", 32)));
+
+        // When
+        List<User> all = client.getAllUsers();
+
+        // Then
+        assertEquals(3, all.size());
+    }
+
+    @Test
+    @DisplayName("Should propagate a shard failure from getAllUsers")
+    void testScatterGatherFailure() throws TException {
+        // Given
+        when(shard0.getAllUsers()).thenReturn(List.of());
+        when(shard1.getAllUsers()).thenThrow(new TException("shard down"));
+
+        // When & Then
+        TException e = assertThrows(TException.class, () -> client.getAllUsers());
+        assertEquals("shard down", e.getMessage());
+    }
+}
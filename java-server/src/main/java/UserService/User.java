@@ -7,7 +7,7 @@
 package UserService;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.22.0)", date = "2026-01-16")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.22.0)", date = "2026-10-18")
 public class User implements org.apache.thrift.TBase<User, User._Fields>, java.io.Serializable, Cloneable, Comparable<User> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("User");
 
@@ -6,7 +6,7 @@
  */
 package UserService;
 
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.22.0)", date = "2026-01-16")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.22.0)", date = "2026-10-18")
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
 public class UserService {
 
@@ -26,6 +26,18 @@ public class UserService {
 
     public void logUserActivity(java.lang.String action, long userId, java.lang.String timestamp) throws org.apache.thrift.TException;
 
+    public java.util.List<User> findUsersByName(java.lang.String name) throws org.apache.thrift.TException;
+
+    public java.util.List<User> findUsersByNamePrefix(java.lang.String prefix, int limit) throws org.apache.thrift.TException;
+
+    public java.util.List<User> findUsersByAgeRange(int minAge, int maxAge, long cursor, int limit) throws org.apache.thrift.TException;
+
+    public java.util.List<AgeCount> countByAge(int minAge, int maxAge) throws org.apache.thrift.TException;
+
+    public java.util.List<UserView> listUsers(UserFilter filter, UserProjection projection) throws org.apache.thrift.TException;
+
+    public InvalidationBatch pollInvalidations(long sinceSequence) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -44,6 +56,18 @@ public class UserService {
 
     public void logUserActivity(java.lang.String action, long userId, java.lang.String timestamp, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void findUsersByName(java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException;
+
+    public void findUsersByNamePrefix(java.lang.String prefix, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException;
+
+    public void findUsersByAgeRange(int minAge, int maxAge, long cursor, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException;
+
+    public void countByAge(int minAge, int maxAge, org.apache.thrift.async.AsyncMethodCallback<java.util.List<AgeCount>> resultHandler) throws org.apache.thrift.TException;
+
+    public void listUsers(UserFilter filter, UserProjection projection, org.apache.thrift.async.AsyncMethodCallback<java.util.List<UserView>> resultHandler) throws org.apache.thrift.TException;
+
+    public void pollInvalidations(long sinceSequence, org.apache.thrift.async.AsyncMethodCallback<InvalidationBatch> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -235,6 +259,156 @@ public class UserService {
       sendBaseOneway("logUserActivity", args);
     }
 
+    @Override
+    public java.util.List<User> findUsersByName(java.lang.String name) throws org.apache.thrift.TException
+    {
+      send_findUsersByName(name);
+      return recv_findUsersByName();
+    }
+
+    public void send_findUsersByName(java.lang.String name) throws org.apache.thrift.TException
+    {
+      findUsersByName_args args = new findUsersByName_args();
+      args.setName(name);
+      sendBase("findUsersByName", args);
+    }
+
+    public java.util.List<User> recv_findUsersByName() throws org.apache.thrift.TException
+    {
+      findUsersByName_result result = new findUsersByName_result();
+      receiveBase(result, "findUsersByName");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findUsersByName failed: unknown result");
+    }
+
+    @Override
+    public java.util.List<User> findUsersByNamePrefix(java.lang.String prefix, int limit) throws org.apache.thrift.TException
+    {
+      send_findUsersByNamePrefix(prefix, limit);
+      return recv_findUsersByNamePrefix();
+    }
+
+    public void send_findUsersByNamePrefix(java.lang.String prefix, int limit) throws org.apache.thrift.TException
+    {
+      findUsersByNamePrefix_args args = new findUsersByNamePrefix_args();
+      args.setPrefix(prefix);
+      args.setLimit(limit);
+      sendBase("findUsersByNamePrefix", args);
+    }
+
+    public java.util.List<User> recv_findUsersByNamePrefix() throws org.apache.thrift.TException
+    {
+      findUsersByNamePrefix_result result = new findUsersByNamePrefix_result();
+      receiveBase(result, "findUsersByNamePrefix");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findUsersByNamePrefix failed: unknown result");
+    }
+
+    @Override
+    public java.util.List<User> findUsersByAgeRange(int minAge, int maxAge, long cursor, int limit) throws org.apache.thrift.TException
+    {
+      send_findUsersByAgeRange(minAge, maxAge, cursor, limit);
+      return recv_findUsersByAgeRange();
+    }
+
+    public void send_findUsersByAgeRange(int minAge, int maxAge, long cursor, int limit) throws org.apache.thrift.TException
+    {
+      findUsersByAgeRange_args args = new findUsersByAgeRange_args();
+      args.setMinAge(minAge);
+      args.setMaxAge(maxAge);
+      args.setCursor(cursor);
+      args.setLimit(limit);
+      sendBase("findUsersByAgeRange", args);
+    }
+
+    public java.util.List<User> recv_findUsersByAgeRange() throws org.apache.thrift.TException
+    {
+      findUsersByAgeRange_result result = new findUsersByAgeRange_result();
+      receiveBase(result, "findUsersByAgeRange");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findUsersByAgeRange failed: unknown result");
+    }
+
+    @Override
+    public java.util.List<AgeCount> countByAge(int minAge, int maxAge) throws org.apache.thrift.TException
+    {
+      send_countByAge(minAge, maxAge);
+      return recv_countByAge();
+    }
+
+    public void send_countByAge(int minAge, int maxAge) throws org.apache.thrift.TException
+    {
+      countByAge_args args = new countByAge_args();
+      args.setMinAge(minAge);
+      args.setMaxAge(maxAge);
+      sendBase("countByAge", args);
+    }
+
+    public java.util.List<AgeCount> recv_countByAge() throws org.apache.thrift.TException
+    {
+      countByAge_result result = new countByAge_result();
+      receiveBase(result, "countByAge");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "countByAge failed: unknown result");
+    }
+
+    @Override
+    public java.util.List<UserView> listUsers(UserFilter filter, UserProjection projection) throws org.apache.thrift.TException
+    {
+      send_listUsers(filter, projection);
+      return recv_listUsers();
+    }
+
+    public void send_listUsers(UserFilter filter, UserProjection projection) throws org.apache.thrift.TException
+    {
+      listUsers_args args = new listUsers_args();
+      args.setFilter(filter);
+      args.setProjection(projection);
+      sendBase("listUsers", args);
+    }
+
+    public java.util.List<UserView> recv_listUsers() throws org.apache.thrift.TException
+    {
+      listUsers_result result = new listUsers_result();
+      receiveBase(result, "listUsers");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "listUsers failed: unknown result");
+    }
+
+    @Override
+    public InvalidationBatch pollInvalidations(long sinceSequence) throws org.apache.thrift.TException
+    {
+      send_pollInvalidations(sinceSequence);
+      return recv_pollInvalidations();
+    }
+
+    public void send_pollInvalidations(long sinceSequence) throws org.apache.thrift.TException
+    {
+      pollInvalidations_args args = new pollInvalidations_args();
+      args.setSinceSequence(sinceSequence);
+      sendBase("pollInvalidations", args);
+    }
+
+    public InvalidationBatch recv_pollInvalidations() throws org.apache.thrift.TException
+    {
+      pollInvalidations_result result = new pollInvalidations_result();
+      receiveBase(result, "pollInvalidations");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "pollInvalidations failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -512,6 +686,234 @@ public class UserService {
       }
     }
 
+    @Override
+    public void findUsersByName(java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findUsersByName_call method_call = new findUsersByName_call(name, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class findUsersByName_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<User>> {
+      private java.lang.String name;
+      public findUsersByName_call(java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.name = name;
+      }
+
+      @Override
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findUsersByName", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findUsersByName_args args = new findUsersByName_args();
+        args.setName(name);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      @Override
+      public java.util.List<User> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findUsersByName();
+      }
+    }
+
+    @Override
+    public void findUsersByNamePrefix(java.lang.String prefix, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findUsersByNamePrefix_call method_call = new findUsersByNamePrefix_call(prefix, limit, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class findUsersByNamePrefix_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<User>> {
+      private java.lang.String prefix;
+      private int limit;
+      public findUsersByNamePrefix_call(java.lang.String prefix, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.prefix = prefix;
+        this.limit = limit;
+      }
+
+      @Override
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findUsersByNamePrefix", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findUsersByNamePrefix_args args = new findUsersByNamePrefix_args();
+        args.setPrefix(prefix);
+        args.setLimit(limit);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      @Override
+      public java.util.List<User> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findUsersByNamePrefix();
+      }
+    }
+
+    @Override
+    public void findUsersByAgeRange(int minAge, int maxAge, long cursor, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findUsersByAgeRange_call method_call = new findUsersByAgeRange_call(minAge, maxAge, cursor, limit, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class findUsersByAgeRange_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<User>> {
+      private int minAge;
+      private int maxAge;
+      private long cursor;
+      private int limit;
+      public findUsersByAgeRange_call(int minAge, int maxAge, long cursor, int limit, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.cursor = cursor;
+        this.limit = limit;
+      }
+
+      @Override
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findUsersByAgeRange", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findUsersByAgeRange_args args = new findUsersByAgeRange_args();
+        args.setMinAge(minAge);
+        args.setMaxAge(maxAge);
+        args.setCursor(cursor);
+        args.setLimit(limit);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      @Override
+      public java.util.List<User> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findUsersByAgeRange();
+      }
+    }
+
+    @Override
+    public void countByAge(int minAge, int maxAge, org.apache.thrift.async.AsyncMethodCallback<java.util.List<AgeCount>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      countByAge_call method_call = new countByAge_call(minAge, maxAge, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class countByAge_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<AgeCount>> {
+      private int minAge;
+      private int maxAge;
+      public countByAge_call(int minAge, int maxAge, org.apache.thrift.async.AsyncMethodCallback<java.util.List<AgeCount>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+      }
+
+      @Override
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("countByAge", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        countByAge_args args = new countByAge_args();
+        args.setMinAge(minAge);
+        args.setMaxAge(maxAge);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      @Override
+      public java.util.List<AgeCount> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_countByAge();
+      }
+    }
+
+    @Override
+    public void listUsers(UserFilter filter, UserProjection projection, org.apache.thrift.async.AsyncMethodCallback<java.util.List<UserView>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      listUsers_call method_call = new listUsers_call(filter, projection, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class listUsers_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<UserView>> {
+      private UserFilter filter;
+      private UserProjection projection;
+      public listUsers_call(UserFilter filter, UserProjection projection, org.apache.thrift.async.AsyncMethodCallback<java.util.List<UserView>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filter = filter;
+        this.projection = projection;
+      }
+
+      @Override
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("listUsers", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        listUsers_args args = new listUsers_args();
+        args.setFilter(filter);
+        args.setProjection(projection);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      @Override
+      public java.util.List<UserView> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_listUsers();
+      }
+    }
+
+    @Override
+    public void pollInvalidations(long sinceSequence, org.apache.thrift.async.AsyncMethodCallback<InvalidationBatch> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      pollInvalidations_call method_call = new pollInvalidations_call(sinceSequence, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class pollInvalidations_call extends org.apache.thrift.async.TAsyncMethodCall<InvalidationBatch> {
+      private long sinceSequence;
+      public pollInvalidations_call(long sinceSequence, org.apache.thrift.async.AsyncMethodCallback<InvalidationBatch> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sinceSequence = sinceSequence;
+      }
+
+      @Override
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("pollInvalidations", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        pollInvalidations_args args = new pollInvalidations_args();
+        args.setSinceSequence(sinceSequence);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      @Override
+      public InvalidationBatch getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_pollInvalidations();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -532,6 +934,12 @@ public class UserService {
       processMap.put("getAllUsers", new getAllUsers());
       processMap.put("validateUserData", new validateUserData());
       processMap.put("logUserActivity", new logUserActivity());
+      processMap.put("findUsersByName", new findUsersByName());
+      processMap.put("findUsersByNamePrefix", new findUsersByNamePrefix());
+      processMap.put("findUsersByAgeRange", new findUsersByAgeRange());
+      processMap.put("countByAge", new countByAge());
+      processMap.put("listUsers", new listUsers());
+      processMap.put("pollInvalidations", new pollInvalidations());
       return processMap;
     }
 
@@ -777,26 +1185,230 @@ public class UserService {
       }
     }
 
-  }
-
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>>()));
-    }
+    public static class findUsersByName<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findUsersByName_args, findUsersByName_result> {
+      public findUsersByName() {
+        super("findUsersByName");
+      }
 
-    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
+      @Override
+      public findUsersByName_args getEmptyArgsInstance() {
+        return new findUsersByName_args();
+      }
 
-    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>> processMap) {
-      processMap.put("createUser", new createUser());
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public findUsersByName_result getEmptyResultInstance() {
+        return new findUsersByName_result();
+      }
+
+      @Override
+      public findUsersByName_result getResult(I iface, findUsersByName_args args) throws org.apache.thrift.TException {
+        findUsersByName_result result = getEmptyResultInstance();
+        result.success = iface.findUsersByName(args.name);
+        return result;
+      }
+    }
+
+    public static class findUsersByNamePrefix<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findUsersByNamePrefix_args, findUsersByNamePrefix_result> {
+      public findUsersByNamePrefix() {
+        super("findUsersByNamePrefix");
+      }
+
+      @Override
+      public findUsersByNamePrefix_args getEmptyArgsInstance() {
+        return new findUsersByNamePrefix_args();
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public findUsersByNamePrefix_result getEmptyResultInstance() {
+        return new findUsersByNamePrefix_result();
+      }
+
+      @Override
+      public findUsersByNamePrefix_result getResult(I iface, findUsersByNamePrefix_args args) throws org.apache.thrift.TException {
+        findUsersByNamePrefix_result result = getEmptyResultInstance();
+        result.success = iface.findUsersByNamePrefix(args.prefix, args.limit);
+        return result;
+      }
+    }
+
+    public static class findUsersByAgeRange<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findUsersByAgeRange_args, findUsersByAgeRange_result> {
+      public findUsersByAgeRange() {
+        super("findUsersByAgeRange");
+      }
+
+      @Override
+      public findUsersByAgeRange_args getEmptyArgsInstance() {
+        return new findUsersByAgeRange_args();
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public findUsersByAgeRange_result getEmptyResultInstance() {
+        return new findUsersByAgeRange_result();
+      }
+
+      @Override
+      public findUsersByAgeRange_result getResult(I iface, findUsersByAgeRange_args args) throws org.apache.thrift.TException {
+        findUsersByAgeRange_result result = getEmptyResultInstance();
+        result.success = iface.findUsersByAgeRange(args.minAge, args.maxAge, args.cursor, args.limit);
+        return result;
+      }
+    }
+
+    public static class countByAge<I extends Iface> extends org.apache.thrift.ProcessFunction<I, countByAge_args, countByAge_result> {
+      public countByAge() {
+        super("countByAge");
+      }
+
+      @Override
+      public countByAge_args getEmptyArgsInstance() {
+        return new countByAge_args();
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public countByAge_result getEmptyResultInstance() {
+        return new countByAge_result();
+      }
+
+      @Override
+      public countByAge_result getResult(I iface, countByAge_args args) throws org.apache.thrift.TException {
+        countByAge_result result = getEmptyResultInstance();
+        result.success = iface.countByAge(args.minAge, args.maxAge);
+        return result;
+      }
+    }
+
+    public static class listUsers<I extends Iface> extends org.apache.thrift.ProcessFunction<I, listUsers_args, listUsers_result> {
+      public listUsers() {
+        super("listUsers");
+      }
+
+      @Override
+      public listUsers_args getEmptyArgsInstance() {
+        return new listUsers_args();
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public listUsers_result getEmptyResultInstance() {
+        return new listUsers_result();
+      }
+
+      @Override
+      public listUsers_result getResult(I iface, listUsers_args args) throws org.apache.thrift.TException {
+        listUsers_result result = getEmptyResultInstance();
+        result.success = iface.listUsers(args.filter, args.projection);
+        return result;
+      }
+    }
+
+    public static class pollInvalidations<I extends Iface> extends org.apache.thrift.ProcessFunction<I, pollInvalidations_args, pollInvalidations_result> {
+      public pollInvalidations() {
+        super("pollInvalidations");
+      }
+
+      @Override
+      public pollInvalidations_args getEmptyArgsInstance() {
+        return new pollInvalidations_args();
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public pollInvalidations_result getEmptyResultInstance() {
+        return new pollInvalidations_result();
+      }
+
+      @Override
+      public pollInvalidations_result getResult(I iface, pollInvalidations_args args) throws org.apache.thrift.TException {
+        pollInvalidations_result result = getEmptyResultInstance();
+        result.success = iface.pollInvalidations(args.sinceSequence);
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>>()));
+    }
+
+    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?, ? extends org.apache.thrift.TBase>> processMap) {
+      processMap.put("createUser", new createUser());
       processMap.put("getUser", new getUser());
       processMap.put("updateUser", new updateUser());
       processMap.put("deleteUser", new deleteUser());
       processMap.put("getAllUsers", new getAllUsers());
       processMap.put("validateUserData", new validateUserData());
       processMap.put("logUserActivity", new logUserActivity());
+      processMap.put("findUsersByName", new findUsersByName());
+      processMap.put("findUsersByNamePrefix", new findUsersByNamePrefix());
+      processMap.put("findUsersByAgeRange", new findUsersByAgeRange());
+      processMap.put("countByAge", new countByAge());
+      processMap.put("listUsers", new listUsers());
+      processMap.put("pollInvalidations", new pollInvalidations());
       return processMap;
     }
 
@@ -1288,73 +1900,5503 @@ public class UserService {
       }
     }
 
-  }
-
-  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class createUser_args implements org.apache.thrift.TBase<createUser_args, createUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<createUser_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createUser_args");
-
-    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("age", org.apache.thrift.protocol.TType.I32, (short)2);
-
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createUser_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createUser_argsTupleSchemeFactory();
-
-    private @org.apache.thrift.annotation.Nullable java.lang.String name; // required
-    private int age; // required
-
-    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NAME((short)1, "name"),
-      AGE((short)2, "age");
+    public static class findUsersByName<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findUsersByName_args, java.util.List<User>, findUsersByName_result> {
+      public findUsersByName() {
+        super("findUsersByName");
+      }
 
-      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+      @Override
+      public findUsersByName_result getEmptyResultInstance() {
+        return new findUsersByName_result();
+      }
 
-      static {
-        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
-          byName.put(field.getFieldName(), field);
-        }
+      @Override
+      public findUsersByName_args getEmptyArgsInstance() {
+        return new findUsersByName_args();
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, or null if its not found.
-       */
-      @org.apache.thrift.annotation.Nullable
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          case 1: // NAME
-            return NAME;
-          case 2: // AGE
-            return AGE;
-          default:
-            return null;
-        }
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>>() { 
+          @Override
+          public void onComplete(java.util.List<User> o) {
+            findUsersByName_result result = new findUsersByName_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findUsersByName_result result = new findUsersByName_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
+      @Override
+      public boolean isOneway() {
+        return false;
       }
 
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      @org.apache.thrift.annotation.Nullable
-      public static _Fields findByName(java.lang.String name) {
-        return byName.get(name);
+      @Override
+      public void start(I iface, findUsersByName_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException {
+        iface.findUsersByName(args.name,resultHandler);
       }
+    }
 
-      private final short _thriftId;
-      private final java.lang.String _fieldName;
+    public static class findUsersByNamePrefix<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findUsersByNamePrefix_args, java.util.List<User>, findUsersByNamePrefix_result> {
+      public findUsersByNamePrefix() {
+        super("findUsersByNamePrefix");
+      }
 
-      _Fields(short thriftId, java.lang.String fieldName) {
-        _thriftId = thriftId;
-        _fieldName = fieldName;
+      @Override
+      public findUsersByNamePrefix_result getEmptyResultInstance() {
+        return new findUsersByNamePrefix_result();
+      }
+
+      @Override
+      public findUsersByNamePrefix_args getEmptyArgsInstance() {
+        return new findUsersByNamePrefix_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>>() { 
+          @Override
+          public void onComplete(java.util.List<User> o) {
+            findUsersByNamePrefix_result result = new findUsersByNamePrefix_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findUsersByNamePrefix_result result = new findUsersByNamePrefix_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, findUsersByNamePrefix_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException {
+        iface.findUsersByNamePrefix(args.prefix, args.limit,resultHandler);
+      }
+    }
+
+    public static class findUsersByAgeRange<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findUsersByAgeRange_args, java.util.List<User>, findUsersByAgeRange_result> {
+      public findUsersByAgeRange() {
+        super("findUsersByAgeRange");
+      }
+
+      @Override
+      public findUsersByAgeRange_result getEmptyResultInstance() {
+        return new findUsersByAgeRange_result();
+      }
+
+      @Override
+      public findUsersByAgeRange_args getEmptyArgsInstance() {
+        return new findUsersByAgeRange_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>>() { 
+          @Override
+          public void onComplete(java.util.List<User> o) {
+            findUsersByAgeRange_result result = new findUsersByAgeRange_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findUsersByAgeRange_result result = new findUsersByAgeRange_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, findUsersByAgeRange_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<User>> resultHandler) throws org.apache.thrift.TException {
+        iface.findUsersByAgeRange(args.minAge, args.maxAge, args.cursor, args.limit,resultHandler);
+      }
+    }
+
+    public static class countByAge<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, countByAge_args, java.util.List<AgeCount>, countByAge_result> {
+      public countByAge() {
+        super("countByAge");
+      }
+
+      @Override
+      public countByAge_result getEmptyResultInstance() {
+        return new countByAge_result();
+      }
+
+      @Override
+      public countByAge_args getEmptyArgsInstance() {
+        return new countByAge_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<AgeCount>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<AgeCount>>() { 
+          @Override
+          public void onComplete(java.util.List<AgeCount> o) {
+            countByAge_result result = new countByAge_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            countByAge_result result = new countByAge_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, countByAge_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<AgeCount>> resultHandler) throws org.apache.thrift.TException {
+        iface.countByAge(args.minAge, args.maxAge,resultHandler);
+      }
+    }
+
+    public static class listUsers<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listUsers_args, java.util.List<UserView>, listUsers_result> {
+      public listUsers() {
+        super("listUsers");
+      }
+
+      @Override
+      public listUsers_result getEmptyResultInstance() {
+        return new listUsers_result();
+      }
+
+      @Override
+      public listUsers_args getEmptyArgsInstance() {
+        return new listUsers_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<UserView>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<UserView>>() { 
+          @Override
+          public void onComplete(java.util.List<UserView> o) {
+            listUsers_result result = new listUsers_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            listUsers_result result = new listUsers_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, listUsers_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<UserView>> resultHandler) throws org.apache.thrift.TException {
+        iface.listUsers(args.filter, args.projection,resultHandler);
+      }
+    }
+
+    public static class pollInvalidations<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, pollInvalidations_args, InvalidationBatch, pollInvalidations_result> {
+      public pollInvalidations() {
+        super("pollInvalidations");
+      }
+
+      @Override
+      public pollInvalidations_result getEmptyResultInstance() {
+        return new pollInvalidations_result();
+      }
+
+      @Override
+      public pollInvalidations_args getEmptyArgsInstance() {
+        return new pollInvalidations_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<InvalidationBatch> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<InvalidationBatch>() { 
+          @Override
+          public void onComplete(InvalidationBatch o) {
+            pollInvalidations_result result = new pollInvalidations_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            pollInvalidations_result result = new pollInvalidations_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      public boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, pollInvalidations_args args, org.apache.thrift.async.AsyncMethodCallback<InvalidationBatch> resultHandler) throws org.apache.thrift.TException {
+        iface.pollInvalidations(args.sinceSequence,resultHandler);
+      }
+    }
+
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class createUser_args implements org.apache.thrift.TBase<createUser_args, createUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<createUser_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createUser_args");
+
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("age", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createUser_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createUser_argsTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable java.lang.String name; // required
+    private int age; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NAME((short)1, "name"),
+      AGE((short)2, "age");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NAME
+            return NAME;
+          case 2: // AGE
+            return AGE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __AGE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.AGE, new org.apache.thrift.meta_data.FieldMetaData("age", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createUser_args.class, metaDataMap);
+    }
+
+    public createUser_args() {
+    }
+
+    public createUser_args(
+      java.lang.String name,
+      int age)
+    {
+      this();
+      this.name = name;
+      this.age = age;
+      setAgeIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createUser_args(createUser_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetName()) {
+        this.name = other.name;
+      }
+      this.age = other.age;
+    }
+
+    @Override
+    public createUser_args deepCopy() {
+      return new createUser_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.name = null;
+      setAgeIsSet(false);
+      this.age = 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getName() {
+      return this.name;
+    }
+
+    public createUser_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
+      }
+    }
+
+    public int getAge() {
+      return this.age;
+    }
+
+    public createUser_args setAge(int age) {
+      this.age = age;
+      setAgeIsSet(true);
+      return this;
+    }
+
+    public void unsetAge() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __AGE_ISSET_ID);
+    }
+
+    /** Returns true if field age is set (has been assigned a value) and false otherwise */
+    public boolean isSetAge() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __AGE_ISSET_ID);
+    }
+
+    public void setAgeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __AGE_ISSET_ID, value);
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((java.lang.String)value);
+        }
+        break;
+
+      case AGE:
+        if (value == null) {
+          unsetAge();
+        } else {
+          setAge((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NAME:
+        return getName();
+
+      case AGE:
+        return getAge();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NAME:
+        return isSetName();
+      case AGE:
+        return isSetAge();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof createUser_args)
+        return this.equals((createUser_args)that);
+      return false;
+    }
+
+    public boolean equals(createUser_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
+          return false;
+      }
+
+      boolean this_present_age = true;
+      boolean that_present_age = true;
+      if (this_present_age || that_present_age) {
+        if (!(this_present_age && that_present_age))
+          return false;
+        if (this.age != that.age)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+      if (isSetName())
+        hashCode = hashCode * 8191 + name.hashCode();
+
+      hashCode = hashCode * 8191 + age;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(createUser_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetName(), other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetAge(), other.isSetAge());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAge()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.age, other.age);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("createUser_args(");
+      boolean first = true;
+
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("age:");
+      sb.append(this.age);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createUser_argsStandardScheme getScheme() {
+        return new createUser_argsStandardScheme();
+      }
+    }
+
+    private static class createUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<createUser_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // AGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.age = iprot.readI32();
+                struct.setAgeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createUser_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(AGE_FIELD_DESC);
+        oprot.writeI32(struct.age);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createUser_argsTupleScheme getScheme() {
+        return new createUser_argsTupleScheme();
+      }
+    }
+
+    private static class createUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<createUser_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetName()) {
+          optionals.set(0);
+        }
+        if (struct.isSetAge()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
+        }
+        if (struct.isSetAge()) {
+          oprot.writeI32(struct.age);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.age = iprot.readI32();
+          struct.setAgeIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class createUser_result implements org.apache.thrift.TBase<createUser_result, createUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<createUser_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createUser_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createUser_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createUser_resultTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable User success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createUser_result.class, metaDataMap);
+    }
+
+    public createUser_result() {
+    }
+
+    public createUser_result(
+      User success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createUser_result(createUser_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new User(other.success);
+      }
+    }
+
+    @Override
+    public createUser_result deepCopy() {
+      return new createUser_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public User getSuccess() {
+      return this.success;
+    }
+
+    public createUser_result setSuccess(@org.apache.thrift.annotation.Nullable User success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((User)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof createUser_result)
+        return this.equals((createUser_result)that);
+      return false;
+    }
+
+    public boolean equals(createUser_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(createUser_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("createUser_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createUser_resultStandardScheme getScheme() {
+        return new createUser_resultStandardScheme();
+      }
+    }
+
+    private static class createUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<createUser_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new User();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createUser_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createUser_resultTupleScheme getScheme() {
+        return new createUser_resultTupleScheme();
+      }
+    }
+
+    private static class createUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<createUser_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new User();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class getUser_args implements org.apache.thrift.TBase<getUser_args, getUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUser_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUser_args");
+
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getUser_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getUser_argsTupleSchemeFactory();
+
+    private long userId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER_ID((short)1, "userId");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER_ID
+            return USER_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __USERID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUser_args.class, metaDataMap);
+    }
+
+    public getUser_args() {
+    }
+
+    public getUser_args(
+      long userId)
+    {
+      this();
+      this.userId = userId;
+      setUserIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getUser_args(getUser_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.userId = other.userId;
+    }
+
+    @Override
+    public getUser_args deepCopy() {
+      return new getUser_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setUserIdIsSet(false);
+      this.userId = 0;
+    }
+
+    public long getUserId() {
+      return this.userId;
+    }
+
+    public getUser_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
+      return this;
+    }
+
+    public void unsetUserId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case USER_ID:
+        if (value == null) {
+          unsetUserId();
+        } else {
+          setUserId((java.lang.Long)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER_ID:
+        return getUserId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER_ID:
+        return isSetUserId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof getUser_args)
+        return this.equals((getUser_args)that);
+      return false;
+    }
+
+    public boolean equals(getUser_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
+          return false;
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(userId);
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getUser_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetUserId(), other.isSetUserId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getUser_args(");
+      boolean first = true;
+
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getUser_argsStandardScheme getScheme() {
+        return new getUser_argsStandardScheme();
+      }
+    }
+
+    private static class getUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getUser_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUser_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getUser_argsTupleScheme getScheme() {
+        return new getUser_argsTupleScheme();
+      }
+    }
+
+    private static class getUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getUser_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetUserId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class getUser_result implements org.apache.thrift.TBase<getUser_result, getUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUser_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUser_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getUser_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getUser_resultTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable User success; // required
+    private @org.apache.thrift.annotation.Nullable UserNotFoundException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserNotFoundException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUser_result.class, metaDataMap);
+    }
+
+    public getUser_result() {
+    }
+
+    public getUser_result(
+      User success,
+      UserNotFoundException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getUser_result(getUser_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new User(other.success);
+      }
+      if (other.isSetEx()) {
+        this.ex = new UserNotFoundException(other.ex);
+      }
+    }
+
+    @Override
+    public getUser_result deepCopy() {
+      return new getUser_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public User getSuccess() {
+      return this.success;
+    }
+
+    public getUser_result setSuccess(@org.apache.thrift.annotation.Nullable User success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public UserNotFoundException getEx() {
+      return this.ex;
+    }
+
+    public getUser_result setEx(@org.apache.thrift.annotation.Nullable UserNotFoundException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((User)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UserNotFoundException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof getUser_result)
+        return this.equals((getUser_result)that);
+      return false;
+    }
+
+    public boolean equals(getUser_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getUser_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetEx(), other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getUser_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getUser_resultStandardScheme getScheme() {
+        return new getUser_resultStandardScheme();
+      }
+    }
+
+    private static class getUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getUser_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new User();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UserNotFoundException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUser_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getUser_resultTupleScheme getScheme() {
+        return new getUser_resultTupleScheme();
+      }
+    }
+
+    private static class getUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getUser_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new User();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UserNotFoundException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class updateUser_args implements org.apache.thrift.TBase<updateUser_args, updateUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateUser_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateUser_args");
+
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateUser_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateUser_argsTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable User user; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER((short)1, "user");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER
+            return USER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateUser_args.class, metaDataMap);
+    }
+
+    public updateUser_args() {
+    }
+
+    public updateUser_args(
+      User user)
+    {
+      this();
+      this.user = user;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateUser_args(updateUser_args other) {
+      if (other.isSetUser()) {
+        this.user = new User(other.user);
+      }
+    }
+
+    @Override
+    public updateUser_args deepCopy() {
+      return new updateUser_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.user = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public User getUser() {
+      return this.user;
+    }
+
+    public updateUser_args setUser(@org.apache.thrift.annotation.Nullable User user) {
+      this.user = user;
+      return this;
+    }
+
+    public void unsetUser() {
+      this.user = null;
+    }
+
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
+    }
+
+    public void setUserIsSet(boolean value) {
+      if (!value) {
+        this.user = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case USER:
+        if (value == null) {
+          unsetUser();
+        } else {
+          setUser((User)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER:
+        return getUser();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER:
+        return isSetUser();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof updateUser_args)
+        return this.equals((updateUser_args)that);
+      return false;
+    }
+
+    public boolean equals(updateUser_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
+          return false;
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetUser()) ? 131071 : 524287);
+      if (isSetUser())
+        hashCode = hashCode * 8191 + user.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateUser_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetUser(), other.isSetUser());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateUser_args(");
+      boolean first = true;
+
+      sb.append("user:");
+      if (this.user == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.user);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (user != null) {
+        user.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public updateUser_argsStandardScheme getScheme() {
+        return new updateUser_argsStandardScheme();
+      }
+    }
+
+    private static class updateUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateUser_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.user = new User();
+                struct.user.read(iprot);
+                struct.setUserIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateUser_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          struct.user.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public updateUser_argsTupleScheme getScheme() {
+        return new updateUser_argsTupleScheme();
+      }
+    }
+
+    private static class updateUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateUser_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetUser()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetUser()) {
+          struct.user.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.user = new User();
+          struct.user.read(iprot);
+          struct.setUserIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class updateUser_result implements org.apache.thrift.TBase<updateUser_result, updateUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateUser_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateUser_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateUser_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateUser_resultTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable User success; // required
+    private @org.apache.thrift.annotation.Nullable UserNotFoundException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserNotFoundException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateUser_result.class, metaDataMap);
+    }
+
+    public updateUser_result() {
+    }
+
+    public updateUser_result(
+      User success,
+      UserNotFoundException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateUser_result(updateUser_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new User(other.success);
+      }
+      if (other.isSetEx()) {
+        this.ex = new UserNotFoundException(other.ex);
+      }
+    }
+
+    @Override
+    public updateUser_result deepCopy() {
+      return new updateUser_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public User getSuccess() {
+      return this.success;
+    }
+
+    public updateUser_result setSuccess(@org.apache.thrift.annotation.Nullable User success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public UserNotFoundException getEx() {
+      return this.ex;
+    }
+
+    public updateUser_result setEx(@org.apache.thrift.annotation.Nullable UserNotFoundException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((User)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UserNotFoundException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof updateUser_result)
+        return this.equals((updateUser_result)that);
+      return false;
+    }
+
+    public boolean equals(updateUser_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateUser_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetEx(), other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateUser_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public updateUser_resultStandardScheme getScheme() {
+        return new updateUser_resultStandardScheme();
+      }
+    }
+
+    private static class updateUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateUser_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new User();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UserNotFoundException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateUser_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public updateUser_resultTupleScheme getScheme() {
+        return new updateUser_resultTupleScheme();
+      }
+    }
+
+    private static class updateUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateUser_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new User();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UserNotFoundException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class deleteUser_args implements org.apache.thrift.TBase<deleteUser_args, deleteUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteUser_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteUser_args");
+
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteUser_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteUser_argsTupleSchemeFactory();
+
+    private long userId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER_ID((short)1, "userId");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER_ID
+            return USER_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __USERID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteUser_args.class, metaDataMap);
+    }
+
+    public deleteUser_args() {
+    }
+
+    public deleteUser_args(
+      long userId)
+    {
+      this();
+      this.userId = userId;
+      setUserIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteUser_args(deleteUser_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.userId = other.userId;
+    }
+
+    @Override
+    public deleteUser_args deepCopy() {
+      return new deleteUser_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setUserIdIsSet(false);
+      this.userId = 0;
+    }
+
+    public long getUserId() {
+      return this.userId;
+    }
+
+    public deleteUser_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
+      return this;
+    }
+
+    public void unsetUserId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case USER_ID:
+        if (value == null) {
+          unsetUserId();
+        } else {
+          setUserId((java.lang.Long)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER_ID:
+        return getUserId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER_ID:
+        return isSetUserId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof deleteUser_args)
+        return this.equals((deleteUser_args)that);
+      return false;
+    }
+
+    public boolean equals(deleteUser_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
+          return false;
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(userId);
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteUser_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetUserId(), other.isSetUserId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteUser_args(");
+      boolean first = true;
+
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteUser_argsStandardScheme getScheme() {
+        return new deleteUser_argsStandardScheme();
+      }
+    }
+
+    private static class deleteUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteUser_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteUser_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteUser_argsTupleScheme getScheme() {
+        return new deleteUser_argsTupleScheme();
+      }
+    }
+
+    private static class deleteUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteUser_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetUserId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteUser_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class deleteUser_result implements org.apache.thrift.TBase<deleteUser_result, deleteUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteUser_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteUser_result");
+
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteUser_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteUser_resultTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable UserNotFoundException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserNotFoundException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteUser_result.class, metaDataMap);
+    }
+
+    public deleteUser_result() {
+    }
+
+    public deleteUser_result(
+      UserNotFoundException ex)
+    {
+      this();
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteUser_result(deleteUser_result other) {
+      if (other.isSetEx()) {
+        this.ex = new UserNotFoundException(other.ex);
+      }
+    }
+
+    @Override
+    public deleteUser_result deepCopy() {
+      return new deleteUser_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.ex = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public UserNotFoundException getEx() {
+      return this.ex;
+    }
+
+    public deleteUser_result setEx(@org.apache.thrift.annotation.Nullable UserNotFoundException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UserNotFoundException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof deleteUser_result)
+        return this.equals((deleteUser_result)that);
+      return false;
+    }
+
+    public boolean equals(deleteUser_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteUser_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetEx(), other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteUser_result(");
+      boolean first = true;
+
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteUser_resultStandardScheme getScheme() {
+        return new deleteUser_resultStandardScheme();
+      }
+    }
+
+    private static class deleteUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteUser_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UserNotFoundException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteUser_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteUser_resultTupleScheme getScheme() {
+        return new deleteUser_resultTupleScheme();
+      }
+    }
+
+    private static class deleteUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteUser_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEx()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteUser_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.ex = new UserNotFoundException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class getAllUsers_args implements org.apache.thrift.TBase<getAllUsers_args, getAllUsers_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllUsers_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllUsers_args");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllUsers_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllUsers_argsTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllUsers_args.class, metaDataMap);
+    }
+
+    public getAllUsers_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getAllUsers_args(getAllUsers_args other) {
+    }
+
+    @Override
+    public getAllUsers_args deepCopy() {
+      return new getAllUsers_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof getAllUsers_args)
+        return this.equals((getAllUsers_args)that);
+      return false;
+    }
+
+    public boolean equals(getAllUsers_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getAllUsers_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllUsers_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getAllUsers_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getAllUsers_argsStandardScheme getScheme() {
+        return new getAllUsers_argsStandardScheme();
+      }
+    }
+
+    private static class getAllUsers_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllUsers_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllUsers_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllUsers_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getAllUsers_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getAllUsers_argsTupleScheme getScheme() {
+        return new getAllUsers_argsTupleScheme();
+      }
+    }
+
+    private static class getAllUsers_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllUsers_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllUsers_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllUsers_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class getAllUsers_result implements org.apache.thrift.TBase<getAllUsers_result, getAllUsers_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllUsers_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllUsers_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllUsers_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllUsers_resultTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable java.util.List<User> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllUsers_result.class, metaDataMap);
+    }
+
+    public getAllUsers_result() {
+    }
+
+    public getAllUsers_result(
+      java.util.List<User> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getAllUsers_result(getAllUsers_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<User> __this__success = new java.util.ArrayList<User>(other.success.size());
+        for (User other_element : other.success) {
+          __this__success.add(new User(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    @Override
+    public getAllUsers_result deepCopy() {
+      return new getAllUsers_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<User> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(User elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<User>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<User> getSuccess() {
+      return this.success;
+    }
+
+    public getAllUsers_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<User> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<User>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof getAllUsers_result)
+        return this.equals((getAllUsers_result)that);
+      return false;
+    }
+
+    public boolean equals(getAllUsers_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getAllUsers_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllUsers_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getAllUsers_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getAllUsers_resultStandardScheme getScheme() {
+        return new getAllUsers_resultStandardScheme();
+      }
+    }
+
+    private static class getAllUsers_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllUsers_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllUsers_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<User>(_list32.size);
+                  @org.apache.thrift.annotation.Nullable User _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = new User();
+                    _elem33.read(iprot);
+                    struct.success.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllUsers_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (User _iter35 : struct.success)
+            {
+              _iter35.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getAllUsers_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public getAllUsers_resultTupleScheme getScheme() {
+        return new getAllUsers_resultTupleScheme();
+      }
+    }
+
+    private static class getAllUsers_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllUsers_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllUsers_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (User _iter36 : struct.success)
+            {
+              _iter36.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllUsers_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list37 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<User>(_list37.size);
+            @org.apache.thrift.annotation.Nullable User _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = new User();
+              _elem38.read(iprot);
+              struct.success.add(_elem38);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class validateUserData_args implements org.apache.thrift.TBase<validateUserData_args, validateUserData_args._Fields>, java.io.Serializable, Cloneable, Comparable<validateUserData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("validateUserData_args");
+
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("age", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField IS_ACTIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("isActive", org.apache.thrift.protocol.TType.BOOL, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new validateUserData_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new validateUserData_argsTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable java.lang.String name; // required
+    private int age; // required
+    private boolean isActive; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NAME((short)1, "name"),
+      AGE((short)2, "age"),
+      IS_ACTIVE((short)3, "isActive");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NAME
+            return NAME;
+          case 2: // AGE
+            return AGE;
+          case 3: // IS_ACTIVE
+            return IS_ACTIVE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __AGE_ISSET_ID = 0;
+    private static final int __ISACTIVE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.AGE, new org.apache.thrift.meta_data.FieldMetaData("age", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.IS_ACTIVE, new org.apache.thrift.meta_data.FieldMetaData("isActive", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(validateUserData_args.class, metaDataMap);
+    }
+
+    public validateUserData_args() {
+    }
+
+    public validateUserData_args(
+      java.lang.String name,
+      int age,
+      boolean isActive)
+    {
+      this();
+      this.name = name;
+      this.age = age;
+      setAgeIsSet(true);
+      this.isActive = isActive;
+      setIsActiveIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public validateUserData_args(validateUserData_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetName()) {
+        this.name = other.name;
+      }
+      this.age = other.age;
+      this.isActive = other.isActive;
+    }
+
+    @Override
+    public validateUserData_args deepCopy() {
+      return new validateUserData_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.name = null;
+      setAgeIsSet(false);
+      this.age = 0;
+      setIsActiveIsSet(false);
+      this.isActive = false;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getName() {
+      return this.name;
+    }
+
+    public validateUserData_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
+      }
+    }
+
+    public int getAge() {
+      return this.age;
+    }
+
+    public validateUserData_args setAge(int age) {
+      this.age = age;
+      setAgeIsSet(true);
+      return this;
+    }
+
+    public void unsetAge() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __AGE_ISSET_ID);
+    }
+
+    /** Returns true if field age is set (has been assigned a value) and false otherwise */
+    public boolean isSetAge() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __AGE_ISSET_ID);
+    }
+
+    public void setAgeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __AGE_ISSET_ID, value);
+    }
+
+    public boolean isIsActive() {
+      return this.isActive;
+    }
+
+    public validateUserData_args setIsActive(boolean isActive) {
+      this.isActive = isActive;
+      setIsActiveIsSet(true);
+      return this;
+    }
+
+    public void unsetIsActive() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ISACTIVE_ISSET_ID);
+    }
+
+    /** Returns true if field isActive is set (has been assigned a value) and false otherwise */
+    public boolean isSetIsActive() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ISACTIVE_ISSET_ID);
+    }
+
+    public void setIsActiveIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ISACTIVE_ISSET_ID, value);
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((java.lang.String)value);
+        }
+        break;
+
+      case AGE:
+        if (value == null) {
+          unsetAge();
+        } else {
+          setAge((java.lang.Integer)value);
+        }
+        break;
+
+      case IS_ACTIVE:
+        if (value == null) {
+          unsetIsActive();
+        } else {
+          setIsActive((java.lang.Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NAME:
+        return getName();
+
+      case AGE:
+        return getAge();
+
+      case IS_ACTIVE:
+        return isIsActive();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NAME:
+        return isSetName();
+      case AGE:
+        return isSetAge();
+      case IS_ACTIVE:
+        return isSetIsActive();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof validateUserData_args)
+        return this.equals((validateUserData_args)that);
+      return false;
+    }
+
+    public boolean equals(validateUserData_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
+          return false;
+      }
+
+      boolean this_present_age = true;
+      boolean that_present_age = true;
+      if (this_present_age || that_present_age) {
+        if (!(this_present_age && that_present_age))
+          return false;
+        if (this.age != that.age)
+          return false;
+      }
+
+      boolean this_present_isActive = true;
+      boolean that_present_isActive = true;
+      if (this_present_isActive || that_present_isActive) {
+        if (!(this_present_isActive && that_present_isActive))
+          return false;
+        if (this.isActive != that.isActive)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+      if (isSetName())
+        hashCode = hashCode * 8191 + name.hashCode();
+
+      hashCode = hashCode * 8191 + age;
+
+      hashCode = hashCode * 8191 + ((isActive) ? 131071 : 524287);
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(validateUserData_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetName(), other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetAge(), other.isSetAge());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAge()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.age, other.age);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetIsActive(), other.isSetIsActive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIsActive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.isActive, other.isActive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("validateUserData_args(");
+      boolean first = true;
+
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("age:");
+      sb.append(this.age);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("isActive:");
+      sb.append(this.isActive);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      if (name == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'name' was not present! Struct: " + toString());
+      }
+      // alas, we cannot check 'age' because it's a primitive and you chose the non-beans generator.
+      // alas, we cannot check 'isActive' because it's a primitive and you chose the non-beans generator.
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class validateUserData_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public validateUserData_argsStandardScheme getScheme() {
+        return new validateUserData_argsStandardScheme();
+      }
+    }
+
+    private static class validateUserData_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<validateUserData_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, validateUserData_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // AGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.age = iprot.readI32();
+                struct.setAgeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // IS_ACTIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.isActive = iprot.readBool();
+                struct.setIsActiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        if (!struct.isSetAge()) {
+          throw new org.apache.thrift.protocol.TProtocolException("Required field 'age' was not found in serialized data! Struct: " + toString());
+        }
+        if (!struct.isSetIsActive()) {
+          throw new org.apache.thrift.protocol.TProtocolException("Required field 'isActive' was not found in serialized data! Struct: " + toString());
+        }
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, validateUserData_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(AGE_FIELD_DESC);
+        oprot.writeI32(struct.age);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(IS_ACTIVE_FIELD_DESC);
+        oprot.writeBool(struct.isActive);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class validateUserData_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public validateUserData_argsTupleScheme getScheme() {
+        return new validateUserData_argsTupleScheme();
+      }
+    }
+
+    private static class validateUserData_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<validateUserData_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, validateUserData_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        oprot.writeString(struct.name);
+        oprot.writeI32(struct.age);
+        oprot.writeBool(struct.isActive);
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, validateUserData_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        struct.name = iprot.readString();
+        struct.setNameIsSet(true);
+        struct.age = iprot.readI32();
+        struct.setAgeIsSet(true);
+        struct.isActive = iprot.readBool();
+        struct.setIsActiveIsSet(true);
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class validateUserData_result implements org.apache.thrift.TBase<validateUserData_result, validateUserData_result._Fields>, java.io.Serializable, Cloneable, Comparable<validateUserData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("validateUserData_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new validateUserData_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new validateUserData_resultTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable java.lang.String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(validateUserData_result.class, metaDataMap);
+    }
+
+    public validateUserData_result() {
+    }
+
+    public validateUserData_result(
+      java.lang.String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public validateUserData_result(validateUserData_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
+
+    @Override
+    public validateUserData_result deepCopy() {
+      return new validateUserData_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getSuccess() {
+      return this.success;
+    }
+
+    public validateUserData_result setSuccess(@org.apache.thrift.annotation.Nullable java.lang.String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof validateUserData_result)
+        return this.equals((validateUserData_result)that);
+      return false;
+    }
+
+    public boolean equals(validateUserData_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(validateUserData_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("validateUserData_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class validateUserData_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public validateUserData_resultStandardScheme getScheme() {
+        return new validateUserData_resultStandardScheme();
+      }
+    }
+
+    private static class validateUserData_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<validateUserData_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, validateUserData_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, validateUserData_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class validateUserData_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public validateUserData_resultTupleScheme getScheme() {
+        return new validateUserData_resultTupleScheme();
+      }
+    }
+
+    private static class validateUserData_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<validateUserData_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, validateUserData_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, validateUserData_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class logUserActivity_args implements org.apache.thrift.TBase<logUserActivity_args, logUserActivity_args._Fields>, java.io.Serializable, Cloneable, Comparable<logUserActivity_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("logUserActivity_args");
+
+    private static final org.apache.thrift.protocol.TField ACTION_FIELD_DESC = new org.apache.thrift.protocol.TField("action", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new logUserActivity_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new logUserActivity_argsTupleSchemeFactory();
+
+    private @org.apache.thrift.annotation.Nullable java.lang.String action; // required
+    private long userId; // required
+    private @org.apache.thrift.annotation.Nullable java.lang.String timestamp; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ACTION((short)1, "action"),
+      USER_ID((short)2, "userId"),
+      TIMESTAMP((short)3, "timestamp");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ACTION
+            return ACTION;
+          case 2: // USER_ID
+            return USER_ID;
+          case 3: // TIMESTAMP
+            return TIMESTAMP;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
       }
 
       @Override
@@ -1369,119 +7411,160 @@ public class UserService {
     }
 
     // isset id assignments
-    private static final int __AGE_ISSET_ID = 0;
+    private static final int __USERID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.ACTION, new org.apache.thrift.meta_data.FieldMetaData("action", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.AGE, new org.apache.thrift.meta_data.FieldMetaData("age", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createUser_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(logUserActivity_args.class, metaDataMap);
     }
 
-    public createUser_args() {
+    public logUserActivity_args() {
     }
 
-    public createUser_args(
-      java.lang.String name,
-      int age)
+    public logUserActivity_args(
+      java.lang.String action,
+      long userId,
+      java.lang.String timestamp)
     {
       this();
-      this.name = name;
-      this.age = age;
-      setAgeIsSet(true);
+      this.action = action;
+      this.userId = userId;
+      setUserIdIsSet(true);
+      this.timestamp = timestamp;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createUser_args(createUser_args other) {
+    public logUserActivity_args(logUserActivity_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetName()) {
-        this.name = other.name;
+      if (other.isSetAction()) {
+        this.action = other.action;
+      }
+      this.userId = other.userId;
+      if (other.isSetTimestamp()) {
+        this.timestamp = other.timestamp;
       }
-      this.age = other.age;
     }
 
     @Override
-    public createUser_args deepCopy() {
-      return new createUser_args(this);
+    public logUserActivity_args deepCopy() {
+      return new logUserActivity_args(this);
     }
 
     @Override
     public void clear() {
-      this.name = null;
-      setAgeIsSet(false);
-      this.age = 0;
+      this.action = null;
+      setUserIdIsSet(false);
+      this.userId = 0;
+      this.timestamp = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getName() {
-      return this.name;
+    public java.lang.String getAction() {
+      return this.action;
     }
 
-    public createUser_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
-      this.name = name;
+    public logUserActivity_args setAction(@org.apache.thrift.annotation.Nullable java.lang.String action) {
+      this.action = action;
       return this;
     }
 
-    public void unsetName() {
-      this.name = null;
+    public void unsetAction() {
+      this.action = null;
     }
 
-    /** Returns true if field name is set (has been assigned a value) and false otherwise */
-    public boolean isSetName() {
-      return this.name != null;
+    /** Returns true if field action is set (has been assigned a value) and false otherwise */
+    public boolean isSetAction() {
+      return this.action != null;
     }
 
-    public void setNameIsSet(boolean value) {
+    public void setActionIsSet(boolean value) {
       if (!value) {
-        this.name = null;
+        this.action = null;
       }
     }
 
-    public int getAge() {
-      return this.age;
+    public long getUserId() {
+      return this.userId;
     }
 
-    public createUser_args setAge(int age) {
-      this.age = age;
-      setAgeIsSet(true);
+    public logUserActivity_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
       return this;
     }
 
-    public void unsetAge() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __AGE_ISSET_ID);
+    public void unsetUserId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    /** Returns true if field age is set (has been assigned a value) and false otherwise */
-    public boolean isSetAge() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __AGE_ISSET_ID);
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    public void setAgeIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __AGE_ISSET_ID, value);
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getTimestamp() {
+      return this.timestamp;
+    }
+
+    public logUserActivity_args setTimestamp(@org.apache.thrift.annotation.Nullable java.lang.String timestamp) {
+      this.timestamp = timestamp;
+      return this;
+    }
+
+    public void unsetTimestamp() {
+      this.timestamp = null;
+    }
+
+    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimestamp() {
+      return this.timestamp != null;
+    }
+
+    public void setTimestampIsSet(boolean value) {
+      if (!value) {
+        this.timestamp = null;
+      }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case NAME:
+      case ACTION:
         if (value == null) {
-          unsetName();
+          unsetAction();
         } else {
-          setName((java.lang.String)value);
+          setAction((java.lang.String)value);
         }
         break;
 
-      case AGE:
+      case USER_ID:
         if (value == null) {
-          unsetAge();
+          unsetUserId();
         } else {
-          setAge((java.lang.Integer)value);
+          setUserId((java.lang.Long)value);
+        }
+        break;
+
+      case TIMESTAMP:
+        if (value == null) {
+          unsetTimestamp();
+        } else {
+          setTimestamp((java.lang.String)value);
         }
         break;
 
@@ -1492,11 +7575,14 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case NAME:
-        return getName();
+      case ACTION:
+        return getAction();
 
-      case AGE:
-        return getAge();
+      case USER_ID:
+        return getUserId();
+
+      case TIMESTAMP:
+        return getTimestamp();
 
       }
       throw new java.lang.IllegalStateException();
@@ -1510,42 +7596,53 @@ public class UserService {
       }
 
       switch (field) {
-      case NAME:
-        return isSetName();
-      case AGE:
-        return isSetAge();
+      case ACTION:
+        return isSetAction();
+      case USER_ID:
+        return isSetUserId();
+      case TIMESTAMP:
+        return isSetTimestamp();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof createUser_args)
-        return this.equals((createUser_args)that);
+      if (that instanceof logUserActivity_args)
+        return this.equals((logUserActivity_args)that);
       return false;
     }
 
-    public boolean equals(createUser_args that) {
+    public boolean equals(logUserActivity_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_name = true && this.isSetName();
-      boolean that_present_name = true && that.isSetName();
-      if (this_present_name || that_present_name) {
-        if (!(this_present_name && that_present_name))
+      boolean this_present_action = true && this.isSetAction();
+      boolean that_present_action = true && that.isSetAction();
+      if (this_present_action || that_present_action) {
+        if (!(this_present_action && that_present_action))
           return false;
-        if (!this.name.equals(that.name))
+        if (!this.action.equals(that.action))
           return false;
       }
 
-      boolean this_present_age = true;
-      boolean that_present_age = true;
-      if (this_present_age || that_present_age) {
-        if (!(this_present_age && that_present_age))
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
           return false;
-        if (this.age != that.age)
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      boolean this_present_timestamp = true && this.isSetTimestamp();
+      boolean that_present_timestamp = true && that.isSetTimestamp();
+      if (this_present_timestamp || that_present_timestamp) {
+        if (!(this_present_timestamp && that_present_timestamp))
+          return false;
+        if (!this.timestamp.equals(that.timestamp))
           return false;
       }
 
@@ -1556,39 +7653,53 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
-      if (isSetName())
-        hashCode = hashCode * 8191 + name.hashCode();
+      hashCode = hashCode * 8191 + ((isSetAction()) ? 131071 : 524287);
+      if (isSetAction())
+        hashCode = hashCode * 8191 + action.hashCode();
 
-      hashCode = hashCode * 8191 + age;
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(userId);
+
+      hashCode = hashCode * 8191 + ((isSetTimestamp()) ? 131071 : 524287);
+      if (isSetTimestamp())
+        hashCode = hashCode * 8191 + timestamp.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(createUser_args other) {
+    public int compareTo(logUserActivity_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetName(), other.isSetName());
+      lastComparison = java.lang.Boolean.compare(isSetAction(), other.isSetAction());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+      if (isSetAction()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.action, other.action);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.compare(isSetAge(), other.isSetAge());
+      lastComparison = java.lang.Boolean.compare(isSetUserId(), other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetAge()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.age, other.age);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetTimestamp(), other.isSetTimestamp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimestamp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1614,19 +7725,27 @@ public class UserService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("createUser_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("logUserActivity_args(");
       boolean first = true;
 
-      sb.append("name:");
-      if (this.name == null) {
+      sb.append("action:");
+      if (this.action == null) {
         sb.append("null");
       } else {
-        sb.append(this.name);
+        sb.append(this.action);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("age:");
-      sb.append(this.age);
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timestamp:");
+      if (this.timestamp == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.timestamp);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -1655,17 +7774,17 @@ public class UserService {
       }
     }
 
-    private static class createUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class logUserActivity_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createUser_argsStandardScheme getScheme() {
-        return new createUser_argsStandardScheme();
+      public logUserActivity_argsStandardScheme getScheme() {
+        return new logUserActivity_argsStandardScheme();
       }
     }
 
-    private static class createUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<createUser_args> {
+    private static class logUserActivity_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<logUserActivity_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, logUserActivity_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1675,18 +7794,26 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NAME
+            case 1: // ACTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.name = iprot.readString();
-                struct.setNameIsSet(true);
+                struct.action = iprot.readString();
+                struct.setActionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // AGE
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.age = iprot.readI32();
-                struct.setAgeIsSet(true);
+            case 3: // TIMESTAMP
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.timestamp = iprot.readString();
+                struct.setTimestampIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1703,63 +7830,78 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, logUserActivity_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.name != null) {
-          oprot.writeFieldBegin(NAME_FIELD_DESC);
-          oprot.writeString(struct.name);
+        if (struct.action != null) {
+          oprot.writeFieldBegin(ACTION_FIELD_DESC);
+          oprot.writeString(struct.action);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(AGE_FIELD_DESC);
-        oprot.writeI32(struct.age);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
+        if (struct.timestamp != null) {
+          oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+          oprot.writeString(struct.timestamp);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class createUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class logUserActivity_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createUser_argsTupleScheme getScheme() {
-        return new createUser_argsTupleScheme();
+      public logUserActivity_argsTupleScheme getScheme() {
+        return new logUserActivity_argsTupleScheme();
       }
     }
 
-    private static class createUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<createUser_args> {
+    private static class logUserActivity_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<logUserActivity_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, logUserActivity_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetName()) {
+        if (struct.isSetAction()) {
           optionals.set(0);
         }
-        if (struct.isSetAge()) {
+        if (struct.isSetUserId()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetName()) {
-          oprot.writeString(struct.name);
+        if (struct.isSetTimestamp()) {
+          optionals.set(2);
         }
-        if (struct.isSetAge()) {
-          oprot.writeI32(struct.age);
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetAction()) {
+          oprot.writeString(struct.action);
+        }
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+        if (struct.isSetTimestamp()) {
+          oprot.writeString(struct.timestamp);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, logUserActivity_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.name = iprot.readString();
-          struct.setNameIsSet(true);
+          struct.action = iprot.readString();
+          struct.setActionIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.age = iprot.readI32();
-          struct.setAgeIsSet(true);
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.timestamp = iprot.readString();
+          struct.setTimestampIsSet(true);
         }
       }
     }
@@ -1770,19 +7912,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class createUser_result implements org.apache.thrift.TBase<createUser_result, createUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<createUser_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createUser_result");
+  public static class findUsersByName_args implements org.apache.thrift.TBase<findUsersByName_args, findUsersByName_args._Fields>, java.io.Serializable, Cloneable, Comparable<findUsersByName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findUsersByName_args");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createUser_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createUser_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findUsersByName_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findUsersByName_argsTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable User success; // required
+    private @org.apache.thrift.annotation.Nullable java.lang.String name; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      NAME((short)1, "name");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -1798,8 +7940,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
+          case 1: // NAME
+            return NAME;
           default:
             return null;
         }
@@ -1846,74 +7988,74 @@ public class UserService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createUser_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findUsersByName_args.class, metaDataMap);
     }
 
-    public createUser_result() {
+    public findUsersByName_args() {
     }
 
-    public createUser_result(
-      User success)
+    public findUsersByName_args(
+      java.lang.String name)
     {
       this();
-      this.success = success;
+      this.name = name;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createUser_result(createUser_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new User(other.success);
+    public findUsersByName_args(findUsersByName_args other) {
+      if (other.isSetName()) {
+        this.name = other.name;
       }
     }
 
     @Override
-    public createUser_result deepCopy() {
-      return new createUser_result(this);
+    public findUsersByName_args deepCopy() {
+      return new findUsersByName_args(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      this.name = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public User getSuccess() {
-      return this.success;
+    public java.lang.String getName() {
+      return this.name;
     }
 
-    public createUser_result setSuccess(@org.apache.thrift.annotation.Nullable User success) {
-      this.success = success;
+    public findUsersByName_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+      this.name = name;
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetName() {
+      this.name = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
+    public void setNameIsSet(boolean value) {
       if (!value) {
-        this.success = null;
+        this.name = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case NAME:
         if (value == null) {
-          unsetSuccess();
+          unsetName();
         } else {
-          setSuccess((User)value);
+          setName((java.lang.String)value);
         }
         break;
 
@@ -1924,8 +8066,8 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case NAME:
+        return getName();
 
       }
       throw new java.lang.IllegalStateException();
@@ -1939,31 +8081,31 @@ public class UserService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
+      case NAME:
+        return isSetName();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof createUser_result)
-        return this.equals((createUser_result)that);
+      if (that instanceof findUsersByName_args)
+        return this.equals((findUsersByName_args)that);
       return false;
     }
 
-    public boolean equals(createUser_result that) {
+    public boolean equals(findUsersByName_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
           return false;
-        if (!this.success.equals(that.success))
+        if (!this.name.equals(that.name))
           return false;
       }
 
@@ -1974,27 +8116,27 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+      if (isSetName())
+        hashCode = hashCode * 8191 + name.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(createUser_result other) {
+    public int compareTo(findUsersByName_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      lastComparison = java.lang.Boolean.compare(isSetName(), other.isSetName());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2013,20 +8155,21 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
+    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("createUser_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findUsersByName_args(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
+      sb.append("name:");
+      if (this.name == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.name);
       }
       first = false;
       sb.append(")");
@@ -2036,9 +8179,6 @@ public class UserService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -2057,17 +8197,17 @@ public class UserService {
       }
     }
 
-    private static class createUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createUser_resultStandardScheme getScheme() {
-        return new createUser_resultStandardScheme();
+      public findUsersByName_argsStandardScheme getScheme() {
+        return new findUsersByName_argsStandardScheme();
       }
     }
 
-    private static class createUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<createUser_result> {
+    private static class findUsersByName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findUsersByName_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findUsersByName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2077,11 +8217,10 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new User();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
+            case 1: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2098,13 +8237,13 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findUsersByName_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2113,36 +8252,35 @@ public class UserService {
 
     }
 
-    private static class createUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createUser_resultTupleScheme getScheme() {
-        return new createUser_resultTupleScheme();
+      public findUsersByName_argsTupleScheme getScheme() {
+        return new findUsersByName_argsTupleScheme();
       }
     }
 
-    private static class createUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<createUser_result> {
+    private static class findUsersByName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findUsersByName_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findUsersByName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetName()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findUsersByName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new User();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
         }
       }
     }
@@ -2153,19 +8291,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class getUser_args implements org.apache.thrift.TBase<getUser_args, getUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUser_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUser_args");
+  public static class findUsersByName_result implements org.apache.thrift.TBase<findUsersByName_result, findUsersByName_result._Fields>, java.io.Serializable, Cloneable, Comparable<findUsersByName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findUsersByName_result");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getUser_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getUser_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findUsersByName_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findUsersByName_resultTupleSchemeFactory();
 
-    private long userId; // required
+    private @org.apache.thrift.annotation.Nullable java.util.List<User> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId");
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2181,8 +8319,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
-            return USER_ID;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -2226,78 +8364,98 @@ public class UserService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUser_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findUsersByName_result.class, metaDataMap);
     }
 
-    public getUser_args() {
+    public findUsersByName_result() {
     }
 
-    public getUser_args(
-      long userId)
+    public findUsersByName_result(
+      java.util.List<User> success)
     {
       this();
-      this.userId = userId;
-      setUserIdIsSet(true);
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUser_args(getUser_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.userId = other.userId;
+    public findUsersByName_result(findUsersByName_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<User> __this__success = new java.util.ArrayList<User>(other.success.size());
+        for (User other_element : other.success) {
+          __this__success.add(new User(other_element));
+        }
+        this.success = __this__success;
+      }
     }
 
     @Override
-    public getUser_args deepCopy() {
-      return new getUser_args(this);
+    public findUsersByName_result deepCopy() {
+      return new findUsersByName_result(this);
     }
 
     @Override
     public void clear() {
-      setUserIdIsSet(false);
-      this.userId = 0;
+      this.success = null;
     }
 
-    public long getUserId() {
-      return this.userId;
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public getUser_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<User> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(User elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<User>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<User> getSuccess() {
+      return this.success;
+    }
+
+    public findUsersByName_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<User> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetUserId() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case USER_ID:
+      case SUCCESS:
         if (value == null) {
-          unsetUserId();
+          unsetSuccess();
         } else {
-          setUserId((java.lang.Long)value);
+          setSuccess((java.util.List<User>)value);
         }
         break;
 
@@ -2308,8 +8466,8 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER_ID:
-        return getUserId();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -2323,31 +8481,31 @@ public class UserService {
       }
 
       switch (field) {
-      case USER_ID:
-        return isSetUserId();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof getUser_args)
-        return this.equals((getUser_args)that);
+      if (that instanceof findUsersByName_result)
+        return this.equals((findUsersByName_result)that);
       return false;
     }
 
-    public boolean equals(getUser_args that) {
+    public boolean equals(findUsersByName_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (this.userId != that.userId)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -2358,25 +8516,27 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(userId);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getUser_args other) {
+    public int compareTo(findUsersByName_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetUserId(), other.isSetUserId());
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2395,18 +8555,21 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
-    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getUser_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findUsersByName_result(");
       boolean first = true;
 
-      sb.append("userId:");
-      sb.append(this.userId);
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2427,25 +8590,23 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getUser_argsStandardScheme getScheme() {
-        return new getUser_argsStandardScheme();
+      public findUsersByName_resultStandardScheme getScheme() {
+        return new findUsersByName_resultStandardScheme();
       }
     }
 
-    private static class getUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getUser_args> {
+    private static class findUsersByName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findUsersByName_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findUsersByName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2455,10 +8616,21 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<User>(_list40.size);
+                  @org.apache.thrift.annotation.Nullable User _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = new User();
+                    _elem41.read(iprot);
+                    struct.success.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2475,48 +8647,73 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findUsersByName_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (User _iter43 : struct.success)
+            {
+              _iter43.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getUser_argsTupleScheme getScheme() {
-        return new getUser_argsTupleScheme();
+      public findUsersByName_resultTupleScheme getScheme() {
+        return new findUsersByName_resultTupleScheme();
       }
     }
 
-    private static class getUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getUser_args> {
+    private static class findUsersByName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findUsersByName_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findUsersByName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetUserId()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (User _iter44 : struct.success)
+            {
+              _iter44.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findUsersByName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list45 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<User>(_list45.size);
+            @org.apache.thrift.annotation.Nullable User _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = new User();
+              _elem46.read(iprot);
+              struct.success.add(_elem46);
+            }
+          }
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -2527,22 +8724,22 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class getUser_result implements org.apache.thrift.TBase<getUser_result, getUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUser_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUser_result");
+  public static class findUsersByNamePrefix_args implements org.apache.thrift.TBase<findUsersByNamePrefix_args, findUsersByNamePrefix_args._Fields>, java.io.Serializable, Cloneable, Comparable<findUsersByNamePrefix_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findUsersByNamePrefix_args");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField PREFIX_FIELD_DESC = new org.apache.thrift.protocol.TField("prefix", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField LIMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("limit", org.apache.thrift.protocol.TType.I32, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getUser_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getUser_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findUsersByNamePrefix_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findUsersByNamePrefix_argsTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable User success; // required
-    private @org.apache.thrift.annotation.Nullable UserNotFoundException ex; // required
+    private @org.apache.thrift.annotation.Nullable java.lang.String prefix; // required
+    private int limit; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      EX((short)1, "ex");
+      PREFIX((short)1, "prefix"),
+      LIMIT((short)2, "limit");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2558,10 +8755,10 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
-          case 1: // EX
-            return EX;
+          case 1: // PREFIX
+            return PREFIX;
+          case 2: // LIMIT
+            return LIMIT;
           default:
             return null;
         }
@@ -2605,118 +8802,119 @@ public class UserService {
     }
 
     // isset id assignments
+    private static final int __LIMIT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
-      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserNotFoundException.class)));
+      tmpMap.put(_Fields.PREFIX, new org.apache.thrift.meta_data.FieldMetaData("prefix", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.LIMIT, new org.apache.thrift.meta_data.FieldMetaData("limit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUser_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findUsersByNamePrefix_args.class, metaDataMap);
     }
 
-    public getUser_result() {
+    public findUsersByNamePrefix_args() {
     }
 
-    public getUser_result(
-      User success,
-      UserNotFoundException ex)
+    public findUsersByNamePrefix_args(
+      java.lang.String prefix,
+      int limit)
     {
       this();
-      this.success = success;
-      this.ex = ex;
+      this.prefix = prefix;
+      this.limit = limit;
+      setLimitIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUser_result(getUser_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new User(other.success);
-      }
-      if (other.isSetEx()) {
-        this.ex = new UserNotFoundException(other.ex);
+    public findUsersByNamePrefix_args(findUsersByNamePrefix_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetPrefix()) {
+        this.prefix = other.prefix;
       }
+      this.limit = other.limit;
     }
 
     @Override
-    public getUser_result deepCopy() {
-      return new getUser_result(this);
+    public findUsersByNamePrefix_args deepCopy() {
+      return new findUsersByNamePrefix_args(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-      this.ex = null;
+      this.prefix = null;
+      setLimitIsSet(false);
+      this.limit = 0;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public User getSuccess() {
-      return this.success;
+    public java.lang.String getPrefix() {
+      return this.prefix;
     }
 
-    public getUser_result setSuccess(@org.apache.thrift.annotation.Nullable User success) {
-      this.success = success;
+    public findUsersByNamePrefix_args setPrefix(@org.apache.thrift.annotation.Nullable java.lang.String prefix) {
+      this.prefix = prefix;
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetPrefix() {
+      this.prefix = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field prefix is set (has been assigned a value) and false otherwise */
+    public boolean isSetPrefix() {
+      return this.prefix != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
+    public void setPrefixIsSet(boolean value) {
       if (!value) {
-        this.success = null;
+        this.prefix = null;
       }
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public UserNotFoundException getEx() {
-      return this.ex;
+    public int getLimit() {
+      return this.limit;
     }
 
-    public getUser_result setEx(@org.apache.thrift.annotation.Nullable UserNotFoundException ex) {
-      this.ex = ex;
+    public findUsersByNamePrefix_args setLimit(int limit) {
+      this.limit = limit;
+      setLimitIsSet(true);
       return this;
     }
 
-    public void unsetEx() {
-      this.ex = null;
+    public void unsetLimit() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LIMIT_ISSET_ID);
     }
 
-    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
-    public boolean isSetEx() {
-      return this.ex != null;
+    /** Returns true if field limit is set (has been assigned a value) and false otherwise */
+    public boolean isSetLimit() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LIMIT_ISSET_ID);
     }
 
-    public void setExIsSet(boolean value) {
-      if (!value) {
-        this.ex = null;
-      }
+    public void setLimitIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LIMIT_ISSET_ID, value);
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case PREFIX:
         if (value == null) {
-          unsetSuccess();
+          unsetPrefix();
         } else {
-          setSuccess((User)value);
+          setPrefix((java.lang.String)value);
         }
         break;
 
-      case EX:
+      case LIMIT:
         if (value == null) {
-          unsetEx();
+          unsetLimit();
         } else {
-          setEx((UserNotFoundException)value);
+          setLimit((java.lang.Integer)value);
         }
         break;
 
@@ -2727,11 +8925,11 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case PREFIX:
+        return getPrefix();
 
-      case EX:
-        return getEx();
+      case LIMIT:
+        return getLimit();
 
       }
       throw new java.lang.IllegalStateException();
@@ -2745,42 +8943,42 @@ public class UserService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
-      case EX:
-        return isSetEx();
+      case PREFIX:
+        return isSetPrefix();
+      case LIMIT:
+        return isSetLimit();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof getUser_result)
-        return this.equals((getUser_result)that);
+      if (that instanceof findUsersByNamePrefix_args)
+        return this.equals((findUsersByNamePrefix_args)that);
       return false;
     }
 
-    public boolean equals(getUser_result that) {
+    public boolean equals(findUsersByNamePrefix_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_prefix = true && this.isSetPrefix();
+      boolean that_present_prefix = true && that.isSetPrefix();
+      if (this_present_prefix || that_present_prefix) {
+        if (!(this_present_prefix && that_present_prefix))
           return false;
-        if (!this.success.equals(that.success))
+        if (!this.prefix.equals(that.prefix))
           return false;
       }
 
-      boolean this_present_ex = true && this.isSetEx();
-      boolean that_present_ex = true && that.isSetEx();
-      if (this_present_ex || that_present_ex) {
-        if (!(this_present_ex && that_present_ex))
+      boolean this_present_limit = true;
+      boolean that_present_limit = true;
+      if (this_present_limit || that_present_limit) {
+        if (!(this_present_limit && that_present_limit))
           return false;
-        if (!this.ex.equals(that.ex))
+        if (this.limit != that.limit)
           return false;
       }
 
@@ -2791,41 +8989,39 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + ((isSetPrefix()) ? 131071 : 524287);
+      if (isSetPrefix())
+        hashCode = hashCode * 8191 + prefix.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
-      if (isSetEx())
-        hashCode = hashCode * 8191 + ex.hashCode();
+      hashCode = hashCode * 8191 + limit;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getUser_result other) {
+    public int compareTo(findUsersByNamePrefix_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      lastComparison = java.lang.Boolean.compare(isSetPrefix(), other.isSetPrefix());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetPrefix()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.prefix, other.prefix);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.compare(isSetEx(), other.isSetEx());
+      lastComparison = java.lang.Boolean.compare(isSetLimit(), other.isSetLimit());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEx()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+      if (isSetLimit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.limit, other.limit);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2844,29 +9040,26 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
+    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getUser_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findUsersByNamePrefix_args(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
+      sb.append("prefix:");
+      if (this.prefix == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.prefix);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ex:");
-      if (this.ex == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ex);
-      }
+      sb.append("limit:");
+      sb.append(this.limit);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2875,9 +9068,6 @@ public class UserService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -2890,23 +9080,25 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByNamePrefix_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getUser_resultStandardScheme getScheme() {
-        return new getUser_resultStandardScheme();
+      public findUsersByNamePrefix_argsStandardScheme getScheme() {
+        return new findUsersByNamePrefix_argsStandardScheme();
       }
     }
 
-    private static class getUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getUser_result> {
+    private static class findUsersByNamePrefix_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findUsersByNamePrefix_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findUsersByNamePrefix_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2916,20 +9108,18 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new User();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
+            case 1: // PREFIX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.prefix = iprot.readString();
+                struct.setPrefixIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // EX
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex = new UserNotFoundException();
-                struct.ex.read(iprot);
-                struct.setExIsSet(true);
+            case 2: // LIMIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.limit = iprot.readI32();
+                struct.setLimitIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2946,67 +9136,63 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findUsersByNamePrefix_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ex != null) {
-          oprot.writeFieldBegin(EX_FIELD_DESC);
-          struct.ex.write(oprot);
+        if (struct.prefix != null) {
+          oprot.writeFieldBegin(PREFIX_FIELD_DESC);
+          oprot.writeString(struct.prefix);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(LIMIT_FIELD_DESC);
+        oprot.writeI32(struct.limit);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByNamePrefix_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getUser_resultTupleScheme getScheme() {
-        return new getUser_resultTupleScheme();
+      public findUsersByNamePrefix_argsTupleScheme getScheme() {
+        return new findUsersByNamePrefix_argsTupleScheme();
       }
     }
 
-    private static class getUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getUser_result> {
+    private static class findUsersByNamePrefix_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findUsersByNamePrefix_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findUsersByNamePrefix_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetPrefix()) {
           optionals.set(0);
         }
-        if (struct.isSetEx()) {
+        if (struct.isSetLimit()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+        if (struct.isSetPrefix()) {
+          oprot.writeString(struct.prefix);
         }
-        if (struct.isSetEx()) {
-          struct.ex.write(oprot);
+        if (struct.isSetLimit()) {
+          oprot.writeI32(struct.limit);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findUsersByNamePrefix_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new User();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
+          struct.prefix = iprot.readString();
+          struct.setPrefixIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ex = new UserNotFoundException();
-          struct.ex.read(iprot);
-          struct.setExIsSet(true);
+          struct.limit = iprot.readI32();
+          struct.setLimitIsSet(true);
         }
       }
     }
@@ -3017,19 +9203,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class updateUser_args implements org.apache.thrift.TBase<updateUser_args, updateUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateUser_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateUser_args");
+  public static class findUsersByNamePrefix_result implements org.apache.thrift.TBase<findUsersByNamePrefix_result, findUsersByNamePrefix_result._Fields>, java.io.Serializable, Cloneable, Comparable<findUsersByNamePrefix_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findUsersByNamePrefix_result");
 
-    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateUser_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateUser_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findUsersByNamePrefix_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findUsersByNamePrefix_resultTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable User user; // required
+    private @org.apache.thrift.annotation.Nullable java.util.List<User> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER((short)1, "user");
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3045,8 +9231,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER
-            return USER;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -3093,74 +9279,95 @@ public class UserService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateUser_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findUsersByNamePrefix_result.class, metaDataMap);
     }
 
-    public updateUser_args() {
+    public findUsersByNamePrefix_result() {
     }
 
-    public updateUser_args(
-      User user)
+    public findUsersByNamePrefix_result(
+      java.util.List<User> success)
     {
       this();
-      this.user = user;
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateUser_args(updateUser_args other) {
-      if (other.isSetUser()) {
-        this.user = new User(other.user);
+    public findUsersByNamePrefix_result(findUsersByNamePrefix_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<User> __this__success = new java.util.ArrayList<User>(other.success.size());
+        for (User other_element : other.success) {
+          __this__success.add(new User(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
     @Override
-    public updateUser_args deepCopy() {
-      return new updateUser_args(this);
+    public findUsersByNamePrefix_result deepCopy() {
+      return new findUsersByNamePrefix_result(this);
     }
 
     @Override
     public void clear() {
-      this.user = null;
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
     @org.apache.thrift.annotation.Nullable
-    public User getUser() {
-      return this.user;
+    public java.util.Iterator<User> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public updateUser_args setUser(@org.apache.thrift.annotation.Nullable User user) {
-      this.user = user;
+    public void addToSuccess(User elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<User>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<User> getSuccess() {
+      return this.success;
+    }
+
+    public findUsersByNamePrefix_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<User> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetUser() {
-      this.user = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field user is set (has been assigned a value) and false otherwise */
-    public boolean isSetUser() {
-      return this.user != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setUserIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.user = null;
+        this.success = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case USER:
+      case SUCCESS:
         if (value == null) {
-          unsetUser();
+          unsetSuccess();
         } else {
-          setUser((User)value);
+          setSuccess((java.util.List<User>)value);
         }
         break;
 
@@ -3171,8 +9378,8 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER:
-        return getUser();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -3186,31 +9393,31 @@ public class UserService {
       }
 
       switch (field) {
-      case USER:
-        return isSetUser();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof updateUser_args)
-        return this.equals((updateUser_args)that);
+      if (that instanceof findUsersByNamePrefix_result)
+        return this.equals((findUsersByNamePrefix_result)that);
       return false;
     }
 
-    public boolean equals(updateUser_args that) {
+    public boolean equals(findUsersByNamePrefix_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_user = true && this.isSetUser();
-      boolean that_present_user = true && that.isSetUser();
-      if (this_present_user || that_present_user) {
-        if (!(this_present_user && that_present_user))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.user.equals(that.user))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -3221,27 +9428,27 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetUser()) ? 131071 : 524287);
-      if (isSetUser())
-        hashCode = hashCode * 8191 + user.hashCode();
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateUser_args other) {
+    public int compareTo(findUsersByNamePrefix_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetUser(), other.isSetUser());
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUser()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3260,21 +9467,20 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
-    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateUser_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findUsersByNamePrefix_result(");
       boolean first = true;
 
-      sb.append("user:");
-      if (this.user == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.user);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -3284,9 +9490,6 @@ public class UserService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (user != null) {
-        user.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3305,17 +9508,17 @@ public class UserService {
       }
     }
 
-    private static class updateUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByNamePrefix_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public updateUser_argsStandardScheme getScheme() {
-        return new updateUser_argsStandardScheme();
+      public findUsersByNamePrefix_resultStandardScheme getScheme() {
+        return new findUsersByNamePrefix_resultStandardScheme();
       }
     }
 
-    private static class updateUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateUser_args> {
+    private static class findUsersByNamePrefix_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findUsersByNamePrefix_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findUsersByNamePrefix_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3325,11 +9528,21 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.user = new User();
-                struct.user.read(iprot);
-                struct.setUserIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<User>(_list48.size);
+                  @org.apache.thrift.annotation.Nullable User _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = new User();
+                    _elem49.read(iprot);
+                    struct.success.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3346,13 +9559,20 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findUsersByNamePrefix_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.user != null) {
-          oprot.writeFieldBegin(USER_FIELD_DESC);
-          struct.user.write(oprot);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (User _iter51 : struct.success)
+            {
+              _iter51.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3361,36 +9581,51 @@ public class UserService {
 
     }
 
-    private static class updateUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByNamePrefix_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public updateUser_argsTupleScheme getScheme() {
-        return new updateUser_argsTupleScheme();
+      public findUsersByNamePrefix_resultTupleScheme getScheme() {
+        return new findUsersByNamePrefix_resultTupleScheme();
       }
     }
 
-    private static class updateUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateUser_args> {
+    private static class findUsersByNamePrefix_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findUsersByNamePrefix_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findUsersByNamePrefix_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetUser()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetUser()) {
-          struct.user.write(oprot);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (User _iter52 : struct.success)
+            {
+              _iter52.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findUsersByNamePrefix_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.user = new User();
-          struct.user.read(iprot);
-          struct.setUserIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list53 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<User>(_list53.size);
+            @org.apache.thrift.annotation.Nullable User _elem54;
+            for (int _i55 = 0; _i55 < _list53.size; ++_i55)
+            {
+              _elem54 = new User();
+              _elem54.read(iprot);
+              struct.success.add(_elem54);
+            }
+          }
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -3401,22 +9636,28 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class updateUser_result implements org.apache.thrift.TBase<updateUser_result, updateUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateUser_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateUser_result");
+  public static class findUsersByAgeRange_args implements org.apache.thrift.TBase<findUsersByAgeRange_args, findUsersByAgeRange_args._Fields>, java.io.Serializable, Cloneable, Comparable<findUsersByAgeRange_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findUsersByAgeRange_args");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField MIN_AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("minAge", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("maxAge", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField LIMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("limit", org.apache.thrift.protocol.TType.I32, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateUser_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateUser_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findUsersByAgeRange_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findUsersByAgeRange_argsTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable User success; // required
-    private @org.apache.thrift.annotation.Nullable UserNotFoundException ex; // required
+    private int minAge; // required
+    private int maxAge; // required
+    private long cursor; // required
+    private int limit; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      EX((short)1, "ex");
+      MIN_AGE((short)1, "minAge"),
+      MAX_AGE((short)2, "maxAge"),
+      CURSOR((short)3, "cursor"),
+      LIMIT((short)4, "limit");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3432,10 +9673,14 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
-          case 1: // EX
-            return EX;
+          case 1: // MIN_AGE
+            return MIN_AGE;
+          case 2: // MAX_AGE
+            return MAX_AGE;
+          case 3: // CURSOR
+            return CURSOR;
+          case 4: // LIMIT
+            return LIMIT;
           default:
             return null;
         }
@@ -3479,118 +9724,198 @@ public class UserService {
     }
 
     // isset id assignments
+    private static final int __MINAGE_ISSET_ID = 0;
+    private static final int __MAXAGE_ISSET_ID = 1;
+    private static final int __CURSOR_ISSET_ID = 2;
+    private static final int __LIMIT_ISSET_ID = 3;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class)));
-      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserNotFoundException.class)));
+      tmpMap.put(_Fields.MIN_AGE, new org.apache.thrift.meta_data.FieldMetaData("minAge", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.MAX_AGE, new org.apache.thrift.meta_data.FieldMetaData("maxAge", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LIMIT, new org.apache.thrift.meta_data.FieldMetaData("limit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateUser_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findUsersByAgeRange_args.class, metaDataMap);
     }
 
-    public updateUser_result() {
+    public findUsersByAgeRange_args() {
     }
 
-    public updateUser_result(
-      User success,
-      UserNotFoundException ex)
+    public findUsersByAgeRange_args(
+      int minAge,
+      int maxAge,
+      long cursor,
+      int limit)
     {
       this();
-      this.success = success;
-      this.ex = ex;
+      this.minAge = minAge;
+      setMinAgeIsSet(true);
+      this.maxAge = maxAge;
+      setMaxAgeIsSet(true);
+      this.cursor = cursor;
+      setCursorIsSet(true);
+      this.limit = limit;
+      setLimitIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateUser_result(updateUser_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new User(other.success);
-      }
-      if (other.isSetEx()) {
-        this.ex = new UserNotFoundException(other.ex);
-      }
+    public findUsersByAgeRange_args(findUsersByAgeRange_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.minAge = other.minAge;
+      this.maxAge = other.maxAge;
+      this.cursor = other.cursor;
+      this.limit = other.limit;
     }
 
     @Override
-    public updateUser_result deepCopy() {
-      return new updateUser_result(this);
+    public findUsersByAgeRange_args deepCopy() {
+      return new findUsersByAgeRange_args(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-      this.ex = null;
+      setMinAgeIsSet(false);
+      this.minAge = 0;
+      setMaxAgeIsSet(false);
+      this.maxAge = 0;
+      setCursorIsSet(false);
+      this.cursor = 0;
+      setLimitIsSet(false);
+      this.limit = 0;
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public User getSuccess() {
-      return this.success;
+    public int getMinAge() {
+      return this.minAge;
     }
 
-    public updateUser_result setSuccess(@org.apache.thrift.annotation.Nullable User success) {
-      this.success = success;
+    public findUsersByAgeRange_args setMinAge(int minAge) {
+      this.minAge = minAge;
+      setMinAgeIsSet(true);
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetMinAge() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __MINAGE_ISSET_ID);
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field minAge is set (has been assigned a value) and false otherwise */
+    public boolean isSetMinAge() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __MINAGE_ISSET_ID);
     }
 
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+    public void setMinAgeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __MINAGE_ISSET_ID, value);
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public UserNotFoundException getEx() {
-      return this.ex;
+    public int getMaxAge() {
+      return this.maxAge;
     }
 
-    public updateUser_result setEx(@org.apache.thrift.annotation.Nullable UserNotFoundException ex) {
-      this.ex = ex;
+    public findUsersByAgeRange_args setMaxAge(int maxAge) {
+      this.maxAge = maxAge;
+      setMaxAgeIsSet(true);
       return this;
     }
 
-    public void unsetEx() {
-      this.ex = null;
+    public void unsetMaxAge() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __MAXAGE_ISSET_ID);
     }
 
-    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
-    public boolean isSetEx() {
-      return this.ex != null;
+    /** Returns true if field maxAge is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxAge() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __MAXAGE_ISSET_ID);
     }
 
-    public void setExIsSet(boolean value) {
-      if (!value) {
-        this.ex = null;
-      }
+    public void setMaxAgeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __MAXAGE_ISSET_ID, value);
+    }
+
+    public long getCursor() {
+      return this.cursor;
+    }
+
+    public findUsersByAgeRange_args setCursor(long cursor) {
+      this.cursor = cursor;
+      setCursorIsSet(true);
+      return this;
+    }
+
+    public void unsetCursor() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __CURSOR_ISSET_ID);
+    }
+
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursor() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __CURSOR_ISSET_ID);
+    }
+
+    public void setCursorIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __CURSOR_ISSET_ID, value);
+    }
+
+    public int getLimit() {
+      return this.limit;
+    }
+
+    public findUsersByAgeRange_args setLimit(int limit) {
+      this.limit = limit;
+      setLimitIsSet(true);
+      return this;
+    }
+
+    public void unsetLimit() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LIMIT_ISSET_ID);
+    }
+
+    /** Returns true if field limit is set (has been assigned a value) and false otherwise */
+    public boolean isSetLimit() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LIMIT_ISSET_ID);
+    }
+
+    public void setLimitIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LIMIT_ISSET_ID, value);
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case MIN_AGE:
         if (value == null) {
-          unsetSuccess();
+          unsetMinAge();
         } else {
-          setSuccess((User)value);
+          setMinAge((java.lang.Integer)value);
         }
         break;
 
-      case EX:
+      case MAX_AGE:
         if (value == null) {
-          unsetEx();
+          unsetMaxAge();
         } else {
-          setEx((UserNotFoundException)value);
+          setMaxAge((java.lang.Integer)value);
+        }
+        break;
+
+      case CURSOR:
+        if (value == null) {
+          unsetCursor();
+        } else {
+          setCursor((java.lang.Long)value);
+        }
+        break;
+
+      case LIMIT:
+        if (value == null) {
+          unsetLimit();
+        } else {
+          setLimit((java.lang.Integer)value);
         }
         break;
 
@@ -3601,11 +9926,17 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case MIN_AGE:
+        return getMinAge();
 
-      case EX:
-        return getEx();
+      case MAX_AGE:
+        return getMaxAge();
+
+      case CURSOR:
+        return getCursor();
+
+      case LIMIT:
+        return getLimit();
 
       }
       throw new java.lang.IllegalStateException();
@@ -3619,42 +9950,64 @@ public class UserService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
-      case EX:
-        return isSetEx();
+      case MIN_AGE:
+        return isSetMinAge();
+      case MAX_AGE:
+        return isSetMaxAge();
+      case CURSOR:
+        return isSetCursor();
+      case LIMIT:
+        return isSetLimit();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof updateUser_result)
-        return this.equals((updateUser_result)that);
+      if (that instanceof findUsersByAgeRange_args)
+        return this.equals((findUsersByAgeRange_args)that);
       return false;
     }
 
-    public boolean equals(updateUser_result that) {
+    public boolean equals(findUsersByAgeRange_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_minAge = true;
+      boolean that_present_minAge = true;
+      if (this_present_minAge || that_present_minAge) {
+        if (!(this_present_minAge && that_present_minAge))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.minAge != that.minAge)
           return false;
       }
 
-      boolean this_present_ex = true && this.isSetEx();
-      boolean that_present_ex = true && that.isSetEx();
-      if (this_present_ex || that_present_ex) {
-        if (!(this_present_ex && that_present_ex))
+      boolean this_present_maxAge = true;
+      boolean that_present_maxAge = true;
+      if (this_present_maxAge || that_present_maxAge) {
+        if (!(this_present_maxAge && that_present_maxAge))
           return false;
-        if (!this.ex.equals(that.ex))
+        if (this.maxAge != that.maxAge)
+          return false;
+      }
+
+      boolean this_present_cursor = true;
+      boolean that_present_cursor = true;
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
+          return false;
+        if (this.cursor != that.cursor)
+          return false;
+      }
+
+      boolean this_present_limit = true;
+      boolean that_present_limit = true;
+      if (this_present_limit || that_present_limit) {
+        if (!(this_present_limit && that_present_limit))
+          return false;
+        if (this.limit != that.limit)
           return false;
       }
 
@@ -3665,41 +10018,61 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + minAge;
 
-      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
-      if (isSetEx())
-        hashCode = hashCode * 8191 + ex.hashCode();
+      hashCode = hashCode * 8191 + maxAge;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(cursor);
+
+      hashCode = hashCode * 8191 + limit;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateUser_result other) {
+    public int compareTo(findUsersByAgeRange_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      lastComparison = java.lang.Boolean.compare(isSetMinAge(), other.isSetMinAge());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetMinAge()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.minAge, other.minAge);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.compare(isSetEx(), other.isSetEx());
+      lastComparison = java.lang.Boolean.compare(isSetMaxAge(), other.isSetMaxAge());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEx()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+      if (isSetMaxAge()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxAge, other.maxAge);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetCursor(), other.isSetCursor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetLimit(), other.isSetLimit());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLimit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.limit, other.limit);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3718,29 +10091,30 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
+    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateUser_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findUsersByAgeRange_args(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append("minAge:");
+      sb.append(this.minAge);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ex:");
-      if (this.ex == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ex);
-      }
+      sb.append("maxAge:");
+      sb.append(this.maxAge);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cursor:");
+      sb.append(this.cursor);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("limit:");
+      sb.append(this.limit);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -3749,9 +10123,6 @@ public class UserService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3764,23 +10135,25 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class updateUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByAgeRange_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public updateUser_resultStandardScheme getScheme() {
-        return new updateUser_resultStandardScheme();
+      public findUsersByAgeRange_argsStandardScheme getScheme() {
+        return new findUsersByAgeRange_argsStandardScheme();
       }
     }
 
-    private static class updateUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateUser_result> {
+    private static class findUsersByAgeRange_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findUsersByAgeRange_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findUsersByAgeRange_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3790,20 +10163,34 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new User();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
+            case 1: // MIN_AGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.minAge = iprot.readI32();
+                struct.setMinAgeIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // EX
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex = new UserNotFoundException();
-                struct.ex.read(iprot);
-                struct.setExIsSet(true);
+            case 2: // MAX_AGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxAge = iprot.readI32();
+                struct.setMaxAgeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.cursor = iprot.readI64();
+                struct.setCursorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LIMIT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.limit = iprot.readI32();
+                struct.setLimitIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3820,67 +10207,87 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findUsersByAgeRange_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ex != null) {
-          oprot.writeFieldBegin(EX_FIELD_DESC);
-          struct.ex.write(oprot);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(MIN_AGE_FIELD_DESC);
+        oprot.writeI32(struct.minAge);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(MAX_AGE_FIELD_DESC);
+        oprot.writeI32(struct.maxAge);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+        oprot.writeI64(struct.cursor);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LIMIT_FIELD_DESC);
+        oprot.writeI32(struct.limit);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class updateUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByAgeRange_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public updateUser_resultTupleScheme getScheme() {
-        return new updateUser_resultTupleScheme();
+      public findUsersByAgeRange_argsTupleScheme getScheme() {
+        return new findUsersByAgeRange_argsTupleScheme();
       }
     }
 
-    private static class updateUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateUser_result> {
+    private static class findUsersByAgeRange_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findUsersByAgeRange_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findUsersByAgeRange_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetMinAge()) {
           optionals.set(0);
         }
-        if (struct.isSetEx()) {
+        if (struct.isSetMaxAge()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+        if (struct.isSetCursor()) {
+          optionals.set(2);
         }
-        if (struct.isSetEx()) {
-          struct.ex.write(oprot);
+        if (struct.isSetLimit()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetMinAge()) {
+          oprot.writeI32(struct.minAge);
+        }
+        if (struct.isSetMaxAge()) {
+          oprot.writeI32(struct.maxAge);
+        }
+        if (struct.isSetCursor()) {
+          oprot.writeI64(struct.cursor);
+        }
+        if (struct.isSetLimit()) {
+          oprot.writeI32(struct.limit);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findUsersByAgeRange_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.success = new User();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
+          struct.minAge = iprot.readI32();
+          struct.setMinAgeIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ex = new UserNotFoundException();
-          struct.ex.read(iprot);
-          struct.setExIsSet(true);
+          struct.maxAge = iprot.readI32();
+          struct.setMaxAgeIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.cursor = iprot.readI64();
+          struct.setCursorIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.limit = iprot.readI32();
+          struct.setLimitIsSet(true);
         }
       }
     }
@@ -3891,19 +10298,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class deleteUser_args implements org.apache.thrift.TBase<deleteUser_args, deleteUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteUser_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteUser_args");
+  public static class findUsersByAgeRange_result implements org.apache.thrift.TBase<findUsersByAgeRange_result, findUsersByAgeRange_result._Fields>, java.io.Serializable, Cloneable, Comparable<findUsersByAgeRange_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findUsersByAgeRange_result");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteUser_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteUser_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findUsersByAgeRange_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findUsersByAgeRange_resultTupleSchemeFactory();
 
-    private long userId; // required
+    private @org.apache.thrift.annotation.Nullable java.util.List<User> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId");
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3919,8 +10326,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
-            return USER_ID;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -3964,78 +10371,98 @@ public class UserService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteUser_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findUsersByAgeRange_result.class, metaDataMap);
     }
 
-    public deleteUser_args() {
+    public findUsersByAgeRange_result() {
     }
 
-    public deleteUser_args(
-      long userId)
+    public findUsersByAgeRange_result(
+      java.util.List<User> success)
     {
       this();
-      this.userId = userId;
-      setUserIdIsSet(true);
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteUser_args(deleteUser_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.userId = other.userId;
+    public findUsersByAgeRange_result(findUsersByAgeRange_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<User> __this__success = new java.util.ArrayList<User>(other.success.size());
+        for (User other_element : other.success) {
+          __this__success.add(new User(other_element));
+        }
+        this.success = __this__success;
+      }
     }
 
     @Override
-    public deleteUser_args deepCopy() {
-      return new deleteUser_args(this);
+    public findUsersByAgeRange_result deepCopy() {
+      return new findUsersByAgeRange_result(this);
     }
 
     @Override
     public void clear() {
-      setUserIdIsSet(false);
-      this.userId = 0;
+      this.success = null;
     }
 
-    public long getUserId() {
-      return this.userId;
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public deleteUser_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<User> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(User elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<User>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<User> getSuccess() {
+      return this.success;
+    }
+
+    public findUsersByAgeRange_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<User> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetUserId() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case USER_ID:
+      case SUCCESS:
         if (value == null) {
-          unsetUserId();
+          unsetSuccess();
         } else {
-          setUserId((java.lang.Long)value);
+          setSuccess((java.util.List<User>)value);
         }
         break;
 
@@ -4046,8 +10473,8 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER_ID:
-        return getUserId();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -4061,31 +10488,31 @@ public class UserService {
       }
 
       switch (field) {
-      case USER_ID:
-        return isSetUserId();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof deleteUser_args)
-        return this.equals((deleteUser_args)that);
+      if (that instanceof findUsersByAgeRange_result)
+        return this.equals((findUsersByAgeRange_result)that);
       return false;
     }
 
-    public boolean equals(deleteUser_args that) {
+    public boolean equals(findUsersByAgeRange_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (this.userId != that.userId)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -4096,25 +10523,27 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(userId);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(deleteUser_args other) {
+    public int compareTo(findUsersByAgeRange_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetUserId(), other.isSetUserId());
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4133,18 +10562,21 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
-    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteUser_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findUsersByAgeRange_result(");
       boolean first = true;
 
-      sb.append("userId:");
-      sb.append(this.userId);
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -4165,25 +10597,23 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class deleteUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByAgeRange_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteUser_argsStandardScheme getScheme() {
-        return new deleteUser_argsStandardScheme();
+      public findUsersByAgeRange_resultStandardScheme getScheme() {
+        return new findUsersByAgeRange_resultStandardScheme();
       }
     }
 
-    private static class deleteUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteUser_args> {
+    private static class findUsersByAgeRange_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findUsersByAgeRange_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findUsersByAgeRange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4193,10 +10623,21 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<User>(_list56.size);
+                  @org.apache.thrift.annotation.Nullable User _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = new User();
+                    _elem57.read(iprot);
+                    struct.success.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4213,48 +10654,73 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findUsersByAgeRange_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (User _iter59 : struct.success)
+            {
+              _iter59.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class deleteUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class findUsersByAgeRange_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteUser_argsTupleScheme getScheme() {
-        return new deleteUser_argsTupleScheme();
+      public findUsersByAgeRange_resultTupleScheme getScheme() {
+        return new findUsersByAgeRange_resultTupleScheme();
       }
     }
 
-    private static class deleteUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteUser_args> {
+    private static class findUsersByAgeRange_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findUsersByAgeRange_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, findUsersByAgeRange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetUserId()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (User _iter60 : struct.success)
+            {
+              _iter60.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, findUsersByAgeRange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list61 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<User>(_list61.size);
+            @org.apache.thrift.annotation.Nullable User _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new User();
+              _elem62.read(iprot);
+              struct.success.add(_elem62);
+            }
+          }
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -4265,19 +10731,22 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class deleteUser_result implements org.apache.thrift.TBase<deleteUser_result, deleteUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteUser_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteUser_result");
+  public static class countByAge_args implements org.apache.thrift.TBase<countByAge_args, countByAge_args._Fields>, java.io.Serializable, Cloneable, Comparable<countByAge_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("countByAge_args");
 
-    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField MIN_AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("minAge", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("maxAge", org.apache.thrift.protocol.TType.I32, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteUser_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteUser_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new countByAge_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new countByAge_argsTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable UserNotFoundException ex; // required
+    private int minAge; // required
+    private int maxAge; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EX((short)1, "ex");
+      MIN_AGE((short)1, "minAge"),
+      MAX_AGE((short)2, "maxAge");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4293,8 +10762,10 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EX
-            return EX;
+          case 1: // MIN_AGE
+            return MIN_AGE;
+          case 2: // MAX_AGE
+            return MAX_AGE;
           default:
             return null;
         }
@@ -4338,77 +10809,118 @@ public class UserService {
     }
 
     // isset id assignments
+    private static final int __MINAGE_ISSET_ID = 0;
+    private static final int __MAXAGE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserNotFoundException.class)));
+      tmpMap.put(_Fields.MIN_AGE, new org.apache.thrift.meta_data.FieldMetaData("minAge", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.MAX_AGE, new org.apache.thrift.meta_data.FieldMetaData("maxAge", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteUser_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(countByAge_args.class, metaDataMap);
     }
 
-    public deleteUser_result() {
+    public countByAge_args() {
     }
 
-    public deleteUser_result(
-      UserNotFoundException ex)
+    public countByAge_args(
+      int minAge,
+      int maxAge)
     {
       this();
-      this.ex = ex;
+      this.minAge = minAge;
+      setMinAgeIsSet(true);
+      this.maxAge = maxAge;
+      setMaxAgeIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteUser_result(deleteUser_result other) {
-      if (other.isSetEx()) {
-        this.ex = new UserNotFoundException(other.ex);
-      }
+    public countByAge_args(countByAge_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.minAge = other.minAge;
+      this.maxAge = other.maxAge;
     }
 
     @Override
-    public deleteUser_result deepCopy() {
-      return new deleteUser_result(this);
+    public countByAge_args deepCopy() {
+      return new countByAge_args(this);
     }
 
     @Override
     public void clear() {
-      this.ex = null;
+      setMinAgeIsSet(false);
+      this.minAge = 0;
+      setMaxAgeIsSet(false);
+      this.maxAge = 0;
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public UserNotFoundException getEx() {
-      return this.ex;
+    public int getMinAge() {
+      return this.minAge;
     }
 
-    public deleteUser_result setEx(@org.apache.thrift.annotation.Nullable UserNotFoundException ex) {
-      this.ex = ex;
+    public countByAge_args setMinAge(int minAge) {
+      this.minAge = minAge;
+      setMinAgeIsSet(true);
       return this;
     }
 
-    public void unsetEx() {
-      this.ex = null;
+    public void unsetMinAge() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __MINAGE_ISSET_ID);
     }
 
-    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
-    public boolean isSetEx() {
-      return this.ex != null;
+    /** Returns true if field minAge is set (has been assigned a value) and false otherwise */
+    public boolean isSetMinAge() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __MINAGE_ISSET_ID);
     }
 
-    public void setExIsSet(boolean value) {
-      if (!value) {
-        this.ex = null;
-      }
+    public void setMinAgeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __MINAGE_ISSET_ID, value);
+    }
+
+    public int getMaxAge() {
+      return this.maxAge;
+    }
+
+    public countByAge_args setMaxAge(int maxAge) {
+      this.maxAge = maxAge;
+      setMaxAgeIsSet(true);
+      return this;
+    }
+
+    public void unsetMaxAge() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __MAXAGE_ISSET_ID);
+    }
+
+    /** Returns true if field maxAge is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxAge() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __MAXAGE_ISSET_ID);
+    }
+
+    public void setMaxAgeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __MAXAGE_ISSET_ID, value);
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EX:
+      case MIN_AGE:
         if (value == null) {
-          unsetEx();
+          unsetMinAge();
         } else {
-          setEx((UserNotFoundException)value);
+          setMinAge((java.lang.Integer)value);
+        }
+        break;
+
+      case MAX_AGE:
+        if (value == null) {
+          unsetMaxAge();
+        } else {
+          setMaxAge((java.lang.Integer)value);
         }
         break;
 
@@ -4419,8 +10931,11 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EX:
-        return getEx();
+      case MIN_AGE:
+        return getMinAge();
+
+      case MAX_AGE:
+        return getMaxAge();
 
       }
       throw new java.lang.IllegalStateException();
@@ -4434,31 +10949,42 @@ public class UserService {
       }
 
       switch (field) {
-      case EX:
-        return isSetEx();
+      case MIN_AGE:
+        return isSetMinAge();
+      case MAX_AGE:
+        return isSetMaxAge();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
-    public boolean equals(java.lang.Object that) {
-      if (that instanceof deleteUser_result)
-        return this.equals((deleteUser_result)that);
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof countByAge_args)
+        return this.equals((countByAge_args)that);
       return false;
     }
 
-    public boolean equals(deleteUser_result that) {
+    public boolean equals(countByAge_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_ex = true && this.isSetEx();
-      boolean that_present_ex = true && that.isSetEx();
-      if (this_present_ex || that_present_ex) {
-        if (!(this_present_ex && that_present_ex))
+      boolean this_present_minAge = true;
+      boolean that_present_minAge = true;
+      if (this_present_minAge || that_present_minAge) {
+        if (!(this_present_minAge && that_present_minAge))
           return false;
-        if (!this.ex.equals(that.ex))
+        if (this.minAge != that.minAge)
+          return false;
+      }
+
+      boolean this_present_maxAge = true;
+      boolean that_present_maxAge = true;
+      if (this_present_maxAge || that_present_maxAge) {
+        if (!(this_present_maxAge && that_present_maxAge))
+          return false;
+        if (this.maxAge != that.maxAge)
           return false;
       }
 
@@ -4469,27 +10995,37 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
-      if (isSetEx())
-        hashCode = hashCode * 8191 + ex.hashCode();
+      hashCode = hashCode * 8191 + minAge;
+
+      hashCode = hashCode * 8191 + maxAge;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(deleteUser_result other) {
+    public int compareTo(countByAge_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetEx(), other.isSetEx());
+      lastComparison = java.lang.Boolean.compare(isSetMinAge(), other.isSetMinAge());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEx()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+      if (isSetMinAge()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.minAge, other.minAge);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetMaxAge(), other.isSetMaxAge());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxAge()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxAge, other.maxAge);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4508,21 +11044,22 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
+    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteUser_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("countByAge_args(");
       boolean first = true;
 
-      sb.append("ex:");
-      if (this.ex == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ex);
-      }
+      sb.append("minAge:");
+      sb.append(this.minAge);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxAge:");
+      sb.append(this.maxAge);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -4543,23 +11080,25 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class deleteUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countByAge_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteUser_resultStandardScheme getScheme() {
-        return new deleteUser_resultStandardScheme();
+      public countByAge_argsStandardScheme getScheme() {
+        return new countByAge_argsStandardScheme();
       }
     }
 
-    private static class deleteUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteUser_result> {
+    private static class countByAge_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<countByAge_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, countByAge_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4569,11 +11108,18 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EX
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex = new UserNotFoundException();
-                struct.ex.read(iprot);
-                struct.setExIsSet(true);
+            case 1: // MIN_AGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.minAge = iprot.readI32();
+                struct.setMinAgeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // MAX_AGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxAge = iprot.readI32();
+                struct.setMaxAgeIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4590,51 +11136,61 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, countByAge_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.ex != null) {
-          oprot.writeFieldBegin(EX_FIELD_DESC);
-          struct.ex.write(oprot);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(MIN_AGE_FIELD_DESC);
+        oprot.writeI32(struct.minAge);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(MAX_AGE_FIELD_DESC);
+        oprot.writeI32(struct.maxAge);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class deleteUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countByAge_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteUser_resultTupleScheme getScheme() {
-        return new deleteUser_resultTupleScheme();
+      public countByAge_argsTupleScheme getScheme() {
+        return new countByAge_argsTupleScheme();
       }
     }
 
-    private static class deleteUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteUser_result> {
+    private static class countByAge_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<countByAge_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, countByAge_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEx()) {
+        if (struct.isSetMinAge()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEx()) {
-          struct.ex.write(oprot);
+        if (struct.isSetMaxAge()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetMinAge()) {
+          oprot.writeI32(struct.minAge);
+        }
+        if (struct.isSetMaxAge()) {
+          oprot.writeI32(struct.maxAge);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, countByAge_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.ex = new UserNotFoundException();
-          struct.ex.read(iprot);
-          struct.setExIsSet(true);
+          struct.minAge = iprot.readI32();
+          struct.setMinAgeIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.maxAge = iprot.readI32();
+          struct.setMaxAgeIsSet(true);
         }
       }
     }
@@ -4645,17 +11201,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class getAllUsers_args implements org.apache.thrift.TBase<getAllUsers_args, getAllUsers_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllUsers_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllUsers_args");
+  public static class countByAge_result implements org.apache.thrift.TBase<countByAge_result, countByAge_result._Fields>, java.io.Serializable, Cloneable, Comparable<countByAge_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("countByAge_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllUsers_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllUsers_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new countByAge_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new countByAge_resultTupleSchemeFactory();
 
+    private @org.apache.thrift.annotation.Nullable java.util.List<AgeCount> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4671,6 +11229,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -4712,34 +11272,103 @@ public class UserService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AgeCount.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllUsers_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(countByAge_result.class, metaDataMap);
     }
 
-    public getAllUsers_args() {
+    public countByAge_result() {
+    }
+
+    public countByAge_result(
+      java.util.List<AgeCount> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllUsers_args(getAllUsers_args other) {
+    public countByAge_result(countByAge_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<AgeCount> __this__success = new java.util.ArrayList<AgeCount>(other.success.size());
+        for (AgeCount other_element : other.success) {
+          __this__success.add(new AgeCount(other_element));
+        }
+        this.success = __this__success;
+      }
     }
 
     @Override
-    public getAllUsers_args deepCopy() {
-      return new getAllUsers_args(this);
+    public countByAge_result deepCopy() {
+      return new countByAge_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<AgeCount> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(AgeCount elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<AgeCount>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<AgeCount> getSuccess() {
+      return this.success;
+    }
+
+    public countByAge_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<AgeCount> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<AgeCount>)value);
+        }
+        break;
+
       }
     }
 
@@ -4747,6 +11376,9 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -4759,23 +11391,34 @@ public class UserService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof getAllUsers_args)
-        return this.equals((getAllUsers_args)that);
+      if (that instanceof countByAge_result)
+        return this.equals((countByAge_result)that);
       return false;
     }
 
-    public boolean equals(getAllUsers_args that) {
+    public boolean equals(countByAge_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -4783,17 +11426,31 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getAllUsers_args other) {
+    public int compareTo(countByAge_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -4808,16 +11465,22 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
-    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllUsers_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("countByAge_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -4843,17 +11506,17 @@ public class UserService {
       }
     }
 
-    private static class getAllUsers_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countByAge_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getAllUsers_argsStandardScheme getScheme() {
-        return new getAllUsers_argsStandardScheme();
+      public countByAge_resultStandardScheme getScheme() {
+        return new countByAge_resultStandardScheme();
       }
     }
 
-    private static class getAllUsers_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllUsers_args> {
+    private static class countByAge_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<countByAge_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllUsers_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, countByAge_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4863,6 +11526,25 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<AgeCount>(_list64.size);
+                  @org.apache.thrift.annotation.Nullable AgeCount _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
+                  {
+                    _elem65 = new AgeCount();
+                    _elem65.read(iprot);
+                    struct.success.add(_elem65);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -4875,33 +11557,74 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllUsers_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, countByAge_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (AgeCount _iter67 : struct.success)
+            {
+              _iter67.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getAllUsers_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countByAge_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getAllUsers_argsTupleScheme getScheme() {
-        return new getAllUsers_argsTupleScheme();
+      public countByAge_resultTupleScheme getScheme() {
+        return new countByAge_resultTupleScheme();
       }
     }
 
-    private static class getAllUsers_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllUsers_args> {
+    private static class countByAge_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<countByAge_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllUsers_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, countByAge_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (AgeCount _iter68 : struct.success)
+            {
+              _iter68.write(oprot);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllUsers_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, countByAge_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list69 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<AgeCount>(_list69.size);
+            @org.apache.thrift.annotation.Nullable AgeCount _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
+            {
+              _elem70 = new AgeCount();
+              _elem70.read(iprot);
+              struct.success.add(_elem70);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -4911,19 +11634,22 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class getAllUsers_result implements org.apache.thrift.TBase<getAllUsers_result, getAllUsers_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllUsers_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllUsers_result");
+  public static class listUsers_args implements org.apache.thrift.TBase<listUsers_args, listUsers_args._Fields>, java.io.Serializable, Cloneable, Comparable<listUsers_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listUsers_args");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField FILTER_FIELD_DESC = new org.apache.thrift.protocol.TField("filter", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField PROJECTION_FIELD_DESC = new org.apache.thrift.protocol.TField("projection", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllUsers_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllUsers_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new listUsers_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new listUsers_argsTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable java.util.List<User> success; // required
+    private @org.apache.thrift.annotation.Nullable UserFilter filter; // required
+    private @org.apache.thrift.annotation.Nullable UserProjection projection; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      FILTER((short)1, "filter"),
+      PROJECTION((short)2, "projection");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4939,8 +11665,10 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
+          case 1: // FILTER
+            return FILTER;
+          case 2: // PROJECTION
+            return PROJECTION;
           default:
             return null;
         }
@@ -4987,95 +11715,115 @@ public class UserService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, User.class))));
+      tmpMap.put(_Fields.FILTER, new org.apache.thrift.meta_data.FieldMetaData("filter", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserFilter.class)));
+      tmpMap.put(_Fields.PROJECTION, new org.apache.thrift.meta_data.FieldMetaData("projection", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserProjection.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllUsers_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listUsers_args.class, metaDataMap);
     }
 
-    public getAllUsers_result() {
+    public listUsers_args() {
     }
 
-    public getAllUsers_result(
-      java.util.List<User> success)
+    public listUsers_args(
+      UserFilter filter,
+      UserProjection projection)
     {
       this();
-      this.success = success;
+      this.filter = filter;
+      this.projection = projection;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllUsers_result(getAllUsers_result other) {
-      if (other.isSetSuccess()) {
-        java.util.List<User> __this__success = new java.util.ArrayList<User>(other.success.size());
-        for (User other_element : other.success) {
-          __this__success.add(new User(other_element));
-        }
-        this.success = __this__success;
+    public listUsers_args(listUsers_args other) {
+      if (other.isSetFilter()) {
+        this.filter = new UserFilter(other.filter);
+      }
+      if (other.isSetProjection()) {
+        this.projection = new UserProjection(other.projection);
       }
     }
 
     @Override
-    public getAllUsers_result deepCopy() {
-      return new getAllUsers_result(this);
+    public listUsers_args deepCopy() {
+      return new listUsers_args(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      this.filter = null;
+      this.projection = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
+    @org.apache.thrift.annotation.Nullable
+    public UserFilter getFilter() {
+      return this.filter;
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<User> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
+    public listUsers_args setFilter(@org.apache.thrift.annotation.Nullable UserFilter filter) {
+      this.filter = filter;
+      return this;
     }
 
-    public void addToSuccess(User elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<User>();
+    public void unsetFilter() {
+      this.filter = null;
+    }
+
+    /** Returns true if field filter is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilter() {
+      return this.filter != null;
+    }
+
+    public void setFilterIsSet(boolean value) {
+      if (!value) {
+        this.filter = null;
       }
-      this.success.add(elem);
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.util.List<User> getSuccess() {
-      return this.success;
+    public UserProjection getProjection() {
+      return this.projection;
     }
 
-    public getAllUsers_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<User> success) {
-      this.success = success;
+    public listUsers_args setProjection(@org.apache.thrift.annotation.Nullable UserProjection projection) {
+      this.projection = projection;
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetProjection() {
+      this.projection = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field projection is set (has been assigned a value) and false otherwise */
+    public boolean isSetProjection() {
+      return this.projection != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
+    public void setProjectionIsSet(boolean value) {
       if (!value) {
-        this.success = null;
+        this.projection = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case FILTER:
         if (value == null) {
-          unsetSuccess();
+          unsetFilter();
         } else {
-          setSuccess((java.util.List<User>)value);
+          setFilter((UserFilter)value);
+        }
+        break;
+
+      case PROJECTION:
+        if (value == null) {
+          unsetProjection();
+        } else {
+          setProjection((UserProjection)value);
         }
         break;
 
@@ -5086,8 +11834,11 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case FILTER:
+        return getFilter();
+
+      case PROJECTION:
+        return getProjection();
 
       }
       throw new java.lang.IllegalStateException();
@@ -5101,31 +11852,42 @@ public class UserService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
+      case FILTER:
+        return isSetFilter();
+      case PROJECTION:
+        return isSetProjection();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof getAllUsers_result)
-        return this.equals((getAllUsers_result)that);
+      if (that instanceof listUsers_args)
+        return this.equals((listUsers_args)that);
       return false;
     }
 
-    public boolean equals(getAllUsers_result that) {
+    public boolean equals(listUsers_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_filter = true && this.isSetFilter();
+      boolean that_present_filter = true && that.isSetFilter();
+      if (this_present_filter || that_present_filter) {
+        if (!(this_present_filter && that_present_filter))
           return false;
-        if (!this.success.equals(that.success))
+        if (!this.filter.equals(that.filter))
+          return false;
+      }
+
+      boolean this_present_projection = true && this.isSetProjection();
+      boolean that_present_projection = true && that.isSetProjection();
+      if (this_present_projection || that_present_projection) {
+        if (!(this_present_projection && that_present_projection))
+          return false;
+        if (!this.projection.equals(that.projection))
           return false;
       }
 
@@ -5136,27 +11898,41 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + ((isSetFilter()) ? 131071 : 524287);
+      if (isSetFilter())
+        hashCode = hashCode * 8191 + filter.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetProjection()) ? 131071 : 524287);
+      if (isSetProjection())
+        hashCode = hashCode * 8191 + projection.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getAllUsers_result other) {
+    public int compareTo(listUsers_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      lastComparison = java.lang.Boolean.compare(isSetFilter(), other.isSetFilter());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetFilter()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filter, other.filter);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetProjection(), other.isSetProjection());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetProjection()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.projection, other.projection);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5175,20 +11951,29 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
+    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllUsers_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("listUsers_args(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
+      sb.append("filter:");
+      if (this.filter == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.filter);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("projection:");
+      if (this.projection == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.projection);
       }
       first = false;
       sb.append(")");
@@ -5198,6 +11983,12 @@ public class UserService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (filter != null) {
+        filter.validate();
+      }
+      if (projection != null) {
+        projection.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -5216,17 +12007,17 @@ public class UserService {
       }
     }
 
-    private static class getAllUsers_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class listUsers_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getAllUsers_resultStandardScheme getScheme() {
-        return new getAllUsers_resultStandardScheme();
+      public listUsers_argsStandardScheme getScheme() {
+        return new listUsers_argsStandardScheme();
       }
     }
 
-    private static class getAllUsers_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllUsers_result> {
+    private static class listUsers_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<listUsers_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllUsers_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listUsers_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5236,21 +12027,20 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<User>(_list0.size);
-                  @org.apache.thrift.annotation.Nullable User _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
-                  {
-                    _elem1 = new User();
-                    _elem1.read(iprot);
-                    struct.success.add(_elem1);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setSuccessIsSet(true);
+            case 1: // FILTER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.filter = new UserFilter();
+                struct.filter.read(iprot);
+                struct.setFilterIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PROJECTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.projection = new UserProjection();
+                struct.projection.read(iprot);
+                struct.setProjectionIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5267,20 +12057,18 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllUsers_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listUsers_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (User _iter3 : struct.success)
-            {
-              _iter3.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+        if (struct.filter != null) {
+          oprot.writeFieldBegin(FILTER_FIELD_DESC);
+          struct.filter.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.projection != null) {
+          oprot.writeFieldBegin(PROJECTION_FIELD_DESC);
+          struct.projection.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -5289,51 +12077,47 @@ public class UserService {
 
     }
 
-    private static class getAllUsers_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class listUsers_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public getAllUsers_resultTupleScheme getScheme() {
-        return new getAllUsers_resultTupleScheme();
+      public listUsers_argsTupleScheme getScheme() {
+        return new listUsers_argsTupleScheme();
       }
     }
 
-    private static class getAllUsers_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllUsers_result> {
+    private static class listUsers_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<listUsers_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllUsers_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listUsers_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetFilter()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (User _iter4 : struct.success)
-            {
-              _iter4.write(oprot);
-            }
-          }
+        if (struct.isSetProjection()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFilter()) {
+          struct.filter.write(oprot);
+        }
+        if (struct.isSetProjection()) {
+          struct.projection.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllUsers_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listUsers_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list5 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
-            struct.success = new java.util.ArrayList<User>(_list5.size);
-            @org.apache.thrift.annotation.Nullable User _elem6;
-            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
-            {
-              _elem6 = new User();
-              _elem6.read(iprot);
-              struct.success.add(_elem6);
-            }
-          }
-          struct.setSuccessIsSet(true);
+          struct.filter = new UserFilter();
+          struct.filter.read(iprot);
+          struct.setFilterIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.projection = new UserProjection();
+          struct.projection.read(iprot);
+          struct.setProjectionIsSet(true);
         }
       }
     }
@@ -5344,25 +12128,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class validateUserData_args implements org.apache.thrift.TBase<validateUserData_args, validateUserData_args._Fields>, java.io.Serializable, Cloneable, Comparable<validateUserData_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("validateUserData_args");
+  public static class listUsers_result implements org.apache.thrift.TBase<listUsers_result, listUsers_result._Fields>, java.io.Serializable, Cloneable, Comparable<listUsers_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listUsers_result");
 
-    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField AGE_FIELD_DESC = new org.apache.thrift.protocol.TField("age", org.apache.thrift.protocol.TType.I32, (short)2);
-    private static final org.apache.thrift.protocol.TField IS_ACTIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("isActive", org.apache.thrift.protocol.TType.BOOL, (short)3);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new validateUserData_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new validateUserData_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new listUsers_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new listUsers_resultTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable java.lang.String name; // required
-    private int age; // required
-    private boolean isActive; // required
+    private @org.apache.thrift.annotation.Nullable java.util.List<UserView> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NAME((short)1, "name"),
-      AGE((short)2, "age"),
-      IS_ACTIVE((short)3, "isActive");
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -5378,12 +12156,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // NAME
-            return NAME;
-          case 2: // AGE
-            return AGE;
-          case 3: // IS_ACTIVE
-            return IS_ACTIVE;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -5418,168 +12192,107 @@ public class UserService {
       @Override
       public short getThriftFieldId() {
         return _thriftId;
-      }
-
-      @Override
-      public java.lang.String getFieldName() {
-        return _fieldName;
-      }
-    }
-
-    // isset id assignments
-    private static final int __AGE_ISSET_ID = 0;
-    private static final int __ISACTIVE_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
-    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.REQUIRED, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.AGE, new org.apache.thrift.meta_data.FieldMetaData("age", org.apache.thrift.TFieldRequirementType.REQUIRED, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.IS_ACTIVE, new org.apache.thrift.meta_data.FieldMetaData("isActive", org.apache.thrift.TFieldRequirementType.REQUIRED, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(validateUserData_args.class, metaDataMap);
-    }
-
-    public validateUserData_args() {
-    }
-
-    public validateUserData_args(
-      java.lang.String name,
-      int age,
-      boolean isActive)
-    {
-      this();
-      this.name = name;
-      this.age = age;
-      setAgeIsSet(true);
-      this.isActive = isActive;
-      setIsActiveIsSet(true);
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public validateUserData_args(validateUserData_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetName()) {
-        this.name = other.name;
-      }
-      this.age = other.age;
-      this.isActive = other.isActive;
-    }
-
-    @Override
-    public validateUserData_args deepCopy() {
-      return new validateUserData_args(this);
-    }
-
-    @Override
-    public void clear() {
-      this.name = null;
-      setAgeIsSet(false);
-      this.age = 0;
-      setIsActiveIsSet(false);
-      this.isActive = false;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getName() {
-      return this.name;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
     }
 
-    public validateUserData_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
-      this.name = name;
-      return this;
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UserView.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listUsers_result.class, metaDataMap);
     }
 
-    public void unsetName() {
-      this.name = null;
+    public listUsers_result() {
     }
 
-    /** Returns true if field name is set (has been assigned a value) and false otherwise */
-    public boolean isSetName() {
-      return this.name != null;
+    public listUsers_result(
+      java.util.List<UserView> success)
+    {
+      this();
+      this.success = success;
     }
 
-    public void setNameIsSet(boolean value) {
-      if (!value) {
-        this.name = null;
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listUsers_result(listUsers_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<UserView> __this__success = new java.util.ArrayList<UserView>(other.success.size());
+        for (UserView other_element : other.success) {
+          __this__success.add(new UserView(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public int getAge() {
-      return this.age;
+    @Override
+    public listUsers_result deepCopy() {
+      return new listUsers_result(this);
     }
 
-    public validateUserData_args setAge(int age) {
-      this.age = age;
-      setAgeIsSet(true);
-      return this;
+    @Override
+    public void clear() {
+      this.success = null;
     }
 
-    public void unsetAge() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __AGE_ISSET_ID);
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    /** Returns true if field age is set (has been assigned a value) and false otherwise */
-    public boolean isSetAge() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __AGE_ISSET_ID);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<UserView> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void setAgeIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __AGE_ISSET_ID, value);
+    public void addToSuccess(UserView elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<UserView>();
+      }
+      this.success.add(elem);
     }
 
-    public boolean isIsActive() {
-      return this.isActive;
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<UserView> getSuccess() {
+      return this.success;
     }
 
-    public validateUserData_args setIsActive(boolean isActive) {
-      this.isActive = isActive;
-      setIsActiveIsSet(true);
+    public listUsers_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<UserView> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetIsActive() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ISACTIVE_ISSET_ID);
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field isActive is set (has been assigned a value) and false otherwise */
-    public boolean isSetIsActive() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ISACTIVE_ISSET_ID);
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setIsActiveIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ISACTIVE_ISSET_ID, value);
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case NAME:
-        if (value == null) {
-          unsetName();
-        } else {
-          setName((java.lang.String)value);
-        }
-        break;
-
-      case AGE:
-        if (value == null) {
-          unsetAge();
-        } else {
-          setAge((java.lang.Integer)value);
-        }
-        break;
-
-      case IS_ACTIVE:
+      case SUCCESS:
         if (value == null) {
-          unsetIsActive();
+          unsetSuccess();
         } else {
-          setIsActive((java.lang.Boolean)value);
+          setSuccess((java.util.List<UserView>)value);
         }
         break;
 
@@ -5590,14 +12303,8 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case NAME:
-        return getName();
-
-      case AGE:
-        return getAge();
-
-      case IS_ACTIVE:
-        return isIsActive();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -5611,53 +12318,31 @@ public class UserService {
       }
 
       switch (field) {
-      case NAME:
-        return isSetName();
-      case AGE:
-        return isSetAge();
-      case IS_ACTIVE:
-        return isSetIsActive();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof validateUserData_args)
-        return this.equals((validateUserData_args)that);
+      if (that instanceof listUsers_result)
+        return this.equals((listUsers_result)that);
       return false;
     }
 
-    public boolean equals(validateUserData_args that) {
+    public boolean equals(listUsers_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_name = true && this.isSetName();
-      boolean that_present_name = true && that.isSetName();
-      if (this_present_name || that_present_name) {
-        if (!(this_present_name && that_present_name))
-          return false;
-        if (!this.name.equals(that.name))
-          return false;
-      }
-
-      boolean this_present_age = true;
-      boolean that_present_age = true;
-      if (this_present_age || that_present_age) {
-        if (!(this_present_age && that_present_age))
-          return false;
-        if (this.age != that.age)
-          return false;
-      }
-
-      boolean this_present_isActive = true;
-      boolean that_present_isActive = true;
-      if (this_present_isActive || that_present_isActive) {
-        if (!(this_present_isActive && that_present_isActive))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (this.isActive != that.isActive)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -5668,51 +12353,27 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
-      if (isSetName())
-        hashCode = hashCode * 8191 + name.hashCode();
-
-      hashCode = hashCode * 8191 + age;
-
-      hashCode = hashCode * 8191 + ((isActive) ? 131071 : 524287);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(validateUserData_args other) {
+    public int compareTo(listUsers_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetName(), other.isSetName());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.compare(isSetAge(), other.isSetAge());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetAge()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.age, other.age);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.compare(isSetIsActive(), other.isSetIsActive());
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIsActive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.isActive, other.isActive);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5731,42 +12392,28 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
-    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("validateUserData_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("listUsers_result(");
       boolean first = true;
 
-      sb.append("name:");
-      if (this.name == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.name);
+        sb.append(this.success);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("age:");
-      sb.append(this.age);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("isActive:");
-      sb.append(this.isActive);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
 
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
-      if (name == null) {
-        throw new org.apache.thrift.protocol.TProtocolException("Required field 'name' was not present! Struct: " + toString());
-      }
-      // alas, we cannot check 'age' because it's a primitive and you chose the non-beans generator.
-      // alas, we cannot check 'isActive' because it's a primitive and you chose the non-beans generator.
       // check for sub-struct validity
     }
 
@@ -5780,25 +12427,23 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class validateUserData_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class listUsers_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public validateUserData_argsStandardScheme getScheme() {
-        return new validateUserData_argsStandardScheme();
+      public listUsers_resultStandardScheme getScheme() {
+        return new listUsers_resultStandardScheme();
       }
     }
 
-    private static class validateUserData_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<validateUserData_args> {
+    private static class listUsers_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<listUsers_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, validateUserData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listUsers_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5808,26 +12453,21 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.name = iprot.readString();
-                struct.setNameIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // AGE
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.age = iprot.readI32();
-                struct.setAgeIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // IS_ACTIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.isActive = iprot.readBool();
-                struct.setIsActiveIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<UserView>(_list72.size);
+                  @org.apache.thrift.annotation.Nullable UserView _elem73;
+                  for (int _i74 = 0; _i74 < _list72.size; ++_i74)
+                  {
+                    _elem73 = new UserView();
+                    _elem73.read(iprot);
+                    struct.success.add(_elem73);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5840,63 +12480,78 @@ public class UserService {
         iprot.readStructEnd();
 
         // check for required fields of primitive type, which can't be checked in the validate method
-        if (!struct.isSetAge()) {
-          throw new org.apache.thrift.protocol.TProtocolException("Required field 'age' was not found in serialized data! Struct: " + toString());
-        }
-        if (!struct.isSetIsActive()) {
-          throw new org.apache.thrift.protocol.TProtocolException("Required field 'isActive' was not found in serialized data! Struct: " + toString());
-        }
         struct.validate();
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, validateUserData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listUsers_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.name != null) {
-          oprot.writeFieldBegin(NAME_FIELD_DESC);
-          oprot.writeString(struct.name);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (UserView _iter75 : struct.success)
+            {
+              _iter75.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(AGE_FIELD_DESC);
-        oprot.writeI32(struct.age);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(IS_ACTIVE_FIELD_DESC);
-        oprot.writeBool(struct.isActive);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class validateUserData_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class listUsers_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public validateUserData_argsTupleScheme getScheme() {
-        return new validateUserData_argsTupleScheme();
+      public listUsers_resultTupleScheme getScheme() {
+        return new listUsers_resultTupleScheme();
       }
     }
 
-    private static class validateUserData_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<validateUserData_args> {
+    private static class listUsers_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<listUsers_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, validateUserData_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listUsers_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        oprot.writeString(struct.name);
-        oprot.writeI32(struct.age);
-        oprot.writeBool(struct.isActive);
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (UserView _iter76 : struct.success)
+            {
+              _iter76.write(oprot);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, validateUserData_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listUsers_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        struct.name = iprot.readString();
-        struct.setNameIsSet(true);
-        struct.age = iprot.readI32();
-        struct.setAgeIsSet(true);
-        struct.isActive = iprot.readBool();
-        struct.setIsActiveIsSet(true);
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list77 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<UserView>(_list77.size);
+            @org.apache.thrift.annotation.Nullable UserView _elem78;
+            for (int _i79 = 0; _i79 < _list77.size; ++_i79)
+            {
+              _elem78 = new UserView();
+              _elem78.read(iprot);
+              struct.success.add(_elem78);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -5906,19 +12561,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class validateUserData_result implements org.apache.thrift.TBase<validateUserData_result, validateUserData_result._Fields>, java.io.Serializable, Cloneable, Comparable<validateUserData_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("validateUserData_result");
+  public static class pollInvalidations_args implements org.apache.thrift.TBase<pollInvalidations_args, pollInvalidations_args._Fields>, java.io.Serializable, Cloneable, Comparable<pollInvalidations_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("pollInvalidations_args");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SINCE_SEQUENCE_FIELD_DESC = new org.apache.thrift.protocol.TField("sinceSequence", org.apache.thrift.protocol.TType.I64, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new validateUserData_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new validateUserData_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new pollInvalidations_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new pollInvalidations_argsTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable java.lang.String success; // required
+    private long sinceSequence; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SINCE_SEQUENCE((short)1, "sinceSequence");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -5934,8 +12589,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
+          case 1: // SINCE_SEQUENCE
+            return SINCE_SEQUENCE;
           default:
             return null;
         }
@@ -5979,77 +12634,78 @@ public class UserService {
     }
 
     // isset id assignments
+    private static final int __SINCESEQUENCE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SINCE_SEQUENCE, new org.apache.thrift.meta_data.FieldMetaData("sinceSequence", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(validateUserData_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(pollInvalidations_args.class, metaDataMap);
     }
 
-    public validateUserData_result() {
+    public pollInvalidations_args() {
     }
 
-    public validateUserData_result(
-      java.lang.String success)
+    public pollInvalidations_args(
+      long sinceSequence)
     {
       this();
-      this.success = success;
+      this.sinceSequence = sinceSequence;
+      setSinceSequenceIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public validateUserData_result(validateUserData_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public pollInvalidations_args(pollInvalidations_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.sinceSequence = other.sinceSequence;
     }
 
     @Override
-    public validateUserData_result deepCopy() {
-      return new validateUserData_result(this);
+    public pollInvalidations_args deepCopy() {
+      return new pollInvalidations_args(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSinceSequenceIsSet(false);
+      this.sinceSequence = 0;
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getSuccess() {
-      return this.success;
+    public long getSinceSequence() {
+      return this.sinceSequence;
     }
 
-    public validateUserData_result setSuccess(@org.apache.thrift.annotation.Nullable java.lang.String success) {
-      this.success = success;
+    public pollInvalidations_args setSinceSequence(long sinceSequence) {
+      this.sinceSequence = sinceSequence;
+      setSinceSequenceIsSet(true);
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetSinceSequence() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SINCESEQUENCE_ISSET_ID);
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field sinceSequence is set (has been assigned a value) and false otherwise */
+    public boolean isSetSinceSequence() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SINCESEQUENCE_ISSET_ID);
     }
 
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+    public void setSinceSequenceIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SINCESEQUENCE_ISSET_ID, value);
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case SINCE_SEQUENCE:
         if (value == null) {
-          unsetSuccess();
+          unsetSinceSequence();
         } else {
-          setSuccess((java.lang.String)value);
+          setSinceSequence((java.lang.Long)value);
         }
         break;
 
@@ -6060,8 +12716,8 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case SINCE_SEQUENCE:
+        return getSinceSequence();
 
       }
       throw new java.lang.IllegalStateException();
@@ -6075,31 +12731,31 @@ public class UserService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
+      case SINCE_SEQUENCE:
+        return isSetSinceSequence();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof validateUserData_result)
-        return this.equals((validateUserData_result)that);
+      if (that instanceof pollInvalidations_args)
+        return this.equals((pollInvalidations_args)that);
       return false;
     }
 
-    public boolean equals(validateUserData_result that) {
+    public boolean equals(pollInvalidations_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_sinceSequence = true;
+      boolean that_present_sinceSequence = true;
+      if (this_present_sinceSequence || that_present_sinceSequence) {
+        if (!(this_present_sinceSequence && that_present_sinceSequence))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.sinceSequence != that.sinceSequence)
           return false;
       }
 
@@ -6110,27 +12766,25 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(sinceSequence);
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(validateUserData_result other) {
+    public int compareTo(pollInvalidations_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      lastComparison = java.lang.Boolean.compare(isSetSinceSequence(), other.isSetSinceSequence());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetSinceSequence()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sinceSequence, other.sinceSequence);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6149,21 +12803,18 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
+    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("validateUserData_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("pollInvalidations_args(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append("sinceSequence:");
+      sb.append(this.sinceSequence);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -6184,23 +12835,25 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class validateUserData_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class pollInvalidations_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public validateUserData_resultStandardScheme getScheme() {
-        return new validateUserData_resultStandardScheme();
+      public pollInvalidations_argsStandardScheme getScheme() {
+        return new pollInvalidations_argsStandardScheme();
       }
     }
 
-    private static class validateUserData_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<validateUserData_result> {
+    private static class pollInvalidations_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<pollInvalidations_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, validateUserData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, pollInvalidations_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6210,10 +12863,10 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
-                struct.setSuccessIsSet(true);
+            case 1: // SINCE_SEQUENCE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.sinceSequence = iprot.readI64();
+                struct.setSinceSequenceIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6230,50 +12883,48 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, validateUserData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, pollInvalidations_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(SINCE_SEQUENCE_FIELD_DESC);
+        oprot.writeI64(struct.sinceSequence);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class validateUserData_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class pollInvalidations_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public validateUserData_resultTupleScheme getScheme() {
-        return new validateUserData_resultTupleScheme();
+      public pollInvalidations_argsTupleScheme getScheme() {
+        return new pollInvalidations_argsTupleScheme();
       }
     }
 
-    private static class validateUserData_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<validateUserData_result> {
+    private static class pollInvalidations_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<pollInvalidations_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, validateUserData_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, pollInvalidations_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetSinceSequence()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+        if (struct.isSetSinceSequence()) {
+          oprot.writeI64(struct.sinceSequence);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, validateUserData_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, pollInvalidations_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
-          struct.setSuccessIsSet(true);
+          struct.sinceSequence = iprot.readI64();
+          struct.setSinceSequenceIsSet(true);
         }
       }
     }
@@ -6284,25 +12935,19 @@ public class UserService {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class logUserActivity_args implements org.apache.thrift.TBase<logUserActivity_args, logUserActivity_args._Fields>, java.io.Serializable, Cloneable, Comparable<logUserActivity_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("logUserActivity_args");
+  public static class pollInvalidations_result implements org.apache.thrift.TBase<pollInvalidations_result, pollInvalidations_result._Fields>, java.io.Serializable, Cloneable, Comparable<pollInvalidations_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("pollInvalidations_result");
 
-    private static final org.apache.thrift.protocol.TField ACTION_FIELD_DESC = new org.apache.thrift.protocol.TField("action", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new logUserActivity_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new logUserActivity_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new pollInvalidations_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new pollInvalidations_resultTupleSchemeFactory();
 
-    private @org.apache.thrift.annotation.Nullable java.lang.String action; // required
-    private long userId; // required
-    private @org.apache.thrift.annotation.Nullable java.lang.String timestamp; // required
+    private @org.apache.thrift.annotation.Nullable InvalidationBatch success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ACTION((short)1, "action"),
-      USER_ID((short)2, "userId"),
-      TIMESTAMP((short)3, "timestamp");
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -6318,12 +12963,8 @@ public class UserService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // ACTION
-            return ACTION;
-          case 2: // USER_ID
-            return USER_ID;
-          case 3: // TIMESTAMP
-            return TIMESTAMP;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -6367,160 +13008,77 @@ public class UserService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.ACTION, new org.apache.thrift.meta_data.FieldMetaData("action", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InvalidationBatch.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(logUserActivity_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(pollInvalidations_result.class, metaDataMap);
     }
 
-    public logUserActivity_args() {
+    public pollInvalidations_result() {
     }
 
-    public logUserActivity_args(
-      java.lang.String action,
-      long userId,
-      java.lang.String timestamp)
+    public pollInvalidations_result(
+      InvalidationBatch success)
     {
       this();
-      this.action = action;
-      this.userId = userId;
-      setUserIdIsSet(true);
-      this.timestamp = timestamp;
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public logUserActivity_args(logUserActivity_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetAction()) {
-        this.action = other.action;
-      }
-      this.userId = other.userId;
-      if (other.isSetTimestamp()) {
-        this.timestamp = other.timestamp;
-      }
-    }
-
-    @Override
-    public logUserActivity_args deepCopy() {
-      return new logUserActivity_args(this);
-    }
-
-    @Override
-    public void clear() {
-      this.action = null;
-      setUserIdIsSet(false);
-      this.userId = 0;
-      this.timestamp = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getAction() {
-      return this.action;
-    }
-
-    public logUserActivity_args setAction(@org.apache.thrift.annotation.Nullable java.lang.String action) {
-      this.action = action;
-      return this;
-    }
-
-    public void unsetAction() {
-      this.action = null;
-    }
-
-    /** Returns true if field action is set (has been assigned a value) and false otherwise */
-    public boolean isSetAction() {
-      return this.action != null;
-    }
-
-    public void setActionIsSet(boolean value) {
-      if (!value) {
-        this.action = null;
-      }
-    }
-
-    public long getUserId() {
-      return this.userId;
-    }
-
-    public logUserActivity_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
-      return this;
+      this.success = success;
     }
 
-    public void unsetUserId() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public pollInvalidations_result(pollInvalidations_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new InvalidationBatch(other.success);
+      }
     }
 
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    @Override
+    public pollInvalidations_result deepCopy() {
+      return new pollInvalidations_result(this);
     }
 
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    @Override
+    public void clear() {
+      this.success = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getTimestamp() {
-      return this.timestamp;
+    public InvalidationBatch getSuccess() {
+      return this.success;
     }
 
-    public logUserActivity_args setTimestamp(@org.apache.thrift.annotation.Nullable java.lang.String timestamp) {
-      this.timestamp = timestamp;
+    public pollInvalidations_result setSuccess(@org.apache.thrift.annotation.Nullable InvalidationBatch success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetTimestamp() {
-      this.timestamp = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
-    public boolean isSetTimestamp() {
-      return this.timestamp != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setTimestampIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.timestamp = null;
+        this.success = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case ACTION:
-        if (value == null) {
-          unsetAction();
-        } else {
-          setAction((java.lang.String)value);
-        }
-        break;
-
-      case USER_ID:
-        if (value == null) {
-          unsetUserId();
-        } else {
-          setUserId((java.lang.Long)value);
-        }
-        break;
-
-      case TIMESTAMP:
+      case SUCCESS:
         if (value == null) {
-          unsetTimestamp();
+          unsetSuccess();
         } else {
-          setTimestamp((java.lang.String)value);
+          setSuccess((InvalidationBatch)value);
         }
         break;
 
@@ -6531,14 +13089,8 @@ public class UserService {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case ACTION:
-        return getAction();
-
-      case USER_ID:
-        return getUserId();
-
-      case TIMESTAMP:
-        return getTimestamp();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -6552,53 +13104,31 @@ public class UserService {
       }
 
       switch (field) {
-      case ACTION:
-        return isSetAction();
-      case USER_ID:
-        return isSetUserId();
-      case TIMESTAMP:
-        return isSetTimestamp();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof logUserActivity_args)
-        return this.equals((logUserActivity_args)that);
+      if (that instanceof pollInvalidations_result)
+        return this.equals((pollInvalidations_result)that);
       return false;
     }
 
-    public boolean equals(logUserActivity_args that) {
+    public boolean equals(pollInvalidations_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_action = true && this.isSetAction();
-      boolean that_present_action = true && that.isSetAction();
-      if (this_present_action || that_present_action) {
-        if (!(this_present_action && that_present_action))
-          return false;
-        if (!this.action.equals(that.action))
-          return false;
-      }
-
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
-          return false;
-        if (this.userId != that.userId)
-          return false;
-      }
-
-      boolean this_present_timestamp = true && this.isSetTimestamp();
-      boolean that_present_timestamp = true && that.isSetTimestamp();
-      if (this_present_timestamp || that_present_timestamp) {
-        if (!(this_present_timestamp && that_present_timestamp))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.timestamp.equals(that.timestamp))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -6609,53 +13139,27 @@ public class UserService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetAction()) ? 131071 : 524287);
-      if (isSetAction())
-        hashCode = hashCode * 8191 + action.hashCode();
-
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(userId);
-
-      hashCode = hashCode * 8191 + ((isSetTimestamp()) ? 131071 : 524287);
-      if (isSetTimestamp())
-        hashCode = hashCode * 8191 + timestamp.hashCode();
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(logUserActivity_args other) {
+    public int compareTo(pollInvalidations_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetAction(), other.isSetAction());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetAction()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.action, other.action);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.compare(isSetUserId(), other.isSetUserId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.compare(isSetTimestamp(), other.isSetTimestamp());
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetTimestamp()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6674,33 +13178,20 @@ public class UserService {
       scheme(iprot).read(iprot, this);
     }
 
-    @Override
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("logUserActivity_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("pollInvalidations_result(");
       boolean first = true;
 
-      sb.append("action:");
-      if (this.action == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.action);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("userId:");
-      sb.append(this.userId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("timestamp:");
-      if (this.timestamp == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.timestamp);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -6710,6 +13201,9 @@ public class UserService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6722,25 +13216,23 @@ public class UserService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class logUserActivity_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class pollInvalidations_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public logUserActivity_argsStandardScheme getScheme() {
-        return new logUserActivity_argsStandardScheme();
+      public pollInvalidations_resultStandardScheme getScheme() {
+        return new pollInvalidations_resultStandardScheme();
       }
     }
 
-    private static class logUserActivity_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<logUserActivity_args> {
+    private static class pollInvalidations_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<pollInvalidations_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, logUserActivity_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, pollInvalidations_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6750,26 +13242,11 @@ public class UserService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // ACTION
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.action = iprot.readString();
-                struct.setActionIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // TIMESTAMP
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.timestamp = iprot.readString();
-                struct.setTimestampIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new InvalidationBatch();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6786,21 +13263,13 @@ public class UserService {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, logUserActivity_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, pollInvalidations_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.action != null) {
-          oprot.writeFieldBegin(ACTION_FIELD_DESC);
-          oprot.writeString(struct.action);
-          oprot.writeFieldEnd();
-        }
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
-        if (struct.timestamp != null) {
-          oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
-          oprot.writeString(struct.timestamp);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6809,55 +13278,36 @@ public class UserService {
 
     }
 
-    private static class logUserActivity_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class pollInvalidations_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public logUserActivity_argsTupleScheme getScheme() {
-        return new logUserActivity_argsTupleScheme();
+      public pollInvalidations_resultTupleScheme getScheme() {
+        return new pollInvalidations_resultTupleScheme();
       }
     }
 
-    private static class logUserActivity_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<logUserActivity_args> {
+    private static class pollInvalidations_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<pollInvalidations_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, logUserActivity_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, pollInvalidations_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetAction()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetUserId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetTimestamp()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetAction()) {
-          oprot.writeString(struct.action);
-        }
-        if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
-        }
-        if (struct.isSetTimestamp()) {
-          oprot.writeString(struct.timestamp);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, logUserActivity_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, pollInvalidations_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(3);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.action = iprot.readString();
-          struct.setActionIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.timestamp = iprot.readString();
-          struct.setTimestampIsSet(true);
+          struct.success = new InvalidationBatch();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -0,0 +1,94 @@
+package com.example;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes oneway activity events on a background thread, so logUserActivity
+ * returns as soon as the event is queued and frees the connection's worker.
+ * Events beyond the queue's capacity are dropped and counted, as oneway calls
+ * carry no delivery guarantee. {@link #flush} waits for queued events, for
+ * use while draining the server.
+ */
+public class ActivityLog {
+    public static final int DEFAULT_CAPACITY = 10_000;
+    // Simulated cost of writing one event
+    private static final long WRITE_MILLIS = 10;
+
+    private final BlockingQueue<String> pending;
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private Thread writer;
+
+    public ActivityLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ActivityLog(int capacity) {
+        this.pending = new LinkedBlockingQueue<>(capacity);
+    }
+
+    public boolean record(String action, long userId, String timestamp) {
+        startWriter();
+        if (!pending.offer("[ONEWAY] User Activity Log: " + timestamp + " - User " + userId + " performed: " + action)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        queued.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Waits until every event queued before the call has been written.
+     * Returns false if that did not happen within the timeout.
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = queued.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (written.get() < target) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        System.out.flush();
+        return true;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    private synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(this::writeLoop, "activity-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                String event = pending.take();
+                System.out.println(event);
+                Thread.sleep(WRITE_MILLIS);
+                written.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency (AIMD). The baseline is
+ * the lowest latency seen in the recent window. Only requests finishing
+ * while the limit is at least half used adjust it: one slower than the
+ * baseline times the tolerance signals queueing and shrinks the limit
+ * multiplicatively, at most once per limit's worth of samples, and fast
+ * ones grow it by one per limit's worth of samples.
+ *
+ * Admission is lock-free; samples are folded in under this object's lock.
+ */
+public class AdaptiveConcurrencyLimit {
+    public static final int DEFAULT_INITIAL_LIMIT = 32;
+    public static final int DEFAULT_MIN_LIMIT = 4;
+    public static final int DEFAULT_MAX_LIMIT = 512;
+    private static final double TOLERANCE = 2.0;
+    private static final double BACKOFF = 0.9;
+    // Latency noise below this never counts as queueing
+    private static final long SLACK_NANOS = 200_000;
+    // Samples after which the baseline is re-measured, so it can drift up
+    private static final int BASELINE_WINDOW = 10_000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private double estimate;
+    private long baselineNanos = Long.MAX_VALUE;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private int samplesSinceDecrease;
+
+    public AdaptiveConcurrencyLimit() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimate = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Takes a slot if fewer than allowed requests are in flight. Callers
+     * pass a fraction of {@link #getLimit()} to shed low-priority work first.
+     */
+    public boolean tryAcquire(int allowed) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        onSample(latencyNanos, inFlightBefore);
+    }
+
+    synchronized void onSample(long latencyNanos, int inFlightBefore) {
+        windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+        baselineNanos = Math.min(baselineNanos, latencyNanos);
+        if (++windowSamples >= BASELINE_WINDOW) {
+            baselineNanos = windowMinNanos;
+            windowMinNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        samplesSinceDecrease++;
+        // Below half the limit nothing queues; a slow request then is just a
+        // slow method, since the baseline is shared by all of them
+        if (inFlightBefore * 2 < estimate) {
+            return;
+        }
+        if (latencyNanos > baselineNanos * TOLERANCE + SLACK_NANOS) {
+            if (samplesSinceDecrease >= estimate) {
+                estimate = Math.max(minLimit, estimate * BACKOFF);
+                samplesSinceDecrease = 0;
+            }
+        } else {
+            estimate = Math.min(maxLimit, estimate + 1.0 / estimate);
+        }
+        limit = (int) estimate;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+
+public class AdminServiceImpl implements AdminService.Iface {
+    private final UserServiceImpl userService;
+    private final String protocolName;
+    private final ReplicaSync replicaSync;
+    private final MethodMetrics methodMetrics;
+    private final long startTime = System.currentTimeMillis();
+
+    public AdminServiceImpl(UserServiceImpl userService, String protocolName) {
+        this(userService, protocolName, null);
+    }
+
+    /**
+     * replicaSync is null on a primary; on a replica its lag is reported.
+     */
+    public AdminServiceImpl(UserServiceImpl userService, String protocolName, ReplicaSync replicaSync) {
+        this(userService, protocolName, replicaSync, null);
+    }
+
+    /**
+     * methodMetrics is null unless the server tracks per-method metrics.
+     */
+    public AdminServiceImpl(UserServiceImpl userService, String protocolName, ReplicaSync replicaSync, MethodMetrics methodMetrics) {
+        this.userService = userService;
+        this.protocolName = protocolName;
+        this.replicaSync = replicaSync;
+        this.methodMetrics = methodMetrics;
+    }
+
+    @Override
+    public boolean ping() throws TException {
+        return true;
+    }
+
+    @Override
+    public ServiceStats getStats() throws TException {
+        ServiceStats stats = new ServiceStats(
+            userService.getUserCount(),
+            System.currentTimeMillis() - startTime,
+            protocolName
+        );
+        if (replicaSync != null) {
+            stats.setReplicationLagMutations(replicaSync.getLagMutations());
+            stats.setReplicationLagMillis(replicaSync.getLagMillis());
+        }
+        if (methodMetrics != null) {
+            stats.setMethods(methodMetrics.snapshot());
+        }
+        System.out.println("Reporting stats: " + stats);
+        return stats;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkServiceImpl implements BulkService.Iface {
+    private final UserServiceImpl userService;
+
+    public BulkServiceImpl(UserServiceImpl userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public List<User> createUsers(List<User> users) throws TException {
+        List<User> created = new ArrayList<>(users.size());
+        for (User user : users) {
+            created.add(userService.createUser(user.getName(), user.getAge()));
+        }
+        System.out.println("Bulk created " + created.size() + " users");
+        return created;
+    }
+
+    @Override
+    public List<User> getUsers(List<Long> userIds) throws TException {
+        List<User> found = new ArrayList<>(userIds.size());
+        for (long userId : userIds) {
+            try {
+                found.add(userService.getUser(userId));
+            } catch (UserNotFoundException e) {
+                // Missing IDs are skipped rather than failing the whole batch
+            }
+        }
+        System.out.println("Bulk retrieved " + found.size() + " of " + userIds.size() + " users");
+        return found;
+    }
+
+    @Override
+    public int deleteUsers(List<Long> userIds) throws TException {
+        int deleted = 0;
+        for (long userId : userIds) {
+            try {
+                userService.deleteUser(userId);
+                deleted++;
+            } catch (UserNotFoundException e) {
+                // Missing IDs are skipped rather than failing the whole batch
+            }
+        }
+        System.out.println("Bulk deleted " + deleted + " of " + userIds.size() + " users");
+        return deleted;
+    }
+
+    @Override
+    public List<User> exportUsers(long fromHash, long toHash, long cursor, int limit) throws TException {
+        List<User> exported = userService.exportUsers(fromHash, toHash, cursor, limit);
+        System.out.println("Exported " + exported.size() + " users in ring range (" + fromHash + ", " + toHash + "] after ID " + cursor);
+        return exported;
+    }
+
+    @Override
+    public int importUsers(List<User> users) throws TException {
+        userService.checkWritable();
+        for (User user : users) {
+            userService.importUser(user);
+        }
+        System.out.println("Imported " + users.size() + " users");
+        return users.size();
+    }
+}
@@ -0,0 +1,244 @@
+package com.example;
+
+import UserService.UserService;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TTransportException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps the UserService processor and caches the encoded getUser_result body
+ * per (user ID, protocol). A hit writes the message header and copies the
+ * cached bytes straight to the transport, skipping struct serialization.
+ *
+ * Only the binary and compact protocols are cached: their struct encoding does
+ * not depend on what was written before it, so the bytes can be replayed after
+ * any message header. Other protocols, and every other method, go to the
+ * wrapped processor unchanged. On a protocol-sniffing server the cache is
+ * chosen by the protocol detected for the connection.
+ *
+ * Each protocol's cache holds up to maxEntries users and evicts with a
+ * clock sweep, so users that stay hot keep their place and a user that
+ * turns hot later replaces one that went cold.
+ */
+public class CachingUserProcessor implements TProcessor {
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final TProcessor delegate;
+    private final UserService.Iface handler;
+    private final UserService.Processor.getUser<UserService.Iface> getUser = new UserService.Processor.getUser<>();
+    private final ResponseCache binaryResponses;
+    private final ResponseCache compactResponses;
+    // Bumped on every invalidation so a response encoded concurrently with an
+    // update is never left in the cache
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingUserProcessor(UserService.Iface handler) {
+        this(handler, DEFAULT_MAX_ENTRIES);
+    }
+
+    public CachingUserProcessor(UserService.Iface handler, int maxEntries) {
+        this.delegate = new UserService.Processor<>(handler);
+        this.handler = handler;
+        this.binaryResponses = new ResponseCache(maxEntries);
+        this.compactResponses = new ResponseCache(maxEntries);
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        TMessage message = in.readMessageBegin();
+        // Read first: a sniffing protocol only knows its wire format once the request has arrived
+        TProtocol wire = SniffingProtocol.unwrap(out);
+        ResponseCache responses = responsesFor(wire);
+        if (responses == null || !getUser.getMethodName().equals(message.name) || message.type != TMessageType.CALL) {
+            delegate.process(new ReplayedMessageProtocol(in, message), out);
+            return;
+        }
+
+        UserService.getUser_args args = getUser.getEmptyArgsInstance();
+        try {
+            args.read(in);
+        } catch (TProtocolException e) {
+            in.readMessageEnd();
+            writeException(out, message.seqid, new TApplicationException(TApplicationException.PROTOCOL_ERROR, e.getMessage()));
+            return;
+        }
+        in.readMessageEnd();
+
+        long userId = args.getUserId();
+        byte[] body = responses.get(userId);
+        if (body != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            long startEpoch = epoch.get();
+            UserService.getUser_result result;
+            try {
+                result = getUser.getResult(handler, args);
+            } catch (TTransportException e) {
+                throw e;
+            } catch (TApplicationException e) {
+                writeException(out, message.seqid, e);
+                return;
+            } catch (Exception e) {
+                writeException(out, message.seqid, new TApplicationException(TApplicationException.INTERNAL_ERROR, "Internal error processing getUser"));
+                return;
+            }
+            body = encode(result, wire);
+            // Only found users are cached; misses stay uncached so creates need no invalidation
+            if (result.isSetSuccess()) {
+                ResponseCache.Entry entry = responses.put(userId, body);
+                if (entry != null && epoch.get() != startEpoch) {
+                    responses.remove(userId, entry);
+                }
+            }
+        }
+
+        out.writeMessageBegin(new TMessage(message.name, TMessageType.REPLY, message.seqid));
+        out.getTransport().write(body);
+        out.writeMessageEnd();
+        out.getTransport().flush();
+    }
+
+    public void invalidate(long userId) {
+        epoch.incrementAndGet();
+        binaryResponses.remove(userId);
+        compactResponses.remove(userId);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        return binaryResponses.size() + compactResponses.size();
+    }
+
+    private ResponseCache responsesFor(TProtocol out) {
+        if (out instanceof TBinaryProtocol) {
+            return binaryResponses;
+        }
+        if (out instanceof TCompactProtocol) {
+            return compactResponses;
+        }
+        return null;
+    }
+
+    private static byte[] encode(UserService.getUser_result result, TProtocol out) throws TException {
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        TProtocol protocol = (out instanceof TCompactProtocol) ? new TCompactProtocol(buffer) : new TBinaryProtocol(buffer);
+        result.write(protocol);
+        return Arrays.copyOf(buffer.getArray(), buffer.length());
+    }
+
+    private static void writeException(TProtocol out, int seqid, TApplicationException e) throws TException {
+        out.writeMessageBegin(new TMessage("getUser", TMessageType.EXCEPTION, seqid));
+        e.write(out);
+        out.writeMessageEnd();
+        out.getTransport().flush();
+    }
+
+    /**
+     * Encoded replies for one protocol. A hit marks its entry referenced; a
+     * miss on a full cache moves a clock hand over the entries from where the
+     * last sweep stopped, clearing marks until it reaches an unmarked entry,
+     * and evicts that one. Under concurrent misses the size may briefly go
+     * past the bound.
+     */
+    private static final class ResponseCache {
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final int maxEntries;
+        // Guarded by this; only misses on a full cache move it
+        private Iterator<Map.Entry<Long, Entry>> hand;
+
+        ResponseCache(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        byte[] get(long userId) {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.body;
+        }
+
+        /**
+         * Caches a reply, evicting another if full. Returns the new entry, or
+         * null if the cache holds nothing at all.
+         */
+        Entry put(long userId, byte[] body) {
+            if (maxEntries <= 0) {
+                return null;
+            }
+            if (entries.size() >= maxEntries && !entries.containsKey(userId)) {
+                evict();
+            }
+            Entry entry = new Entry(body);
+            entries.put(userId, entry);
+            return entry;
+        }
+
+        void remove(long userId) {
+            entries.remove(userId);
+        }
+
+        void remove(long userId, Entry entry) {
+            entries.remove(userId, entry);
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private synchronized void evict() {
+            // The first full turn may only clear marks; the second finds one
+            for (int steps = 2 * entries.size() + 1; steps > 0; steps--) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                    if (!hand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<Long, Entry> candidate = hand.next();
+                Entry entry = candidate.getValue();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else if (entries.remove(candidate.getKey(), entry)) {
+                    return;
+                }
+            }
+        }
+
+        static final class Entry {
+            final byte[] body;
+            volatile boolean referenced;
+
+            Entry(byte[] body) {
+                this.body = body;
+            }
+        }
+    }
+}
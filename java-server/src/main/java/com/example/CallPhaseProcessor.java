@@ -0,0 +1,125 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+
+/**
+ * Splits each call into JFR events for its three phases: a
+ * {@link DecodeEvent} from the message header being read to the end of the
+ * arguments, a {@link HandlerEvent} from there to the reply being started,
+ * and an {@link EncodeEvent} from there to the reply being written and
+ * flushed. A call that fails before replying ends in whichever phase it
+ * reached; a oneway call ends with its handler.
+ *
+ * Phase boundaries are seen through {@link PhaseTrackingProtocol}, which
+ * wraps the call's protocols only while a recording enables one of the
+ * events; otherwise calls pass straight through. Inner processors that
+ * look at the wire protocol see past the wrapper through
+ * {@link SniffingProtocol#unwrap}.
+ */
+public class CallPhaseProcessor implements TProcessor {
+    private final TProcessor delegate;
+
+    public CallPhaseProcessor(TProcessor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        Phases phases = new Phases();
+        if (!phases.isEnabled()) {
+            delegate.process(in, out);
+            return;
+        }
+        TMessage message = in.readMessageBegin();
+        phases.method = MethodMetrics.methodName(message.name);
+        phases.decode.begin();
+        try {
+            delegate.process(new PhaseTrackingProtocol(new ReplayedMessageProtocol(in, message), phases),
+                new PhaseTrackingProtocol(out, phases));
+        } finally {
+            phases.finish();
+        }
+    }
+
+    /**
+     * One call's phase events, begun and committed as its protocols report
+     * the boundaries.
+     */
+    static final class Phases {
+        private static final int DECODE = 0;
+        private static final int HANDLER = 1;
+        private static final int ENCODE = 2;
+        private static final int DONE = 3;
+
+        final DecodeEvent decode = new DecodeEvent();
+        final HandlerEvent handler = new HandlerEvent();
+        final EncodeEvent encode = new EncodeEvent();
+        String method;
+        private int phase = DECODE;
+
+        boolean isEnabled() {
+            return decode.isEnabled() || handler.isEnabled() || encode.isEnabled();
+        }
+
+        /**
+         * The arguments have been read
+         */
+        void decoded() {
+            if (phase == DECODE) {
+                endDecode();
+                handler.begin();
+                phase = HANDLER;
+            }
+        }
+
+        /**
+         * The reply is being started, possibly before the arguments were
+         * fully read when they could not be decoded
+         */
+        void replying() {
+            if (phase == DECODE) {
+                endDecode();
+            } else if (phase == HANDLER) {
+                endHandler();
+            } else {
+                return;
+            }
+            encode.begin();
+            phase = ENCODE;
+        }
+
+        void finish() {
+            if (phase == DECODE) {
+                endDecode();
+            } else if (phase == HANDLER) {
+                endHandler();
+            } else if (phase == ENCODE) {
+                encode.end();
+                if (encode.shouldCommit()) {
+                    encode.method = method;
+                    encode.commit();
+                }
+            }
+            phase = DONE;
+        }
+
+        private void endDecode() {
+            decode.end();
+            if (decode.shouldCommit()) {
+                decode.method = method;
+                decode.commit();
+            }
+        }
+
+        private void endHandler() {
+            handler.end();
+            if (handler.shouldCommit()) {
+                handler.method = method;
+                handler.commit();
+            }
+        }
+    }
+}
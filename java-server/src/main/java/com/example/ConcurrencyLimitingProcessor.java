@@ -0,0 +1,76 @@
+package com.example;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control in front of a processor. Requests beyond the adaptive
+ * concurrency limit are answered at once with a TApplicationException of type
+ * {@link #OVERLOADED} instead of queueing behind busy workers. Full scans and
+ * oneway calls may only use half the limit, so they are shed before point
+ * reads and writes. Shed oneway calls are dropped, as they have no reply.
+ */
+public class ConcurrencyLimitingProcessor implements TProcessor {
+    /** Exception type for shed requests; above the types Thrift itself defines. */
+    public static final int OVERLOADED = 100;
+
+    private static final Set<String> LOW_PRIORITY_METHODS = new HashSet<>(Arrays.asList("getAllUsers", "listUsers"));
+
+    private final TProcessor delegate;
+    private final AdaptiveConcurrencyLimit limit;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitingProcessor(TProcessor delegate) {
+        this(delegate, new AdaptiveConcurrencyLimit());
+    }
+
+    public ConcurrencyLimitingProcessor(TProcessor delegate, AdaptiveConcurrencyLimit limit) {
+        this.delegate = delegate;
+        this.limit = limit;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        TMessage message = in.readMessageBegin();
+        boolean lowPriority = message.type == TMessageType.ONEWAY || LOW_PRIORITY_METHODS.contains(message.name);
+        int allowed = lowPriority ? Math.max(1, limit.getLimit() / 2) : limit.getLimit();
+        if (!limit.tryAcquire(allowed)) {
+            rejected.incrementAndGet();
+            TProtocolUtil.skip(in, TType.STRUCT);
+            in.readMessageEnd();
+            if (message.type != TMessageType.ONEWAY) {
+                out.writeMessageBegin(new TMessage(message.name, TMessageType.EXCEPTION, message.seqid));
+                new TApplicationException(OVERLOADED, "Server overloaded, retry later: " + message.name).write(out);
+                out.writeMessageEnd();
+                out.getTransport().flush();
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            delegate.process(new ReplayedMessageProtocol(in, message), out);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public AdaptiveConcurrencyLimit getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a connection being accepted, written as soon as its worker
+ * picks it up.
+ */
+@Name("com.example.ConnectionAccept")
+@Label("Connection Accepted")
+@Category({"Thrift", "Transport"})
+@Description("A client connection picked up by a worker thread")
+@StackTrace(false)
+class ConnectionAcceptEvent extends jdk.jfr.Event {
+    @Label("Remote Address")
+    String remoteAddress;
+}
@@ -0,0 +1,21 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a connection being closed. Its duration is the connection's
+ * lifetime, from being accepted to its worker letting it go.
+ */
+@Name("com.example.ConnectionClose")
+@Label("Connection Closed")
+@Category({"Thrift", "Transport"})
+@Description("A client connection closed, spanning its whole lifetime")
+@StackTrace(false)
+class ConnectionCloseEvent extends jdk.jfr.Event {
+    @Label("Remote Address")
+    String remoteAddress;
+}
@@ -0,0 +1,80 @@
+package com.example;
+
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+
+import java.net.SocketAddress;
+
+/**
+ * Writes a {@link ConnectionAcceptEvent} when a worker picks up a connection
+ * and a {@link ConnectionCloseEvent} spanning its lifetime when the worker
+ * lets it go, forwarding every server event to the given handler. Relies on
+ * a thread-per-connection server: each worker holds its connection's close
+ * event for as long as it serves it.
+ */
+public class ConnectionEventHandler implements TServerEventHandler {
+    private final TServerEventHandler eventHandler;
+    private final ThreadLocal<ConnectionCloseEvent> current = new ThreadLocal<>();
+
+    public ConnectionEventHandler(TServerEventHandler eventHandler) {
+        this.eventHandler = eventHandler;
+    }
+
+    @Override
+    public void preServe() {
+        if (eventHandler != null) {
+            eventHandler.preServe();
+        }
+    }
+
+    @Override
+    public ServerContext createContext(TProtocol input, TProtocol output) {
+        ConnectionAcceptEvent accepted = new ConnectionAcceptEvent();
+        if (accepted.shouldCommit()) {
+            accepted.remoteAddress = remoteAddress(input.getTransport());
+            accepted.commit();
+        }
+        ConnectionCloseEvent closed = new ConnectionCloseEvent();
+        closed.begin();
+        current.set(closed);
+        return eventHandler != null ? eventHandler.createContext(input, output) : null;
+    }
+
+    @Override
+    public void deleteContext(ServerContext serverContext, TProtocol input, TProtocol output) {
+        ConnectionCloseEvent closed = current.get();
+        if (closed != null) {
+            current.remove();
+            closed.end();
+            if (closed.shouldCommit()) {
+                closed.remoteAddress = remoteAddress(input.getTransport());
+                closed.commit();
+            }
+        }
+        if (eventHandler != null) {
+            eventHandler.deleteContext(serverContext, input, output);
+        }
+    }
+
+    @Override
+    public void processContext(ServerContext serverContext, TTransport inputTransport, TTransport outputTransport) {
+        if (eventHandler != null) {
+            eventHandler.processContext(serverContext, inputTransport, outputTransport);
+        }
+    }
+
+    static String remoteAddress(TTransport transport) {
+        TTransport underlying = CountingTransport.unwrap(transport);
+        if (underlying instanceof TSocket) {
+            SocketAddress address = ((TSocket) underlying).getSocket().getRemoteSocketAddress();
+            return (address != null) ? address.toString() : null;
+        }
+        if (underlying instanceof UnixSocketTransport) {
+            return "unix";
+        }
+        return underlying.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example;
+
+import org.apache.thrift.TConfiguration;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+
+/**
+ * Wraps a connection's transport and counts the bytes read from and written
+ * to it, for per-call bytes in and out. Only the thread serving the
+ * connection uses it, so the counts are plain fields.
+ */
+public class CountingTransport extends TTransport {
+    private final TTransport delegate;
+    private long bytesRead;
+    private long bytesWritten;
+    private long readTaken;
+    private long writtenTaken;
+
+    public CountingTransport(TTransport delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Installs counting on every connection a server accepts
+     */
+    public static class Factory extends TTransportFactory {
+        @Override
+        public TTransport getTransport(TTransport transport) {
+            return new CountingTransport(transport);
+        }
+    }
+
+    /**
+     * The transport underneath, for code that needs the socket itself
+     */
+    public static TTransport unwrap(TTransport transport) {
+        return (transport instanceof CountingTransport) ? ((CountingTransport) transport).delegate : transport;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Bytes read since the previous take, or since the connection opened.
+     * Taking at the end of each call counts the whole call, including the
+     * part an outer processor read before the caller saw it.
+     */
+    public long takeBytesRead() {
+        long taken = bytesRead - readTaken;
+        readTaken = bytesRead;
+        return taken;
+    }
+
+    /**
+     * Bytes written since the previous take, or since the connection opened
+     */
+    public long takeBytesWritten() {
+        long taken = bytesWritten - writtenTaken;
+        writtenTaken = bytesWritten;
+        return taken;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public boolean peek() {
+        return delegate.peek();
+    }
+
+    @Override
+    public void open() throws TTransportException {
+        delegate.open();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws TTransportException {
+        int read = delegate.read(buf, off, len);
+        if (read > 0) {
+            bytesRead += read;
+        }
+        return read;
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) throws TTransportException {
+        delegate.write(buf, off, len);
+        bytesWritten += len;
+    }
+
+    @Override
+    public void flush() throws TTransportException {
+        delegate.flush();
+    }
+
+    @Override
+    public byte[] getBuffer() {
+        return delegate.getBuffer();
+    }
+
+    @Override
+    public int getBufferPosition() {
+        return delegate.getBufferPosition();
+    }
+
+    @Override
+    public int getBytesRemainingInBuffer() {
+        return delegate.getBytesRemainingInBuffer();
+    }
+
+    @Override
+    public void consumeBuffer(int len) {
+        delegate.consumeBuffer(len);
+        bytesRead += len;
+    }
+
+    @Override
+    public TConfiguration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public void updateKnownMessageSize(long size) throws TTransportException {
+        delegate.updateKnownMessageSize(size);
+    }
+
+    @Override
+    public void checkReadBytesAvailable(long numBytes) throws TTransportException {
+        delegate.checkReadBytesAvailable(numBytes);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example;
+
+import org.apache.thrift.TApplicationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of the call being processed on this thread, from the
+ * {@link #HEADER} request header: the milliseconds the client had left for
+ * the call when it sent it. The deadline starts when the header is parsed
+ * and runs on this server's monotonic clock, so clock skew between client
+ * and server never drops or extends a call; time spent on the network and
+ * queued before the read is the client's to budget for. Long-running
+ * handlers call {@link #check} to give up on calls whose client has already
+ * stopped waiting.
+ */
+public final class Deadline {
+    public static final String HEADER = "timeout";
+    /** Exception type for calls past their deadline; above the types Thrift itself defines. */
+    public static final int DEADLINE_EXCEEDED = 102;
+
+    private static final long NONE = Long.MAX_VALUE;
+    // Longer timeouts are as good as none, and would overflow the clock
+    private static final long MAX_TIMEOUT_NANOS = TimeUnit.DAYS.toNanos(365);
+    private static final ThreadLocal<long[]> CURRENT = ThreadLocal.withInitial(() -> new long[] {NONE});
+
+    private Deadline() {
+    }
+
+    /**
+     * Starts a deadline timeoutMillis from now for the call on this thread;
+     * 0 or less means it has already passed.
+     */
+    static void start(long timeoutMillis) {
+        long timeoutNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMillis)), MAX_TIMEOUT_NANOS);
+        CURRENT.get()[0] = System.nanoTime() + timeoutNanos;
+    }
+
+    static void clear() {
+        CURRENT.get()[0] = NONE;
+    }
+
+    public static boolean isExpired() {
+        long deadline = CURRENT.get()[0];
+        return deadline != NONE && System.nanoTime() - deadline >= 0;
+    }
+
+    public static void check(String operation) throws TApplicationException {
+        if (isExpired()) {
+            throw new TApplicationException(DEADLINE_EXCEEDED, "Deadline exceeded during " + operation);
+        }
+    }
+}
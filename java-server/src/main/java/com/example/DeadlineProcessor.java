@@ -0,0 +1,65 @@
+package com.example;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drops calls whose {@link Deadline} header has already passed instead of
+ * dispatching them, replying with a TApplicationException of type
+ * {@link Deadline#DEADLINE_EXCEEDED}. Admitted calls run with the deadline
+ * set, so handlers can abort long work once it passes. Must run inside
+ * {@link RequestHeaderProcessor}.
+ */
+public class DeadlineProcessor implements TProcessor {
+    private final TProcessor delegate;
+    private final AtomicLong expired = new AtomicLong();
+
+    public DeadlineProcessor(TProcessor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        String header = RequestHeaders.current().get(Deadline.HEADER);
+        if (header == null) {
+            delegate.process(in, out);
+            return;
+        }
+        try {
+            Deadline.start(Long.parseLong(header));
+        } catch (NumberFormatException e) {
+            delegate.process(in, out);
+            return;
+        }
+        try {
+            if (!Deadline.isExpired()) {
+                delegate.process(in, out);
+                return;
+            }
+            expired.incrementAndGet();
+            TMessage message = in.readMessageBegin();
+            TProtocolUtil.skip(in, TType.STRUCT);
+            in.readMessageEnd();
+            if (message.type != TMessageType.ONEWAY) {
+                out.writeMessageBegin(new TMessage(message.name, TMessageType.EXCEPTION, message.seqid));
+                new TApplicationException(Deadline.DEADLINE_EXCEEDED, "Deadline exceeded before dispatch: " + message.name).write(out);
+                out.writeMessageEnd();
+                out.getTransport().flush();
+            }
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    public long getExpiredCount() {
+        return expired.get();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for reading and decoding a call's arguments, from its message
+ * header being read to the end of the message.
+ */
+@Name("com.example.Decode")
+@Label("Thrift Decode")
+@Category({"Thrift", "Protocol"})
+@Description("Arguments of one call read and decoded")
+@StackTrace(false)
+class DecodeEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+}
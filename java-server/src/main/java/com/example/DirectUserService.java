@@ -0,0 +1,139 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calls a UserService implementation in the same JVM with no serialization
+ * at all, through the same {@code UserService.Iface} the generated client
+ * implements.
+ *
+ * Over the wire, caller and service never share objects. To keep that
+ * guarantee, arguments are copied before the service sees them and results
+ * are copied before the caller does, so neither can change the other's data
+ * afterwards. {@link UserServiceImpl} keeps immutable records and builds a
+ * fresh User for every result, so it already gives that guarantee and is
+ * called without copies. Failures surface as they would through a client:
+ * declared exceptions and TApplicationException pass through, and any other
+ * error becomes an INTERNAL_ERROR TApplicationException. Errors from oneway
+ * calls are dropped, since a client never hears about them.
+ */
+public class DirectUserService implements UserService.Iface {
+    private final UserService.Iface delegate;
+    private final boolean copying;
+
+    public DirectUserService(UserService.Iface delegate) {
+        this.delegate = delegate;
+        this.copying = !(delegate instanceof UserServiceImpl);
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws TException;
+    }
+
+    private static <T> T invoke(String method, Call<T> call) throws TException {
+        try {
+            return call.call();
+        } catch (UserNotFoundException | TApplicationException e) {
+            throw e;
+        } catch (TException | RuntimeException e) {
+            throw new TApplicationException(TApplicationException.INTERNAL_ERROR, "Internal error processing " + method);
+        }
+    }
+
+    private <T extends TBase<T, ?>> T copy(T value) {
+        return (copying && value != null) ? value.deepCopy() : value;
+    }
+
+    private <T extends TBase<T, ?>> List<T> copy(List<T> values) {
+        if (!copying || values == null) {
+            return values;
+        }
+        List<T> copies = new ArrayList<>(values.size());
+        for (T value : values) {
+            copies.add(copy(value));
+        }
+        return copies;
+    }
+
+    @Override
+    public User createUser(String name, int age) throws TException {
+        return copy(invoke("createUser", () -> delegate.createUser(name, age)));
+    }
+
+    @Override
+    public User getUser(long userId) throws UserNotFoundException, TException {
+        return copy(invoke("getUser", () -> delegate.getUser(userId)));
+    }
+
+    @Override
+    public User updateUser(User user) throws UserNotFoundException, TException {
+        User argument = copy(user);
+        return copy(invoke("updateUser", () -> delegate.updateUser(argument)));
+    }
+
+    @Override
+    public void deleteUser(long userId) throws UserNotFoundException, TException {
+        invoke("deleteUser", () -> {
+            delegate.deleteUser(userId);
+            return null;
+        });
+    }
+
+    @Override
+    public List<User> getAllUsers() throws TException {
+        return copy(invoke("getAllUsers", delegate::getAllUsers));
+    }
+
+    @Override
+    public String validateUserData(String name, int age, boolean isActive) throws TException {
+        return invoke("validateUserData", () -> delegate.validateUserData(name, age, isActive));
+    }
+
+    @Override
+    public void logUserActivity(String action, long userId, String timestamp) {
+        try {
+            delegate.logUserActivity(action, userId, timestamp);
+        } catch (TException | RuntimeException e) {
+            // Oneway: the caller would never see this
+        }
+    }
+
+    @Override
+    public List<User> findUsersByName(String name) throws TException {
+        return copy(invoke("findUsersByName", () -> delegate.findUsersByName(name)));
+    }
+
+    @Override
+    public List<User> findUsersByNamePrefix(String prefix, int limit) throws TException {
+        return copy(invoke("findUsersByNamePrefix", () -> delegate.findUsersByNamePrefix(prefix, limit)));
+    }
+
+    @Override
+    public List<User> findUsersByAgeRange(int minAge, int maxAge, long cursor, int limit) throws TException {
+        return copy(invoke("findUsersByAgeRange", () -> delegate.findUsersByAgeRange(minAge, maxAge, cursor, limit)));
+    }
+
+    @Override
+    public List<AgeCount> countByAge(int minAge, int maxAge) throws TException {
+        return copy(invoke("countByAge", () -> delegate.countByAge(minAge, maxAge)));
+    }
+
+    @Override
+    public List<UserView> listUsers(UserFilter filter, UserProjection projection) throws TException {
+        UserFilter filterArgument = copy(filter);
+        UserProjection projectionArgument = copy(projection);
+        return copy(invoke("listUsers", () -> delegate.listUsers(filterArgument, projectionArgument)));
+    }
+
+    @Override
+    public InvalidationBatch pollInvalidations(long sinceSequence) throws TException {
+        return copy(invoke("pollInvalidations", () -> delegate.pollInvalidations(sinceSequence)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example;
+
+import org.apache.thrift.server.TThreadPoolServer;
+
+/**
+ * TThreadPoolServer that does not interrupt its workers when it stops.
+ * The stock server calls shutdownNow() as soon as the accept loop ends, which
+ * interrupts calls in flight; here the executor is only shut down, and
+ * {@link ServerDrain} ends the connections once their calls finish.
+ */
+public class DrainableThreadPoolServer extends TThreadPoolServer {
+
+    public DrainableThreadPoolServer(Args args) {
+        super(args);
+    }
+
+    @Override
+    public void serve() {
+        if (!preServe()) {
+            return;
+        }
+        execute();
+        getExecutorService().shutdown();
+        waitForShutdown();
+        setServing(false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for encoding a call's reply and writing it to the connection,
+ * flush included.
+ */
+@Name("com.example.Encode")
+@Label("Thrift Encode")
+@Category({"Thrift", "Protocol"})
+@Description("Reply of one call encoded, written and flushed")
+@StackTrace(false)
+class EncodeEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+}
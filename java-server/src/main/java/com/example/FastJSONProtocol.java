@@ -0,0 +1,1027 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TMap;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TSet;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * A drop-in replacement for TJSONProtocol that produces and accepts the same
+ * bytes, so JSON clients of either kind talk to servers of either kind.
+ *
+ * TJSONProtocol allocates for almost every token: a context object per
+ * struct and list, a String and byte[] per number, a byte stream per string,
+ * and one transport write per quote or separator. This implementation keeps:
+ * <ul>
+ *   <li>nesting as a byte stack instead of context objects;</li>
+ *   <li>one reusable output buffer, where numbers are formatted and strings
+ *       UTF-8 encoded and escaped in place, written to the transport once per
+ *       top-level value (a whole message, for RPC);</li>
+ *   <li>a tokenizer that parses numbers and type names straight from the
+ *       bytes, and decodes strings from the transport's own buffer when it
+ *       has one, or from a reusable scratch buffer otherwise.</li>
+ * </ul>
+ * Strings never go through base64; only binary fields do, as on the stock
+ * protocol. Because writes are buffered until the top-level value ends,
+ * nothing else may write to the transport in the middle of a message.
+ */
+public class FastJSONProtocol extends TProtocol {
+
+    public static class Factory implements TProtocolFactory {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TProtocol getProtocol(TTransport transport) {
+            return new FastJSONProtocol(transport);
+        }
+    }
+
+    private static final int VERSION = 1;
+    private static final TStruct ANONYMOUS_STRUCT = new TStruct();
+    private static final TField STOP_FIELD = new TField("", TType.STOP, (short) 0);
+    private static final int MAX_CACHED_FIELD_ID = 64;
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private static final byte[][] TYPE_NAMES = new byte[17][];
+    static {
+        TYPE_NAMES[TType.BOOL] = ascii("tf");
+        TYPE_NAMES[TType.BYTE] = ascii("i8");
+        TYPE_NAMES[TType.I16] = ascii("i16");
+        TYPE_NAMES[TType.I32] = ascii("i32");
+        TYPE_NAMES[TType.I64] = ascii("i64");
+        TYPE_NAMES[TType.DOUBLE] = ascii("dbl");
+        TYPE_NAMES[TType.STRUCT] = ascii("rec");
+        TYPE_NAMES[TType.STRING] = ascii("str");
+        TYPE_NAMES[TType.MAP] = ascii("map");
+        TYPE_NAMES[TType.LIST] = ascii("lst");
+        TYPE_NAMES[TType.SET] = ascii("set");
+        TYPE_NAMES[TType.UUID] = ascii("uid");
+    }
+
+    // Escapes for ASCII below '0': 0 = \\u00XX, 1 = as is, else the character after the backslash
+    private static final byte[] JSON_CHAR_TABLE = {
+        0, 0, 0, 0, 0, 0, 0, 0, 'b', 't', 'n', 0, 'f', 'r', 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 1, '"', 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1,
+    };
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    // Nesting contexts below the top level (depth 0, no separators); a pair
+    // context alternates between key (':' next) and value (',' next)
+    private static final byte LIST_FIRST = 1;
+    private static final byte LIST = 2;
+    private static final byte PAIR_FIRST = 3;
+    private static final byte PAIR_KEY = 4;
+    private static final byte PAIR_VALUE = 5;
+
+    private byte[] contexts = new byte[16];
+    private int depth;
+
+    private byte[] out = new byte[256];
+    private int outLength;
+
+    private byte[] scratch = new byte[256];
+    private int scratchLength;
+    private final byte[] oneByte = new byte[1];
+    private boolean hasPeeked;
+    private byte peeked;
+
+    private final TField[][] fieldCache = new TField[TYPE_NAMES.length][];
+    private byte[] lastName = new byte[0];
+    private String lastNameString = "";
+
+    public FastJSONProtocol(TTransport transport) {
+        super(transport);
+    }
+
+    @Override
+    public void reset() {
+        depth = 0;
+        outLength = 0;
+        hasPeeked = false;
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // ---------------------------------------------------------------- nesting
+
+    private void push(byte context) {
+        if (++depth == contexts.length) {
+            contexts = Arrays.copyOf(contexts, depth * 2);
+        }
+        contexts[depth] = context;
+    }
+
+    private void pop() {
+        depth--;
+    }
+
+    private boolean escapeNum() {
+        return contexts[depth] == PAIR_KEY;
+    }
+
+    private void writeSeparator() {
+        switch (contexts[depth]) {
+            case LIST_FIRST:
+                contexts[depth] = LIST;
+                break;
+            case LIST:
+                put((byte) ',');
+                break;
+            case PAIR_FIRST:
+                contexts[depth] = PAIR_KEY;
+                break;
+            case PAIR_KEY:
+                put((byte) ':');
+                contexts[depth] = PAIR_VALUE;
+                break;
+            case PAIR_VALUE:
+                put((byte) ',');
+                contexts[depth] = PAIR_KEY;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void readSeparator() throws TException {
+        switch (contexts[depth]) {
+            case LIST_FIRST:
+                contexts[depth] = LIST;
+                break;
+            case LIST:
+                expect((byte) ',');
+                break;
+            case PAIR_FIRST:
+                contexts[depth] = PAIR_KEY;
+                break;
+            case PAIR_KEY:
+                expect((byte) ':');
+                contexts[depth] = PAIR_VALUE;
+                break;
+            case PAIR_VALUE:
+                expect((byte) ',');
+                contexts[depth] = PAIR_KEY;
+                break;
+            default:
+                break;
+        }
+    }
+
+    // ---------------------------------------------------------------- output
+
+    private void ensure(int extra) {
+        if (outLength + extra > out.length) {
+            out = Arrays.copyOf(out, Math.max(out.length * 2, outLength + extra));
+        }
+    }
+
+    private void put(byte b) {
+        ensure(1);
+        out[outLength++] = b;
+    }
+
+    /**
+     * Hands the buffered bytes to the transport once a top-level value is
+     * complete, or early if a single value grows large
+     */
+    private void endValue() throws TTransportException {
+        if (depth == 0 || outLength >= FLUSH_THRESHOLD) {
+            trans_.write(out, 0, outLength);
+            outLength = 0;
+        }
+    }
+
+    private void writeJSONInteger(long value) throws TTransportException {
+        writeSeparator();
+        boolean quoted = escapeNum();
+        ensure(22);
+        if (quoted) {
+            out[outLength++] = '"';
+        }
+        if (value == Long.MIN_VALUE) {
+            byte[] digits = ascii(Long.toString(value));
+            System.arraycopy(digits, 0, out, outLength, digits.length);
+            outLength += digits.length;
+        } else {
+            if (value < 0) {
+                out[outLength++] = '-';
+                value = -value;
+            }
+            int start = outLength;
+            do {
+                out[outLength++] = (byte) ('0' + (value % 10));
+                value /= 10;
+            } while (value != 0);
+            for (int i = start, j = outLength - 1; i < j; i++, j--) {
+                byte t = out[i];
+                out[i] = out[j];
+                out[j] = t;
+            }
+        }
+        if (quoted) {
+            out[outLength++] = '"';
+        }
+        endValue();
+    }
+
+    private void writeJSONDouble(double value) throws TTransportException {
+        writeSeparator();
+        String text = Double.toString(value);
+        boolean special = text.charAt(0) == 'N' || text.charAt(0) == 'I' || (text.charAt(0) == '-' && text.charAt(1) == 'I');
+        boolean quoted = special || escapeNum();
+        ensure(text.length() + 2);
+        if (quoted) {
+            out[outLength++] = '"';
+        }
+        for (int i = 0; i < text.length(); i++) {
+            out[outLength++] = (byte) text.charAt(i);
+        }
+        if (quoted) {
+            out[outLength++] = '"';
+        }
+        endValue();
+    }
+
+    /**
+     * Encodes a string as UTF-8 straight into the output buffer, escaping
+     * exactly as TJSONProtocol does. Unpaired surrogates become '?', as they
+     * do in String.getBytes.
+     */
+    private void writeJSONString(String s) throws TTransportException {
+        writeSeparator();
+        int length = s.length();
+        ensure(length * 6 + 2);
+        byte[] buf = out;
+        int pos = outLength;
+        buf[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (c >= '0') {
+                    if (c == '\\') {
+                        buf[pos++] = '\\';
+                    }
+                    buf[pos++] = (byte) c;
+                } else {
+                    byte escape = JSON_CHAR_TABLE[c];
+                    if (escape == 1) {
+                        buf[pos++] = (byte) c;
+                    } else if (escape > 1) {
+                        buf[pos++] = '\\';
+                        buf[pos++] = escape;
+                    } else {
+                        buf[pos++] = '\\';
+                        buf[pos++] = 'u';
+                        buf[pos++] = '0';
+                        buf[pos++] = '0';
+                        buf[pos++] = HEX[c >> 4];
+                        buf[pos++] = HEX[c & 0x0f];
+                    }
+                }
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xc0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    buf[pos++] = (byte) (0xf0 | (cp >> 18));
+                    buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                    buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                    buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+                } else {
+                    buf[pos++] = '?';
+                }
+            } else {
+                buf[pos++] = (byte) (0xe0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buf[pos++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        buf[pos++] = '"';
+        outLength = pos;
+        endValue();
+    }
+
+    /**
+     * Writes pre-encoded ASCII (type names) that needs no escaping
+     */
+    private void writeJSONAscii(byte[] text) throws TTransportException {
+        writeSeparator();
+        ensure(text.length + 2);
+        out[outLength++] = '"';
+        System.arraycopy(text, 0, out, outLength, text.length);
+        outLength += text.length;
+        out[outLength++] = '"';
+        endValue();
+    }
+
+    private void writeJSONObjectStart() {
+        writeSeparator();
+        put((byte) '{');
+        push(PAIR_FIRST);
+    }
+
+    private void writeJSONObjectEnd() throws TTransportException {
+        pop();
+        put((byte) '}');
+        endValue();
+    }
+
+    private void writeJSONArrayStart() {
+        writeSeparator();
+        put((byte) '[');
+        push(LIST_FIRST);
+    }
+
+    private void writeJSONArrayEnd() throws TTransportException {
+        pop();
+        put((byte) ']');
+        endValue();
+    }
+
+    private static byte[] typeName(byte type) throws TProtocolException {
+        byte[] name = (type >= 0 && type < TYPE_NAMES.length) ? TYPE_NAMES[type] : null;
+        if (name == null) {
+            throw new TProtocolException(TProtocolException.NOT_IMPLEMENTED, "Unrecognized type");
+        }
+        return name;
+    }
+
+    @Override
+    public void writeMessageBegin(TMessage message) throws TException {
+        depth = 0;
+        outLength = 0;
+        writeJSONArrayStart();
+        writeJSONInteger(VERSION);
+        writeJSONString(message.name);
+        writeJSONInteger(message.type);
+        writeJSONInteger(message.seqid);
+    }
+
+    @Override
+    public void writeMessageEnd() throws TException {
+        writeJSONArrayEnd();
+    }
+
+    @Override
+    public void writeStructBegin(TStruct struct) throws TException {
+        writeJSONObjectStart();
+    }
+
+    @Override
+    public void writeStructEnd() throws TException {
+        writeJSONObjectEnd();
+    }
+
+    @Override
+    public void writeFieldBegin(TField field) throws TException {
+        writeJSONInteger(field.id);
+        writeJSONObjectStart();
+        writeJSONAscii(typeName(field.type));
+    }
+
+    @Override
+    public void writeFieldEnd() throws TException {
+        writeJSONObjectEnd();
+    }
+
+    @Override
+    public void writeFieldStop() {
+    }
+
+    @Override
+    public void writeMapBegin(TMap map) throws TException {
+        writeJSONArrayStart();
+        writeJSONAscii(typeName(map.keyType));
+        writeJSONAscii(typeName(map.valueType));
+        writeJSONInteger(map.size);
+        writeJSONObjectStart();
+    }
+
+    @Override
+    public void writeMapEnd() throws TException {
+        writeJSONObjectEnd();
+        writeJSONArrayEnd();
+    }
+
+    @Override
+    public void writeListBegin(TList list) throws TException {
+        writeJSONArrayStart();
+        writeJSONAscii(typeName(list.elemType));
+        writeJSONInteger(list.size);
+    }
+
+    @Override
+    public void writeListEnd() throws TException {
+        writeJSONArrayEnd();
+    }
+
+    @Override
+    public void writeSetBegin(TSet set) throws TException {
+        writeJSONArrayStart();
+        writeJSONAscii(typeName(set.elemType));
+        writeJSONInteger(set.size);
+    }
+
+    @Override
+    public void writeSetEnd() throws TException {
+        writeJSONArrayEnd();
+    }
+
+    @Override
+    public void writeBool(boolean b) throws TException {
+        writeJSONInteger(b ? 1 : 0);
+    }
+
+    @Override
+    public void writeByte(byte b) throws TException {
+        writeJSONInteger(b);
+    }
+
+    @Override
+    public void writeI16(short i16) throws TException {
+        writeJSONInteger(i16);
+    }
+
+    @Override
+    public void writeI32(int i32) throws TException {
+        writeJSONInteger(i32);
+    }
+
+    @Override
+    public void writeI64(long i64) throws TException {
+        writeJSONInteger(i64);
+    }
+
+    @Override
+    public void writeUuid(UUID uuid) throws TException {
+        writeJSONString(uuid.toString());
+    }
+
+    @Override
+    public void writeDouble(double dub) throws TException {
+        writeJSONDouble(dub);
+    }
+
+    @Override
+    public void writeString(String str) throws TException {
+        writeJSONString(str);
+    }
+
+    @Override
+    public void writeBinary(ByteBuffer bin) throws TException {
+        ByteBuffer encoded = Base64.getEncoder().withoutPadding().encode(bin.duplicate());
+        writeSeparator();
+        ensure(encoded.remaining() + 2);
+        out[outLength++] = '"';
+        encoded.get(out, outLength, encoded.remaining());
+        outLength += encoded.position();
+        out[outLength++] = '"';
+        endValue();
+    }
+
+    // ---------------------------------------------------------------- input
+
+    private byte readByteFromTransport() throws TTransportException {
+        if (trans_.getBytesRemainingInBuffer() > 0) {
+            byte b = trans_.getBuffer()[trans_.getBufferPosition()];
+            trans_.consumeBuffer(1);
+            return b;
+        }
+        trans_.readAll(oneByte, 0, 1);
+        return oneByte[0];
+    }
+
+    private byte next() throws TTransportException {
+        if (hasPeeked) {
+            hasPeeked = false;
+            return peeked;
+        }
+        return readByteFromTransport();
+    }
+
+    private byte peek() throws TTransportException {
+        if (!hasPeeked) {
+            peeked = readByteFromTransport();
+            hasPeeked = true;
+        }
+        return peeked;
+    }
+
+    private void expect(byte expected) throws TException {
+        byte b = next();
+        if (b != expected) {
+            throw new TProtocolException(TProtocolException.INVALID_DATA, "Unexpected character:" + (char) b);
+        }
+    }
+
+    private void scratchAppend(byte b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratchLength * 2);
+        }
+        scratch[scratchLength++] = b;
+    }
+
+    private static boolean isJSONNumeric(byte b) {
+        switch (b) {
+            case '+': case '-': case '.': case 'E': case 'e':
+            case '0': case '1': case '2': case '3': case '4':
+            case '5': case '6': case '7': case '8': case '9':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void readJSONNumericChars() throws TTransportException {
+        scratchLength = 0;
+        while (isJSONNumeric(peek())) {
+            scratchAppend(next());
+        }
+    }
+
+    private long readJSONInteger() throws TException {
+        readSeparator();
+        boolean quoted = escapeNum();
+        if (quoted) {
+            expect((byte) '"');
+        }
+        readJSONNumericChars();
+        if (quoted) {
+            expect((byte) '"');
+        }
+        return parseLong(scratch, scratchLength);
+    }
+
+    /**
+     * Parses plain decimal integers of up to 18 digits in place; anything
+     * longer or unusual goes to Long.parseLong for identical error handling
+     */
+    private static long parseLong(byte[] digits, int length) throws TProtocolException {
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (digits[0] == '-' || digits[0] == '+')) {
+            negative = digits[0] == '-';
+            i = 1;
+        }
+        if (length > i && length - i <= 18) {
+            long value = 0;
+            for (; i < length; i++) {
+                int d = digits[i] - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                value = value * 10 + d;
+            }
+            if (i == length) {
+                return negative ? -value : value;
+            }
+        }
+        try {
+            return Long.parseLong(new String(digits, 0, length, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw new TProtocolException(TProtocolException.INVALID_DATA, "Bad data encounted in numeric data");
+        }
+    }
+
+    private double readJSONDouble() throws TException {
+        readSeparator();
+        if (peek() == '"') {
+            readJSONStringBytes();
+            double value = parseDouble();
+            if (!escapeNum() && !Double.isNaN(value) && !Double.isInfinite(value)) {
+                throw new TProtocolException(TProtocolException.INVALID_DATA, "Numeric data unexpectedly quoted");
+            }
+            return value;
+        }
+        if (escapeNum()) {
+            expect((byte) '"');
+        }
+        readJSONNumericChars();
+        return parseDouble();
+    }
+
+    private double parseDouble() throws TProtocolException {
+        try {
+            return Double.parseDouble(new String(scratch, 0, scratchLength, StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            throw new TProtocolException(TProtocolException.INVALID_DATA, "Bad data encounted in numeric data");
+        }
+    }
+
+    /**
+     * Reads a quoted string (the separator already consumed) into the
+     * scratch buffer as UTF-8, resolving escapes
+     */
+    private void readJSONStringBytes() throws TException {
+        expect((byte) '"');
+        scratchLength = 0;
+        char pendingHigh = 0;
+        while (true) {
+            byte b = next();
+            if (b == '"') {
+                break;
+            }
+            if (b != '\\') {
+                if (pendingHigh != 0) {
+                    throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected low surrogate char");
+                }
+                scratchAppend(b);
+                continue;
+            }
+            b = next();
+            if (b != 'u') {
+                if (pendingHigh != 0) {
+                    throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected low surrogate char");
+                }
+                scratchAppend(unescape(b));
+                continue;
+            }
+            char c = (char) ((hexVal(next()) << 12) | (hexVal(next()) << 8) | (hexVal(next()) << 4) | hexVal(next()));
+            if (Character.isHighSurrogate(c)) {
+                if (pendingHigh != 0) {
+                    throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected low surrogate char");
+                }
+                pendingHigh = c;
+            } else if (Character.isLowSurrogate(c)) {
+                if (pendingHigh == 0) {
+                    throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected high surrogate char");
+                }
+                appendCodePoint(Character.toCodePoint(pendingHigh, c));
+                pendingHigh = 0;
+            } else {
+                if (pendingHigh != 0) {
+                    throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected low surrogate char");
+                }
+                appendCodePoint(c);
+            }
+        }
+        if (pendingHigh != 0) {
+            throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected low surrogate char");
+        }
+    }
+
+    private static byte unescape(byte b) throws TProtocolException {
+        switch (b) {
+            case '"': return '"';
+            case '\\': return '\\';
+            case '/': return '/';
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 't': return '\t';
+            default:
+                throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected control char");
+        }
+    }
+
+    private static int hexVal(byte b) throws TProtocolException {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+        throw new TProtocolException(TProtocolException.INVALID_DATA, "Expected hex character");
+    }
+
+    private void appendCodePoint(int cp) {
+        if (cp < 0x80) {
+            scratchAppend((byte) cp);
+        } else if (cp < 0x800) {
+            scratchAppend((byte) (0xc0 | (cp >> 6)));
+            scratchAppend((byte) (0x80 | (cp & 0x3f)));
+        } else if (cp < 0x10000) {
+            scratchAppend((byte) (0xe0 | (cp >> 12)));
+            scratchAppend((byte) (0x80 | ((cp >> 6) & 0x3f)));
+            scratchAppend((byte) (0x80 | (cp & 0x3f)));
+        } else {
+            scratchAppend((byte) (0xf0 | (cp >> 18)));
+            scratchAppend((byte) (0x80 | ((cp >> 12) & 0x3f)));
+            scratchAppend((byte) (0x80 | ((cp >> 6) & 0x3f)));
+            scratchAppend((byte) (0x80 | (cp & 0x3f)));
+        }
+    }
+
+    /**
+     * Reads a string value. When the transport exposes its buffer and the
+     * string has no escapes, it is decoded in place without copying.
+     */
+    private String readJSONString() throws TException {
+        readSeparator();
+        if (!hasPeeked && trans_.getBytesRemainingInBuffer() > 0) {
+            byte[] buf = trans_.getBuffer();
+            int start = trans_.getBufferPosition();
+            int end = start + trans_.getBytesRemainingInBuffer();
+            if (buf[start] == '"') {
+                for (int i = start + 1; i < end; i++) {
+                    byte b = buf[i];
+                    if (b == '"') {
+                        String value = new String(buf, start + 1, i - start - 1, StandardCharsets.UTF_8);
+                        trans_.consumeBuffer(i - start + 1);
+                        return value;
+                    }
+                    if (b == '\\') {
+                        break;
+                    }
+                }
+            }
+        }
+        readJSONStringBytes();
+        return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+    }
+
+    private byte readTypeName() throws TException {
+        readSeparator();
+        readJSONStringBytes();
+        byte type = TType.STOP;
+        if (scratchLength > 1) {
+            switch (scratch[0]) {
+                case 'd':
+                    type = TType.DOUBLE;
+                    break;
+                case 'i':
+                    switch (scratch[1]) {
+                        case '8': type = TType.BYTE; break;
+                        case '1': type = TType.I16; break;
+                        case '3': type = TType.I32; break;
+                        case '6': type = TType.I64; break;
+                        default: break;
+                    }
+                    break;
+                case 'l':
+                    type = TType.LIST;
+                    break;
+                case 'm':
+                    type = TType.MAP;
+                    break;
+                case 'r':
+                    type = TType.STRUCT;
+                    break;
+                case 's':
+                    if (scratch[1] == 't') {
+                        type = TType.STRING;
+                    } else if (scratch[1] == 'e') {
+                        type = TType.SET;
+                    }
+                    break;
+                case 't':
+                    type = TType.BOOL;
+                    break;
+                case 'u':
+                    type = TType.UUID;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (type == TType.STOP) {
+            throw new TProtocolException(TProtocolException.NOT_IMPLEMENTED, "Unrecognized type");
+        }
+        return type;
+    }
+
+    private void readJSONObjectStart() throws TException {
+        readSeparator();
+        expect((byte) '{');
+        push(PAIR_FIRST);
+    }
+
+    private void readJSONObjectEnd() throws TException {
+        expect((byte) '}');
+        pop();
+    }
+
+    private void readJSONArrayStart() throws TException {
+        readSeparator();
+        expect((byte) '[');
+        push(LIST_FIRST);
+    }
+
+    private void readJSONArrayEnd() throws TException {
+        expect((byte) ']');
+        pop();
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+        depth = 0;
+        readJSONArrayStart();
+        if (readJSONInteger() != VERSION) {
+            throw new TProtocolException(TProtocolException.BAD_VERSION, "Message contained bad version.");
+        }
+        readSeparator();
+        readJSONStringBytes();
+        String name = messageName();
+        byte type = (byte) readJSONInteger();
+        int seqid = (int) readJSONInteger();
+        return new TMessage(name, type, seqid);
+    }
+
+    /**
+     * Clients call the same few methods over and over, so the last name is
+     * kept and reused when the bytes match
+     */
+    private String messageName() {
+        if (scratchLength != lastName.length || !Arrays.equals(scratch, 0, scratchLength, lastName, 0, scratchLength)) {
+            lastName = Arrays.copyOf(scratch, scratchLength);
+            lastNameString = new String(lastName, StandardCharsets.UTF_8);
+        }
+        return lastNameString;
+    }
+
+    @Override
+    public void readMessageEnd() throws TException {
+        readJSONArrayEnd();
+    }
+
+    @Override
+    public TStruct readStructBegin() throws TException {
+        readJSONObjectStart();
+        return ANONYMOUS_STRUCT;
+    }
+
+    @Override
+    public void readStructEnd() throws TException {
+        readJSONObjectEnd();
+    }
+
+    @Override
+    public TField readFieldBegin() throws TException {
+        if (peek() == '}') {
+            return STOP_FIELD;
+        }
+        short id = (short) readJSONInteger();
+        readJSONObjectStart();
+        return field(readTypeName(), id);
+    }
+
+    private TField field(byte type, short id) {
+        if (id < 0 || id >= MAX_CACHED_FIELD_ID) {
+            return new TField("", type, id);
+        }
+        TField[] byId = fieldCache[type];
+        if (byId == null) {
+            byId = new TField[MAX_CACHED_FIELD_ID];
+            fieldCache[type] = byId;
+        }
+        TField field = byId[id];
+        if (field == null) {
+            field = new TField("", type, id);
+            byId[id] = field;
+        }
+        return field;
+    }
+
+    @Override
+    public void readFieldEnd() throws TException {
+        readJSONObjectEnd();
+    }
+
+    @Override
+    public TMap readMapBegin() throws TException {
+        readJSONArrayStart();
+        byte keyType = readTypeName();
+        byte valueType = readTypeName();
+        int size = (int) readJSONInteger();
+        TMap map = new TMap(keyType, valueType, size);
+        checkReadBytesAvailable(map);
+        readJSONObjectStart();
+        return map;
+    }
+
+    @Override
+    public void readMapEnd() throws TException {
+        readJSONObjectEnd();
+        readJSONArrayEnd();
+    }
+
+    @Override
+    public TList readListBegin() throws TException {
+        readJSONArrayStart();
+        byte elemType = readTypeName();
+        int size = (int) readJSONInteger();
+        TList list = new TList(elemType, size);
+        checkReadBytesAvailable(list);
+        return list;
+    }
+
+    @Override
+    public void readListEnd() throws TException {
+        readJSONArrayEnd();
+    }
+
+    @Override
+    public TSet readSetBegin() throws TException {
+        readJSONArrayStart();
+        byte elemType = readTypeName();
+        int size = (int) readJSONInteger();
+        TSet set = new TSet(elemType, size);
+        checkReadBytesAvailable(set);
+        return set;
+    }
+
+    @Override
+    public void readSetEnd() throws TException {
+        readJSONArrayEnd();
+    }
+
+    @Override
+    public boolean readBool() throws TException {
+        return readJSONInteger() != 0;
+    }
+
+    @Override
+    public byte readByte() throws TException {
+        return (byte) readJSONInteger();
+    }
+
+    @Override
+    public short readI16() throws TException {
+        return (short) readJSONInteger();
+    }
+
+    @Override
+    public int readI32() throws TException {
+        return (int) readJSONInteger();
+    }
+
+    @Override
+    public long readI64() throws TException {
+        return readJSONInteger();
+    }
+
+    @Override
+    public UUID readUuid() throws TException {
+        return UUID.fromString(readString());
+    }
+
+    @Override
+    public double readDouble() throws TException {
+        return readJSONDouble();
+    }
+
+    @Override
+    public String readString() throws TException {
+        return readJSONString();
+    }
+
+    @Override
+    public ByteBuffer readBinary() throws TException {
+        readSeparator();
+        readJSONStringBytes();
+        int length = scratchLength;
+        // Padding is optional on the wire; the stock protocol never writes it
+        while (length > 0 && scratch[length - 1] == '=') {
+            length--;
+        }
+        try {
+            return ByteBuffer.wrap(Base64.getDecoder().decode(Arrays.copyOf(scratch, length)));
+        } catch (IllegalArgumentException e) {
+            throw new TProtocolException(TProtocolException.INVALID_DATA, "Bad base64 data");
+        }
+    }
+
+    @Override
+    public int getMinSerializedSize(byte type) throws TTransportException {
+        switch (type) {
+            case TType.STOP:
+            case TType.VOID:
+                return 0;
+            case TType.BOOL:
+            case TType.BYTE:
+            case TType.DOUBLE:
+            case TType.I16:
+            case TType.I32:
+            case TType.I64:
+                return 1;
+            case TType.STRING:
+            case TType.STRUCT:
+            case TType.MAP:
+            case TType.SET:
+            case TType.LIST:
+                return 2;
+            default:
+                throw new TTransportException(TTransportException.UNKNOWN, "unrecognized type code");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the handler's part of a call, from its arguments being
+ * decoded to its reply being started.
+ */
+@Name("com.example.Handler")
+@Label("Thrift Handler")
+@Category({"Thrift", "Server"})
+@Description("Handler work for one call, between decoding and replying")
+@StackTrace(false)
+class HandlerEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+}
@@ -0,0 +1,257 @@
+package com.example;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.reactor.IOSession;
+import org.apache.hc.core5.reactor.IOSessionListener;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves a Thrift processor over HTTP with the semantics of Thrift's
+ * TServlet: each POST to {@link #PATH} carries one request message in the
+ * body and gets the reply message back as the response body.
+ *
+ * Connections are handled by an httpcore5 I/O reactor, either as HTTP/1.1
+ * with keep-alive or as cleartext HTTP/2 (prior knowledge), which multiplexes
+ * concurrent calls on one connection. Without TLS there is no ALPN to agree
+ * on a version, so each endpoint speaks one of them; the server runs one
+ * endpoint per version. The reactor threads only move bytes; calls run on a
+ * worker pool so a slow call never stalls other streams.
+ *
+ * There is no connection-per-caller on HTTP (one HTTP/2 connection from a
+ * proxy can carry many callers), so the event handler sees every request as
+ * its own connection: per-connection state such as rate limit buckets starts
+ * fresh, and limits apply per client ID.
+ */
+public class HttpEndpoint {
+    public static final String PATH = "/thrift";
+    public static final ContentType CONTENT_TYPE = ContentType.create("application/x-thrift");
+    public static final int DEFAULT_WORKERS = 64;
+
+    private final TProcessor processor;
+    private final TProtocolFactory protocolFactory;
+    private final TServerEventHandler eventHandler;
+    private final boolean http2;
+    private final ExecutorService workers;
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private HttpAsyncServer server;
+    private int port;
+
+    public HttpEndpoint(TProcessor processor, TProtocolFactory protocolFactory, TServerEventHandler eventHandler, boolean http2) {
+        this(processor, protocolFactory, eventHandler, http2, DEFAULT_WORKERS);
+    }
+
+    public HttpEndpoint(TProcessor processor, TProtocolFactory protocolFactory, TServerEventHandler eventHandler, boolean http2, int workerCount) {
+        this.processor = processor;
+        this.protocolFactory = protocolFactory;
+        this.eventHandler = eventHandler;
+        this.http2 = http2;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "http-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts listening; port 0 picks a free port, see {@link #getPort()}
+     */
+    public void start(int port) throws TTransportException {
+        server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(http2 ? HttpVersionPolicy.FORCE_HTTP_2 : HttpVersionPolicy.FORCE_HTTP_1)
+            .setIOReactorConfig(IOReactorConfig.custom().setSoReuseAddress(true).setTcpNoDelay(true).build())
+            .setIOSessionListener(new ConnectionCounter())
+            .register(PATH, new ThriftHandler())
+            .create();
+        server.start();
+        try {
+            ListenerEndpoint endpoint = server.listen(new InetSocketAddress(port), URIScheme.HTTP).get();
+            this.port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.close(CloseMode.IMMEDIATE);
+            throw new TTransportException("Interrupted while binding HTTP port " + port, e);
+        } catch (ExecutionException e) {
+            server.close(CloseMode.IMMEDIATE);
+            throw new TTransportException("Could not bind HTTP port " + port, e.getCause());
+        }
+    }
+
+    /**
+     * Stops accepting and waits up to the timeout, in all, for calls in flight
+     */
+    public void stop(long timeoutMillis) {
+        if (server == null) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        server.initiateShutdown();
+        try {
+            // Requests already read on open connections still reach handle(),
+            // so the workers run until the reactor has finished its exchanges
+            // (a wait of 0 would be unbounded)
+            server.awaitShutdown(TimeValue.ofMilliseconds(Math.max(1, timeoutMillis)));
+            workers.shutdown();
+            workers.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // The graceful wait is over; a graceful close would wait once more
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Runs one request message through the processor. Request and reply share
+     * one buffer, as they share one transport in TServlet, so protocols that
+     * pair input and output by transport (protocol sniffing) work unchanged.
+     * The buffer is counted like a socket connection, for per-call bytes.
+     */
+    byte[] process(byte[] request) throws TException {
+        TMemoryBuffer buffer = new TMemoryBuffer(request.length + 256);
+        buffer.write(request);
+        TTransport transport = new CountingTransport(buffer);
+        TProtocol in = protocolFactory.getProtocol(transport);
+        TProtocol out = protocolFactory.getProtocol(transport);
+        ServerContext context = (eventHandler != null) ? eventHandler.createContext(in, out) : null;
+        try {
+            processor.process(in, out);
+        } finally {
+            if (eventHandler != null) {
+                eventHandler.deleteContext(context, in, out);
+            }
+        }
+        return Arrays.copyOfRange(buffer.getArray(), request.length, buffer.length());
+    }
+
+    private class ThriftHandler implements AsyncServerRequestHandler<Message<HttpRequest, byte[]>> {
+        @Override
+        public AsyncRequestConsumer<Message<HttpRequest, byte[]>> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+            return new BasicRequestConsumer<>(entityDetails != null ? new BasicAsyncEntityConsumer() : null);
+        }
+
+        @Override
+        public void handle(Message<HttpRequest, byte[]> message, ResponseTrigger trigger, HttpContext context) {
+            requests.incrementAndGet();
+            if (!Method.POST.isSame(message.getHead().getMethod())) {
+                respond(trigger, context, HttpStatus.SC_METHOD_NOT_ALLOWED, "Thrift calls must be POSTed");
+                return;
+            }
+            byte[] body = message.getBody();
+            if (body == null || body.length == 0) {
+                respond(trigger, context, HttpStatus.SC_BAD_REQUEST, "Missing Thrift message");
+                return;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        byte[] reply = process(body);
+                        submit(trigger, context, new BasicResponseProducer(HttpStatus.SC_OK, new BasicAsyncEntityProducer(reply, CONTENT_TYPE)));
+                    } catch (TException | RuntimeException e) {
+                        respond(trigger, context, HttpStatus.SC_INTERNAL_SERVER_ERROR, String.valueOf(e.getMessage()));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Stopped past its timeout; the call never started, so it can be retried
+                respond(trigger, context, HttpStatus.SC_SERVICE_UNAVAILABLE, "Server is shutting down");
+            }
+        }
+
+        private void respond(ResponseTrigger trigger, HttpContext context, int status, String text) {
+            submit(trigger, context, new BasicResponseProducer(status, text, ContentType.TEXT_PLAIN));
+        }
+
+        private void submit(ResponseTrigger trigger, HttpContext context, BasicResponseProducer response) {
+            try {
+                trigger.submitResponse(response, context);
+            } catch (Exception e) {
+                // The client went away; nothing left to answer
+            }
+        }
+    }
+
+    private class ConnectionCounter implements IOSessionListener {
+        @Override
+        public void connected(IOSession session) {
+            connectionsOpened.incrementAndGet();
+        }
+
+        @Override
+        public void startTls(IOSession session) {
+        }
+
+        @Override
+        public void inputReady(IOSession session) {
+        }
+
+        @Override
+        public void outputReady(IOSession session) {
+        }
+
+        @Override
+        public void timeout(IOSession session) {
+        }
+
+        @Override
+        public void exception(IOSession session, Exception ex) {
+        }
+
+        @Override
+        public void disconnected(IOSession session) {
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out shard-aware user IDs without a shared counter on the hot path.
+ * Each thread leases a block of sequence numbers from a shared cursor and
+ * allocates from it locally, so the shared cache line is touched once per
+ * block rather than once per ID. IDs are unique but only increase within a
+ * thread; unused parts of a block are skipped.
+ *
+ * With a state file, the allocator persists a high-water mark ahead of every
+ * block it leases and resumes from that mark on restart, so no ID issued
+ * before a crash is issued again. The mark is forced to disk before it
+ * replaces the old one, and a file that cannot be read stops startup rather
+ * than risk reissuing IDs.
+ */
+public class IdAllocator {
+    public static final int DEFAULT_BLOCK_SIZE = 1000;
+    // Blocks reserved per write of the state file
+    private static final int RESERVED_BLOCKS = 100;
+
+    private final int shardId;
+    private final int blockSize;
+    private final Path stateFile;
+    private final AtomicLong nextBlockStart;
+    // Lowest sequence that may still be handed out; raised by imports
+    private final AtomicLong floor = new AtomicLong(1);
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+    private volatile long persistedMark;
+
+    public IdAllocator(int shardId) {
+        this(shardId, DEFAULT_BLOCK_SIZE, null);
+    }
+
+    public IdAllocator(int shardId, int blockSize, Path stateFile) {
+        ShardIds.compose(shardId, 0);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.shardId = shardId;
+        this.blockSize = blockSize;
+        this.stateFile = stateFile;
+        long start = 1;
+        if (stateFile != null && Files.exists(stateFile)) {
+            start = Math.max(start, readMark(stateFile));
+        }
+        this.persistedMark = start;
+        this.nextBlockStart = new AtomicLong(start);
+    }
+
+    public long nextId() {
+        Block block = blocks.get();
+        while (true) {
+            if (block.next >= block.end || block.next < floor.get()) {
+                lease(block);
+            }
+            long sequence = block.next++;
+            // Checked again once taken, so an ID imported meanwhile is skipped
+            if (sequence >= floor.get()) {
+                return ShardIds.compose(shardId, sequence);
+            }
+        }
+    }
+
+    /**
+     * Makes sure the given sequence number is never handed out, as when a
+     * user with an ID from this shard is imported. Blocks below it are
+     * abandoned.
+     */
+    public void advancePast(long sequence) {
+        floor.accumulateAndGet(sequence + 1, Math::max);
+        nextBlockStart.accumulateAndGet(sequence + 1, Math::max);
+    }
+
+    private void lease(Block block) {
+        long start = nextBlockStart.getAndAdd(blockSize);
+        long end = start + blockSize;
+        if (stateFile != null && end > persistedMark) {
+            reserve(end);
+        }
+        block.next = start;
+        block.end = end;
+    }
+
+    private synchronized void reserve(long end) {
+        if (end <= persistedMark) {
+            return;
+        }
+        long mark = end + (long) blockSize * RESERVED_BLOCKS;
+        try {
+            Path temp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+            ByteBuffer bytes = ByteBuffer.wrap(Long.toString(mark).getBytes(StandardCharsets.UTF_8));
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                // Durable before the rename, so a crash never leaves an empty mark
+                channel.force(true);
+            }
+            Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist ID high-water mark to " + stateFile, e);
+        }
+        persistedMark = mark;
+    }
+
+    private static long readMark(Path stateFile) {
+        String content;
+        try {
+            content = new String(Files.readAllBytes(stateFile), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read ID high-water mark from " + stateFile, e);
+        }
+        try {
+            return Long.parseLong(content);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Unreadable ID high-water mark in " + stateFile + ": \"" + content
+                + "\". Restore the file, or write a number above every ID this shard has issued.", e);
+        }
+    }
+
+    public int getShardId() {
+        return shardId;
+    }
+
+    private static final class Block {
+        long next;
+        long end;
+    }
+}
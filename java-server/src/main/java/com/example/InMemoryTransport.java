@@ -0,0 +1,227 @@
+package com.example;
+
+import org.apache.thrift.TConfiguration;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TEndpointTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * One end of an in-memory connection. Bytes written on one end are read on
+ * the other from a ring buffer, with no socket, no syscalls and no threads.
+ *
+ * {@link #serve(TProcessor, TProtocolFactory)} is the usual entry point: it
+ * returns the client end of a pair whose server end runs the processor on
+ * the caller's thread each time the client flushes a message. A call is
+ * then encoded, processed and decoded exactly as over a socket, so embedded
+ * callers and tests use the normal generated client against the real
+ * processor chain.
+ *
+ * Not thread-safe; give each thread its own pair.
+ */
+public class InMemoryTransport extends TEndpointTransport {
+    public static final int DEFAULT_CAPACITY = 4 * 1024;
+
+    /**
+     * Runs when the peer flushes, with the flushed bytes ready to read
+     */
+    public interface Receiver {
+        void receive() throws TException;
+    }
+
+    private final Ring input;
+    private InMemoryTransport peer;
+    private Receiver receiver;
+    private boolean open = true;
+
+    private InMemoryTransport(int capacity) throws TTransportException {
+        super(new TConfiguration());
+        this.input = new Ring(capacity);
+    }
+
+    /**
+     * Two connected ends, each reading what the other writes
+     */
+    public static InMemoryTransport[] pair() throws TTransportException {
+        return pair(DEFAULT_CAPACITY);
+    }
+
+    public static InMemoryTransport[] pair(int capacity) throws TTransportException {
+        InMemoryTransport client = new InMemoryTransport(capacity);
+        InMemoryTransport server = new InMemoryTransport(capacity);
+        client.peer = server;
+        server.peer = client;
+        return new InMemoryTransport[] {client, server};
+    }
+
+    /**
+     * Returns a client transport whose calls are processed on flush
+     */
+    public static InMemoryTransport serve(TProcessor processor, TProtocolFactory protocolFactory) throws TTransportException {
+        InMemoryTransport[] ends = pair();
+        InMemoryTransport server = ends[1];
+        TProtocol in = protocolFactory.getProtocol(server);
+        TProtocol out = protocolFactory.getProtocol(server);
+        // A flush may carry several messages, e.g. oneway calls ahead of a call
+        server.setReceiver(() -> {
+            try {
+                while (server.input.available() > 0) {
+                    processor.process(in, out);
+                }
+            } catch (TException | RuntimeException e) {
+                // As a socket server would, drop the connection it can no longer frame
+                server.close();
+                throw e;
+            }
+        });
+        return ends[0];
+    }
+
+    public void setReceiver(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void open() throws TTransportException {
+        if (!open) {
+            throw new TTransportException(TTransportException.NOT_OPEN, "In-memory transport is closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws TTransportException {
+        if (input.available() == 0) {
+            // Nothing more can arrive while this thread is the one reading
+            throw new TTransportException(TTransportException.END_OF_FILE,
+                peer.open ? "No data flushed by the other end" : "Other end closed");
+        }
+        return input.read(buf, off, len);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) throws TTransportException {
+        if (!open || !peer.open) {
+            throw new TTransportException(TTransportException.NOT_OPEN, "In-memory transport is closed");
+        }
+        peer.input.write(buf, off, len);
+    }
+
+    @Override
+    public void flush() throws TTransportException {
+        Receiver peerReceiver = peer.receiver;
+        if (peerReceiver == null || peer.input.available() == 0) {
+            return;
+        }
+        try {
+            peerReceiver.receive();
+        } catch (TTransportException e) {
+            throw e;
+        } catch (TException e) {
+            throw new TTransportException(TTransportException.UNKNOWN, e);
+        }
+    }
+
+    @Override
+    public byte[] getBuffer() {
+        return input.buffer;
+    }
+
+    @Override
+    public int getBufferPosition() {
+        return input.head & input.mask;
+    }
+
+    @Override
+    public int getBytesRemainingInBuffer() {
+        return input.contiguous();
+    }
+
+    @Override
+    public void consumeBuffer(int len) {
+        input.consume(len);
+    }
+
+    /**
+     * Byte ring with a power-of-two capacity that doubles when a write does
+     * not fit. Head and tail count bytes; masking maps them into the array.
+     */
+    static final class Ring {
+        byte[] buffer;
+        int mask;
+        int head;
+        int tail;
+
+        Ring(int capacity) {
+            int size = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+            buffer = new byte[size];
+            mask = size - 1;
+        }
+
+        int available() {
+            return tail - head;
+        }
+
+        /**
+         * Readable bytes before the array wraps around
+         */
+        int contiguous() {
+            return Math.min(available(), buffer.length - (head & mask));
+        }
+
+        void write(byte[] src, int off, int len) {
+            if (len > buffer.length - available()) {
+                grow(available() + len);
+            }
+            int start = tail & mask;
+            int first = Math.min(len, buffer.length - start);
+            System.arraycopy(src, off, buffer, start, first);
+            System.arraycopy(src, off + first, buffer, 0, len - first);
+            tail += len;
+        }
+
+        int read(byte[] dst, int off, int len) {
+            int count = Math.min(len, available());
+            int start = head & mask;
+            int first = Math.min(count, buffer.length - start);
+            System.arraycopy(buffer, start, dst, off, first);
+            System.arraycopy(buffer, 0, dst, off + first, count - first);
+            consume(count);
+            return count;
+        }
+
+        void consume(int count) {
+            head += count;
+            if (head == tail) {
+                // Empty: restart at the front so the next message is contiguous
+                head = 0;
+                tail = 0;
+            }
+        }
+
+        private void grow(int needed) {
+            int size = buffer.length;
+            while (size < needed) {
+                size <<= 1;
+            }
+            byte[] grown = new byte[size];
+            int count = available();
+            read(grown, 0, count);
+            buffer = grown;
+            mask = size - 1;
+            head = 0;
+            tail = count;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example;
+
+import UserService.InvalidationBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded log of user IDs invalidated by updates and deletes. Each entry gets
+ * the next sequence number; clients poll with the last sequence they saw and
+ * receive every ID after it, or a reset if the log has already wrapped past it.
+ */
+public class InvalidationLog {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final long[] userIds;
+    private long sequence = 0;
+
+    public InvalidationLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InvalidationLog(int capacity) {
+        this.userIds = new long[capacity];
+    }
+
+    public synchronized void append(long userId) {
+        sequence++;
+        userIds[(int) (sequence % userIds.length)] = userId;
+    }
+
+    public synchronized InvalidationBatch since(long sinceSequence) {
+        long oldest = Math.max(1, sequence - userIds.length + 1);
+        if (sinceSequence < oldest - 1 || sinceSequence > sequence) {
+            return new InvalidationBatch(sequence, new ArrayList<>(), true);
+        }
+        List<Long> ids = new ArrayList<>((int) (sequence - sinceSequence));
+        for (long seq = sinceSequence + 1; seq <= sequence; seq++) {
+            ids.add(userIds[(int) (seq % userIds.length)]);
+        }
+        return new InvalidationBatch(sequence, ids, false);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example;
+
+import UserService.MethodStats;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-method call counts, latency, heap allocation and bytes on the wire,
+ * recorded by {@link MethodMetricsProcessor} and reported through
+ * AdminService.getStats. Allocation comes from the JVM's per-thread
+ * allocation counter, which covers everything the worker thread allocates
+ * for a call (decoding, the handler and encoding the reply) but nothing
+ * other threads allocate for it.
+ *
+ * Method names come from clients, so at most {@link #MAX_METHODS} are
+ * tracked; calls to any further names are counted under {@link #OTHER}.
+ */
+public class MethodMetrics {
+    public static final int MAX_METHODS = 256;
+    public static final String OTHER = "(other)";
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final Map<String, Counters> methods = new ConcurrentHashMap<>();
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        if (!allocation.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        allocation.setThreadAllocatedMemoryEnabled(true);
+        return allocation;
+    }
+
+    public static boolean isAllocationTrackingSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Bytes allocated so far by the calling thread, or 0 if the JVM cannot tell
+     */
+    static long allocatedBytes() {
+        return (THREADS != null) ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    /**
+     * The method name a message was sent under, without request headers
+     */
+    static String methodName(String messageName) {
+        int separator = messageName.indexOf(RequestHeaders.SEPARATOR);
+        return (separator < 0) ? messageName : messageName.substring(0, separator);
+    }
+
+    public void record(String method, long nanos, long allocatedBytes, long bytesIn, long bytesOut) {
+        Counters counters = methods.get(method);
+        if (counters == null) {
+            String key = (methods.size() < MAX_METHODS) ? method : OTHER;
+            counters = methods.computeIfAbsent(key, name -> new Counters());
+        }
+        counters.calls.increment();
+        counters.nanos.add(nanos);
+        counters.maxNanos.accumulateAndGet(nanos, Math::max);
+        counters.allocatedBytes.add(allocatedBytes);
+        counters.bytesIn.add(bytesIn);
+        counters.bytesOut.add(bytesOut);
+    }
+
+    /**
+     * Totals for every method called so far, by method name
+     */
+    public List<MethodStats> snapshot() {
+        List<MethodStats> stats = new ArrayList<>(methods.size());
+        for (Map.Entry<String, Counters> entry : methods.entrySet()) {
+            Counters counters = entry.getValue();
+            stats.add(new MethodStats(entry.getKey(), counters.calls.sum(),
+                counters.nanos.sum() / 1000, counters.maxNanos.get() / 1000,
+                counters.allocatedBytes.sum(), counters.bytesIn.sum(), counters.bytesOut.sum()));
+        }
+        stats.sort((a, b) -> a.getMethod().compareTo(b.getMethod()));
+        return stats;
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder allocatedBytes = new LongAdder();
+        final LongAdder bytesIn = new LongAdder();
+        final LongAdder bytesOut = new LongAdder();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TTransport;
+
+/**
+ * Times each call from its message header being read to its reply being
+ * written, measures what the worker thread allocated meanwhile, and records
+ * both with the call's bytes in and out as an {@link RpcEvent} and, when
+ * per-method metrics are on, in {@link MethodMetrics}. Wraps every call, on
+ * the socket and over HTTP; on the socket it runs just inside
+ * {@link ServerDrain}, so calls the drain refuses on a closed connection are
+ * not counted. Timing starts after the header is read, so a connection
+ * idling between calls is not counted. Bytes are counted when the transport
+ * is a {@link CountingTransport}, and are 0 otherwise; a call's bytes are
+ * those since the previous call on its connection ended, header included.
+ */
+public class MethodMetricsProcessor implements TProcessor {
+    private final TProcessor delegate;
+    private final MethodMetrics metrics;
+
+    /**
+     * With no metrics only the event is kept, and allocation is measured
+     * only while a recording takes the event.
+     */
+    public MethodMetricsProcessor(TProcessor delegate, MethodMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        CountingTransport input = counting(in.getTransport());
+        CountingTransport output = counting(out.getTransport());
+        TMessage message = in.readMessageBegin();
+
+        RpcEvent event = new RpcEvent();
+        event.begin();
+        boolean measuring = metrics != null || event.isEnabled();
+        long allocatedBefore = measuring ? MethodMetrics.allocatedBytes() : 0;
+        long start = System.nanoTime();
+        try {
+            delegate.process(new ReplayedMessageProtocol(in, message), out);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            long allocated = measuring ? MethodMetrics.allocatedBytes() - allocatedBefore : 0;
+            // Taken on every call, so the next one counts only its own bytes
+            long bytesIn = (input != null) ? input.takeBytesRead() : 0;
+            long bytesOut = (output != null) ? output.takeBytesWritten() : 0;
+            event.end();
+            boolean committing = event.shouldCommit();
+            if (metrics != null || committing) {
+                String method = MethodMetrics.methodName(message.name);
+                if (metrics != null) {
+                    metrics.record(method, nanos, allocated, bytesIn, bytesOut);
+                }
+                if (committing) {
+                    event.method = method;
+                    event.bytesIn = bytesIn;
+                    event.bytesOut = bytesOut;
+                    event.allocatedBytes = allocated;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static CountingTransport counting(TTransport transport) {
+        return (transport instanceof CountingTransport) ? (CountingTransport) transport : null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example;
+
+import UserService.Mutation;
+import UserService.MutationBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Bounded, sequenced log of store mutations shipped to read replicas. Each
+ * entry carries the user's full new state (or none for a delete), so replaying
+ * entries in order is idempotent. A replica whose position has been
+ * overwritten is told to resync from a snapshot.
+ *
+ * Writers append while holding the user's map entry, before the new state is
+ * visible in the store, and call {@link #published} once it is. The stable
+ * sequence is the highest one whose mutations are all visible, so a snapshot
+ * copied after reading it plus a replay of later entries is complete.
+ */
+public class MutationLog {
+    public static final int DEFAULT_CAPACITY = 100_000;
+
+    private final Mutation[] entries;
+    private final ConcurrentSkipListSet<Long> unpublished = new ConcurrentSkipListSet<>();
+    private long sequence = 0;
+
+    public MutationLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MutationLog(int capacity) {
+        this.entries = new Mutation[capacity];
+    }
+
+    public synchronized long appendPut(UserRecord user) {
+        Mutation mutation = append(user.getId());
+        mutation.setUser(user.toUser());
+        return mutation.getSequence();
+    }
+
+    public synchronized long appendDelete(long userId) {
+        return append(userId).getSequence();
+    }
+
+    private Mutation append(long userId) {
+        sequence++;
+        Mutation mutation = new Mutation(sequence, userId, System.currentTimeMillis());
+        entries[(int) (sequence % entries.length)] = mutation;
+        unpublished.add(sequence);
+        return mutation;
+    }
+
+    public void published(long mutationSequence) {
+        unpublished.remove(mutationSequence);
+    }
+
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    public synchronized long getStableSequence() {
+        return unpublished.isEmpty() ? sequence : unpublished.first() - 1;
+    }
+
+    public synchronized MutationBatch since(long sinceSequence, int limit) {
+        long oldest = Math.max(1, sequence - entries.length + 1);
+        if (sinceSequence < oldest - 1 || sinceSequence > sequence) {
+            return new MutationBatch(new ArrayList<>(), sequence, true);
+        }
+        long last = Math.min(sequence, sinceSequence + Math.max(0, limit));
+        List<Mutation> mutations = new ArrayList<>((int) (last - sinceSequence));
+        for (long seq = sinceSequence + 1; seq <= last; seq++) {
+            mutations.add(entries[(int) (seq % entries.length)]);
+        }
+        return new MutationBatch(mutations, sequence, false);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+
+/**
+ * Reports a call's phase boundaries to {@link CallPhaseProcessor}: the end
+ * of the request message when used for reading, the start of the reply
+ * when used for writing.
+ */
+class PhaseTrackingProtocol extends TProtocolDecorator {
+    private final TProtocol protocol;
+    private final CallPhaseProcessor.Phases phases;
+
+    PhaseTrackingProtocol(TProtocol protocol, CallPhaseProcessor.Phases phases) {
+        super(protocol);
+        this.protocol = protocol;
+        this.phases = phases;
+    }
+
+    /**
+     * The protocol this one reports on
+     */
+    TProtocol getWrapped() {
+        return protocol;
+    }
+
+    @Override
+    public void readMessageEnd() throws TException {
+        super.readMessageEnd();
+        phases.decoded();
+    }
+
+    @Override
+    public void writeMessageBegin(TMessage message) throws TException {
+        phases.replying();
+        super.writeMessageBegin(message);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TTransport;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Token-bucket rate limits per connection and per client ID (the
+ * {@link RequestHeaders#CLIENT_ID} header). Each call costs tokens by method:
+ * full scans cost one token plus one per {@link #USERS_PER_TOKEN} users in the
+ * store, bulk calls a flat {@link #BULK_COST}, everything else one. A call
+ * over either limit is answered with a TApplicationException of type
+ * {@link #THROTTLED}; a throttled oneway call is dropped.
+ *
+ * Per-connection buckets live in a thread-local that the server's event
+ * handler resets for every connection, which relies on the thread-per-
+ * connection model of TThreadPoolServer.
+ */
+public class RateLimitingProcessor implements TProcessor, TServerEventHandler {
+    /** Exception type for throttled calls; above the types Thrift itself defines. */
+    public static final int THROTTLED = 101;
+    public static final int USERS_PER_TOKEN = 100;
+    public static final int BULK_COST = 10;
+
+    public static final double DEFAULT_CONNECTION_RATE = 1000;
+    public static final int DEFAULT_CONNECTION_BURST = 2000;
+    public static final double DEFAULT_CLIENT_RATE = 5000;
+    public static final int DEFAULT_CLIENT_BURST = 10000;
+    // Client IDs beyond this many are only limited per connection
+    private static final int MAX_CLIENTS = 10_000;
+
+    private final TProcessor delegate;
+    private final IntSupplier userCount;
+    private final double connectionRate;
+    private final int connectionBurst;
+    private final double clientRate;
+    private final int clientBurst;
+    private final ThreadLocal<TokenBucket> connectionBucket;
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> throttledByClient = new ConcurrentHashMap<>();
+    private final AtomicLong throttledByConnection = new AtomicLong();
+
+    public RateLimitingProcessor(TProcessor delegate, IntSupplier userCount) {
+        this(delegate, userCount, DEFAULT_CONNECTION_RATE, DEFAULT_CONNECTION_BURST, DEFAULT_CLIENT_RATE, DEFAULT_CLIENT_BURST);
+    }
+
+    public RateLimitingProcessor(TProcessor delegate, IntSupplier userCount,
+                                 double connectionRate, int connectionBurst, double clientRate, int clientBurst) {
+        this.delegate = delegate;
+        this.userCount = userCount;
+        this.connectionRate = connectionRate;
+        this.connectionBurst = connectionBurst;
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        this.connectionBucket = ThreadLocal.withInitial(() -> new TokenBucket(connectionRate, connectionBurst));
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        TMessage message = in.readMessageBegin();
+        int cost = costOf(message.name.substring(message.name.lastIndexOf(':') + 1));
+
+        String clientId = RequestHeaders.current().get(RequestHeaders.CLIENT_ID);
+        boolean allowed;
+        if (!connectionBucket.get().tryAcquire(cost)) {
+            throttledByConnection.incrementAndGet();
+            allowed = false;
+        } else if (clientId != null && !tryAcquireForClient(clientId, cost)) {
+            throttledByClient.computeIfAbsent(clientId, id -> new AtomicLong()).incrementAndGet();
+            allowed = false;
+        } else {
+            allowed = true;
+        }
+
+        if (allowed) {
+            delegate.process(new ReplayedMessageProtocol(in, message), out);
+            return;
+        }
+        TProtocolUtil.skip(in, TType.STRUCT);
+        in.readMessageEnd();
+        if (message.type != TMessageType.ONEWAY) {
+            out.writeMessageBegin(new TMessage(message.name, TMessageType.EXCEPTION, message.seqid));
+            new TApplicationException(THROTTLED, "Rate limit exceeded: " + message.name).write(out);
+            out.writeMessageEnd();
+            out.getTransport().flush();
+        }
+    }
+
+    int costOf(String method) {
+        switch (method) {
+            case "getAllUsers":
+            case "listUsers":
+                return 1 + userCount.getAsInt() / USERS_PER_TOKEN;
+            case "createUsers":
+            case "getUsers":
+            case "deleteUsers":
+            case "exportUsers":
+            case "importUsers":
+                return BULK_COST;
+            default:
+                return 1;
+        }
+    }
+
+    private boolean tryAcquireForClient(String clientId, int cost) {
+        TokenBucket bucket = clientBuckets.get(clientId);
+        if (bucket == null && clientBuckets.size() < MAX_CLIENTS) {
+            bucket = clientBuckets.computeIfAbsent(clientId, id -> new TokenBucket(clientRate, clientBurst));
+        }
+        // No bucket left for this client: the connection limit already applied
+        return bucket == null || bucket.tryAcquire(cost);
+    }
+
+    public long getThrottledByConnectionCount() {
+        return throttledByConnection.get();
+    }
+
+    public long getThrottledCount(String clientId) {
+        AtomicLong count = throttledByClient.get(clientId);
+        return count != null ? count.get() : 0;
+    }
+
+    public long getThrottledCount() {
+        long total = throttledByConnection.get();
+        for (AtomicLong count : throttledByClient.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    // A fresh connection bucket for every connection on this worker thread
+
+    @Override
+    public void preServe() {
+    }
+
+    @Override
+    public ServerContext createContext(TProtocol input, TProtocol output) {
+        connectionBucket.set(new TokenBucket(connectionRate, connectionBurst));
+        return null;
+    }
+
+    @Override
+    public void deleteContext(ServerContext serverContext, TProtocol input, TProtocol output) {
+        connectionBucket.remove();
+    }
+
+    @Override
+    public void processContext(ServerContext serverContext, TTransport inputTransport, TTransport outputTransport) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example;
+
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+
+/**
+ * Hands an already-read message header back to a wrapped processor, for
+ * processors that look at the method name before dispatching.
+ */
+class ReplayedMessageProtocol extends TProtocolDecorator {
+    private final TMessage message;
+
+    ReplayedMessageProtocol(TProtocol protocol, TMessage message) {
+        super(protocol);
+        this.message = message;
+    }
+
+    @Override
+    public TMessage readMessageBegin() {
+        return message;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example;
+
+import UserService.Mutation;
+import UserService.MutationBatch;
+import UserService.ReplicationService;
+import UserService.Snapshot;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+
+import java.util.List;
+
+/**
+ * Keeps a read replica in step with its primary by pulling the primary's
+ * mutation log over ReplicationService and applying it locally. A replica
+ * that is new or has fallen out of the log's window loads a snapshot first.
+ * Replication is asynchronous: the primary never waits for replicas.
+ */
+public class ReplicaSync implements Runnable {
+    private static final int BATCH_SIZE = 1000;
+    private static final long IDLE_POLL_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    private final UserServiceImpl replica;
+    private final String primaryHost;
+    private final int primaryPort;
+    private final TProtocolFactory protocolFactory;
+
+    private volatile boolean running = true;
+    private volatile long appliedSequence = 0;
+    private volatile long primarySequence = 0;
+    // When the oldest mutation not yet applied was committed on the primary
+    private volatile long oldestUnappliedTimestamp = 0;
+
+    public ReplicaSync(UserServiceImpl replica, String primaryHost, int primaryPort, TProtocolFactory protocolFactory) {
+        this.replica = replica;
+        this.primaryHost = primaryHost;
+        this.primaryPort = primaryPort;
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public void run() {
+        long backoff = 100;
+        while (running) {
+            try (TTransport transport = new TSocket(primaryHost, primaryPort)) {
+                transport.open();
+                ReplicationService.Client primary = new ReplicationService.Client(
+                    new TMultiplexedProtocol(protocolFactory.getProtocol(transport), Server.REPLICATION_SERVICE));
+                System.out.println("Replicating from " + primaryHost + ":" + primaryPort + " at sequence " + appliedSequence);
+                backoff = 100;
+                while (running) {
+                    if (!pullOnce(primary)) {
+                        Thread.sleep(IDLE_POLL_MILLIS);
+                    }
+                }
+            } catch (TException e) {
+                System.err.println("Replication from " + primaryHost + ":" + primaryPort + " failed: " + e.getMessage());
+                sleepQuietly(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pulls and applies one batch. Returns false when the replica was
+     * already caught up.
+     */
+    boolean pullOnce(ReplicationService.Iface primary) throws TException {
+        // One mutation past the batch, so the oldest one left unapplied is known
+        MutationBatch batch = primary.pullMutations(appliedSequence, BATCH_SIZE + 1);
+        boolean loadedSnapshot = false;
+        if (batch.isSnapshotRequired()) {
+            long requested = System.currentTimeMillis();
+            Snapshot snapshot = primary.getSnapshot();
+            replica.loadSnapshot(snapshot);
+            appliedSequence = snapshot.getSequence();
+            System.out.println("Loaded snapshot of " + snapshot.getUsersSize() + " users at sequence " + appliedSequence);
+            batch = primary.pullMutations(appliedSequence, BATCH_SIZE + 1);
+            if (batch.isSnapshotRequired()) {
+                // The log overran again; what is missing came after the request
+                primarySequence = Math.max(batch.getPrimarySequence(), appliedSequence);
+                oldestUnappliedTimestamp = requested;
+                return true;
+            }
+            loadedSnapshot = true;
+        }
+        List<Mutation> mutations = batch.getMutations();
+        int applying = Math.min(mutations.size(), BATCH_SIZE);
+        primarySequence = batch.getPrimarySequence();
+        for (int i = 0; i < applying; i++) {
+            Mutation mutation = mutations.get(i);
+            oldestUnappliedTimestamp = mutation.getTimestampMillis();
+            replica.applyMutation(mutation);
+            appliedSequence = mutation.getSequence();
+        }
+        if (mutations.size() > applying) {
+            oldestUnappliedTimestamp = mutations.get(applying).getTimestampMillis();
+        }
+        return loadedSnapshot || applying > 0;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Mutations the primary had committed at the last pull that this
+     * replica has not applied yet.
+     */
+    public long getLagMutations() {
+        return Math.max(0, primarySequence - appliedSequence);
+    }
+
+    /**
+     * Zero when caught up; otherwise how long ago the oldest mutation this
+     * replica has not applied was committed on the primary.
+     */
+    public long getLagMillis() {
+        if (getLagMutations() == 0) {
+            return 0;
+        }
+        return Math.max(0, System.currentTimeMillis() - oldestUnappliedTimestamp);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
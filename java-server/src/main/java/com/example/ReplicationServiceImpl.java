@@ -0,0 +1,27 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+
+public class ReplicationServiceImpl implements ReplicationService.Iface {
+    // Upper bound on one pull, whatever the replica asks for
+    private static final int MAX_BATCH = 10_000;
+
+    private final UserServiceImpl userService;
+
+    public ReplicationServiceImpl(UserServiceImpl userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public MutationBatch pullMutations(long sinceSequence, int limit) throws TException {
+        return userService.mutationsSince(sinceSequence, Math.min(limit, MAX_BATCH));
+    }
+
+    @Override
+    public Snapshot getSnapshot() throws TException {
+        Snapshot snapshot = userService.snapshot();
+        System.out.println("Serving snapshot of " + snapshot.getUsersSize() + " users at sequence " + snapshot.getSequence());
+        return snapshot;
+    }
+}
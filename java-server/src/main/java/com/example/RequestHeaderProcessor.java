@@ -0,0 +1,36 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+
+/**
+ * Outermost processor: strips the {@link RequestHeaders} suffix from the
+ * message name, so inner processors and multiplexing see the plain name, and
+ * makes the headers available to them while the call is processed.
+ */
+public class RequestHeaderProcessor implements TProcessor {
+    private final TProcessor delegate;
+
+    public RequestHeaderProcessor(TProcessor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        TMessage message = in.readMessageBegin();
+        int separator = message.name.indexOf(RequestHeaders.SEPARATOR);
+        if (separator < 0) {
+            RequestHeaders.setCurrent(RequestHeaders.none());
+        } else {
+            RequestHeaders.setCurrent(RequestHeaders.parse(message.name.substring(separator + 1)));
+            message = new TMessage(message.name.substring(0, separator), message.type, message.seqid);
+        }
+        try {
+            delegate.process(new ReplayedMessageProtocol(in, message), out);
+        } finally {
+            RequestHeaders.clearCurrent();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-request headers carried as a suffix on the message name, since the
+ * Thrift Java protocols have no header slot: {@code getUser#client=batch-7}.
+ * Pairs are separated by ';'; keys and values may not contain '#', ';' or
+ * '='. {@link RequestHeaderProcessor} strips the suffix and exposes the
+ * headers to inner processors through {@link #current()} for the duration of
+ * the call.
+ */
+public final class RequestHeaders {
+    public static final char SEPARATOR = '#';
+    public static final String CLIENT_ID = "client";
+
+    private static final RequestHeaders NONE = new RequestHeaders(Collections.emptyMap());
+    private static final ThreadLocal<RequestHeaders> CURRENT = ThreadLocal.withInitial(() -> NONE);
+
+    private final Map<String, String> values;
+
+    private RequestHeaders(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static RequestHeaders current() {
+        return CURRENT.get();
+    }
+
+    static void setCurrent(RequestHeaders headers) {
+        CURRENT.set(headers);
+    }
+
+    static void clearCurrent() {
+        CURRENT.remove();
+    }
+
+    public static RequestHeaders none() {
+        return NONE;
+    }
+
+    /**
+     * Parses the part of a message name after {@link #SEPARATOR}.
+     */
+    public static RequestHeaders parse(String suffix) {
+        Map<String, String> values = new HashMap<>();
+        for (String pair : suffix.split(";")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                values.put(pair.substring(0, equals), pair.substring(equals + 1));
+            }
+        }
+        return new RequestHeaders(values);
+    }
+
+    public String get(String name) {
+        return values.get(name);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example;
+
+/**
+ * Positions of user IDs on the consistent-hash ring used by routing clients.
+ * Must stay in step with ConsistentHashRing in java-client, which places
+ * nodes and looks up owners with the same function.
+ */
+public final class RingHash {
+
+    private RingHash() {
+    }
+
+    // MurmurHash3 fmix64 finalizer: cheap, and spreads sequential IDs evenly
+    public static long hash(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Whether a ring position lies in (fromHash, toHash], wrapping past
+     * Long.MAX_VALUE when fromHash >= toHash. Equal bounds cover the whole ring.
+     */
+    public static boolean inRange(long hash, long fromHash, long toHash) {
+        if (fromHash < toHash) {
+            return hash > fromHash && hash <= toHash;
+        }
+        return hash > fromHash || hash <= toHash;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one processed call. Its duration is the time from the
+ * request's message header being read to the reply being written; events
+ * cost next to nothing unless a recording enables them.
+ */
+@Name("com.example.Rpc")
+@Label("Thrift RPC")
+@Category({"Thrift", "Server"})
+@Description("One call processed by the server")
+@StackTrace(false)
+class RpcEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+
+    @Label("Bytes In")
+    @DataAmount
+    long bytesIn;
+
+    @Label("Bytes Out")
+    @DataAmount
+    long bytesOut;
+
+    @Label("Allocated")
+    @Description("Heap allocated by the worker thread while processing the call")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -1,6 +1,10 @@
 package com.example;
 
-import UserService.UserService;
+import UserService.AdminService;
+import UserService.BulkService;
+import UserService.ReplicationService;
+import org.apache.thrift.TMultiplexedProcessor;
+import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TCompactProtocol;
 import org.apache.thrift.protocol.TJSONProtocol;
@@ -9,20 +13,48 @@ import org.apache.thrift.protocol.TProtocolFactory;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.StandardSocketOptions;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class Server {
     private static final int PORT = 9091;
+    private static final long DEFAULT_DRAIN_TIMEOUT_MILLIS = 10_000;
+
+    // Service names used by TMultiplexedProtocol clients
+    public static final String USER_SERVICE = "UserService";
+    public static final String ADMIN_SERVICE = "AdminService";
+    public static final String BULK_SERVICE = "BulkService";
+    public static final String REPLICATION_SERVICE = "ReplicationService";
 
     public static void main(String[] args) {
         try {
-            // Create service implementation
-            UserServiceImpl serviceImpl = new UserServiceImpl();
-            UserService.Processor<UserServiceImpl> processor = 
-                new UserService.Processor<>(serviceImpl);
+            // Shard selection: env > arg > default (shard N listens on PORT + N)
+            String envShard = System.getenv("THRIFT_SHARD_ID");
+            String argShard = (args.length > 1) ? args[1] : null;
+            int shardId = Integer.parseInt((envShard != null && !envShard.isEmpty()) ? envShard.trim() : (argShard != null ? argShard.trim() : "0"));
+            String envPort = System.getenv("THRIFT_PORT");
+            int port = (envPort != null && !envPort.isEmpty()) ? Integer.parseInt(envPort.trim()) : PORT + shardId;
 
-            // Create server socket
-            TServerSocket serverSocket = new TServerSocket(PORT);
+            // Create server socket; THRIFT_REUSE_PORT lets a replacement process bind the same port
+            // THRIFT_UNIX_SOCKET listens on a Unix domain socket file instead, for clients on this host
+            String envUnixSocket = System.getenv("THRIFT_UNIX_SOCKET");
+            Path unixSocket = (envUnixSocket != null && !envUnixSocket.isEmpty()) ? Paths.get(envUnixSocket.trim()) : null;
+            TServerTransport serverTransport;
+            if (unixSocket != null) {
+                serverTransport = new UnixServerTransport(unixSocket);
+                serverTransport.listen();
+            } else {
+                String envReusePort = System.getenv("THRIFT_REUSE_PORT");
+                boolean reusePort = envReusePort != null && (envReusePort.trim().equals("1") || envReusePort.trim().equalsIgnoreCase("true"));
+                serverTransport = new TServerSocket(bind(port, reusePort));
+            }
 
 
             // Protocol selection: env > arg > default
@@ -39,9 +71,17 @@ public class Server {
                 case "json":
                     protocolFactory = new TJSONProtocol.Factory();
                     break;
+                case "fastjson":
+                    // Same bytes on the wire as json, with far less parsing and allocation
+                    protocolFactory = new FastJSONProtocol.Factory();
+                    break;
                 case "simplejson":
                     protocolFactory = new TSimpleJSONProtocol.Factory();
                     break;
+                case "auto":
+                    // One port for binary, compact and JSON clients, detected per connection
+                    protocolFactory = new SniffingProtocolFactory();
+                    break;
                 case "binary":
                 default:
                     protocolFactory = new TBinaryProtocol.Factory();
@@ -50,19 +90,105 @@ public class Server {
             // Set env variable for child processes (optional, for demo)
             System.setProperty("THRIFT_PROTOCOL", protocolName);
 
-            TThreadPoolServer.Args serverArgs = new TThreadPoolServer.Args(serverSocket)
-                .processor(processor)
-                .protocolFactory(protocolFactory);
+            // Create service implementations, all served on the same port
+            // Optional THRIFT_ID_FILE keeps the ID high-water mark across restarts
+            String envIdFile = System.getenv("THRIFT_ID_FILE");
+            Path idFile = (envIdFile != null && !envIdFile.isEmpty()) ? Paths.get(envIdFile.trim()) : null;
+            UserServiceImpl serviceImpl = new UserServiceImpl(new IdAllocator(shardId, IdAllocator.DEFAULT_BLOCK_SIZE, idFile));
+            // THRIFT_UTF8_NAMES keeps names UTF-8 encoded in the store, written to the wire as they are
+            String envUtf8Names = System.getenv("THRIFT_UTF8_NAMES");
+            boolean utf8Names = envUtf8Names != null && (envUtf8Names.trim().equals("1") || envUtf8Names.trim().equalsIgnoreCase("true"));
+            serviceImpl.setUtf8Names(utf8Names);
+
+            // Replica mode: THRIFT_REPLICA_OF=host:port of the primary
+            String replicaOf = System.getenv("THRIFT_REPLICA_OF");
+            final ReplicaSync replicaSync;
+            if (replicaOf != null && !replicaOf.isEmpty()) {
+                String[] primary = replicaOf.trim().split(":");
+                serviceImpl.setReadOnly(true);
+                // A sniffing server has no protocol of its own to call out with; binary is the default
+                TProtocolFactory primaryProtocol = (protocolFactory instanceof SniffingProtocolFactory) ? new TBinaryProtocol.Factory() : protocolFactory;
+                replicaSync = new ReplicaSync(serviceImpl, primary[0], Integer.parseInt(primary[1]), primaryProtocol);
+                Thread syncThread = new Thread(replicaSync, "replica-sync");
+                syncThread.setDaemon(true);
+                syncThread.start();
+            } else {
+                replicaSync = null;
+            }
+            // THRIFT_METHOD_METRICS tracks calls, latency, allocation and bytes per method
+            String envMethodMetrics = System.getenv("THRIFT_METHOD_METRICS");
+            MethodMetrics methodMetrics = (envMethodMetrics != null && (envMethodMetrics.trim().equals("1") || envMethodMetrics.trim().equalsIgnoreCase("true")))
+                ? new MethodMetrics() : null;
+
+            // Request headers are stripped first, call phases timed for JFR, expired calls dropped,
+            // then rate limits apply to every service
+            RateLimitingProcessor rateLimiter = new RateLimitingProcessor(
+                createProcessor(serviceImpl, protocolName, replicaSync, methodMetrics), serviceImpl::getUserCount);
+            // Every call is measured for the JFR RPC event, and for per-method metrics when they are on;
+            // on the socket inside the drain, so calls it refuses are not counted
+            TProcessor processor = new MethodMetricsProcessor(
+                new RequestHeaderProcessor(new CallPhaseProcessor(new DeadlineProcessor(rateLimiter))), methodMetrics);
+            ServerDrain drain = new ServerDrain(processor, new ConnectionEventHandler(rateLimiter));
+
+            TThreadPoolServer.Args serverArgs = new TThreadPoolServer.Args(serverTransport)
+                .protocolFactory(protocolFactory)
+                .transportFactory(new CountingTransport.Factory())
+                .processor(drain);
 
-            TServer server = new TThreadPoolServer(serverArgs);
+            TServer server = new DrainableThreadPoolServer(serverArgs);
+            server.setServerEventHandler(drain);
 
-            System.out.println("Starting Apache Thrift User Service on port " + PORT + " using protocol: " + protocolName);
+            // Optional HTTP endpoints for the same services: HTTP/1.1 keep-alive and cleartext HTTP/2
+            HttpEndpoint http1 = startHttpEndpoint(System.getenv("THRIFT_HTTP_PORT"), false, processor, protocolFactory, rateLimiter);
+            HttpEndpoint http2 = startHttpEndpoint(System.getenv("THRIFT_HTTP2_PORT"), true, processor, protocolFactory, rateLimiter);
+
+            String envDrainTimeout = System.getenv("THRIFT_DRAIN_TIMEOUT_MS");
+            long drainTimeoutMillis = (envDrainTimeout != null && !envDrainTimeout.isEmpty()) ? Long.parseLong(envDrainTimeout.trim()) : DEFAULT_DRAIN_TIMEOUT_MILLIS;
+
+            String listenAddress = (unixSocket != null) ? "Unix socket " + unixSocket : "port " + port;
+            System.out.println("Starting Apache Thrift User Service on " + listenAddress + " using protocol: " + protocolName);
+            if (protocolFactory instanceof SniffingProtocolFactory) {
+                System.out.println("Detecting binary, compact and json clients per connection");
+            }
+            if (shardId != 0) {
+                System.out.println("Serving shard " + shardId);
+            }
+            if (replicaSync != null) {
+                System.out.println("Read-only replica of " + replicaOf.trim());
+            }
+            if (methodMetrics != null) {
+                System.out.println("Tracking per-method metrics" + (MethodMetrics.isAllocationTrackingSupported() ? "" : " (allocation not supported by this JVM)"));
+            }
+            if (utf8Names) {
+                System.out.println("Storing names as UTF-8 for binary and compact replies");
+            }
+            if (http1 != null) {
+                System.out.println("HTTP/1.1 endpoint on port " + http1.getPort() + " at " + HttpEndpoint.PATH);
+            }
+            if (http2 != null) {
+                System.out.println("HTTP/2 (h2c) endpoint on port " + http2.getPort() + " at " + HttpEndpoint.PATH);
+            }
+            System.out.println("Multiplexed services: " + USER_SERVICE + " (default), " + ADMIN_SERVICE + ", " + BULK_SERVICE + ", " + REPLICATION_SERVICE);
             System.out.println("Server ready to accept connections...");
 
-            // Add shutdown hook for graceful shutdown
+            // Add shutdown hook for graceful shutdown: drain connections, then flush oneway work
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                System.out.println("Shutting down server...");
-                server.stop();
+                System.out.println("Draining server (up to " + drainTimeoutMillis + " ms)...");
+                long start = System.currentTimeMillis();
+                if (replicaSync != null) {
+                    replicaSync.stop();
+                }
+                // Every step shares the one budget
+                for (HttpEndpoint endpoint : new HttpEndpoint[] {http1, http2}) {
+                    if (endpoint != null) {
+                        endpoint.stop(remainingMillis(start, drainTimeoutMillis));
+                    }
+                }
+                int forced = drain.drain(server, remainingMillis(start, drainTimeoutMillis));
+                boolean flushed = serviceImpl.flushActivity(remainingMillis(start, drainTimeoutMillis));
+                System.out.println("Drained in " + (System.currentTimeMillis() - start) + " ms"
+                    + (forced > 0 ? ", cut off " + forced + " busy connections" : "")
+                    + (flushed ? "" : ", activity events left unwritten"));
             }));
 
             // Start the server
@@ -73,4 +199,82 @@ public class Server {
             e.printStackTrace();
         }
     }
+
+    /**
+     * What is left of a time budget started at start, never negative
+     */
+    static long remainingMillis(long start, long budgetMillis) {
+        return Math.max(0, budgetMillis - (System.currentTimeMillis() - start));
+    }
+
+    /**
+     * Binds the listening socket. With reusePort, SO_REUSEPORT lets a new
+     * server process bind the port while this one drains, so connections are
+     * never refused during a restart.
+     */
+    static ServerSocket bind(int port, boolean reusePort) throws TTransportException {
+        try {
+            ServerSocket socket = new ServerSocket();
+            socket.setReuseAddress(true);
+            if (reusePort) {
+                if (socket.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+                    socket.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                } else {
+                    System.out.println("SO_REUSEPORT is not supported on this platform; ignoring THRIFT_REUSE_PORT");
+                }
+            }
+            socket.bind(new InetSocketAddress(port));
+            return socket;
+        } catch (IOException e) {
+            throw new TTransportException("Could not bind to port " + port, e);
+        }
+    }
+
+    /**
+     * Starts an HTTP endpoint when its port is configured. It shares the
+     * socket server's processor chain, so headers, deadlines and rate limits
+     * by client ID apply to HTTP calls too.
+     */
+    static HttpEndpoint startHttpEndpoint(String envPort, boolean http2, TProcessor processor,
+                                          TProtocolFactory protocolFactory, RateLimitingProcessor rateLimiter) throws TTransportException {
+        if (envPort == null || envPort.isEmpty()) {
+            return null;
+        }
+        HttpEndpoint endpoint = new HttpEndpoint(processor, protocolFactory, rateLimiter, http2);
+        endpoint.start(Integer.parseInt(envPort.trim()));
+        return endpoint;
+    }
+
+    /**
+     * Registers every service under its name on a single multiplexed processor.
+     * UserService is also the default processor, so clients that do not use
+     * TMultiplexedProtocol keep working unchanged. Its getUser responses are
+     * served from a cache of encoded bytes that updates and deletes invalidate,
+     * behind an adaptive concurrency limit that sheds load when latency rises.
+     */
+    static TMultiplexedProcessor createProcessor(UserServiceImpl serviceImpl, String protocolName) {
+        return createProcessor(serviceImpl, protocolName, null);
+    }
+
+    static TMultiplexedProcessor createProcessor(UserServiceImpl serviceImpl, String protocolName, ReplicaSync replicaSync) {
+        return createProcessor(serviceImpl, protocolName, replicaSync, null);
+    }
+
+    static TMultiplexedProcessor createProcessor(UserServiceImpl serviceImpl, String protocolName, ReplicaSync replicaSync,
+                                                 MethodMetrics methodMetrics) {
+        CachingUserProcessor userProcessor = new CachingUserProcessor(serviceImpl);
+        serviceImpl.addInvalidationListener(userProcessor::invalidate);
+
+        TMultiplexedProcessor processor = new TMultiplexedProcessor();
+        ConcurrencyLimitingProcessor limitedUserProcessor = new ConcurrencyLimitingProcessor(userProcessor);
+        processor.registerProcessor(USER_SERVICE, limitedUserProcessor);
+        processor.registerProcessor(ADMIN_SERVICE,
+            new AdminService.Processor<>(new AdminServiceImpl(serviceImpl, protocolName, replicaSync, methodMetrics)));
+        processor.registerProcessor(BULK_SERVICE,
+            new BulkService.Processor<>(new BulkServiceImpl(serviceImpl)));
+        processor.registerProcessor(REPLICATION_SERVICE,
+            new ReplicationService.Processor<>(new ReplicationServiceImpl(serviceImpl)));
+        processor.registerDefault(limitedUserProcessor);
+        return processor;
+    }
 }
\ No newline at end of file
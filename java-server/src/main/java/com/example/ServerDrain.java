@@ -0,0 +1,187 @@
+package com.example;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Graceful drain for a thread-per-connection server. Stopping the server only
+ * closes the listening socket; this also lets every call already read finish
+ * and reply, then closes each connection as soon as it is idle, so clients
+ * reconnect (to a replacement process when the port is shared). A call is
+ * never started on a connection the drain has closed, so a client whose call
+ * was cut off can safely retry it.
+ *
+ * Is the server's processor, outside even the method metrics, so calls it
+ * refuses are never counted as served. Also installed as the server's event
+ * handler, forwarding events to the given handler.
+ */
+public class ServerDrain implements TProcessor, TServerEventHandler {
+    private static final int IDLE = 0;
+    private static final int BUSY = 1;
+    private static final int CLOSED = 2;
+
+    private final TProcessor delegate;
+    private final TServerEventHandler eventHandler;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Connection> current = new ThreadLocal<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean draining = false;
+
+    public ServerDrain(TProcessor delegate, TServerEventHandler eventHandler) {
+        this.delegate = delegate;
+        this.eventHandler = eventHandler;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        TMessage message = in.readMessageBegin();
+        Connection connection = current.get();
+        if (connection != null && !connection.state.compareAndSet(IDLE, BUSY)) {
+            // Closed by the drain while this request arrived; it never ran
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            delegate.process(new ReplayedMessageProtocol(in, message), out);
+        } finally {
+            inFlight.decrementAndGet();
+            if (connection != null) {
+                connection.state.set(IDLE);
+                if (draining && connection.state.compareAndSet(IDLE, CLOSED)) {
+                    connection.stopReading();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting, waits up to timeoutMillis for in-flight calls to
+     * finish while closing idle connections, then closes whatever is left.
+     * Returns the number of connections that had to be cut off.
+     */
+    public int drain(TServer server, long timeoutMillis) {
+        draining = true;
+        server.stop();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!connections.isEmpty() && System.currentTimeMillis() < deadline) {
+            for (Connection connection : connections) {
+                if (connection.state.compareAndSet(IDLE, CLOSED)) {
+                    connection.stopReading();
+                }
+            }
+            if (connections.isEmpty()) {
+                break;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int forced = 0;
+        for (Connection connection : connections) {
+            connection.state.set(CLOSED);
+            connection.close();
+            forced++;
+        }
+        return forced;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    @Override
+    public void preServe() {
+        if (eventHandler != null) {
+            eventHandler.preServe();
+        }
+    }
+
+    @Override
+    public ServerContext createContext(TProtocol input, TProtocol output) {
+        Connection connection = new Connection(CountingTransport.unwrap(input.getTransport()));
+        connections.add(connection);
+        current.set(connection);
+        if (draining && connection.state.compareAndSet(IDLE, CLOSED)) {
+            connection.stopReading();
+        }
+        return eventHandler != null ? eventHandler.createContext(input, output) : null;
+    }
+
+    @Override
+    public void deleteContext(ServerContext serverContext, TProtocol input, TProtocol output) {
+        Connection connection = current.get();
+        if (connection != null) {
+            connections.remove(connection);
+            current.remove();
+        }
+        if (eventHandler != null) {
+            eventHandler.deleteContext(serverContext, input, output);
+        }
+    }
+
+    @Override
+    public void processContext(ServerContext serverContext, TTransport inputTransport, TTransport outputTransport) {
+        if (eventHandler != null) {
+            eventHandler.processContext(serverContext, inputTransport, outputTransport);
+        }
+    }
+
+    private static final class Connection {
+        final TTransport transport;
+        final AtomicInteger state = new AtomicInteger(IDLE);
+
+        Connection(TTransport transport) {
+            this.transport = transport;
+        }
+
+        /**
+         * Ends the connection after its current call: the worker's next read
+         * sees end-of-stream and it closes the connection itself.
+         */
+        void stopReading() {
+            if (transport instanceof TSocket) {
+                try {
+                    ((TSocket) transport).getSocket().shutdownInput();
+                    return;
+                } catch (IOException e) {
+                    // Fall back to closing outright
+                }
+            } else if (transport instanceof UnixSocketTransport) {
+                try {
+                    ((UnixSocketTransport) transport).shutdownInput();
+                    return;
+                } catch (IOException e) {
+                    // Fall back to closing outright
+                }
+            }
+            transport.close();
+        }
+
+        void close() {
+            transport.close();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example;
+
+/**
+ * Layout of shard-aware user IDs: the owning shard lives in the 10 bits above
+ * a 53-bit per-shard sequence, so IDs stay positive and shard 0 keeps the
+ * plain 1, 2, 3... sequence of an unsharded server.
+ */
+public final class ShardIds {
+    public static final int SHARD_BITS = 10;
+    public static final int SEQUENCE_BITS = 53;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private ShardIds() {
+    }
+
+    public static long compose(int shardId, long sequence) {
+        if (shardId < 0 || shardId >= MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard ID must be between 0 and " + (MAX_SHARDS - 1) + ": " + shardId);
+        }
+        if (sequence < 0 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Sequence out of range for shard " + shardId + ": " + sequence);
+        }
+        return ((long) shardId << SEQUENCE_BITS) | sequence;
+    }
+
+    public static int shardOf(long userId) {
+        return (int) (userId >>> SEQUENCE_BITS);
+    }
+
+    public static long sequenceOf(long userId) {
+        return userId & MAX_SEQUENCE;
+    }
+}
@@ -0,0 +1,361 @@
+package com.example;
+
+import org.apache.thrift.TConfiguration;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TMap;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TSet;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * A protocol that does not know its wire format until the client speaks. The
+ * first read takes one byte off the transport, asks the
+ * {@link SniffingProtocolFactory} which protocol it belongs to, and from then
+ * on delegates to that protocol with the byte handed back in front of the
+ * stream. Writes use the protocol detected by the reading side of the same
+ * connection.
+ */
+public class SniffingProtocol extends TProtocol {
+    private final SniffingProtocolFactory sniffer;
+    private final SniffingProtocolFactory.Detection detection;
+    private TProtocol delegate;
+
+    SniffingProtocol(TTransport transport, SniffingProtocolFactory sniffer, SniffingProtocolFactory.Detection detection) {
+        super(transport);
+        this.sniffer = sniffer;
+        this.detection = detection;
+    }
+
+    /**
+     * Returns the detected protocol behind a sniffing one, so callers that
+     * special-case a wire format can see it; other protocols come back as-is.
+     * Also sees past the {@link PhaseTrackingProtocol} that call phase events
+     * wrap around it. Returns null if the connection has not been sniffed yet.
+     */
+    public static TProtocol unwrap(TProtocol protocol) {
+        if (protocol instanceof PhaseTrackingProtocol) {
+            protocol = ((PhaseTrackingProtocol) protocol).getWrapped();
+        }
+        if (!(protocol instanceof SniffingProtocol)) {
+            return protocol;
+        }
+        SniffingProtocol sniffing = (SniffingProtocol) protocol;
+        if (sniffing.delegate == null && sniffing.detection.factory != null) {
+            sniffing.delegate = sniffing.detection.factory.getProtocol(sniffing.trans_);
+        }
+        return sniffing.delegate;
+    }
+
+    private TProtocol reader() throws TException {
+        if (delegate == null) {
+            byte[] first = new byte[1];
+            trans_.readAll(first, 0, 1);
+            TProtocolFactory factory = sniffer.detect(first[0]);
+            detection.factory = factory;
+            delegate = factory.getProtocol(new PrefixedTransport(first[0], trans_));
+        }
+        return delegate;
+    }
+
+    private TProtocol writer() throws TException {
+        TProtocol protocol = unwrap(this);
+        if (protocol == null) {
+            throw new TProtocolException(TProtocolException.NOT_IMPLEMENTED, "Protocol not detected yet: nothing has been read from this connection");
+        }
+        return protocol;
+    }
+
+    @Override
+    public void writeMessageBegin(TMessage message) throws TException {
+        writer().writeMessageBegin(message);
+    }
+
+    @Override
+    public void writeMessageEnd() throws TException {
+        writer().writeMessageEnd();
+    }
+
+    @Override
+    public void writeStructBegin(TStruct struct) throws TException {
+        writer().writeStructBegin(struct);
+    }
+
+    @Override
+    public void writeStructEnd() throws TException {
+        writer().writeStructEnd();
+    }
+
+    @Override
+    public void writeFieldBegin(TField field) throws TException {
+        writer().writeFieldBegin(field);
+    }
+
+    @Override
+    public void writeFieldEnd() throws TException {
+        writer().writeFieldEnd();
+    }
+
+    @Override
+    public void writeFieldStop() throws TException {
+        writer().writeFieldStop();
+    }
+
+    @Override
+    public void writeMapBegin(TMap map) throws TException {
+        writer().writeMapBegin(map);
+    }
+
+    @Override
+    public void writeMapEnd() throws TException {
+        writer().writeMapEnd();
+    }
+
+    @Override
+    public void writeListBegin(TList list) throws TException {
+        writer().writeListBegin(list);
+    }
+
+    @Override
+    public void writeListEnd() throws TException {
+        writer().writeListEnd();
+    }
+
+    @Override
+    public void writeSetBegin(TSet set) throws TException {
+        writer().writeSetBegin(set);
+    }
+
+    @Override
+    public void writeSetEnd() throws TException {
+        writer().writeSetEnd();
+    }
+
+    @Override
+    public void writeBool(boolean b) throws TException {
+        writer().writeBool(b);
+    }
+
+    @Override
+    public void writeByte(byte b) throws TException {
+        writer().writeByte(b);
+    }
+
+    @Override
+    public void writeI16(short i16) throws TException {
+        writer().writeI16(i16);
+    }
+
+    @Override
+    public void writeI32(int i32) throws TException {
+        writer().writeI32(i32);
+    }
+
+    @Override
+    public void writeI64(long i64) throws TException {
+        writer().writeI64(i64);
+    }
+
+    @Override
+    public void writeUuid(UUID uuid) throws TException {
+        writer().writeUuid(uuid);
+    }
+
+    @Override
+    public void writeDouble(double dub) throws TException {
+        writer().writeDouble(dub);
+    }
+
+    @Override
+    public void writeString(String str) throws TException {
+        writer().writeString(str);
+    }
+
+    @Override
+    public void writeBinary(ByteBuffer buf) throws TException {
+        writer().writeBinary(buf);
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+        return reader().readMessageBegin();
+    }
+
+    @Override
+    public void readMessageEnd() throws TException {
+        reader().readMessageEnd();
+    }
+
+    @Override
+    public TStruct readStructBegin() throws TException {
+        return reader().readStructBegin();
+    }
+
+    @Override
+    public void readStructEnd() throws TException {
+        reader().readStructEnd();
+    }
+
+    @Override
+    public TField readFieldBegin() throws TException {
+        return reader().readFieldBegin();
+    }
+
+    @Override
+    public void readFieldEnd() throws TException {
+        reader().readFieldEnd();
+    }
+
+    @Override
+    public TMap readMapBegin() throws TException {
+        return reader().readMapBegin();
+    }
+
+    @Override
+    public void readMapEnd() throws TException {
+        reader().readMapEnd();
+    }
+
+    @Override
+    public TList readListBegin() throws TException {
+        return reader().readListBegin();
+    }
+
+    @Override
+    public void readListEnd() throws TException {
+        reader().readListEnd();
+    }
+
+    @Override
+    public TSet readSetBegin() throws TException {
+        return reader().readSetBegin();
+    }
+
+    @Override
+    public void readSetEnd() throws TException {
+        reader().readSetEnd();
+    }
+
+    @Override
+    public boolean readBool() throws TException {
+        return reader().readBool();
+    }
+
+    @Override
+    public byte readByte() throws TException {
+        return reader().readByte();
+    }
+
+    @Override
+    public short readI16() throws TException {
+        return reader().readI16();
+    }
+
+    @Override
+    public int readI32() throws TException {
+        return reader().readI32();
+    }
+
+    @Override
+    public long readI64() throws TException {
+        return reader().readI64();
+    }
+
+    @Override
+    public UUID readUuid() throws TException {
+        return reader().readUuid();
+    }
+
+    @Override
+    public double readDouble() throws TException {
+        return reader().readDouble();
+    }
+
+    @Override
+    public String readString() throws TException {
+        return reader().readString();
+    }
+
+    @Override
+    public ByteBuffer readBinary() throws TException {
+        return reader().readBinary();
+    }
+
+    @Override
+    public int getMinSerializedSize(byte type) throws TException {
+        return reader().getMinSerializedSize(type);
+    }
+
+    /**
+     * Hands the sniffed byte back before reading on from the connection
+     */
+    private static final class PrefixedTransport extends TTransport {
+        private final TTransport transport;
+        private final byte prefix;
+        private boolean prefixPending = true;
+
+        PrefixedTransport(byte prefix, TTransport transport) {
+            this.prefix = prefix;
+            this.transport = transport;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return transport.isOpen();
+        }
+
+        @Override
+        public void open() throws TTransportException {
+            transport.open();
+        }
+
+        @Override
+        public void close() {
+            transport.close();
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws TTransportException {
+            if (prefixPending && len > 0) {
+                prefixPending = false;
+                buf[off] = prefix;
+                return 1;
+            }
+            return transport.read(buf, off, len);
+        }
+
+        @Override
+        public void write(byte[] buf, int off, int len) throws TTransportException {
+            transport.write(buf, off, len);
+        }
+
+        @Override
+        public void flush() throws TTransportException {
+            transport.flush();
+        }
+
+        @Override
+        public TConfiguration getConfiguration() {
+            return transport.getConfiguration();
+        }
+
+        @Override
+        public void updateKnownMessageSize(long size) throws TTransportException {
+            transport.updateKnownMessageSize(size);
+        }
+
+        @Override
+        public void checkReadBytesAvailable(long numBytes) throws TTransportException {
+            transport.checkReadBytesAvailable(numBytes);
+        }
+    }
+}
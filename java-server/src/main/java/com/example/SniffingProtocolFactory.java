@@ -0,0 +1,85 @@
+package com.example;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TTransport;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves binary, compact and JSON clients from one port. Each connection gets
+ * a {@link SniffingProtocol} that picks the real protocol from the first byte
+ * the client sends:
+ * <ul>
+ *   <li>0x80: binary (high byte of the strict version word 0x8001)</li>
+ *   <li>0x82: compact (its protocol id)</li>
+ *   <li>'[': JSON (every TJSONProtocol message is an array), read and
+ *       written with the wire-compatible {@link FastJSONProtocol}</li>
+ * </ul>
+ * Anything else is read as non-strict binary, whose messages start with the
+ * length of the method name.
+ *
+ * The server asks this factory for an input and an output protocol over the
+ * same connection transport; both share one detection, so replies go out in
+ * the protocol the request came in.
+ */
+public class SniffingProtocolFactory implements TProtocolFactory {
+    private static final long serialVersionUID = 1L;
+
+    private final TProtocolFactory binary = new TBinaryProtocol.Factory();
+    private final TProtocolFactory compact = new TCompactProtocol.Factory();
+    private final TProtocolFactory json = new FastJSONProtocol.Factory();
+    // Keyed weakly by transport so closed connections drop out on their own
+    private final transient Map<TTransport, Detection> connections = Collections.synchronizedMap(new WeakHashMap<>());
+    private final AtomicLong binaryConnections = new AtomicLong();
+    private final AtomicLong compactConnections = new AtomicLong();
+    private final AtomicLong jsonConnections = new AtomicLong();
+
+    @Override
+    public TProtocol getProtocol(TTransport transport) {
+        // A counting wrapper is made separately for input and output; match on the connection underneath
+        return new SniffingProtocol(transport, this,
+            connections.computeIfAbsent(CountingTransport.unwrap(transport), t -> new Detection()));
+    }
+
+    /**
+     * Picks the protocol for a connection from its first byte
+     */
+    TProtocolFactory detect(byte first) {
+        switch (first & 0xff) {
+            case 0x82:
+                compactConnections.incrementAndGet();
+                return compact;
+            case '[':
+                jsonConnections.incrementAndGet();
+                return json;
+            default:
+                binaryConnections.incrementAndGet();
+                return binary;
+        }
+    }
+
+    public long getBinaryConnections() {
+        return binaryConnections.get();
+    }
+
+    public long getCompactConnections() {
+        return compactConnections.get();
+    }
+
+    public long getJsonConnections() {
+        return jsonConnections.get();
+    }
+
+    /**
+     * The protocol chosen for one connection, set once its first byte is read
+     */
+    static final class Detection {
+        volatile TProtocolFactory factory;
+    }
+}
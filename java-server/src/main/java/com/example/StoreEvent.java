@@ -0,0 +1,29 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one access to the user store: a lookup, a write with its
+ * index and log updates, a removal or a scan.
+ */
+@Name("com.example.Store")
+@Label("User Store Access")
+@Category({"Thrift", "Store"})
+@Description("One read, write or scan of the in-memory user store")
+@StackTrace(false)
+class StoreEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("User ID")
+    @Description("User accessed, or 0 for scans and multi-user lookups")
+    long userId;
+
+    @Label("Users")
+    @Description("Users found, written or removed")
+    int users;
+}
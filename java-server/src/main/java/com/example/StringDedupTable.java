@@ -0,0 +1,166 @@
+package com.example;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free table that maps equal strings to one shared instance,
+ * so a store full of repeated names keeps each distinct name once. Each
+ * string hashes to a pair of adjacent slots; a string found in neither goes
+ * in the pair's first slot, moving the one there to the second and evicting
+ * the older entry. The table never grows past its size, and a name evicted
+ * by a collision is simply stored again. Strings longer than
+ * {@link #MAX_LENGTH} are passed through, keeping the retained size bounded
+ * too. A held string's UTF-8 encoding is shared the same way, encoded the
+ * first time it is asked for.
+ */
+public class StringDedupTable {
+    public static final int DEFAULT_SIZE = 1 << 16;
+    public static final int MAX_LENGTH = 256;
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder duplicateBytes = new LongAdder();
+
+    public StringDedupTable() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * A size of 0 disables deduplication.
+     */
+    public StringDedupTable(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        // At least one pair of slots
+        int slotCount = (size == 0) ? 0 : Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Returns the shared instance equal to value, or value itself if it is
+     * the first of its kind or the table cannot hold it.
+     */
+    public String dedup(String value) {
+        if (value == null || mask < 0 || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        lookups.increment();
+        int first = firstSlot(value);
+        Entry entry = find(first, value);
+        if (entry == null) {
+            // Racing writers may each take a slot; either one wins and
+            // the other's string just isn't shared
+            Entry newer = slots.get(first);
+            if (newer != null) {
+                slots.set(first + 1, newer);
+            }
+            slots.set(first, new Entry(value));
+            return value;
+        }
+        if (entry.value != value) {
+            duplicates.increment();
+            duplicateBytes.add(retainedSize(value));
+        }
+        return entry.value;
+    }
+
+    /**
+     * UTF-8 encoding of value, shared by every caller while the table holds
+     * an equal string, and encoded afresh otherwise. Callers must not modify
+     * the array.
+     */
+    public byte[] utf8(String value) {
+        if (value == null || mask < 0 || value.length() > MAX_LENGTH) {
+            return (value != null) ? value.getBytes(StandardCharsets.UTF_8) : null;
+        }
+        Entry entry = find(firstSlot(value), value);
+        if (entry == null) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] encoded = entry.utf8;
+        if (encoded == null) {
+            // Racing callers may each encode; one encoding stays shared
+            encoded = value.getBytes(StandardCharsets.UTF_8);
+            entry.utf8 = encoded;
+        } else {
+            duplicateBytes.add(arraySize(encoded.length));
+        }
+        return encoded;
+    }
+
+    private int firstSlot(String value) {
+        int hash = value.hashCode();
+        return (hash ^ (hash >>> 16)) & mask & ~1;
+    }
+
+    private Entry find(int first, String value) {
+        Entry entry = slots.get(first);
+        if (matches(entry, value)) {
+            return entry;
+        }
+        entry = slots.get(first + 1);
+        return matches(entry, value) ? entry : null;
+    }
+
+    private static boolean matches(Entry entry, String value) {
+        return entry != null && entry.value.hashCode() == value.hashCode() && entry.value.equals(value);
+    }
+
+    /**
+     * Approximate heap bytes a String holds on a 64-bit JVM with compressed
+     * references and compact strings: the String object plus its byte array.
+     */
+    static long retainedSize(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) < 256;
+        }
+        return 24 + arraySize(latin1 ? value.length() : 2L * value.length());
+    }
+
+    /**
+     * Heap bytes of a byte array of the given length, header included
+     */
+    static long arraySize(long length) {
+        return (16 + length + 7) & ~7L;
+    }
+
+    public int getSize() {
+        return slots.length();
+    }
+
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Lookups answered with an already stored instance
+     */
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Bytes of the duplicate strings and UTF-8 encodings replaced so far, i.e.
+     * the heap the store would otherwise hold for them (less any users since
+     * removed)
+     */
+    public long getDuplicateBytes() {
+        return duplicateBytes.sum();
+    }
+
+    private static final class Entry {
+        final String value;
+        volatile byte[] utf8;
+
+        Entry(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the only state is the time at
+ * which the bucket would be full again, advanced by CAS. Refill is implicit
+ * in the passing of time, so there is no refill thread or timestamp to keep
+ * in step with a token count.
+ */
+public class TokenBucket {
+    private final long nanosPerToken;
+    private final long burstNanos;
+    // Time at which all tokens taken so far will have been refilled
+    private final AtomicLong refilledAt;
+
+    public TokenBucket(double tokensPerSecond, int capacity) {
+        if (tokensPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        }
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / tokensPerSecond));
+        this.burstNanos = nanosPerToken * capacity;
+        this.refilledAt = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean tryAcquire(int tokens) {
+        return tryAcquire(tokens, System.nanoTime());
+    }
+
+    /**
+     * A request costing more than the capacity needs a full bucket.
+     */
+    boolean tryAcquire(int tokens, long now) {
+        long cost = Math.min(nanosPerToken * tokens, burstNanos);
+        while (true) {
+            long current = refilledAt.get();
+            long next = Math.max(current, now) + cost;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (refilledAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
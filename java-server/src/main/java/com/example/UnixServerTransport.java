@@ -0,0 +1,103 @@
+package com.example;
+
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.io.IOException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * Listens on a Unix domain socket file and accepts {@link UnixSocketTransport}
+ * connections, as TServerSocket does for TCP.
+ *
+ * A socket file left behind by a crashed server would make the bind fail, so
+ * an existing socket file at the path is replaced; anything else there, such
+ * as a regular file given by mistake, is left alone and listening fails.
+ * Replacing also lets a new server take over the path while the old one
+ * drains, like SO_REUSEPORT on TCP: the old server keeps its accepted
+ * connections and, on close, only removes the file if it is still the one
+ * it created.
+ */
+public class UnixServerTransport extends TServerTransport {
+    private final Path path;
+    private ServerSocketChannel channel;
+    private Object fileKey;
+
+    public UnixServerTransport(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void listen() throws TTransportException {
+        if (channel != null) {
+            return;
+        }
+        ServerSocketChannel serverChannel = UnixSocketTransport.openChannel(ServerSocketChannel.class);
+        try {
+            removeStaleSocket();
+            serverChannel.bind(UnixSocketTransport.address(path));
+            fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        } catch (IOException e) {
+            UnixSocketTransport.closeQuietly(serverChannel);
+            throw new TTransportException(TTransportException.NOT_OPEN, "Could not listen on " + path + ": " + e.getMessage(), e);
+        }
+        channel = serverChannel;
+    }
+
+    private void removeStaleSocket() throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        if (!attributes.isOther()) {
+            throw new IOException("not a socket file; remove it or choose another path");
+        }
+        Files.delete(path);
+    }
+
+    @Override
+    public TTransport accept() throws TTransportException {
+        if (channel == null) {
+            throw new TTransportException(TTransportException.NOT_OPEN, "No Unix socket to accept on");
+        }
+        try {
+            return new UnixSocketTransport(channel.accept());
+        } catch (IOException e) {
+            throw new TTransportException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        UnixSocketTransport.closeQuietly(channel);
+        try {
+            if (fileKey != null && Objects.equals(fileKey, Files.readAttributes(path, BasicFileAttributes.class).fileKey())) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            // Already removed or taken over by another server
+        }
+    }
+
+    @Override
+    public void interrupt() {
+        // Unblocks the accept loop, as TServerSocket does
+        close();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Age index with one bucket of sorted user IDs per age in the validated
+ * 0-150 range, plus a per-bucket counter so histograms never touch the
+ * buckets themselves. Ages outside that range, which createUser does not
+ * reject, go to a sparse overflow map so they are still queryable.
+ * Callers must serialize updates for the same user ID.
+ */
+public class UserAgeIndex {
+    public static final int MIN_AGE = 0;
+    public static final int MAX_AGE = 150;
+
+    private final List<ConcurrentSkipListSet<Long>> buckets = new ArrayList<>(MAX_AGE - MIN_AGE + 1);
+    private final AtomicLongArray counts = new AtomicLongArray(MAX_AGE - MIN_AGE + 1);
+    private final ConcurrentSkipListMap<Integer, ConcurrentSkipListSet<Long>> overflow = new ConcurrentSkipListMap<>();
+    // Age each user is currently indexed under, so stale entries can be removed
+    private final Map<Long, Integer> indexedAges = new ConcurrentHashMap<>();
+
+    public UserAgeIndex() {
+        for (int age = MIN_AGE; age <= MAX_AGE; age++) {
+            buckets.add(new ConcurrentSkipListSet<>());
+        }
+    }
+
+    public void put(long userId, int age) {
+        Integer previous = indexedAges.put(userId, age);
+        if (previous != null) {
+            if (previous == age) {
+                return;
+            }
+            removeFromBucket(userId, previous);
+        }
+        if (inRange(age)) {
+            if (buckets.get(age - MIN_AGE).add(userId)) {
+                counts.incrementAndGet(age - MIN_AGE);
+            }
+        } else {
+            overflow.computeIfAbsent(age, key -> new ConcurrentSkipListSet<>()).add(userId);
+        }
+    }
+
+    public void remove(long userId) {
+        Integer previous = indexedAges.remove(userId);
+        if (previous != null) {
+            removeFromBucket(userId, previous);
+        }
+    }
+
+    /**
+     * Returns up to limit IDs greater than afterId, in ID order, of users
+     * whose age is in [minAge, maxAge].
+     */
+    public List<Long> findByRange(int minAge, int maxAge, long afterId, int limit) {
+        List<Long> ids = new ArrayList<>();
+        if (minAge > maxAge || limit <= 0) {
+            return ids;
+        }
+        // Each bucket is sorted by ID, so its first `limit` candidates are
+        // enough; merging them and keeping the lowest `limit` gives the page
+        for (NavigableSet<Long> bucket : bucketsInRange(minAge, maxAge)) {
+            int taken = 0;
+            for (Long id : bucket.tailSet(afterId, false)) {
+                if (taken++ >= limit) {
+                    break;
+                }
+                ids.add(id);
+            }
+        }
+        Collections.sort(ids);
+        return ids.size() > limit ? new ArrayList<>(ids.subList(0, limit)) : ids;
+    }
+
+    /**
+     * Returns the number of indexed users at each age in [minAge, maxAge],
+     * in age order, omitting ages with no users.
+     */
+    public Map<Integer, Long> countByAge(int minAge, int maxAge) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        if (minAge > maxAge) {
+            return histogram;
+        }
+        if (minAge < MIN_AGE) {
+            countOverflow(histogram, minAge, Math.min(maxAge, MIN_AGE - 1));
+        }
+        for (int age = Math.max(minAge, MIN_AGE); age <= Math.min(maxAge, MAX_AGE); age++) {
+            putIfNonZero(histogram, age, counts.get(age - MIN_AGE));
+        }
+        if (maxAge > MAX_AGE) {
+            countOverflow(histogram, Math.max(minAge, MAX_AGE + 1), maxAge);
+        }
+        return histogram;
+    }
+
+    private void countOverflow(Map<Integer, Long> histogram, int minAge, int maxAge) {
+        for (Map.Entry<Integer, ConcurrentSkipListSet<Long>> entry : overflow.subMap(minAge, true, maxAge, true).entrySet()) {
+            putIfNonZero(histogram, entry.getKey(), entry.getValue().size());
+        }
+    }
+
+    private List<NavigableSet<Long>> bucketsInRange(int minAge, int maxAge) {
+        List<NavigableSet<Long>> inRange = new ArrayList<>();
+        for (int age = Math.max(minAge, MIN_AGE); age <= Math.min(maxAge, MAX_AGE); age++) {
+            inRange.add(buckets.get(age - MIN_AGE));
+        }
+        inRange.addAll(overflow.subMap(minAge, true, maxAge, true).values());
+        return inRange;
+    }
+
+    private void removeFromBucket(long userId, int age) {
+        if (inRange(age)) {
+            if (buckets.get(age - MIN_AGE).remove(userId)) {
+                counts.decrementAndGet(age - MIN_AGE);
+            }
+        } else {
+            ConcurrentSkipListSet<Long> bucket = overflow.get(age);
+            if (bucket != null) {
+                bucket.remove(userId);
+            }
+        }
+    }
+
+    private static void putIfNonZero(Map<Integer, Long> histogram, int age, long count) {
+        if (count > 0) {
+            histogram.put(age, count);
+        }
+    }
+
+    private static boolean inRange(int age) {
+        return age >= MIN_AGE && age <= MAX_AGE;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Concurrent sorted index of user names to user IDs. Entries are ordered by
+ * (name, id), so exact and prefix lookups are a skip-list seek followed by an
+ * in-order scan. Callers must serialize updates for the same user ID.
+ */
+public class UserNameIndex {
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+    // Name each user is currently indexed under, so stale entries can be removed
+    private final Map<Long, String> indexedNames = new ConcurrentHashMap<>();
+
+    public void put(long userId, String name) {
+        String previous = (name == null) ? indexedNames.remove(userId) : indexedNames.put(userId, name);
+        if (previous != null) {
+            entries.remove(new Entry(previous, userId));
+        }
+        if (name != null) {
+            entries.add(new Entry(name, userId));
+        }
+    }
+
+    public void remove(long userId) {
+        String previous = indexedNames.remove(userId);
+        if (previous != null) {
+            entries.remove(new Entry(previous, userId));
+        }
+    }
+
+    public List<Long> findByName(String name) {
+        List<Long> ids = new ArrayList<>();
+        if (name == null) {
+            return ids;
+        }
+        for (Entry entry : entries.subSet(new Entry(name, Long.MIN_VALUE), true, new Entry(name, Long.MAX_VALUE), true)) {
+            ids.add(entry.userId);
+        }
+        return ids;
+    }
+
+    public List<Long> findByPrefix(String prefix, int limit) {
+        List<Long> ids = new ArrayList<>();
+        if (prefix == null || limit <= 0) {
+            return ids;
+        }
+        for (Entry entry : entries.tailSet(new Entry(prefix, Long.MIN_VALUE))) {
+            if (!entry.name.startsWith(prefix) || ids.size() >= limit) {
+                break;
+            }
+            ids.add(entry.userId);
+        }
+        return ids;
+    }
+
+    public int size() {
+        return indexedNames.size();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final String name;
+        private final long userId;
+
+        private Entry(String name, long userId) {
+            this.name = name;
+            this.userId = userId;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byName = name.compareTo(other.name);
+            return byName != 0 ? byName : Long.compare(userId, other.userId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) o;
+            return userId == other.userId && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + Long.hashCode(userId);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example;
+
+import UserService.User;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable form of a user as the store keeps it. Generated {@link User}
+ * structs are mutable, so storing and returning them would let any caller
+ * holding one change the store behind its indexes. Records are created from
+ * incoming Users and turned back into fresh Users only when a reply is
+ * built, so reads share stored records freely without locks or copies.
+ *
+ * A record may also keep its name's UTF-8 encoding, in which case its
+ * Users write those bytes to the wire as they are (see {@link Utf8User}).
+ */
+public final class UserRecord {
+    private final long id;
+    private final String name;
+    private final byte[] nameUtf8;
+    private final int age;
+
+    public UserRecord(long id, String name, int age) {
+        this(id, name, null, age);
+    }
+
+    private UserRecord(long id, String name, byte[] nameUtf8, int age) {
+        this.id = id;
+        this.name = name;
+        this.nameUtf8 = nameUtf8;
+        this.age = age;
+    }
+
+    /**
+     * Record that also keeps the UTF-8 encoding of its name when utf8 is set.
+     */
+    public static UserRecord create(long id, String name, int age, boolean utf8) {
+        return create(id, name, age, (utf8 && name != null) ? name.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    /**
+     * Record that keeps the given UTF-8 encoding of its name, or none if it
+     * is null. The array is kept, not copied, so equal names can share one.
+     */
+    public static UserRecord create(long id, String name, int age, byte[] nameUtf8) {
+        return new UserRecord(id, name, nameUtf8, age);
+    }
+
+    /**
+     * Record for an update of this user, given the updated name's encoding
+     * or null to keep none. Reuses this record's name string and encoding
+     * when the name did not change, so unchanged names are stored and
+     * encoded once.
+     */
+    public UserRecord update(String updatedName, int updatedAge, byte[] updatedUtf8) {
+        if (updatedName == null || !updatedName.equals(name)) {
+            return create(id, updatedName, updatedAge, updatedUtf8);
+        }
+        byte[] keptUtf8 = (updatedUtf8 == null) ? null : (nameUtf8 != null) ? nameUtf8 : updatedUtf8;
+        return new UserRecord(id, name, keptUtf8, updatedAge);
+    }
+
+    public User toUser() {
+        return (nameUtf8 != null) ? new Utf8User(id, name, nameUtf8, age) : new User(id, name, age);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * UTF-8 encoding of the name, or null if this record does not keep one.
+     * It may be shared with other records, so it must not be modified.
+     */
+    public byte[] getNameUtf8() {
+        return nameUtf8;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    @Override
+    public String toString() {
+        return "User(id:" + id + ", name:" + name + ", age:" + age + ")";
+    }
+}
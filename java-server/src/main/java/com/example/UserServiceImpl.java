@@ -1,59 +1,127 @@
 package com.example;
 
 import UserService.*;
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
 
 public class UserServiceImpl implements UserService.Iface {
-    private final Map<Long, User> users = new HashMap<>();
-    private final AtomicLong idGenerator = new AtomicLong(1);
+    // Full scans check the request deadline once per this many users
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    // Records are immutable, so readers share them without copying
+    private final Map<Long, UserRecord> users = new ConcurrentHashMap<>();
+    // Stored IDs in order, so exports page from a cursor without sorting
+    private final ConcurrentSkipListSet<Long> sortedIds = new ConcurrentSkipListSet<>();
+    private final IdAllocator ids;
+    private final UserNameIndex nameIndex = new UserNameIndex();
+    private final UserAgeIndex ageIndex = new UserAgeIndex();
+    private final InvalidationLog invalidations = new InvalidationLog();
+    private final MutationLog mutations = new MutationLog();
+    private final ActivityLog activityLog = new ActivityLog();
+    private final StringDedupTable names;
+    private final List<LongConsumer> invalidationListeners = new CopyOnWriteArrayList<>();
+    private final int shardId;
+    private volatile boolean readOnly = false;
+    private volatile boolean utf8Names = false;
+
+    public UserServiceImpl() {
+        this(0);
+    }
+
+    /**
+     * Creates the store for one shard; every ID it assigns carries the shard
+     * number (see {@link ShardIds}).
+     */
+    public UserServiceImpl(int shardId) {
+        this(new IdAllocator(shardId));
+    }
+
+    public UserServiceImpl(IdAllocator ids) {
+        this(ids, new StringDedupTable());
+    }
+
+    /**
+     * Creates the store with its own table for sharing repeated names; a
+     * table of size 0 keeps every name as it arrived.
+     */
+    public UserServiceImpl(IdAllocator ids, StringDedupTable names) {
+        this.ids = ids;
+        this.shardId = ids.getShardId();
+        this.names = names;
+    }
 
     @Override
     public User createUser(String name, int age) throws TException {
-        long id = idGenerator.getAndIncrement();
-        User user = new User(id, name, age);
-        users.put(id, user);
-        System.out.println("Created user: " + user);
-        return user;
+        checkWritable();
+        UserRecord record;
+        do {
+            // An import can claim the ID between it being handed out and stored
+            record = store(new User(ids.nextId(), name, age), Write.CREATE);
+        } while (record == null);
+        System.out.println("Created user: " + record);
+        return record.toUser();
     }
 
     @Override
     public User getUser(long userId) throws UserNotFoundException, TException {
-        User user = users.get(userId);
-        if (user == null) {
+        StoreEvent event = new StoreEvent();
+        event.begin();
+        UserRecord record = users.get(userId);
+        commit(event, "get", userId, (record != null) ? 1 : 0);
+        if (record == null) {
             throw new UserNotFoundException("User with ID " + userId + " not found");
         }
-        System.out.println("Retrieved user: " + user);
-        return user;
+        System.out.println("Retrieved user: " + record);
+        return record.toUser();
     }
 
     @Override
     public User updateUser(User user) throws UserNotFoundException, TException {
-        if (!users.containsKey(user.getId())) {
+        checkWritable();
+        UserRecord record = store(user, Write.UPDATE);
+        if (record == null) {
             throw new UserNotFoundException("User with ID " + user.getId() + " not found");
         }
-        users.put(user.getId(), user);
-        System.out.println("Updated user: " + user);
-        return user;
+        invalidate(user.getId());
+        System.out.println("Updated user: " + record);
+        return record.toUser();
     }
 
     @Override
     public void deleteUser(long userId) throws UserNotFoundException, TException {
-        if (!users.containsKey(userId)) {
+        checkWritable();
+        UserRecord removed = remove(userId);
+        if (removed == null) {
             throw new UserNotFoundException("User with ID " + userId + " not found");
         }
-        User removed = users.remove(userId);
+        invalidate(userId);
         System.out.println("Deleted user: " + removed);
     }
 
     @Override
     public List<User> getAllUsers() throws TException {
-        List<User> allUsers = users.values().stream().collect(Collectors.toList());
+        StoreEvent event = new StoreEvent();
+        event.begin();
+        List<User> allUsers = new ArrayList<>(users.size());
+        for (UserRecord record : users.values()) {
+            // Stop converting once the caller's deadline has passed
+            if ((allUsers.size() & (DEADLINE_CHECK_INTERVAL - 1)) == 0) {
+                Deadline.check("getAllUsers");
+            }
+            allUsers.add(record.toUser());
+        }
+        commit(event, "scan", 0, allUsers.size());
         System.out.println("Retrieved " + allUsers.size() + " users");
         return allUsers;
     }
@@ -81,14 +149,342 @@ public class UserServiceImpl implements UserService.Iface {
 
     @Override
     public void logUserActivity(String action, long userId, String timestamp) throws TException {
-        // This is a oneway method - no response is sent back to the client
-        System.out.println("[ONEWAY] User Activity Log: " + timestamp + " - User " + userId + " performed: " + action);
-        
-        // Simulate some processing time
-        try {
-            Thread.sleep(10); // Small delay to show async behavior
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        // This is a oneway method - no response is sent back to the client.
+        // The event is written in the background; see ActivityLog.
+        activityLog.record(action, userId, timestamp);
+    }
+
+    @Override
+    public List<User> findUsersByName(String name) throws TException {
+        List<User> found = resolve(nameIndex.findByName(name));
+        System.out.println("Found " + found.size() + " users named: " + name);
+        return found;
+    }
+
+    @Override
+    public List<User> findUsersByNamePrefix(String prefix, int limit) throws TException {
+        List<User> found = resolve(nameIndex.findByPrefix(prefix, limit));
+        System.out.println("Found " + found.size() + " users with name prefix: " + prefix + " (limit " + limit + ")");
+        return found;
+    }
+
+    @Override
+    public List<User> findUsersByAgeRange(int minAge, int maxAge, long cursor, int limit) throws TException {
+        List<User> found = resolve(ageIndex.findByRange(minAge, maxAge, cursor, limit));
+        System.out.println("Found " + found.size() + " users aged " + minAge + "-" + maxAge + " after ID " + cursor + " (limit " + limit + ")");
+        return found;
+    }
+
+    @Override
+    public List<AgeCount> countByAge(int minAge, int maxAge) throws TException {
+        List<AgeCount> histogram = new ArrayList<>();
+        for (Map.Entry<Integer, Long> entry : ageIndex.countByAge(minAge, maxAge).entrySet()) {
+            histogram.add(new AgeCount(entry.getKey(), entry.getValue()));
+        }
+        System.out.println("Counted users by age " + minAge + "-" + maxAge + ": " + histogram.size() + " non-empty ages");
+        return histogram;
+    }
+
+    @Override
+    public List<UserView> listUsers(UserFilter filter, UserProjection projection) throws TException {
+        StoreEvent event = new StoreEvent();
+        event.begin();
+        List<UserView> views = new ArrayList<>();
+        int scanned = 0;
+        for (UserRecord record : users.values()) {
+            if ((scanned++ & (DEADLINE_CHECK_INTERVAL - 1)) == 0) {
+                Deadline.check("listUsers");
+            }
+            if (matches(record, filter)) {
+                views.add(project(record, projection));
+            }
+        }
+        commit(event, "scan", 0, views.size());
+        System.out.println("Listed " + views.size() + " users matching " + filter + " with " + projection);
+        return views;
+    }
+
+    @Override
+    public InvalidationBatch pollInvalidations(long sinceSequence) throws TException {
+        return invalidations.since(sinceSequence);
+    }
+
+    private static boolean matches(UserRecord user, UserFilter filter) {
+        if (filter == null) {
+            return true;
+        }
+        if (filter.isSetMinAge() && user.getAge() < filter.getMinAge()) {
+            return false;
+        }
+        if (filter.isSetMaxAge() && user.getAge() > filter.getMaxAge()) {
+            return false;
+        }
+        return !filter.isSetNamePrefix()
+            || (user.getName() != null && user.getName().startsWith(filter.getNamePrefix()));
+    }
+
+    // A null projection selects every field
+    private static UserView project(UserRecord user, UserProjection projection) {
+        UserView view = new UserView();
+        if (projection == null || projection.isId()) {
+            view.setId(user.getId());
+        }
+        if ((projection == null || projection.isName()) && user.getName() != null) {
+            view.setName(user.getName());
+        }
+        if (projection == null || projection.isAge()) {
+            view.setAge(user.getAge());
+        }
+        return view;
+    }
+
+    private List<User> resolve(List<Long> userIds) {
+        StoreEvent event = new StoreEvent();
+        event.begin();
+        List<User> resolved = new ArrayList<>(userIds.size());
+        for (long userId : userIds) {
+            // A user deleted after the index scan is simply skipped
+            UserRecord record = users.get(userId);
+            if (record != null) {
+                resolved.add(record.toUser());
+            }
+        }
+        commit(event, "lookup", 0, resolved.size());
+        return resolved;
+    }
+
+    /**
+     * Stores a user under its existing ID, replacing any user with that ID,
+     * as when migrating it from another node.
+     */
+    public void importUser(User user) {
+        if (ShardIds.shardOf(user.getId()) == shardId) {
+            // Never hand out an imported ID again
+            ids.advancePast(ShardIds.sequenceOf(user.getId()));
+        }
+        store(user, Write.PUT);
+        invalidate(user.getId());
+    }
+
+    /**
+     * Puts a user into the store, indexes and mutation log. compute() holds
+     * the user's map entry, which serializes all three for the same ID. The
+     * store keeps an immutable record of the user, never the User passed in,
+     * with its name, and its name's UTF-8 encoding when names are kept
+     * encoded, shared with other users of the same name.
+     * Returns null if the write does not apply to whether the user exists.
+     */
+    private UserRecord store(User user, Write write) {
+        String name = names.dedup(user.getName());
+        byte[] nameUtf8 = utf8Names ? names.utf8(name) : null;
+        long[] sequence = {0};
+        BiFunction<Long, UserRecord, UserRecord> apply = (key, existing) -> {
+            UserRecord record = (existing != null)
+                ? existing.update(name, user.getAge(), nameUtf8)
+                : UserRecord.create(key, name, user.getAge(), nameUtf8);
+            if (existing == null) {
+                sortedIds.add(key);
+            }
+            nameIndex.put(key, record.getName());
+            ageIndex.put(key, record.getAge());
+            sequence[0] = mutations.appendPut(record);
+            return record;
+        };
+        StoreEvent event = new StoreEvent();
+        event.begin();
+        UserRecord stored;
+        switch (write) {
+            case CREATE:
+                stored = users.computeIfAbsent(user.getId(), key -> apply.apply(key, null));
+                if (sequence[0] == 0) {
+                    stored = null;
+                }
+                break;
+            case UPDATE:
+                stored = users.computeIfPresent(user.getId(), apply);
+                break;
+            default:
+                stored = users.compute(user.getId(), apply);
+        }
+        commit(event, "put", user.getId(), (stored != null) ? 1 : 0);
+        if (stored == null) {
+            return null;
+        }
+        mutations.published(sequence[0]);
+        return stored;
+    }
+
+    // Whether a store() call may add the user, replace it, or either
+    private enum Write {
+        CREATE,
+        UPDATE,
+        PUT
+    }
+
+    private UserRecord remove(long userId) {
+        UserRecord[] removed = {null};
+        long[] sequence = {0};
+        StoreEvent event = new StoreEvent();
+        event.begin();
+        users.computeIfPresent(userId, (key, existing) -> {
+            removed[0] = existing;
+            sortedIds.remove(key);
+            nameIndex.remove(key);
+            ageIndex.remove(key);
+            sequence[0] = mutations.appendDelete(key);
+            return null;
+        });
+        commit(event, "remove", userId, (removed[0] != null) ? 1 : 0);
+        if (removed[0] != null) {
+            mutations.published(sequence[0]);
+        }
+        return removed[0];
+    }
+
+    /**
+     * Ends a store access and records it as a {@link StoreEvent} if a JFR
+     * recording wants it; the event costs next to nothing otherwise.
+     */
+    private static void commit(StoreEvent event, String operation, long userId, int count) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.userId = userId;
+            event.users = count;
+            event.commit();
+        }
+    }
+
+    /**
+     * Mutations after sinceSequence, for replicas pulling the log.
+     */
+    public MutationBatch mutationsSince(long sinceSequence, int limit) {
+        return mutations.since(sinceSequence, limit);
+    }
+
+    /**
+     * Copy of every user, tagged with a sequence such that replaying the
+     * mutations after it on top of the copy reproduces the store.
+     */
+    public Snapshot snapshot() {
+        long sequence = mutations.getStableSequence();
+        List<User> copy = new ArrayList<>(users.size());
+        for (UserRecord record : users.values()) {
+            copy.add(record.toUser());
+        }
+        return new Snapshot(copy, sequence);
+    }
+
+    /**
+     * Applies a mutation shipped from the primary.
+     */
+    public void applyMutation(Mutation mutation) {
+        if (mutation.isSetUser()) {
+            importUser(mutation.getUser());
+        } else if (remove(mutation.getUserId()) != null) {
+            invalidate(mutation.getUserId());
+        }
+    }
+
+    /**
+     * Replaces the whole store with a snapshot from the primary.
+     */
+    public void loadSnapshot(Snapshot snapshot) {
+        Set<Long> keep = new HashSet<>();
+        for (User user : snapshot.getUsers()) {
+            keep.add(user.getId());
+            importUser(user);
+        }
+        for (Long userId : new ArrayList<>(users.keySet())) {
+            if (!keep.contains(userId) && remove(userId) != null) {
+                invalidate(userId);
+            }
         }
     }
+
+    /**
+     * Makes client writes fail, as on a read replica that only applies
+     * mutations shipped from the primary.
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Keeps each stored name's UTF-8 encoding too, so replies on the binary
+     * and compact protocols write names without encoding them. Applies to
+     * users stored from then on.
+     */
+    public void setUtf8Names(boolean utf8Names) {
+        this.utf8Names = utf8Names;
+    }
+
+    /**
+     * Rejects a client write on a read-only replica. Entry points that store
+     * through {@link #importUser}, which replication uses unchecked, call
+     * this themselves.
+     */
+    void checkWritable() throws TApplicationException {
+        if (readOnly) {
+            throw new TApplicationException(TApplicationException.UNKNOWN, "Read-only replica: send writes to the primary");
+        }
+    }
+
+    /**
+     * Returns up to limit users whose ring position (see {@link RingHash}) is
+     * in (fromHash, toHash] and whose ID is greater than cursor, in ID order.
+     */
+    public List<User> exportUsers(long fromHash, long toHash, long cursor, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<User> page = new ArrayList<>();
+        for (Long userId : sortedIds.tailSet(cursor, false)) {
+            if (!RingHash.inRange(RingHash.hash(userId), fromHash, toHash)) {
+                continue;
+            }
+            // Skip a user deleted since the ID was read
+            UserRecord record = users.get(userId);
+            if (record != null) {
+                page.add(record.toUser());
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Registers a callback run with the user ID after every update or delete.
+     */
+    public void addInvalidationListener(LongConsumer listener) {
+        invalidationListeners.add(listener);
+    }
+
+    private void invalidate(long userId) {
+        invalidations.append(userId);
+        for (LongConsumer listener : invalidationListeners) {
+            listener.accept(userId);
+        }
+    }
+
+    /**
+     * Waits for queued oneway activity events to be written.
+     */
+    public boolean flushActivity(long timeoutMillis) {
+        return activityLog.flush(timeoutMillis);
+    }
+
+    public StringDedupTable getNameTable() {
+        return names;
+    }
+
+    public int getShardId() {
+        return shardId;
+    }
+
+    public int getUserCount() {
+        return users.size();
+    }
 }
\ No newline at end of file
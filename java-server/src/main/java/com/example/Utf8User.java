@@ -0,0 +1,70 @@
+package com.example;
+
+import UserService.User;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.scheme.StandardScheme;
+
+import java.nio.ByteBuffer;
+
+/**
+ * User built from a stored record that keeps its name as UTF-8 bytes. On the
+ * binary and compact protocols a string is a length followed by its UTF-8
+ * bytes, exactly as binary is, so the stored bytes are written as they are
+ * instead of encoding the name again for every reply. Generated result
+ * structs and lists call write() on each User, so getUser, getAllUsers and
+ * every other reply carrying users take this path with no change to the
+ * generated code.
+ *
+ * Other protocols, and a name changed after the user was built, use the
+ * generated encoding.
+ */
+final class Utf8User extends User {
+    private static final long serialVersionUID = 1L;
+
+    // Same layout as the generated User struct
+    private static final TStruct STRUCT_DESC = new TStruct("User");
+    private static final TField ID_FIELD_DESC = new TField("id", TType.I64, (short) 1);
+    private static final TField NAME_FIELD_DESC = new TField("name", TType.STRING, (short) 2);
+    private static final TField AGE_FIELD_DESC = new TField("age", TType.I32, (short) 3);
+
+    private final String encodedName;
+    private final byte[] nameUtf8;
+
+    Utf8User(long id, String name, byte[] nameUtf8, int age) {
+        super(id, name, age);
+        this.encodedName = name;
+        this.nameUtf8 = nameUtf8;
+    }
+
+    @Override
+    public void write(TProtocol out) throws TException {
+        if (getName() != encodedName || !writesStringsAsBinary(SniffingProtocol.unwrap(out))) {
+            super.write(out);
+            return;
+        }
+        out.writeStructBegin(STRUCT_DESC);
+        out.writeFieldBegin(ID_FIELD_DESC);
+        out.writeI64(getId());
+        out.writeFieldEnd();
+        out.writeFieldBegin(NAME_FIELD_DESC);
+        out.writeBinary(ByteBuffer.wrap(nameUtf8));
+        out.writeFieldEnd();
+        out.writeFieldBegin(AGE_FIELD_DESC);
+        out.writeI32(getAge());
+        out.writeFieldEnd();
+        out.writeFieldStop();
+        out.writeStructEnd();
+    }
+
+    // TTupleProtocol is a compact protocol with a different struct scheme
+    private static boolean writesStringsAsBinary(TProtocol protocol) {
+        return (protocol instanceof TBinaryProtocol || protocol instanceof TCompactProtocol)
+            && protocol.getScheme() == StandardScheme.class;
+    }
+}
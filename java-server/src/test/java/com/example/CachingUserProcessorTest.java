@@ -0,0 +1,159 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the encoded getUser response cache
+ */
+@DisplayName("Caching User Processor Tests")
+class CachingUserProcessorTest {
+
+    private UserServiceImpl userService;
+    private CachingUserProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl();
+        processor = new CachingUserProcessor(userService);
+        userService.addInvalidationListener(processor::invalidate);
+    }
+
+    /**
+     * Sends one getUser call through the given processor and returns the raw reply bytes
+     */
+    private byte[] callGetUser(TProcessor target, TProtocolFactory factory, long userId, int seqid) throws TException {
+        return ProcessorCalls.send(target, factory, factory, "getUser", TMessageType.CALL, seqid, new UserService.getUser_args(userId));
+    }
+
+    private User decode(TProtocolFactory factory, byte[] reply, int seqid) throws TException {
+        TMemoryBuffer response = new TMemoryBuffer(reply.length);
+        response.write(reply);
+        TProtocol in = factory.getProtocol(response);
+        TMessage message = in.readMessageBegin();
+        assertEquals(seqid, message.seqid);
+        UserService.getUser_result result = new UserService.getUser_result();
+        result.read(in);
+        in.readMessageEnd();
+        if (result.isSetEx()) {
+            throw result.getEx();
+        }
+        return result.getSuccess();
+    }
+
+    @Test
+    @DisplayName("Should reply with bytes identical to the uncached processor")
+    void testCachedReplyMatchesUncached() throws TException {
+        // Given
+        userService.createUser("Alice", 30);
+        UserService.Processor<UserServiceImpl> plain = new UserService.Processor<>(userService);
+
+        for (TProtocolFactory factory : new TProtocolFactory[] {new TBinaryProtocol.Factory(), new TCompactProtocol.Factory()}) {
+            // When
+            byte[] expected = callGetUser(plain, factory, 1L, 3);
+            byte[] miss = callGetUser(processor, factory, 1L, 3);
+            byte[] hit = callGetUser(processor, factory, 1L, 3);
+
+            // Then
+            assertArrayEquals(expected, miss);
+            assertArrayEquals(expected, hit);
+        }
+        assertEquals(2, processor.getHitCount());
+        assertEquals(2, processor.getMissCount());
+        assertEquals(2, processor.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the request sequence id on cached replies")
+    void testCachedReplyUsesRequestSeqid() throws TException {
+        // Given
+        TProtocolFactory factory = new TBinaryProtocol.Factory();
+        userService.createUser("Alice", 30);
+        callGetUser(processor, factory, 1L, 0);
+
+        // When
+        byte[] hit = callGetUser(processor, factory, 1L, 5);
+
+        // Then
+        assertEquals(1, processor.getHitCount());
+        assertEquals("Alice", decode(factory, hit, 5).getName());
+    }
+
+    @Test
+    @DisplayName("Should drop cached replies when the user is updated or deleted")
+    void testInvalidationOnUpdateAndDelete() throws TException {
+        // Given
+        TProtocolFactory factory = new TCompactProtocol.Factory();
+        userService.createUser("Alice", 30);
+        callGetUser(processor, factory, 1L, 0);
+
+        // When
+        userService.updateUser(new User(1L, "Alicia", 31));
+        User afterUpdate = decode(factory, callGetUser(processor, factory, 1L, 0), 0);
+        userService.deleteUser(1L);
+
+        // Then
+        assertEquals("Alicia", afterUpdate.getName());
+        assertEquals(0, processor.size());
+        assertThrows(UserNotFoundException.class, () -> decode(factory, callGetUser(processor, factory, 1L, 0), 0));
+        assertEquals(0, processor.size());
+    }
+
+    @Test
+    @DisplayName("Should evict a cold user for a new hot one once full")
+    void testEvictsColdUserWhenFull() throws TException {
+        // Given
+        TProtocolFactory factory = new TBinaryProtocol.Factory();
+        CachingUserProcessor bounded = new CachingUserProcessor(userService, 2);
+        for (int i = 0; i < 3; i++) {
+            userService.createUser("User" + i, 30);
+        }
+        callGetUser(bounded, factory, 1L, 0);
+        callGetUser(bounded, factory, 2L, 0);
+        callGetUser(bounded, factory, 1L, 0);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            callGetUser(bounded, factory, 3L, 0);
+        }
+        byte[] stillHot = callGetUser(bounded, factory, 1L, 0);
+        callGetUser(bounded, factory, 2L, 0);
+
+        // Then: 1 hit on user 1 before, 4 on user 3, 1 on user 1 after; user 2 was evicted
+        assertEquals(6, bounded.getHitCount());
+        assertEquals(4, bounded.getMissCount());
+        assertEquals(2, bounded.size());
+        assertEquals("User0", decode(factory, stillHot, 0).getName());
+    }
+
+    @Test
+    @DisplayName("Should pass JSON protocol calls through uncached")
+    void testJsonNotCached() throws TException {
+        // Given
+        TProtocolFactory factory = new TJSONProtocol.Factory();
+        userService.createUser("Alice", 30);
+
+        // When
+        User first = decode(factory, callGetUser(processor, factory, 1L, 0), 0);
+        callGetUser(processor, factory, 1L, 0);
+
+        // Then
+        assertEquals("Alice", first.getName());
+        assertEquals(0, processor.size());
+        assertEquals(0, processor.getHitCount());
+    }
+}
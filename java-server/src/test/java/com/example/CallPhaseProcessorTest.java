@@ -0,0 +1,163 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TSocket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the JFR events of call phases, store accesses and connections
+ */
+@DisplayName("Call Phase Event Tests")
+class CallPhaseProcessorTest {
+
+    private UserServiceImpl userService;
+    private CachingUserProcessor cachingProcessor;
+    private UserService.Client client;
+
+    @BeforeEach
+    void setUp() throws TException {
+        userService = new UserServiceImpl();
+        userService.createUser("Alice", 30);
+        cachingProcessor = new CachingUserProcessor(userService);
+        client = new UserService.Client(new TBinaryProtocol(InMemoryTransport.serve(
+            new RequestHeaderProcessor(new CallPhaseProcessor(cachingProcessor)), new TBinaryProtocol.Factory())));
+    }
+
+    private static List<RecordedEvent> record(String[] eventNames, Call calls) throws Exception {
+        Path file = Files.createTempFile("phases", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(eventName).withoutThreshold();
+            }
+            recording.start();
+            calls.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        // Events left at their defaults are on in a fresh recording too; keep the requested ones
+        List<String> requested = List.of(eventNames);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> requested.contains(event.getEventType().getName()))
+            .collect(Collectors.toList());
+        Files.delete(file);
+        events.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+        return events;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    private static List<String> names(List<RecordedEvent> events) {
+        return events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Should split getUser into decode, handler, store and encode events without bypassing the cache")
+    void testGetUserPhases() throws Exception {
+        // Given
+        String[] eventNames = {"com.example.Decode", "com.example.Handler", "com.example.Encode", "com.example.Store"};
+
+        // When
+        List<RecordedEvent> events = record(eventNames, () -> {
+            client.getUser(1L);
+            client.getUser(1L);
+        });
+
+        // Then
+        assertEquals(List.of(
+            "com.example.Decode", "com.example.Handler", "com.example.Store", "com.example.Encode",
+            "com.example.Decode", "com.example.Handler", "com.example.Encode"), names(events));
+        assertEquals(1, cachingProcessor.getHitCount());
+        RecordedEvent decode = events.get(0);
+        RecordedEvent handler = events.get(1);
+        RecordedEvent store = events.get(2);
+        RecordedEvent encode = events.get(3);
+        assertEquals("getUser", decode.getString("method"));
+        assertEquals("getUser", encode.getString("method"));
+        assertFalse(handler.getStartTime().isBefore(decode.getEndTime()));
+        assertFalse(store.getEndTime().isAfter(handler.getEndTime()));
+        assertFalse(encode.getStartTime().isBefore(handler.getEndTime()));
+        assertEquals("get", store.getString("operation"));
+        assertEquals(1L, store.getLong("userId"));
+        assertEquals(1, store.getInt("users"));
+    }
+
+    @Test
+    @DisplayName("Should end oneway calls with their handler and failed calls with their error reply")
+    void testOnewayAndFailedCalls() throws Exception {
+        // Given
+        String[] eventNames = {"com.example.Decode", "com.example.Handler", "com.example.Encode"};
+
+        // When
+        List<RecordedEvent> events = record(eventNames, () -> {
+            client.logUserActivity("login", 1L, "now");
+            assertThrows(UserNotFoundException.class, () -> client.getUser(999L));
+            client.updateUser(new User(1L, "Alice Smith", 31));
+        });
+
+        // Then
+        assertEquals(List.of(
+            "com.example.Decode", "com.example.Handler",
+            "com.example.Decode", "com.example.Handler", "com.example.Encode",
+            "com.example.Decode", "com.example.Handler", "com.example.Encode"), names(events));
+        assertEquals("logUserActivity", events.get(1).getString("method"));
+        assertEquals("getUser", events.get(4).getString("method"));
+        assertEquals("updateUser", events.get(7).getString("method"));
+        assertEquals("Alice Smith", userService.getUser(1L).getName());
+    }
+
+    @Test
+    @DisplayName("Should write accept and close events per connection and forward server events")
+    void testConnectionEvents() throws Exception {
+        // Given
+        TServerEventHandler delegate = mock(TServerEventHandler.class);
+        ServerContext context = mock(ServerContext.class);
+        ConnectionEventHandler handler = new ConnectionEventHandler(delegate);
+
+        try (ServerSocket listener = new ServerSocket(0)) {
+            TSocket client = new TSocket("localhost", listener.getLocalPort());
+            client.open();
+            TProtocol accepted = new TBinaryProtocol(new TSocket(listener.accept()));
+            when(delegate.createContext(accepted, accepted)).thenReturn(context);
+            int clientPort = client.getSocket().getLocalPort();
+
+            // When
+            List<RecordedEvent> events = record(new String[] {"com.example.ConnectionAccept", "com.example.ConnectionClose"}, () -> {
+                ServerContext created = handler.createContext(accepted, accepted);
+                Thread.sleep(20);
+                handler.deleteContext(created, accepted, accepted);
+            });
+            client.close();
+            accepted.getTransport().close();
+
+            // Then
+            assertEquals(List.of("com.example.ConnectionAccept", "com.example.ConnectionClose"), names(events));
+            assertTrue(events.get(0).getString("remoteAddress").endsWith(":" + clientPort));
+            assertEquals(events.get(0).getString("remoteAddress"), events.get(1).getString("remoteAddress"));
+            assertTrue(events.get(1).getDuration().toMillis() >= 20);
+            verify(delegate).deleteContext(context, accepted, accepted);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for admission control and the adaptive concurrency limit
+ */
+@DisplayName("Concurrency Limiting Processor Tests")
+class ConcurrencyLimitingProcessorTest {
+
+    /**
+     * Sends one call through the processor and returns the reply header, or null if there was no reply
+     */
+    private TMessage call(TProcessor target, String method, byte type, TBase<?, ?> args) throws TException {
+        return ProcessorCalls.replyHeader(target, method, type, args, ConcurrencyLimitingProcessor.OVERLOADED);
+    }
+
+    @Test
+    @DisplayName("Should fast-fail requests over the limit and shed scans before point reads")
+    void testShedsOverLimit() throws Exception {
+        // Given
+        UserServiceImpl userService = new UserServiceImpl();
+        userService.createUser("Alice", 30);
+        UserService.Processor<UserServiceImpl> plain = new UserService.Processor<>(userService);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TProcessor blocking = (in, out) -> {
+            if ("logUserActivity".equals(in.readMessageBegin().name)) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            plain.process(in, out);
+        };
+        ConcurrencyLimitingProcessor processor = new ConcurrencyLimitingProcessor(blocking, new AdaptiveConcurrencyLimit(2, 2, 2));
+        Thread busy = new Thread(() -> {
+            try {
+                call(processor, "logUserActivity", TMessageType.CALL, new UserService.logUserActivity_args("login", 1L, "now"));
+            } catch (TException e) {
+                fail(e);
+            }
+        });
+
+        // When
+        busy.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        TMessage scan = call(processor, "getAllUsers", TMessageType.CALL, new UserService.getAllUsers_args());
+        TMessage oneway = call(processor, "logUserActivity", TMessageType.ONEWAY, new UserService.logUserActivity_args("login", 1L, "now"));
+        TMessage read = call(processor, "getUser", TMessageType.CALL, new UserService.getUser_args(1L));
+        release.countDown();
+        busy.join();
+
+        // Then
+        assertEquals(TMessageType.EXCEPTION, scan.type);
+        assertNull(oneway);
+        assertEquals(TMessageType.REPLY, read.type);
+        assertEquals(2, processor.getRejectedCount());
+        assertEquals(0, processor.getLimit().getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises above the baseline")
+    void testLimitDecreasesOnLatency() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 4, 200);
+        limit.onSample(1_000_000L, 1);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            limit.onSample(50_000_000L, 100);
+        }
+
+        // Then
+        assertTrue(limit.getLimit() < 100);
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays at the baseline under load")
+    void testLimitIncreasesWhenHealthy() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 20);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            limit.onSample(1_000_000L, 10);
+        }
+
+        // Then
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should keep the limit under light load with a mix of fast and slow methods")
+    void testLimitHoldsUnderLightMixedLoad() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit();
+
+        // When: one call in flight at a time, one in 50 a 2 ms scan among 50 us reads
+        for (int i = 0; i < 10_000; i++) {
+            limit.onSample((i % 50 == 0) ? 2_000_000L : 50_000L, 1);
+        }
+
+        // Then
+        assertEquals(AdaptiveConcurrencyLimit.DEFAULT_INITIAL_LIMIT, limit.getLimit());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limit.tryAcquire(limit.getLimit()));
+        }
+    }
+}
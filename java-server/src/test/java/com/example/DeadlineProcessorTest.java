@@ -0,0 +1,87 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for request deadlines
+ */
+@DisplayName("Deadline Processor Tests")
+class DeadlineProcessorTest {
+
+    private UserServiceImpl userService;
+    private DeadlineProcessor deadlines;
+    private TProcessor processor;
+
+    @BeforeEach
+    void setUp() throws TException {
+        userService = new UserServiceImpl();
+        userService.createUser("Alice", 30);
+        deadlines = new DeadlineProcessor(new UserService.Processor<>(userService));
+        processor = new RequestHeaderProcessor(deadlines);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    /**
+     * Sends getAllUsers with the given message name and returns the decoded reply
+     */
+    private UserService.getAllUsers_result callGetAllUsers(String name) throws TException {
+        TProtocolFactory binary = new TBinaryProtocol.Factory();
+        return ProcessorCalls.result(processor, binary, binary, name, 1,
+            new UserService.getAllUsers_args(), new UserService.getAllUsers_result());
+    }
+
+    @Test
+    @DisplayName("Should serve calls within their deadline and drop expired ones before dispatch")
+    void testExpiredCallsDropped() throws TException {
+        // Given: a client clock far behind the server's would make any absolute deadline look spent
+        String inTimeName = "getAllUsers#timeout=60000";
+        String spentName = "getAllUsers#timeout=0";
+
+        // When
+        UserService.getAllUsers_result inTime = callGetAllUsers(inTimeName);
+        TApplicationException expired = assertThrows(TApplicationException.class,
+            () -> callGetAllUsers(spentName));
+
+        // Then
+        assertEquals(1, inTime.getSuccessSize());
+        assertEquals(Deadline.DEADLINE_EXCEEDED, expired.getType());
+        assertEquals(1, deadlines.getExpiredCount());
+        assertFalse(Deadline.isExpired());
+    }
+
+    @Test
+    @DisplayName("Should abort a full scan once the deadline has passed")
+    void testScanAborted() throws TException {
+        // Given
+        for (int i = 0; i < 3000; i++) {
+            userService.createUser("User" + i, 20);
+        }
+        Deadline.start(0);
+
+        // When
+        TApplicationException aborted = assertThrows(TApplicationException.class, () -> userService.getAllUsers());
+        TApplicationException abortedListing = assertThrows(TApplicationException.class,
+            () -> userService.listUsers(new UserFilter(), new UserProjection()));
+        Deadline.clear();
+
+        // Then
+        assertEquals(Deadline.DEADLINE_EXCEEDED, aborted.getType());
+        assertEquals(Deadline.DEADLINE_EXCEEDED, abortedListing.getType());
+        assertEquals(3001, userService.getAllUsers().size());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for direct in-process calls without serialization
+ */
+@DisplayName("Direct User Service Tests")
+class DirectUserServiceTest {
+
+    @Test
+    @DisplayName("Should not share objects between caller and service")
+    void testDefensiveCopies() throws TException {
+        // Given
+        UserServiceImpl userService = new UserServiceImpl();
+        UserService.Iface direct = new DirectUserService(userService);
+        User created = direct.createUser("Alice", 30);
+
+        // When
+        created.setName("Mallory");
+        User update = new User(created.getId(), "Alice Smith", 31);
+        direct.updateUser(update);
+        update.setAge(99);
+        List<User> all = direct.getAllUsers();
+        all.get(0).setAge(1);
+        all.clear();
+
+        // Then
+        User stored = direct.getUser(created.getId());
+        assertEquals("Alice Smith", stored.getName());
+        assertEquals(31, stored.getAge());
+        assertEquals(1, direct.getAllUsers().size());
+    }
+
+    @Test
+    @DisplayName("Should copy results of services that may share them")
+    void testCopiesForOtherServices() throws TException {
+        // Given
+        User shared = new User(1L, "Alice", 30);
+        UserService.Iface delegate = mock(UserService.Iface.class);
+        when(delegate.getUser(1L)).thenReturn(shared);
+        UserService.Iface direct = new DirectUserService(delegate);
+
+        // When
+        User returned = direct.getUser(1L);
+        returned.setName("Mallory");
+
+        // Then
+        assertNotSame(shared, returned);
+        assertEquals("Alice", shared.getName());
+    }
+
+    @Test
+    @DisplayName("Should surface failures as a client over the wire would")
+    void testFailuresMatchWire() throws TException {
+        // Given
+        UserService.Iface failing = mock(UserService.Iface.class);
+        when(failing.getAllUsers()).thenThrow(new IllegalStateException("store corrupted"));
+        doThrow(new IllegalStateException("queue full")).when(failing).logUserActivity(anyString(), anyLong(), anyString());
+        UserService.Iface direct = new DirectUserService(failing);
+        UserService.Client wire = new UserService.Client(new TBinaryProtocol(
+            InMemoryTransport.serve(new UserService.Processor<>(failing), new TBinaryProtocol.Factory())));
+        UserService.Iface real = new DirectUserService(new UserServiceImpl());
+
+        // When
+        TApplicationException directError = assertThrows(TApplicationException.class, direct::getAllUsers);
+        TApplicationException wireError = assertThrows(TApplicationException.class, wire::getAllUsers);
+
+        // Then
+        assertEquals(wireError.getType(), directError.getType());
+        assertEquals(wireError.getMessage(), directError.getMessage());
+        assertDoesNotThrow(() -> direct.logUserActivity("login", 1L, "now"));
+        assertThrows(UserNotFoundException.class, () -> real.getUser(42L));
+        assertThrows(TApplicationException.class, () -> real.validateUserData("Bob", 200, true));
+    }
+}
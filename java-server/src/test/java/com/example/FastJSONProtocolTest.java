@@ -0,0 +1,274 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TMap;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TSet;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Wire compatibility tests for the allocation-light JSON protocol against TJSONProtocol
+ */
+@DisplayName("Fast JSON Protocol Tests")
+class FastJSONProtocolTest {
+
+    private static final String TRICKY = "plain \"quoted\" back\\slash /slash \b\f\n\r\t \u0001\u001f del\u007f é € 😀 lone\ud800 end";
+
+    /**
+     * Writes one message that touches every type, container and escape
+     */
+    private static void writeSample(TProtocol p) throws TException {
+        p.writeMessageBegin(new TMessage("getUser\"é", TMessageType.CALL, 42));
+        p.writeStructBegin(new TStruct("Sample"));
+        p.writeFieldBegin(new TField("", TType.BOOL, (short) 1));
+        p.writeBool(true);
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.BYTE, (short) 2));
+        p.writeByte((byte) -7);
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.I16, (short) 3));
+        p.writeI16((short) 1234);
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.I32, (short) 4));
+        p.writeI32(Integer.MIN_VALUE);
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.LIST, (short) 5));
+        p.writeListBegin(new TList(TType.I64, 4));
+        for (long value : new long[] {Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1234567890123L}) {
+            p.writeI64(value);
+        }
+        p.writeListEnd();
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.LIST, (short) 6));
+        double[] doubles = {0.1, -0.0, 1e300, 4.9e-324, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        p.writeListBegin(new TList(TType.DOUBLE, doubles.length));
+        for (double value : doubles) {
+            p.writeDouble(value);
+        }
+        p.writeListEnd();
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.STRING, (short) 7));
+        p.writeString(TRICKY);
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.LIST, (short) 8));
+        p.writeListBegin(new TList(TType.STRING, 5));
+        for (int length = 0; length < 5; length++) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = (byte) (0xfb + i);
+            }
+            p.writeBinary(ByteBuffer.wrap(bytes));
+        }
+        p.writeListEnd();
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.MAP, (short) 9));
+        p.writeMapBegin(new TMap(TType.I32, TType.DOUBLE, 2));
+        p.writeI32(-3);
+        p.writeDouble(2.5);
+        p.writeI32(7);
+        p.writeDouble(Double.NaN);
+        p.writeMapEnd();
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.MAP, (short) 10));
+        p.writeMapBegin(new TMap(TType.DOUBLE, TType.SET, 1));
+        p.writeDouble(1.5);
+        p.writeSetBegin(new TSet(TType.BOOL, 2));
+        p.writeBool(false);
+        p.writeBool(true);
+        p.writeSetEnd();
+        p.writeMapEnd();
+        p.writeFieldEnd();
+        p.writeFieldBegin(new TField("", TType.STRUCT, (short) 300));
+        p.writeStructBegin(new TStruct("Nested"));
+        p.writeFieldBegin(new TField("", TType.UUID, (short) 1));
+        p.writeUuid(new UUID(0x0123456789abcdefL, 0xfedcba9876543210L));
+        p.writeFieldEnd();
+        p.writeFieldStop();
+        p.writeStructEnd();
+        p.writeFieldEnd();
+        p.writeFieldStop();
+        p.writeStructEnd();
+        p.writeMessageEnd();
+    }
+
+    /**
+     * Reads the sample message back generically, recording every value seen
+     */
+    private static List<Object> readSample(TProtocol p) throws TException {
+        List<Object> seen = new ArrayList<>();
+        TMessage message = p.readMessageBegin();
+        seen.add(message.name);
+        seen.add(message.type);
+        seen.add(message.seqid);
+        readStruct(p, seen);
+        p.readMessageEnd();
+        return seen;
+    }
+
+    private static void readStruct(TProtocol p, List<Object> seen) throws TException {
+        p.readStructBegin();
+        while (true) {
+            TField field = p.readFieldBegin();
+            if (field.type == TType.STOP) {
+                break;
+            }
+            seen.add(field.id);
+            seen.add(field.type);
+            readValue(p, field.type, field.id == 8, seen);
+            p.readFieldEnd();
+        }
+        p.readStructEnd();
+    }
+
+    private static void readValue(TProtocol p, byte type, boolean binary, List<Object> seen) throws TException {
+        switch (type) {
+            case TType.BOOL: seen.add(p.readBool()); break;
+            case TType.BYTE: seen.add(p.readByte()); break;
+            case TType.I16: seen.add(p.readI16()); break;
+            case TType.I32: seen.add(p.readI32()); break;
+            case TType.I64: seen.add(p.readI64()); break;
+            case TType.DOUBLE: seen.add(p.readDouble()); break;
+            case TType.UUID: seen.add(p.readUuid()); break;
+            case TType.STRING:
+                if (binary) {
+                    ByteBuffer bin = p.readBinary();
+                    byte[] bytes = new byte[bin.remaining()];
+                    bin.get(bytes);
+                    seen.add(Arrays.toString(bytes));
+                } else {
+                    seen.add(p.readString());
+                }
+                break;
+            case TType.STRUCT:
+                readStruct(p, seen);
+                break;
+            case TType.LIST: {
+                TList list = p.readListBegin();
+                seen.add(list.size);
+                for (int i = 0; i < list.size; i++) {
+                    readValue(p, list.elemType, binary, seen);
+                }
+                p.readListEnd();
+                break;
+            }
+            case TType.SET: {
+                TSet set = p.readSetBegin();
+                seen.add(set.size);
+                for (int i = 0; i < set.size; i++) {
+                    readValue(p, set.elemType, binary, seen);
+                }
+                p.readSetEnd();
+                break;
+            }
+            case TType.MAP: {
+                TMap map = p.readMapBegin();
+                seen.add(map.size);
+                for (int i = 0; i < map.size; i++) {
+                    readValue(p, map.keyType, binary, seen);
+                    readValue(p, map.valueType, binary, seen);
+                }
+                p.readMapEnd();
+                break;
+            }
+            default:
+                fail("Unexpected type " + type);
+        }
+    }
+
+    private static byte[] write(TProtocolFactory factory) throws TException {
+        TMemoryBuffer buffer = new TMemoryBuffer(256);
+        writeSample(factory.getProtocol(buffer));
+        return Arrays.copyOf(buffer.getArray(), buffer.length());
+    }
+
+    private static TTransport unbuffered(byte[] bytes) throws TException {
+        return new TIOStreamTransport(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    @DisplayName("Should write exactly the bytes TJSONProtocol writes")
+    void testWritesSameBytes() throws TException {
+        // When
+        byte[] stock = write(new TJSONProtocol.Factory());
+        byte[] fast = write(new FastJSONProtocol.Factory());
+
+        // Then
+        assertEquals(new String(stock, StandardCharsets.UTF_8), new String(fast, StandardCharsets.UTF_8));
+        assertArrayEquals(stock, fast);
+    }
+
+    @Test
+    @DisplayName("Should read TJSONProtocol output the same way TJSONProtocol does")
+    void testReadsStockOutput() throws TException {
+        // Given
+        byte[] bytes = write(new TJSONProtocol.Factory());
+        List<Object> expected = readSample(new TJSONProtocol(new TMemoryInputTransport(bytes)));
+
+        // When
+        List<Object> inPlace = readSample(new FastJSONProtocol(new TMemoryInputTransport(bytes)));
+        List<Object> byteByByte = readSample(new FastJSONProtocol(unbuffered(bytes)));
+
+        // Then
+        assertEquals(expected, inPlace);
+        assertEquals(expected, byteByByte);
+        assertTrue(expected.contains(TRICKY.replace('\ud800', '?')));
+    }
+
+    @Test
+    @DisplayName("Should serve stock JSON clients and call stock JSON servers")
+    void testRpcInterop() throws TException {
+        // Given
+        UserServiceImpl userService = new UserServiceImpl();
+        userService.createUser("Zoë \"Z\" O'Brien", 30);
+        UserService.Processor<UserServiceImpl> processor = new UserService.Processor<>(userService);
+
+        // When / Then
+        assertEquals("Zoë \"Z\" O'Brien", getUser(processor, new TJSONProtocol.Factory(), new FastJSONProtocol.Factory()).getName());
+        assertEquals("Zoë \"Z\" O'Brien", getUser(processor, new FastJSONProtocol.Factory(), new TJSONProtocol.Factory()).getName());
+    }
+
+    private static User getUser(TProcessor processor, TProtocolFactory clientFactory, TProtocolFactory serverFactory) throws TException {
+        return ProcessorCalls.result(processor, clientFactory, serverFactory, "getUser", 1,
+            new UserService.getUser_args(1L), new UserService.getUser_result()).getSuccess();
+    }
+
+    @Test
+    @DisplayName("Should decode escapes from other JSON writers and reject broken ones")
+    void testEscapes() throws TException {
+        // Given
+        byte[] escaped = "[1,\"\\u00e9\\/\\ud83d\\ude00\",1,0]".getBytes(StandardCharsets.UTF_8);
+        byte[] loneLow = "[1,\"\\udc00\",1,0]".getBytes(StandardCharsets.UTF_8);
+        byte[] badVersion = "[2,\"getUser\",1,0]".getBytes(StandardCharsets.UTF_8);
+
+        // When / Then
+        assertEquals("é/😀", new FastJSONProtocol(new TMemoryInputTransport(escaped)).readMessageBegin().name);
+        assertThrows(TProtocolException.class, () -> new FastJSONProtocol(new TMemoryInputTransport(loneLow)).readMessageBegin());
+        assertThrows(TProtocolException.class, () -> new FastJSONProtocol(new TMemoryInputTransport(badVersion)).readMessageBegin());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example;
+
+import UserService.*;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.THttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the HTTP endpoint against a real listener on an ephemeral port
+ */
+@DisplayName("HTTP Endpoint Tests")
+class HttpEndpointTest {
+
+    private UserServiceImpl userService;
+    private RateLimitingProcessor rateLimiter;
+    private HttpEndpoint endpoint;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws TException {
+        userService = new UserServiceImpl();
+        userService.createUser("Alice", 30);
+        userService.createUser("Bob", 25);
+        rateLimiter = new RateLimitingProcessor(
+            Server.createProcessor(userService, "binary"), userService::getUserCount);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop(1000);
+    }
+
+    private void start(boolean http2) throws TException {
+        start(new RequestHeaderProcessor(new DeadlineProcessor(rateLimiter)), http2);
+    }
+
+    private void start(TProcessor processor, boolean http2) throws TException {
+        endpoint = new HttpEndpoint(processor, new TBinaryProtocol.Factory(), rateLimiter, http2);
+        endpoint.start(0);
+        url = "http://localhost:" + endpoint.getPort() + HttpEndpoint.PATH;
+    }
+
+    @Test
+    @DisplayName("Should serve calls over one reused HTTP/1.1 connection")
+    void testHttp11KeepAlive() throws Exception {
+        // Given
+        start(false);
+        PoolingHttpClientConnectionManager connections = new PoolingHttpClientConnectionManager();
+        connections.setMaxTotal(1);
+        try (CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connections).build()) {
+            UserService.Client client = new UserService.Client(new TBinaryProtocol(new THttpClient(url, httpClient)));
+
+            // When
+            User created = client.createUser("Carol", 41);
+            String alice = client.getUser(1L).getName();
+            int total = client.getAllUsers().size();
+
+            // Then
+            assertEquals("Carol", client.getUser(created.getId()).getName());
+            assertEquals("Alice", alice);
+            assertEquals(3, total);
+            assertEquals(1, endpoint.getConnectionsOpened());
+            assertEquals(4, endpoint.getRequestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should multiplex concurrent calls on one HTTP/2 connection")
+    void testHttp2Multiplexing() throws Exception {
+        // Given
+        start(true);
+        try (CloseableHttpAsyncClient httpClient = HttpAsyncClients.customHttp2().build()) {
+            httpClient.start();
+            // Calls racing the first connect may each open a connection
+            httpClient.execute(SimpleRequestBuilder.post(url)
+                .setBody(getUserCall(1), HttpEndpoint.CONTENT_TYPE)
+                .build(), null).get(5, TimeUnit.SECONDS);
+
+            // When
+            List<Future<SimpleHttpResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                SimpleHttpRequest request = SimpleRequestBuilder.post(url)
+                    .setBody(getUserCall(1 + i % 2), HttpEndpoint.CONTENT_TYPE)
+                    .build();
+                responses.add(httpClient.execute(request, null));
+            }
+
+            // Then
+            for (int i = 0; i < responses.size(); i++) {
+                SimpleHttpResponse response = responses.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals(HttpStatus.SC_OK, response.getCode());
+                assertEquals(HttpVersion.HTTP_2, response.getVersion());
+                assertEquals(i % 2 == 0 ? "Alice" : "Bob", getUserReply(response.getBodyBytes()).getName());
+            }
+            assertEquals(1, endpoint.getConnectionsOpened());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop within its timeout when a call never finishes")
+    void testStopWithinTimeout() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        start((in, out) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, true);
+        try (CloseableHttpAsyncClient httpClient = HttpAsyncClients.customHttp2().build()) {
+            httpClient.start();
+            httpClient.execute(SimpleRequestBuilder.post(url)
+                .setBody(getUserCall(1), HttpEndpoint.CONTENT_TYPE)
+                .build(), null);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When
+            long begin = System.nanoTime();
+            endpoint.stop(300);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+            release.countDown();
+
+            // Then: the reactor and the workers share the one timeout
+            assertTrue(elapsedMillis < 550, "stop took " + elapsedMillis + " ms");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject requests that are not POSTs")
+    void testRejectsGet() throws Exception {
+        // Given
+        start(false);
+        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+            // When
+            int status = httpClient.execute(new HttpGet(url), response -> response.getCode());
+
+            // Then
+            assertEquals(HttpStatus.SC_METHOD_NOT_ALLOWED, status);
+        }
+    }
+
+    private static byte[] getUserCall(long id) throws TException {
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        new UserService.Client(new TBinaryProtocol(buffer)).send_getUser(id);
+        return Arrays.copyOf(buffer.getArray(), buffer.length());
+    }
+
+    private static User getUserReply(byte[] body) throws TException {
+        TProtocol reply = new TBinaryProtocol(new TMemoryInputTransport(body));
+        assertEquals(TMessageType.REPLY, reply.readMessageBegin().type);
+        UserService.getUser_result result = new UserService.getUser_result();
+        result.read(reply);
+        reply.readMessageEnd();
+        return result.getSuccess();
+    }
+}
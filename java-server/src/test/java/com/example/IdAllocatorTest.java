@@ -0,0 +1,111 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for block-leased ID allocation
+ */
+@DisplayName("ID Allocator Tests")
+class IdAllocatorTest {
+
+    @Test
+    @DisplayName("Should allocate consecutive IDs within a thread's block")
+    void testSequentialWithinThread() {
+        // Given
+        IdAllocator ids = new IdAllocator(2, 4, null);
+
+        // When
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            sequences.add(ShardIds.sequenceOf(ids.nextId()));
+        }
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), sequences);
+        assertEquals(2, ShardIds.shardOf(ids.nextId()));
+    }
+
+    @Test
+    @DisplayName("Should never hand out the same ID to concurrent threads")
+    void testUniqueAcrossThreads() throws InterruptedException {
+        // Given
+        IdAllocator ids = new IdAllocator(0, 16, null);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    seen.add(ids.nextId());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(8000, seen.size());
+    }
+
+    @Test
+    @DisplayName("Should abandon leased IDs at or below an imported ID")
+    void testAdvancePast() {
+        // Given
+        IdAllocator ids = new IdAllocator(0, 100, null);
+        ids.nextId();
+
+        // When
+        ids.advancePast(50);
+
+        // Then
+        assertTrue(ShardIds.sequenceOf(ids.nextId()) > 50);
+    }
+
+    @Test
+    @DisplayName("Should resume above the persisted high-water mark after a restart")
+    void testPersistedHighWaterMark(@TempDir Path dir) {
+        // Given
+        Path stateFile = dir.resolve("ids.state");
+        IdAllocator before = new IdAllocator(0, 10, stateFile);
+        long last = 0;
+        for (int i = 0; i < 25; i++) {
+            last = before.nextId();
+        }
+
+        // When
+        IdAllocator after = new IdAllocator(0, 10, stateFile);
+
+        // Then
+        assertTrue(after.nextId() > last);
+    }
+
+    @Test
+    @DisplayName("Should refuse to start from an unreadable high-water mark")
+    void testUnreadableMark(@TempDir Path dir) throws IOException {
+        // Given: an empty file, as a crash mid-write could once leave behind
+        Path stateFile = dir.resolve("ids.state");
+        Files.write(stateFile, new byte[0]);
+
+        // When
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new IdAllocator(0, 10, stateFile));
+
+        // Then
+        assertTrue(e.getMessage().contains(stateFile.toString()));
+    }
+}
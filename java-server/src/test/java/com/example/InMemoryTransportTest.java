@@ -0,0 +1,99 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-memory transport pair and its processor hookup
+ */
+@DisplayName("In-Memory Transport Tests")
+class InMemoryTransportTest {
+
+    private UserServiceImpl userService;
+    private TProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl();
+        RateLimitingProcessor rateLimiter = new RateLimitingProcessor(
+            Server.createProcessor(userService, "binary"), userService::getUserCount);
+        processor = new RequestHeaderProcessor(new DeadlineProcessor(rateLimiter));
+    }
+
+    @Test
+    @DisplayName("Should serve the generated client through the full processor chain")
+    void testServesClient() throws TException {
+        // Given
+        InMemoryTransport transport = InMemoryTransport.serve(processor, new TBinaryProtocol.Factory());
+        UserService.Client client = new UserService.Client(new TBinaryProtocol(transport));
+        AdminService.Client admin = new AdminService.Client(
+            new TMultiplexedProtocol(new TBinaryProtocol(transport), Server.ADMIN_SERVICE));
+
+        // When
+        User created = client.createUser("Alice", 30);
+        User cached = client.getUser(created.getId());
+        client.logUserActivity("login", created.getId(), "now");
+        User again = client.getUser(created.getId());
+
+        // Then
+        assertEquals("Alice", cached.getName());
+        assertEquals(cached, again);
+        assertThrows(UserNotFoundException.class, () -> client.getUser(999L));
+        assertTrue(admin.ping());
+        assertEquals(1, admin.getStats().getUserCount());
+    }
+
+    @Test
+    @DisplayName("Should grow the ring for replies larger than its capacity")
+    void testLargeReply() throws TException {
+        // Given
+        for (int i = 0; i < 2000; i++) {
+            userService.createUser("User" + i, 20 + i % 50);
+        }
+        UserService.Client client = new UserService.Client(
+            new TCompactProtocol(InMemoryTransport.serve(processor, new TCompactProtocol.Factory())));
+
+        // When / Then
+        assertEquals(2000, client.getAllUsers().size());
+        assertEquals(2000, client.getAllUsers().size());
+    }
+
+    @Test
+    @DisplayName("Should read across the end of the ring and fail when nothing was flushed")
+    void testWrapAround() throws TTransportException {
+        // Given
+        InMemoryTransport[] ends = InMemoryTransport.pair(64);
+        byte[] first = new byte[40];
+        byte[] second = new byte[50];
+        Arrays.fill(first, (byte) 1);
+        for (int i = 0; i < second.length; i++) {
+            second[i] = (byte) i;
+        }
+
+        // When
+        ends[0].write(first, 0, first.length);
+        ends[0].write(second, 0, 10);
+        ends[1].readAll(new byte[first.length], 0, first.length);
+        ends[0].write(second, 10, second.length - 10);
+        byte[] read = new byte[second.length];
+        int contiguous = ends[1].getBytesRemainingInBuffer();
+        ends[1].readAll(read, 0, read.length);
+
+        // Then
+        assertEquals(24, contiguous);
+        assertArrayEquals(second, read);
+        assertThrows(TTransportException.class, () -> ends[1].read(new byte[1], 0, 1));
+    }
+}
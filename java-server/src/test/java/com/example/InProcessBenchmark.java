@@ -0,0 +1,83 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TSocket;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Measures getUser round-trip latency from one caller over loopback TCP,
+ * over the in-memory transport and through direct calls, and prints mean
+ * and percentiles.
+ *
+ * Run after mvn test-compile:
+ *   java -cp target/classes:target/test-classes:&lt;dependencies&gt; com.example.InProcessBenchmark
+ */
+public class InProcessBenchmark {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        // The service logs every call; keep that out of the measurement
+        PrintStream results = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        UserServiceImpl userService = new UserServiceImpl();
+        long id = userService.createUser("Alice Johnson", 28).getId();
+
+        TServerSocket serverSocket = new TServerSocket(Server.bind(0, false));
+        int port = serverSocket.getServerSocket().getLocalPort();
+        TServer server = new DrainableThreadPoolServer(new TThreadPoolServer.Args(serverSocket)
+            .processor(new UserService.Processor<>(userService))
+            .protocolFactory(new TBinaryProtocol.Factory()));
+        Thread serving = new Thread(server::serve);
+        serving.setDaemon(true);
+        serving.start();
+        while (!server.isServing()) {
+            Thread.sleep(5);
+        }
+
+        TSocket socket = new TSocket("localhost", port);
+        socket.open();
+        UserService.Iface tcp = new UserService.Client(new TBinaryProtocol(socket));
+        UserService.Iface memory = new UserService.Client(new TBinaryProtocol(
+            InMemoryTransport.serve(new UserService.Processor<>(userService), new TBinaryProtocol.Factory())));
+        UserService.Iface direct = new DirectUserService(userService);
+
+        results.printf("%-12s %10s %10s %10s %10s%n", "mode", "mean us", "p50 us", "p99 us", "p99.9 us");
+        // Rounds alternate so every mode runs with the same JIT profile;
+        // the first round of each also warms up
+        for (int round = 1; round <= ROUNDS; round++) {
+            run(results, "tcp #" + round, tcp, id);
+            run(results, "memory #" + round, memory, id);
+            run(results, "direct #" + round, direct, id);
+        }
+        socket.close();
+        server.stop();
+    }
+
+    private static void run(PrintStream results, String name, UserService.Iface client, long id) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            client.getUser(id);
+        }
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            client.getUser(id);
+            latencies[i] = System.nanoTime() - start;
+        }
+        long total = 0;
+        for (long latency : latencies) {
+            total += latency;
+        }
+        Arrays.sort(latencies);
+        results.printf("%-12s %10.2f %10.2f %10.2f %10.2f%n", name, total / 1000.0 / ITERATIONS,
+            latencies[ITERATIONS / 2] / 1000.0, latencies[ITERATIONS * 99 / 100] / 1000.0, latencies[ITERATIONS * 999 / 1000] / 1000.0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+
+import jdk.jfr.Recording;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Measures what the call phase and store events cost per cached getUser
+ * call over the in-memory transport: without {@link CallPhaseProcessor},
+ * with it but no recording, and with a recording taking every event, and
+ * prints the time per call.
+ *
+ * Run after mvn test-compile:
+ *   java -cp target/classes:target/test-classes:&lt;dependencies&gt; com.example.JfrEventBenchmark
+ */
+public class JfrEventBenchmark {
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        // The service logs every call; keep that out of the measurement
+        PrintStream results = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        UserServiceImpl userService = new UserServiceImpl();
+        long userId = userService.createUser("Alice", 30).getId();
+        CachingUserProcessor userProcessor = new CachingUserProcessor(userService);
+        UserService.Client plain = client(new RequestHeaderProcessor(userProcessor));
+        UserService.Client phased = client(new RequestHeaderProcessor(new CallPhaseProcessor(userProcessor)));
+
+        results.printf("%-24s %12s%n", "getUser", "ns/call");
+        // Rounds alternate so every mode runs with the same JIT profile;
+        // the first round of each also warms up
+        for (int round = 1; round <= ROUNDS; round++) {
+            run(results, "no phase events #" + round, plain, userId);
+            run(results, "not recording #" + round, phased, userId);
+            try (Recording recording = new Recording()) {
+                recording.setToDisk(false);
+                recording.start();
+                run(results, "recording #" + round, phased, userId);
+            }
+        }
+    }
+
+    private static UserService.Client client(TProcessor processor) throws Exception {
+        return new UserService.Client(new TBinaryProtocol(InMemoryTransport.serve(processor, new TBinaryProtocol.Factory())));
+    }
+
+    private static void run(PrintStream results, String name, UserService.Client client, long userId) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            client.getUser(userId);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            client.getUser(userId);
+        }
+        long elapsed = System.nanoTime() - start;
+        results.printf("%-24s %12.1f%n", name, (double) elapsed / ITERATIONS);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes and decodes a getAllUsers reply of 1000 users with the stock and
+ * the fast JSON protocol (binary for reference) and prints time and bytes
+ * allocated per round trip. Decoding runs both over a buffered transport and
+ * over a plain stream, which is how a socket looks to the protocol.
+ *
+ * Run after mvn test-compile:
+ *   java -cp target/classes:target/test-classes:&lt;dependencies&gt; com.example.JsonProtocolBenchmark
+ */
+public class JsonProtocolBenchmark {
+    private static final int USERS = 1000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new User(i, "User \"" + i + "\" Müller", 20 + i % 60));
+        }
+        UserService.getAllUsers_result reply = new UserService.getAllUsers_result();
+        reply.setSuccess(users);
+
+        System.out.printf("%-12s %-10s %12s %14s %10s%n", "protocol", "input", "us/op", "alloc B/op", "size B");
+        run("json", new TJSONProtocol.Factory(), reply, false);
+        run("fastjson", new FastJSONProtocol.Factory(), reply, false);
+        run("json", new TJSONProtocol.Factory(), reply, true);
+        run("fastjson", new FastJSONProtocol.Factory(), reply, true);
+        run("binary", new TBinaryProtocol.Factory(), reply, true);
+    }
+
+    private static void run(String name, TProtocolFactory factory, UserService.getAllUsers_result reply, boolean stream) throws Exception {
+        Connection connection = new Connection(factory);
+        for (int i = 0; i < WARMUP; i++) {
+            connection.roundTrip(reply, stream);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            connection.roundTrip(reply, stream);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%-12s %-10s %12.1f %14d %10d%n", name, stream ? "stream" : "buffered",
+            elapsed / 1000.0 / ITERATIONS, allocated / ITERATIONS, connection.sink.size());
+    }
+
+    /**
+     * Protocols kept across calls, as a server keeps them per connection. A
+     * stream input has to be rebuilt per call, which costs one protocol each.
+     */
+    private static class Connection {
+        final TProtocolFactory factory;
+        final Sink sink = new Sink();
+        final TProtocol out;
+        final TMemoryInputTransport buffered;
+        final TProtocol bufferedIn;
+
+        Connection(TProtocolFactory factory) throws TException {
+            this.factory = factory;
+            this.buffered = new TMemoryInputTransport();
+            this.out = factory.getProtocol(new TIOStreamTransport(sink));
+            this.bufferedIn = factory.getProtocol(buffered);
+        }
+
+        void roundTrip(UserService.getAllUsers_result reply, boolean stream) throws TException {
+            sink.reset();
+            out.writeMessageBegin(new TMessage("getAllUsers", TMessageType.REPLY, 1));
+            reply.write(out);
+            out.writeMessageEnd();
+            out.getTransport().flush();
+
+            TProtocol in;
+            if (stream) {
+                in = factory.getProtocol(new TIOStreamTransport(new ByteArrayInputStream(sink.buffer(), 0, sink.size())));
+            } else {
+                buffered.reset(sink.buffer(), 0, sink.size());
+                in = bufferedIn;
+            }
+            in.readMessageBegin();
+            UserService.getAllUsers_result decoded = new UserService.getAllUsers_result();
+            decoded.read(in);
+            in.readMessageEnd();
+            if (decoded.getSuccessSize() != USERS) {
+                throw new IllegalStateException("Decoded " + decoded.getSuccessSize() + " users");
+            }
+        }
+    }
+
+    private static class Sink extends ByteArrayOutputStream {
+        Sink() {
+            super(64 * 1024);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
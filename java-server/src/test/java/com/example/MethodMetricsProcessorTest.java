@@ -0,0 +1,225 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.THttpClient;
+import org.apache.thrift.transport.TSocket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-method metrics and RPC events against a real server
+ */
+@DisplayName("Method Metrics Tests")
+class MethodMetricsProcessorTest {
+
+    private UserServiceImpl userService;
+    private MethodMetrics metrics;
+    private ServerDrain drain;
+    private TServer server;
+    private TSocket socket;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userService = new UserServiceImpl();
+        for (int i = 0; i < 500; i++) {
+            userService.createUser("User" + i, 20 + i % 50);
+        }
+        metrics = new MethodMetrics();
+    }
+
+    private void start(TProtocolFactory protocolFactory) throws Exception {
+        // Wired as Server.main does; metrics is null without THRIFT_METHOD_METRICS
+        RateLimitingProcessor rateLimiter = new RateLimitingProcessor(
+            Server.createProcessor(userService, "binary", null, metrics), userService::getUserCount);
+        drain = new ServerDrain(measured(rateLimiter), rateLimiter);
+        TServerSocket serverSocket = new TServerSocket(Server.bind(0, false));
+        server = new DrainableThreadPoolServer(new TThreadPoolServer.Args(serverSocket)
+            .processor(drain)
+            .transportFactory(new CountingTransport.Factory())
+            .protocolFactory(protocolFactory));
+        server.setServerEventHandler(drain);
+        Thread serving = new Thread(server::serve);
+        serving.setDaemon(true);
+        serving.start();
+        while (!server.isServing()) {
+            Thread.sleep(5);
+        }
+        socket = new TSocket("localhost", serverSocket.getServerSocket().getLocalPort());
+        socket.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            socket.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report calls, allocation and bytes per method through AdminService")
+    void testReportsPerMethod() throws Exception {
+        // Given
+        start(new TBinaryProtocol.Factory());
+        UserService.Client client = new UserService.Client(new TBinaryProtocol(socket));
+        AdminService.Client admin = new AdminService.Client(
+            new TMultiplexedProtocol(new TBinaryProtocol(socket), Server.ADMIN_SERVICE));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            client.getAllUsers();
+            client.getUser(1L);
+            client.validateUserData("Alice", 30, true);
+        }
+        Map<String, MethodStats> byMethod = new HashMap<>();
+        for (MethodStats stats : admin.getStats().getMethods()) {
+            byMethod.put(stats.getMethod(), stats);
+        }
+
+        // Then
+        MethodStats getAllUsers = byMethod.get("getAllUsers");
+        MethodStats getUser = byMethod.get("getUser");
+        assertEquals(10, getAllUsers.getCalls());
+        assertEquals(10, byMethod.get("validateUserData").getCalls());
+        assertTrue(getAllUsers.getMaxMicros() <= getAllUsers.getTotalMicros());
+        assertTrue(getAllUsers.getBytesOut() > 10 * 500 * 20);
+        // Binary getUser call: 19-byte message header, 12-byte argument struct
+        assertEquals(10 * 31, getUser.getBytesIn());
+        if (MethodMetrics.isAllocationTrackingSupported()) {
+            assertTrue(getAllUsers.getAllocatedBytes() > getUser.getAllocatedBytes() * 10);
+        }
+        assertEquals(0, drain.drain(server, 2000));
+    }
+
+    private TProcessor measured(RateLimitingProcessor rateLimiter) {
+        return new MethodMetricsProcessor(new RequestHeaderProcessor(new DeadlineProcessor(rateLimiter)), metrics);
+    }
+
+    @Test
+    @DisplayName("Should emit one JFR event per call with per-method metrics off")
+    void testRpcEvents() throws Exception {
+        // Given
+        metrics = null;
+        start(new TBinaryProtocol.Factory());
+        UserService.Client client = new UserService.Client(new TBinaryProtocol(socket));
+        Path file = Files.createTempFile("rpc", ".jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.Rpc").withoutThreshold();
+            recording.start();
+            client.getUser(1L);
+            client.getAllUsers();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.example.Rpc"))
+            .collect(Collectors.toList());
+        Files.delete(file);
+        assertEquals(2, events.size());
+        assertEquals("getUser", events.get(0).getString("method"));
+        assertEquals("getAllUsers", events.get(1).getString("method"));
+        assertTrue(events.get(1).getLong("bytesOut") > events.get(0).getLong("bytesOut"));
+        assertTrue(events.get(0).getLong("bytesIn") > 0);
+        assertFalse(events.get(0).getDuration().isNegative());
+    }
+
+    @Test
+    @DisplayName("Should measure calls served over HTTP")
+    void testHttpCalls() throws Exception {
+        // Given
+        RateLimitingProcessor rateLimiter = new RateLimitingProcessor(
+            Server.createProcessor(userService, "binary", null, metrics), userService::getUserCount);
+        HttpEndpoint endpoint = new HttpEndpoint(measured(rateLimiter), new TBinaryProtocol.Factory(), rateLimiter, false);
+        endpoint.start(0);
+        try (THttpClient transport = new THttpClient("http://localhost:" + endpoint.getPort() + HttpEndpoint.PATH)) {
+            UserService.Client client = new UserService.Client(new TBinaryProtocol(transport));
+
+            // When
+            client.getUser(1L);
+            client.getUser(2L);
+        } finally {
+            endpoint.stop(1000);
+        }
+
+        // Then
+        MethodStats getUser = metrics.snapshot().get(0);
+        assertEquals("getUser", getUser.getMethod());
+        assertEquals(2, getUser.getCalls());
+        assertEquals(2 * 31, getUser.getBytesIn());
+        assertTrue(getUser.getBytesOut() > 0);
+    }
+
+    @Test
+    @DisplayName("Should reply in the detected protocol with metrics on")
+    void testProtocolDetection() throws Exception {
+        // Given
+        SniffingProtocolFactory sniffer = new SniffingProtocolFactory();
+        start(sniffer);
+        UserService.Client client = new UserService.Client(new TCompactProtocol(socket));
+        AdminService.Client admin = new AdminService.Client(
+            new TMultiplexedProtocol(new TCompactProtocol(socket), Server.ADMIN_SERVICE));
+
+        // When
+        User user = client.getUser(1L);
+        client.getUser(2L);
+        List<MethodStats> stats = admin.getStats().getMethods();
+
+        // Then
+        assertEquals("User0", user.getName());
+        assertEquals(1, sniffer.getCompactConnections());
+        MethodStats getUser = stats.get(0);
+        assertEquals("getUser", getUser.getMethod());
+        assertEquals(2, getUser.getCalls());
+        assertTrue(getUser.getBytesIn() > 0);
+        assertTrue(getUser.getBytesOut() > 0);
+    }
+
+    @Test
+    @DisplayName("Should strip headers from method names and bound how many are tracked")
+    void testMethodNames() throws TException {
+        // Given
+        MethodMetrics bounded = new MethodMetrics();
+
+        // When
+        for (int i = 0; i < MethodMetrics.MAX_METHODS + 10; i++) {
+            bounded.record("method" + i, 1000, 0, 0, 0);
+        }
+
+        // Then
+        assertEquals("getUser", MethodMetrics.methodName("getUser#client=batch-7"));
+        assertEquals("AdminService:ping", MethodMetrics.methodName("AdminService:ping"));
+        List<MethodStats> stats = bounded.snapshot();
+        assertEquals(MethodMetrics.MAX_METHODS + 1, stats.size());
+        MethodStats other = stats.stream().filter(s -> s.getMethod().equals(MethodMetrics.OTHER)).findFirst().orElseThrow();
+        assertEquals(10, other.getCalls());
+        assertEquals(10, other.getTotalMicros());
+    }
+}
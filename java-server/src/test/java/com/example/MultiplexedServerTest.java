@@ -0,0 +1,138 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.TMultiplexedProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the multiplexed processor: each request is written into an
+ * in-memory buffer, dispatched through the processor, and the reply read back.
+ */
+@DisplayName("Multiplexed Server Tests")
+class MultiplexedServerTest {
+
+    private UserServiceImpl userService;
+    private TMultiplexedProcessor processor;
+    private TMemoryBuffer requestBuffer;
+    private TMemoryBuffer responseBuffer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userService = new UserServiceImpl();
+        processor = Server.createProcessor(userService, "binary");
+        requestBuffer = new TMemoryBuffer(1024);
+        responseBuffer = new TMemoryBuffer(1024);
+    }
+
+    private TProtocol requestProtocol(String serviceName) {
+        TProtocol protocol = new TBinaryProtocol(requestBuffer);
+        return serviceName == null ? protocol : new TMultiplexedProtocol(protocol, serviceName);
+    }
+
+    private void dispatch() throws TException {
+        processor.process(new TBinaryProtocol(requestBuffer), new TBinaryProtocol(responseBuffer));
+    }
+
+    @Test
+    @DisplayName("Should serve un-prefixed UserService calls through the default processor")
+    void testDefaultProcessorForLegacyClients() throws TException {
+        // Given
+        UserService.Client client = new UserService.Client(new TBinaryProtocol(responseBuffer), requestProtocol(null));
+
+        // When
+        client.send_createUser("Alice", 30);
+        dispatch();
+        User user = client.recv_createUser();
+
+        // Then
+        assertEquals("Alice", user.getName());
+        assertEquals(1, userService.getUserCount());
+    }
+
+    @Test
+    @DisplayName("Should serve prefixed UserService calls")
+    void testMultiplexedUserService() throws TException {
+        // Given
+        userService.createUser("Alice", 30);
+        UserService.Client client = new UserService.Client(new TBinaryProtocol(responseBuffer), requestProtocol(Server.USER_SERVICE));
+
+        // When
+        client.send_getUser(1L);
+        dispatch();
+        User user = client.recv_getUser();
+
+        // Then
+        assertEquals("Alice", user.getName());
+    }
+
+    @Test
+    @DisplayName("Should report stats through AdminService")
+    void testAdminServiceStats() throws TException {
+        // Given
+        userService.createUser("Alice", 30);
+        userService.createUser("Bob", 25);
+        AdminService.Client client = new AdminService.Client(new TBinaryProtocol(responseBuffer), requestProtocol(Server.ADMIN_SERVICE));
+
+        // When
+        client.send_getStats();
+        dispatch();
+        ServiceStats stats = client.recv_getStats();
+
+        // Then
+        assertEquals(2, stats.getUserCount());
+        assertEquals("binary", stats.getProtocol());
+        assertTrue(stats.getUptimeMillis() >= 0);
+    }
+
+    @Test
+    @DisplayName("Should skip missing IDs in BulkService calls")
+    void testBulkServiceSkipsMissingIds() throws TException {
+        // Given
+        userService.createUser("Alice", 30);
+        userService.createUser("Bob", 25);
+        BulkService.Client client = new BulkService.Client(new TBinaryProtocol(responseBuffer), requestProtocol(Server.BULK_SERVICE));
+        List<Long> ids = Arrays.asList(1L, 2L, 999L);
+
+        // When
+        client.send_getUsers(ids);
+        dispatch();
+        List<User> found = client.recv_getUsers();
+        client.send_deleteUsers(ids);
+        dispatch();
+        int deleted = client.recv_deleteUsers();
+
+        // Then
+        assertEquals(2, found.size());
+        assertEquals(2, deleted);
+        assertEquals(0, userService.getUserCount());
+    }
+
+    @Test
+    @DisplayName("Should create users in bulk")
+    void testBulkCreateUsers() throws TException {
+        // Given
+        BulkService.Client client = new BulkService.Client(new TBinaryProtocol(responseBuffer), requestProtocol(Server.BULK_SERVICE));
+
+        // When
+        client.send_createUsers(Arrays.asList(new User(0, "Alice", 30), new User(0, "Bob", 25)));
+        dispatch();
+        List<User> created = client.recv_createUsers();
+
+        // Then
+        assertEquals(2, created.size());
+        assertNotEquals(created.get(0).getId(), created.get(1).getId());
+        assertEquals(2, userService.getUserCount());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.ref.Reference;
+
+/**
+ * Creates a million users with realistic, heavily repeated names in a store
+ * without name deduplication and in one with the default table, and prints
+ * the heap each retains, the difference and the table's own estimate.
+ *
+ * Run after mvn test-compile:
+ *   java -Xmx3g -cp target/classes:target/test-classes:&lt;dependencies&gt; com.example.NameDedupReport
+ */
+public class NameDedupReport {
+    private static final int USERS = 1_000_000;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+        "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra",
+        "Donald", "Ashley", "Steven", "Kimberly", "Paul", "Emily", "Andrew", "Donna", "Joshua", "Michelle",
+        "Kenneth", "Dorothy", "Kevin", "Carol", "Brian", "Amanda", "George", "Melissa", "Edward", "Deborah",
+        "Maria", "Jose", "Ana", "Luis", "Carmen", "Juan", "Sofia", "Carlos", "Lucia", "Miguel",
+        "Wei", "Li", "Yan", "Ming", "Hui", "Jun", "Hiroshi", "Yuki", "Aiko", "Kenji",
+        "Mohammed", "Fatima", "Ahmed", "Aisha", "Ali", "Omar", "Priya", "Rahul", "Anita", "Vikram",
+        "Olga", "Ivan", "Dmitri", "Anna", "Sergei", "Elena", "Lars", "Ingrid", "Sven", "Astrid",
+        "Pierre", "Marie", "Jean", "Claire", "Hans", "Greta", "Giulia", "Marco", "Chiara", "Luca"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+        "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores",
+        "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell", "Carter", "Roberts",
+        "Wang", "Zhang", "Liu", "Chen", "Yang", "Huang", "Sato", "Suzuki", "Tanaka", "Watanabe",
+        "Khan", "Patel", "Singh", "Kumar", "Shah", "Ahmed", "Hussain", "Ivanov", "Petrov", "Smirnov",
+        "Muller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker", "Schulz", "Hoffmann",
+        "Rossi", "Russo", "Ferrari", "Esposito", "Bianchi", "Dubois", "Durand", "Bernard", "Moreau", "Laurent",
+        "Silva", "Santos", "Oliveira", "Souza", "Pereira", "Costa", "Andersson", "Johansson", "Larsson", "Nilsson"
+    };
+
+    public static void main(String[] args) throws Exception {
+        // The service logs every call; keep that out of the measurement
+        PrintStream results = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        long baseline = usedHeap();
+        UserServiceImpl plain = fill(new StringDedupTable(0));
+        long plainBytes = usedHeap() - baseline;
+        plain = null;
+
+        baseline = usedHeap();
+        UserServiceImpl deduped = fill(new StringDedupTable());
+        long dedupedBytes = usedHeap() - baseline;
+        StringDedupTable table = deduped.getNameTable();
+
+        results.printf("%,d users, %,d distinct names, %,d table slots%n",
+            USERS, FIRST_NAMES.length * LAST_NAMES.length, table.getSize());
+        results.printf("%-28s %10.1f MB%n", "retained without dedup", plainBytes / 1e6);
+        results.printf("%-28s %10.1f MB%n", "retained with dedup", dedupedBytes / 1e6);
+        results.printf("%-28s %10.1f MB%n", "measured saving", (plainBytes - dedupedBytes) / 1e6);
+        results.printf("%-28s %10.1f MB (%,d duplicate names)%n", "table estimate",
+            table.getDuplicateBytes() / 1e6, table.getDuplicates());
+        // Keep the store reachable until it has been measured
+        Reference.reachabilityFence(deduped);
+    }
+
+    private static UserServiceImpl fill(StringDedupTable names) throws Exception {
+        UserServiceImpl userService = new UserServiceImpl(new IdAllocator(0), names);
+        for (int i = 0; i < USERS; i++) {
+            // A fresh String per call, as deserializing a request produces
+            String name = FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            userService.createUser(name, 18 + i % 60);
+        }
+        return userService;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
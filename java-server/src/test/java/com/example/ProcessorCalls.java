@@ -0,0 +1,87 @@
+package com.example;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TMemoryBuffer;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs single calls through a processor over an in-memory connection, for
+ * tests that check what a processor replies. The request and reply share one
+ * buffer, as they share one transport on a socket, so protocol sniffing
+ * pairs them as it would on a real connection.
+ */
+final class ProcessorCalls {
+
+    private ProcessorCalls() {
+    }
+
+    /**
+     * Sends one call, written in the client's protocol and processed in the
+     * server's, and returns the raw reply bytes; empty if there was no reply
+     */
+    static byte[] send(TProcessor target, TProtocolFactory clientFactory, TProtocolFactory serverFactory,
+                       String method, byte type, int seqid, TBase<?, ?> args) throws TException {
+        TMemoryBuffer connection = new TMemoryBuffer(64);
+        TProtocol client = clientFactory.getProtocol(connection);
+        client.writeMessageBegin(new TMessage(method, type, seqid));
+        args.write(client);
+        client.writeMessageEnd();
+        // The reply is written after the request, which the processor reads in full
+        int requestLength = connection.length();
+        target.process(serverFactory.getProtocol(connection), serverFactory.getProtocol(connection));
+        return Arrays.copyOfRange(connection.getArray(), requestLength, connection.length());
+    }
+
+    /**
+     * Sends one binary call and returns the reply header, or null if there
+     * was no reply; an exception reply must be of the given type
+     */
+    static TMessage replyHeader(TProcessor target, String method, byte type, TBase<?, ?> args, int exceptionType) throws TException {
+        TProtocolFactory binary = new TBinaryProtocol.Factory();
+        byte[] reply = send(target, binary, binary, method, type, 1, args);
+        if (reply.length == 0) {
+            return null;
+        }
+        TProtocol in = binary.getProtocol(buffer(reply));
+        TMessage message = in.readMessageBegin();
+        if (message.type == TMessageType.EXCEPTION) {
+            assertEquals(exceptionType, TApplicationException.readFrom(in).getType());
+        }
+        return message;
+    }
+
+    /**
+     * Sends one call and reads its reply into result; an exception reply is
+     * thrown
+     */
+    static <T extends TBase<T, ?>> T result(TProcessor target, TProtocolFactory clientFactory, TProtocolFactory serverFactory,
+                                            String method, int seqid, TBase<?, ?> args, T result) throws TException {
+        byte[] reply = send(target, clientFactory, serverFactory, method, TMessageType.CALL, seqid, args);
+        TProtocol in = clientFactory.getProtocol(buffer(reply));
+        TMessage message = in.readMessageBegin();
+        assertEquals(seqid, message.seqid);
+        if (message.type == TMessageType.EXCEPTION) {
+            throw TApplicationException.readFrom(in);
+        }
+        result.read(in);
+        in.readMessageEnd();
+        return result;
+    }
+
+    private static TMemoryBuffer buffer(byte[] bytes) throws TException {
+        TMemoryBuffer buffer = new TMemoryBuffer(bytes.length);
+        buffer.write(bytes);
+        return buffer;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for token-bucket rate limiting and request headers
+ */
+@DisplayName("Rate Limiting Processor Tests")
+class RateLimitingProcessorTest {
+
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() throws TException {
+        userService = new UserServiceImpl();
+        userService.createUser("Alice", 30);
+    }
+
+    /**
+     * Sends one call and returns the reply type, or -1 if there was no reply
+     */
+    private int call(TProcessor target, String name, byte type, TBase<?, ?> args) throws TException {
+        TMessage reply = ProcessorCalls.replyHeader(target, name, type, args, RateLimitingProcessor.THROTTLED);
+        return reply != null ? reply.type : -1;
+    }
+
+    @Test
+    @DisplayName("Should refill a token bucket with time and cap it at its capacity")
+    void testTokenBucketRefill() {
+        // Given
+        TokenBucket bucket = new TokenBucket(10, 2);
+        long start = System.nanoTime() + 1_000_000_000L;
+
+        // When / Then
+        assertTrue(bucket.tryAcquire(1, start));
+        assertTrue(bucket.tryAcquire(1, start));
+        assertFalse(bucket.tryAcquire(1, start));
+        assertTrue(bucket.tryAcquire(1, start + 100_000_000L));
+        assertFalse(bucket.tryAcquire(1, start + 100_000_000L));
+        assertTrue(bucket.tryAcquire(5, start + 10_000_000_000L));
+    }
+
+    @Test
+    @DisplayName("Should throttle each client ID separately and count throttled calls")
+    void testPerClientLimit() throws TException {
+        // Given
+        RateLimitingProcessor limiter = new RateLimitingProcessor(
+            new UserService.Processor<>(userService), userService::getUserCount, 1000, 1000, 0.001, 2);
+        TProcessor processor = new RequestHeaderProcessor(limiter);
+
+        // When
+        int first = call(processor, "getUser#client=batch", TMessageType.CALL, new UserService.getUser_args(1L));
+        int second = call(processor, "getUser#client=batch", TMessageType.CALL, new UserService.getUser_args(1L));
+        int third = call(processor, "getUser#client=batch", TMessageType.CALL, new UserService.getUser_args(1L));
+        int oneway = call(processor, "logUserActivity#client=batch", TMessageType.ONEWAY, new UserService.logUserActivity_args("login", 1L, "now"));
+        int other = call(processor, "getUser#client=web", TMessageType.CALL, new UserService.getUser_args(1L));
+        int anonymous = call(processor, "getUser", TMessageType.CALL, new UserService.getUser_args(1L));
+
+        // Then
+        assertEquals(TMessageType.REPLY, first);
+        assertEquals(TMessageType.REPLY, second);
+        assertEquals(TMessageType.EXCEPTION, third);
+        assertEquals(-1, oneway);
+        assertEquals(TMessageType.REPLY, other);
+        assertEquals(TMessageType.REPLY, anonymous);
+        assertEquals(2, limiter.getThrottledCount("batch"));
+        assertEquals(2, limiter.getThrottledCount());
+    }
+
+    @Test
+    @DisplayName("Should charge full scans by store size and bulk calls a flat cost")
+    void testMethodCosts() throws TException {
+        // Given
+        for (int i = 0; i < 250; i++) {
+            userService.createUser("User" + i, 20);
+        }
+        RateLimitingProcessor limiter = new RateLimitingProcessor(
+            new UserService.Processor<>(userService), userService::getUserCount, 0.001, 5, 1000, 1000);
+
+        // When / Then
+        assertEquals(3, limiter.costOf("getAllUsers"));
+        assertEquals(RateLimitingProcessor.BULK_COST, limiter.costOf("createUsers"));
+        assertEquals(1, limiter.costOf("getUser"));
+        assertEquals(TMessageType.REPLY, call(limiter, "getAllUsers", TMessageType.CALL, new UserService.getAllUsers_args()));
+        assertEquals(TMessageType.EXCEPTION, call(limiter, "getAllUsers", TMessageType.CALL, new UserService.getAllUsers_args()));
+        assertEquals(TMessageType.REPLY, call(limiter, "getUser", TMessageType.CALL, new UserService.getUser_args(1L)));
+        assertEquals(1, limiter.getThrottledByConnectionCount());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for graceful drain against a real server on an ephemeral port
+ */
+@DisplayName("Server Drain Tests")
+class ServerDrainTest {
+
+    private UserServiceImpl userService;
+    private CountDownLatch release;
+    private ServerDrain drain;
+    private TServer server;
+    private int port;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userService = new UserServiceImpl();
+        userService.createUser("Alice", 30);
+        release = new CountDownLatch(1);
+        UserService.Processor<UserServiceImpl> plain = new UserService.Processor<>(userService);
+        // getAllUsers blocks until released, to hold a call in flight
+        TProcessor blocking = (in, out) -> {
+            if ("getAllUsers".equals(in.readMessageBegin().name)) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            plain.process(in, out);
+        };
+        drain = new ServerDrain(blocking, null);
+        TServerSocket serverSocket = new TServerSocket(Server.bind(0, false));
+        port = serverSocket.getServerSocket().getLocalPort();
+        server = new DrainableThreadPoolServer(new TThreadPoolServer.Args(serverSocket)
+            .processor(drain)
+            .protocolFactory(new TBinaryProtocol.Factory()));
+        server.setServerEventHandler(drain);
+        Thread serving = new Thread(server::serve);
+        serving.setDaemon(true);
+        serving.start();
+        while (!server.isServing()) {
+            Thread.sleep(5);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop();
+    }
+
+    private UserService.Client connect() throws TTransportException {
+        TSocket socket = new TSocket("localhost", port);
+        socket.open();
+        return new UserService.Client(new TBinaryProtocol(socket));
+    }
+
+    private void awaitInFlight(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (drain.getInFlight() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, drain.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should finish in-flight calls and close idle connections when draining")
+    void testDrainFinishesInFlight() throws Exception {
+        // Given
+        UserService.Client busy = connect();
+        UserService.Client idle = connect();
+        assertEquals("Alice", idle.getUser(1L).getName());
+        CompletableFuture<List<User>> inFlight = CompletableFuture.supplyAsync(() -> {
+            try {
+                return busy.getAllUsers();
+            } catch (TException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        awaitInFlight(1);
+
+        // When
+        CompletableFuture<Integer> drained = CompletableFuture.supplyAsync(() -> drain.drain(server, 5000));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertEquals(1, inFlight.get(5, TimeUnit.SECONDS).size());
+        assertEquals(0, drained.get(5, TimeUnit.SECONDS));
+        assertEquals(0, drain.getConnectionCount());
+        assertThrows(TTransportException.class, () -> idle.getUser(1L));
+        assertThrows(TTransportException.class, this::connect);
+    }
+
+    @Test
+    @DisplayName("Should cut off calls still running at the drain deadline")
+    void testDrainDeadline() throws Exception {
+        // Given
+        UserService.Client busy = connect();
+        CompletableFuture.runAsync(() -> {
+            try {
+                busy.getAllUsers();
+            } catch (TException e) {
+                // Expected: the connection is cut off
+            }
+        });
+        awaitInFlight(1);
+
+        // When
+        int forced = drain.drain(server, 100);
+
+        // Then
+        assertEquals(1, forced);
+        assertTrue(drain.isDraining());
+    }
+
+    @Test
+    @DisplayName("Should flush queued oneway activity events")
+    void testFlushActivity() throws TException {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            userService.logUserActivity("action_" + i, 1L, "2026-02-03T12:00:00Z");
+        }
+
+        // When
+        boolean flushed = userService.flushActivity(5000);
+
+        // Then
+        assertTrue(flushed);
+        assertTrue(userService.flushActivity(0));
+    }
+}
@@ -56,6 +56,20 @@ class ServerTest {
         assertTrue(factory instanceof TJSONProtocol.Factory);
     }
 
+    @Test
+    @DisplayName("Should select fast JSON protocol")
+    void testFastJsonProtocol() {
+        // Given
+        String protocol = "fastjson";
+
+        // When
+        TProtocolFactory factory = getProtocolFactory(protocol);
+
+        // Then
+        assertNotNull(factory);
+        assertTrue(factory instanceof FastJSONProtocol.Factory);
+    }
+
     @Test
     @DisplayName("Should select SimpleJSON protocol")
     void testSimpleJsonProtocol() {
@@ -137,6 +151,8 @@ class ServerTest {
                 return new TCompactProtocol.Factory();
             case "json":
                 return new TJSONProtocol.Factory();
+            case "fastjson":
+                return new FastJSONProtocol.Factory();
             case "simplejson":
                 return new TSimpleJSONProtocol.Factory();
             case "binary":
@@ -0,0 +1,88 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for serving several protocols from one port
+ */
+@DisplayName("Sniffing Protocol Tests")
+class SniffingProtocolTest {
+
+    private UserServiceImpl userService;
+    private SniffingProtocolFactory sniffer;
+
+    @BeforeEach
+    void setUp() throws TException {
+        userService = new UserServiceImpl();
+        userService.createUser("Alice", 30);
+        sniffer = new SniffingProtocolFactory();
+    }
+
+    /**
+     * Runs one getUser call over a fresh connection, with the client speaking
+     * the given protocol and the server sniffing it
+     */
+    private User callGetUser(TProcessor processor, TProtocolFactory clientFactory, long userId) throws TException {
+        return ProcessorCalls.result(processor, clientFactory, sniffer, "getUser", 7,
+            new UserService.getUser_args(userId), new UserService.getUser_result()).getSuccess();
+    }
+
+    @Test
+    @DisplayName("Should serve binary, compact and JSON clients from one factory")
+    void testServesEveryProtocol() throws TException {
+        // Given
+        UserService.Processor<UserServiceImpl> processor = new UserService.Processor<>(userService);
+
+        // When / Then
+        assertEquals("Alice", callGetUser(processor, new TBinaryProtocol.Factory(), 1L).getName());
+        assertEquals("Alice", callGetUser(processor, new TCompactProtocol.Factory(), 1L).getName());
+        assertEquals("Alice", callGetUser(processor, new TJSONProtocol.Factory(), 1L).getName());
+        assertEquals(1, sniffer.getBinaryConnections());
+        assertEquals(1, sniffer.getCompactConnections());
+        assertEquals(1, sniffer.getJsonConnections());
+    }
+
+    @Test
+    @DisplayName("Should replay cached responses in the detected protocol")
+    void testCacheFollowsDetectedProtocol() throws TException {
+        // Given
+        CachingUserProcessor processor = new CachingUserProcessor(userService);
+
+        // When
+        callGetUser(processor, new TCompactProtocol.Factory(), 1L);
+        User compactHit = callGetUser(processor, new TCompactProtocol.Factory(), 1L);
+        callGetUser(processor, new TBinaryProtocol.Factory(), 1L);
+        User binaryHit = callGetUser(processor, new TBinaryProtocol.Factory(), 1L);
+
+        // Then
+        assertEquals("Alice", compactHit.getName());
+        assertEquals("Alice", binaryHit.getName());
+        assertEquals(2, processor.getHitCount());
+        assertEquals(2, processor.size());
+    }
+
+    @Test
+    @DisplayName("Should report a closed connection that never sent a byte")
+    void testEmptyConnection() throws TException {
+        // Given
+        TMemoryBuffer connection = new TMemoryBuffer(0);
+        TProtocol in = sniffer.getProtocol(connection);
+
+        // When / Then
+        assertThrows(TTransportException.class, in::readMessageBegin);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded string deduplication table
+ */
+@DisplayName("String Dedup Table Tests")
+class StringDedupTableTest {
+
+    @Test
+    @DisplayName("Should return one shared instance for equal strings and count the bytes saved")
+    void testSharesEqualStrings() {
+        // Given
+        StringDedupTable table = new StringDedupTable(16);
+        String first = new String("Alice");
+        String second = new String("Alice");
+
+        // When
+        String sharedFirst = table.dedup(first);
+        String sharedSecond = table.dedup(second);
+
+        // Then
+        assertSame(first, sharedFirst);
+        assertSame(first, sharedSecond);
+        assertEquals(2, table.getLookups());
+        assertEquals(1, table.getDuplicates());
+        assertEquals(StringDedupTable.retainedSize("Alice"), table.getDuplicateBytes());
+        assertEquals(48, StringDedupTable.retainedSize("Alice"));
+    }
+
+    @Test
+    @DisplayName("Should stay within its size and pass through what it cannot hold")
+    void testBounded() {
+        // Given
+        StringDedupTable table = new StringDedupTable(10);
+        StringDedupTable disabled = new StringDedupTable(0);
+        String longName = "x".repeat(StringDedupTable.MAX_LENGTH + 1);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            table.dedup("Name" + i);
+        }
+
+        // Then
+        assertEquals(16, table.getSize());
+        assertNull(table.dedup(null));
+        assertNotSame(longName, table.dedup(new String(longName)));
+        String name = new String("Bob");
+        assertSame(name, disabled.dedup(name));
+        assertNotSame(name, disabled.dedup(new String("Bob")));
+        assertEquals(0, disabled.getLookups());
+        assertThrows(IllegalArgumentException.class, () -> new StringDedupTable(-1));
+    }
+
+    @Test
+    @DisplayName("Should evict the older of a pair's entries on a miss")
+    void testEvictsOlderEntry() {
+        // Given: a table of one pair, so every name collides
+        StringDedupTable table = new StringDedupTable(2);
+        String alice = new String("Alice");
+        String bob = new String("Bob");
+        String carol = new String("Carol");
+        table.dedup(alice);
+        table.dedup(bob);
+
+        // When
+        table.dedup(carol);
+
+        // Then
+        assertSame(bob, table.dedup(new String("Bob")));
+        assertSame(carol, table.dedup(new String("Carol")));
+        assertNotSame(alice, table.dedup(new String("Alice")));
+    }
+
+    @Test
+    @DisplayName("Should share one UTF-8 encoding per held name")
+    void testSharesUtf8() {
+        // Given
+        StringDedupTable table = new StringDedupTable(16);
+        String name = table.dedup(new String("Zoë"));
+        long savedByString = table.getDuplicateBytes();
+
+        // When
+        byte[] first = table.utf8(name);
+        byte[] second = table.utf8(new String("Zoë"));
+        byte[] unheld = table.utf8("Bob");
+
+        // Then
+        assertSame(first, second);
+        assertArrayEquals("Zoë".getBytes(StandardCharsets.UTF_8), first);
+        assertArrayEquals("Bob".getBytes(StandardCharsets.UTF_8), unheld);
+        assertNotSame(unheld, table.utf8("Bob"));
+        assertEquals(StringDedupTable.arraySize(first.length), table.getDuplicateBytes() - savedByString);
+        assertNull(table.utf8(null));
+    }
+
+    @Test
+    @DisplayName("Should return equal strings when used from many threads")
+    void testConcurrentUse() throws Exception {
+        // Given
+        StringDedupTable table = new StringDedupTable(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 4; t++) {
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String name = "Name" + (i % 100);
+                    if (!name.equals(table.dedup(name))) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        executor.shutdown();
+        assertTrue(table.getDuplicates() > 0);
+    }
+}
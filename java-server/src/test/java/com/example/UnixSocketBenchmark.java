@@ -0,0 +1,107 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Measures getUser round-trip latency from one client over loopback TCP and
+ * over a Unix domain socket, each against its own thread-pool server, and
+ * prints mean and percentiles.
+ *
+ * Run after mvn test-compile:
+ *   java -cp target/classes:target/test-classes:&lt;dependencies&gt; com.example.UnixSocketBenchmark
+ */
+public class UnixSocketBenchmark {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        if (!UnixSocketTransport.isSupported()) {
+            System.out.println("Unix domain sockets need Java 16 or later");
+            return;
+        }
+        // The service logs every call; keep that out of the measurement
+        PrintStream results = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        UserServiceImpl userService = new UserServiceImpl();
+        long id = userService.createUser("Alice Johnson", 28).getId();
+
+        Path socketFile = Files.createTempDirectory("thrift-bench").resolve("thrift.sock");
+        TServerSocket tcpServer = new TServerSocket(Server.bind(0, false));
+        int port = tcpServer.getServerSocket().getLocalPort();
+        UnixServerTransport unixServer = new UnixServerTransport(socketFile);
+        unixServer.listen();
+
+        results.printf("%-12s %10s %10s %10s %10s%n", "transport", "mean us", "p50 us", "p99 us", "p99.9 us");
+        TServer tcp = start(tcpServer, userService);
+        TServer unix = start(unixServer, userService);
+        // Rounds alternate so both transports run with the same JIT profile;
+        // the first round of each also warms up
+        for (int round = 1; round <= ROUNDS; round++) {
+            run(results, "tcp #" + round, userService, id, () -> {
+                TSocket socket = new TSocket("localhost", port);
+                socket.open();
+                return socket;
+            });
+            run(results, "unix #" + round, userService, id, () -> UnixSocketTransport.connect(socketFile));
+        }
+        tcp.stop();
+        unix.stop();
+        Files.deleteIfExists(socketFile.getParent());
+    }
+
+    private interface Connector {
+        TTransport connect() throws Exception;
+    }
+
+    private static TServer start(TServerTransport serverTransport, UserServiceImpl userService) throws InterruptedException {
+        TServer server = new DrainableThreadPoolServer(new TThreadPoolServer.Args(serverTransport)
+            .processor(new UserService.Processor<>(userService))
+            .protocolFactory(new TBinaryProtocol.Factory()));
+        Thread serving = new Thread(server::serve);
+        serving.setDaemon(true);
+        serving.start();
+        while (!server.isServing()) {
+            Thread.sleep(5);
+        }
+        return server;
+    }
+
+    private static void run(PrintStream results, String name, UserServiceImpl userService, long id, Connector connector) throws Exception {
+        TTransport transport = connector.connect();
+        try {
+            UserService.Client client = new UserService.Client(new TBinaryProtocol(transport));
+            for (int i = 0; i < WARMUP; i++) {
+                client.getUser(id);
+            }
+            long[] latencies = new long[ITERATIONS];
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                client.getUser(id);
+                latencies[i] = System.nanoTime() - start;
+            }
+            long total = 0;
+            for (long latency : latencies) {
+                total += latency;
+            }
+            Arrays.sort(latencies);
+            results.printf("%-12s %10.1f %10.1f %10.1f %10.1f%n", name, total / 1000.0 / ITERATIONS,
+                latencies[ITERATIONS / 2] / 1000.0, latencies[ITERATIONS * 99 / 100] / 1000.0, latencies[ITERATIONS * 999 / 1000] / 1000.0);
+        } finally {
+            transport.close();
+        }
+    }
+}
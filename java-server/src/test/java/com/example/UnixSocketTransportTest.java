@@ -0,0 +1,119 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the Unix domain socket transports against a real server
+ */
+@DisplayName("Unix Socket Transport Tests")
+class UnixSocketTransportTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void requireUnixSockets() {
+        assumeTrue(UnixSocketTransport.isSupported(), "Unix domain sockets need Java 16+");
+    }
+
+    @Test
+    @DisplayName("Should serve calls, including replies larger than the buffers")
+    void testRoundTrip() throws Exception {
+        // Given
+        UserServiceImpl userService = new UserServiceImpl();
+        for (int i = 0; i < 500; i++) {
+            userService.createUser("User" + i, 20 + i % 50);
+        }
+        Path path = directory.resolve("thrift.sock");
+        UnixServerTransport serverTransport = new UnixServerTransport(path);
+        serverTransport.listen();
+        TServer server = new DrainableThreadPoolServer(new TThreadPoolServer.Args(serverTransport)
+            .processor(new UserService.Processor<>(userService))
+            .protocolFactory(new TBinaryProtocol.Factory()));
+        Thread serving = new Thread(server::serve);
+        serving.setDaemon(true);
+        serving.start();
+
+        UnixSocketTransport transport = UnixSocketTransport.connect(path);
+        try {
+            UserService.Client client = new UserService.Client(new TBinaryProtocol(transport));
+
+            // When
+            User created = client.createUser("Alice", 30);
+            List<User> all = client.getAllUsers();
+
+            // Then
+            assertEquals("Alice", client.getUser(created.getId()).getName());
+            assertEquals(501, all.size());
+            assertTrue(Files.exists(path));
+        } finally {
+            transport.close();
+            server.stop();
+        }
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    @DisplayName("Should replace a stale socket file and only remove its own file on close")
+    void testSocketFileTakeover() throws Exception {
+        // Given
+        Path path = directory.resolve("thrift.sock");
+        // A crashed server leaves its bound socket file behind
+        ServerSocketChannel crashed = UnixSocketTransport.openChannel(ServerSocketChannel.class);
+        crashed.bind(UnixSocketTransport.address(path));
+        crashed.close();
+        UnixServerTransport old = new UnixServerTransport(path);
+        UnixServerTransport replacement = new UnixServerTransport(path);
+
+        // When
+        old.listen();
+        replacement.listen();
+        old.close();
+        boolean existsAfterOldClosed = Files.exists(path);
+        UnixSocketTransport.connect(path).close();
+        replacement.close();
+
+        // Then
+        assertTrue(existsAfterOldClosed);
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    @DisplayName("Should refuse to replace a file that is not a socket")
+    void testRegularFileKept() throws Exception {
+        // Given
+        Path path = directory.resolve("thrift.sock");
+        Files.writeString(path, "not a socket");
+        UnixServerTransport transport = new UnixServerTransport(path);
+
+        // When
+        TTransportException e = assertThrows(TTransportException.class, transport::listen);
+
+        // Then
+        assertTrue(e.getMessage().contains("not a socket file"));
+        assertEquals("not a socket", Files.readString(path));
+    }
+
+    @Test
+    @DisplayName("Should fail to connect when nothing listens on the path")
+    void testConnectToMissingSocket() {
+        // When / Then
+        assertThrows(TTransportException.class, () -> UnixSocketTransport.connect(directory.resolve("missing.sock")));
+    }
+}
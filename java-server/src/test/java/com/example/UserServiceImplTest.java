@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -283,4 +284,470 @@ class UserServiceImplTest {
         assertEquals(3, remaining.size());
         assertFalse(remaining.stream().anyMatch(u -> u.getId() == user3.getId()));
     }
+
+    @Test
+    @DisplayName("Should find users by exact name")
+    void testFindUsersByName() throws TException {
+        // Given
+        User alice1 = service.createUser("Alice", 25);
+        service.createUser("Alicia", 30);
+        User alice2 = service.createUser("Alice", 35);
+
+        // When
+        List<User> found = service.findUsersByName("Alice");
+
+        // Then
+        assertEquals(2, found.size());
+        assertEquals(alice1.getId(), found.get(0).getId());
+        assertEquals(alice2.getId(), found.get(1).getId());
+        assertTrue(service.findUsersByName("Bob").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find users by name prefix in name order with limit")
+    void testFindUsersByNamePrefix() throws TException {
+        // Given
+        service.createUser("Charlie", 40);
+        service.createUser("Carol", 30);
+        service.createUser("Bob", 20);
+        service.createUser("Cathy", 35);
+
+        // When
+        List<User> all = service.findUsersByNamePrefix("C", 10);
+        List<User> limited = service.findUsersByNamePrefix("C", 2);
+
+        // Then
+        assertEquals(3, all.size());
+        assertEquals("Carol", all.get(0).getName());
+        assertEquals("Cathy", all.get(1).getName());
+        assertEquals("Charlie", all.get(2).getName());
+        assertEquals(2, limited.size());
+        assertTrue(service.findUsersByNamePrefix("C", 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep name index in sync with update and delete")
+    void testNameIndexFollowsUpdateAndDelete() throws TException {
+        // Given
+        User created = service.createUser("Original Name", 25);
+        User toDelete = service.createUser("Original Other", 30);
+
+        // When
+        service.updateUser(new User(created.getId(), "Renamed", 26));
+        service.deleteUser(toDelete.getId());
+
+        // Then
+        assertTrue(service.findUsersByNamePrefix("Original", 10).isEmpty());
+        assertEquals(1, service.findUsersByName("Renamed").size());
+    }
+
+    @Test
+    @DisplayName("Should reindex a user whose stored object was mutated in place")
+    void testNameIndexWithInPlaceMutation() throws TException {
+        // Given
+        User created = service.createUser("Before", 25);
+        User stored = service.getUser(created.getId());
+
+        // When
+        stored.setName("After");
+        service.updateUser(stored);
+
+        // Then
+        assertTrue(service.findUsersByName("Before").isEmpty());
+        assertEquals(1, service.findUsersByName("After").size());
+    }
+
+    @Test
+    @DisplayName("Should not let callers change stored users through the objects they hold")
+    void testStoredUsersAreImmutable() throws TException {
+        // Given
+        User created = service.createUser("Alice", 30);
+        User update = new User(created.getId(), "Alicia", 31);
+        service.updateUser(update);
+
+        // When
+        created.setName("Mallory");
+        update.setAge(99);
+        service.getUser(created.getId()).setName("Eve");
+        service.getAllUsers().get(0).setAge(1);
+
+        // Then
+        User stored = service.getUser(created.getId());
+        assertEquals("Alicia", stored.getName());
+        assertEquals(31, stored.getAge());
+        assertNotSame(stored, service.getUser(created.getId()));
+        assertEquals(1, service.findUsersByAgeRange(31, 31, 0L, 10).size());
+    }
+
+    @Test
+    @DisplayName("Should store one instance of a name shared by many users")
+    void testSharesRepeatedNames() throws TException {
+        // Given
+        User first = service.createUser(new String("Maria Garcia"), 30);
+
+        // When
+        User second = service.createUser(new String("Maria Garcia"), 41);
+        User renamed = service.updateUser(new User(service.createUser("Other", 20).getId(), new String("Maria Garcia"), 20));
+
+        // Then
+        String stored = service.getUser(first.getId()).getName();
+        assertSame(stored, service.getUser(second.getId()).getName());
+        assertSame(stored, service.getUser(renamed.getId()).getName());
+        assertEquals(2, service.getNameTable().getDuplicates());
+    }
+
+    @Test
+    @DisplayName("Should page through users by age range using an ID cursor")
+    void testFindUsersByAgeRangePaging() throws TException {
+        // Given
+        service.createUser("Alice", 25);
+        service.createUser("Bob", 40);
+        service.createUser("Carol", 30);
+        service.createUser("Dave", 28);
+
+        // When
+        List<User> firstPage = service.findUsersByAgeRange(25, 30, 0L, 2);
+        long cursor = firstPage.get(firstPage.size() - 1).getId();
+        List<User> secondPage = service.findUsersByAgeRange(25, 30, cursor, 2);
+        List<User> thirdPage = service.findUsersByAgeRange(25, 30, secondPage.get(secondPage.size() - 1).getId(), 2);
+
+        // Then
+        assertEquals(2, firstPage.size());
+        assertEquals("Alice", firstPage.get(0).getName());
+        assertEquals("Carol", firstPage.get(1).getName());
+        assertEquals(1, secondPage.size());
+        assertEquals("Dave", secondPage.get(0).getName());
+        assertTrue(thirdPage.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count users by age and follow updates and deletes")
+    void testCountByAge() throws TException {
+        // Given
+        service.createUser("Alice", 30);
+        User bob = service.createUser("Bob", 30);
+        User carol = service.createUser("Carol", 45);
+
+        // When
+        service.updateUser(new User(bob.getId(), "Bob", 31));
+        service.deleteUser(carol.getId());
+        List<AgeCount> histogram = service.countByAge(0, 150);
+
+        // Then
+        assertEquals(2, histogram.size());
+        assertEquals(new AgeCount(30, 1), histogram.get(0));
+        assertEquals(new AgeCount(31, 1), histogram.get(1));
+        assertTrue(service.findUsersByAgeRange(45, 45, 0L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should still index ages outside the validated range")
+    void testAgeIndexOutOfRangeAges() throws TException {
+        // Given
+        service.createUser("Old", 200);
+        service.createUser("Young", 20);
+
+        // When
+        List<User> found = service.findUsersByAgeRange(100, 300, 0L, 10);
+        List<AgeCount> histogram = service.countByAge(151, 1000);
+
+        // Then
+        assertEquals(1, found.size());
+        assertEquals("Old", found.get(0).getName());
+        assertEquals(1, histogram.size());
+        assertEquals(new AgeCount(200, 1), histogram.get(0));
+        assertTrue(service.countByAge(10, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should list only users matching the filter")
+    void testListUsersFilter() throws TException {
+        // Given
+        service.createUser("Alice", 25);
+        service.createUser("Alan", 40);
+        service.createUser("Bob", 30);
+        UserFilter filter = new UserFilter();
+        filter.setNamePrefix("Al");
+        filter.setMaxAge(30);
+
+        // When
+        List<UserView> views = service.listUsers(filter, null);
+
+        // Then
+        assertEquals(1, views.size());
+        assertEquals("Alice", views.get(0).getName());
+        assertEquals(25, views.get(0).getAge());
+        assertTrue(views.get(0).isSetId());
+    }
+
+    @Test
+    @DisplayName("Should return only projected fields")
+    void testListUsersProjection() throws TException {
+        // Given
+        service.createUser("Alice", 25);
+        UserProjection namesOnly = new UserProjection();
+        namesOnly.setName(true);
+
+        // When
+        List<UserView> views = service.listUsers(null, namesOnly);
+
+        // Then
+        assertEquals(1, views.size());
+        assertEquals("Alice", views.get(0).getName());
+        assertFalse(views.get(0).isSetId());
+        assertFalse(views.get(0).isSetAge());
+    }
+
+    @Test
+    @DisplayName("Should list every user with an empty filter")
+    void testListUsersEmptyFilter() throws TException {
+        // Given
+        service.createUser("Alice", 25);
+        service.createUser("Bob", 30);
+
+        // When
+        List<UserView> views = service.listUsers(new UserFilter(), new UserProjection(true, false, false));
+
+        // Then
+        assertEquals(2, views.size());
+        assertTrue(views.stream().allMatch(v -> v.isSetId() && !v.isSetName() && !v.isSetAge()));
+    }
+
+    @Test
+    @DisplayName("Should report updated and deleted user IDs since a sequence")
+    void testPollInvalidations() throws TException {
+        // Given
+        User alice = service.createUser("Alice", 25);
+        User bob = service.createUser("Bob", 30);
+        long start = service.pollInvalidations(0L).getSequence();
+
+        // When
+        service.updateUser(new User(alice.getId(), "Alice", 26));
+        service.deleteUser(bob.getId());
+        InvalidationBatch batch = service.pollInvalidations(start);
+
+        // Then
+        assertFalse(batch.isReset());
+        assertEquals(List.of(alice.getId(), bob.getId()), batch.getUserIds());
+        assertTrue(service.pollInvalidations(batch.getSequence()).getUserIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ask clients to reset when the invalidation log has wrapped")
+    void testPollInvalidationsReset() {
+        // Given
+        InvalidationLog log = new InvalidationLog(2);
+        log.append(1L);
+        log.append(2L);
+        log.append(3L);
+
+        // When
+        InvalidationBatch stale = log.since(0L);
+        InvalidationBatch current = log.since(1L);
+
+        // Then
+        assertTrue(stale.isReset());
+        assertEquals(3L, stale.getSequence());
+        assertFalse(current.isReset());
+        assertEquals(List.of(2L, 3L), current.getUserIds());
+    }
+
+    @Test
+    @DisplayName("Should encode the shard in the IDs it assigns")
+    void testShardAwareIds() throws TException {
+        // Given
+        UserServiceImpl shard = new UserServiceImpl(3);
+
+        // When
+        User first = shard.createUser("Alice", 30);
+        User second = shard.createUser("Bob", 31);
+
+        // Then
+        assertEquals(3, ShardIds.shardOf(first.getId()));
+        assertEquals(1L, ShardIds.sequenceOf(first.getId()));
+        assertEquals(2L, ShardIds.sequenceOf(second.getId()));
+        assertEquals(first, shard.getUser(first.getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject shard IDs outside the ID layout")
+    void testInvalidShardId() {
+        assertThrows(IllegalArgumentException.class, () -> new UserServiceImpl(-1));
+        assertThrows(IllegalArgumentException.class, () -> new UserServiceImpl(ShardIds.MAX_SHARDS));
+    }
+
+    @Test
+    @DisplayName("Should export users by ring range in ID pages")
+    void testExportUsersByRingRange() throws TException {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            service.createUser("User" + i, 30);
+        }
+        long fromHash = 0L;
+        long toHash = Long.MAX_VALUE;
+
+        // When
+        List<User> firstPage = service.exportUsers(fromHash, toHash, 0L, 3);
+        List<User> secondPage = service.exportUsers(fromHash, toHash, firstPage.get(2).getId(), 100);
+        service.deleteUser(2L);
+        List<User> wholeRing = service.exportUsers(5L, 5L, 0L, 100);
+
+        // Then
+        assertEquals(3, firstPage.size());
+        assertTrue(firstPage.get(0).getId() < firstPage.get(1).getId());
+        for (User user : firstPage) {
+            assertTrue(RingHash.hash(user.getId()) > 0);
+        }
+        assertTrue(secondPage.stream().allMatch(u -> u.getId() > firstPage.get(2).getId() && RingHash.hash(u.getId()) > 0));
+        assertEquals(19, wholeRing.size());
+        assertEquals(1L, wholeRing.get(0).getId());
+        assertEquals(3L, wholeRing.get(1).getId());
+        assertEquals(-5451962507482445012L, RingHash.hash(1L));
+    }
+
+    @Test
+    @DisplayName("Should import users under their existing IDs and never reuse them")
+    void testImportUser() throws TException {
+        // Given
+        User migrated = new User(ShardIds.compose(2, 7), "Migrated", 40);
+        User ownShard = new User(10L, "Own", 20);
+
+        // When
+        service.importUser(migrated);
+        service.importUser(ownShard);
+        User next = service.createUser("Next", 25);
+
+        // Then
+        assertEquals("Migrated", service.getUser(migrated.getId()).getName());
+        assertEquals(1, service.findUsersByName("Migrated").size());
+        assertEquals(11L, next.getId());
+    }
+
+    @Test
+    @DisplayName("Should bring a replica in line with the primary by pulling mutations")
+    void testReplicaPullsMutations() throws TException {
+        // Given
+        User alice = service.createUser("Alice", 30);
+        User bob = service.createUser("Bob", 40);
+        UserServiceImpl replica = new UserServiceImpl();
+        replica.setReadOnly(true);
+        ReplicaSync sync = new ReplicaSync(replica, "localhost", 0, null);
+        ReplicationServiceImpl primary = new ReplicationServiceImpl(service);
+
+        // When
+        sync.pullOnce(primary);
+        service.updateUser(new User(alice.getId(), "Alice", 31));
+        service.deleteUser(bob.getId());
+        User carol = service.createUser("Carol", 50);
+        sync.pullOnce(primary);
+        boolean caughtUp = !sync.pullOnce(primary);
+
+        // Then
+        assertTrue(caughtUp);
+        assertEquals(service.getAllUsers().size(), replica.getAllUsers().size());
+        assertEquals(31, replica.getUser(alice.getId()).getAge());
+        assertThrows(UserNotFoundException.class, () -> replica.getUser(bob.getId()));
+        assertEquals(carol, replica.getUser(carol.getId()));
+        assertEquals(1, replica.findUsersByName("Carol").size());
+        assertEquals(5L, sync.getAppliedSequence());
+        assertEquals(0L, sync.getLagMutations());
+        assertEquals(0L, sync.getLagMillis());
+    }
+
+    @Test
+    @DisplayName("Should measure replica lag from the oldest mutation not yet applied")
+    void testReplicaLagFromOldestUnapplied() throws TException {
+        // Given: an hour-old backlog of 1000 mutations, then 500 from the last second
+        long now = System.currentTimeMillis();
+        List<Mutation> log = new ArrayList<>();
+        for (long seq = 1; seq <= 1500; seq++) {
+            Mutation mutation = new Mutation(seq, seq, (seq <= 1000) ? now - 3_600_000 : now - 1000);
+            mutation.setUser(new User(seq, "User" + seq, 20));
+            log.add(mutation);
+        }
+        ReplicationService.Iface primary = new ReplicationService.Iface() {
+            @Override
+            public MutationBatch pullMutations(long sinceSequence, int limit) {
+                int from = (int) sinceSequence;
+                return new MutationBatch(log.subList(from, Math.min(log.size(), from + limit)), log.size(), false);
+            }
+
+            @Override
+            public Snapshot getSnapshot() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        UserServiceImpl replica = new UserServiceImpl();
+        ReplicaSync sync = new ReplicaSync(replica, "localhost", 0, null);
+
+        // When
+        sync.pullOnce(primary);
+
+        // Then: the applied hour-old entries no longer count
+        assertEquals(1000L, sync.getAppliedSequence());
+        assertEquals(500L, sync.getLagMutations());
+        assertTrue(sync.getLagMillis() >= 1000 && sync.getLagMillis() < 60_000);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a replica from a snapshot plus the mutations after it")
+    void testReplicaSnapshotAndReplay() throws TException {
+        // Given
+        User alice = service.createUser("Alice", 30);
+        service.createUser("Bob", 40);
+        UserServiceImpl replica = new UserServiceImpl();
+        replica.createUser("Stale", 99);
+
+        // When
+        Snapshot snapshot = service.snapshot();
+        service.updateUser(new User(alice.getId(), "Alicia", 30));
+        replica.loadSnapshot(snapshot);
+        for (Mutation mutation : service.mutationsSince(snapshot.getSequence(), 100).getMutations()) {
+            replica.applyMutation(mutation);
+        }
+
+        // Then
+        assertEquals(2L, snapshot.getSequence());
+        assertEquals(2, replica.getUserCount());
+        assertEquals("Alicia", replica.getUser(alice.getId()).getName());
+        assertTrue(replica.findUsersByName("Stale").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ask for a snapshot once the replica falls out of the log window")
+    void testMutationLogWindow() {
+        // Given
+        MutationLog log = new MutationLog(4);
+        for (long id = 1; id <= 6; id++) {
+            log.published(log.appendPut(new UserRecord(id, "User" + id, 20)));
+        }
+
+        // When
+        MutationBatch tooOld = log.since(1L, 10);
+        MutationBatch inWindow = log.since(2L, 10);
+
+        // Then
+        assertTrue(tooOld.isSnapshotRequired());
+        assertFalse(inWindow.isSnapshotRequired());
+        assertEquals(4, inWindow.getMutationsSize());
+        assertEquals(6L, inWindow.getPrimarySequence());
+        assertEquals(6L, log.getStableSequence());
+    }
+
+    @Test
+    @DisplayName("Should reject client writes on a read-only replica")
+    void testReadOnlyReplica() throws TException {
+        // Given
+        User alice = service.createUser("Alice", 30);
+        service.setReadOnly(true);
+
+        // When / Then
+        assertThrows(TApplicationException.class, () -> service.createUser("Bob", 40));
+        assertThrows(TApplicationException.class, () -> service.updateUser(new User(alice.getId(), "Alicia", 30)));
+        assertThrows(TApplicationException.class, () -> service.deleteUser(alice.getId()));
+        assertThrows(TApplicationException.class,
+            () -> new BulkServiceImpl(service).importUsers(List.of(new User(50L, "Mallory", 20))));
+        assertEquals(alice, service.getUser(alice.getId()));
+        assertEquals(1, service.getUserCount());
+    }
 }
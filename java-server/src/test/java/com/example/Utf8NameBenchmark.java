@@ -0,0 +1,78 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Measures how long encoding a getAllUsers reply of 1,000 users takes on the
+ * binary and compact protocols, with names encoded from Strings and with
+ * names stored as UTF-8, for ASCII and for Cyrillic names, and prints the
+ * time per reply and per user.
+ *
+ * Run after mvn test-compile:
+ *   java -cp target/classes:target/test-classes:&lt;dependencies&gt; com.example.Utf8NameBenchmark
+ */
+public class Utf8NameBenchmark {
+    private static final int USERS = 1_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        // The service logs every call; keep that out of the measurement
+        PrintStream results = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        String[] prefixes = {"Alexander Johnson ", "Александр Иванов "};
+        String[] labels = {"ascii", "cyrillic"};
+
+        results.printf("%-26s %12s %12s%n", "reply", "us/reply", "ns/user");
+        // Rounds alternate so both modes run with the same JIT profile;
+        // the first round of each also warms up
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (int set = 0; set < prefixes.length; set++) {
+                List<User> strings = fill(prefixes[set], false);
+                List<User> utf8 = fill(prefixes[set], true);
+                for (boolean compact : new boolean[] {false, true}) {
+                    String protocol = compact ? "compact " : "binary ";
+                    run(results, protocol + labels[set] + " string #" + round, strings, compact);
+                    run(results, protocol + labels[set] + " utf8 #" + round, utf8, compact);
+                }
+            }
+        }
+    }
+
+    private static List<User> fill(String prefix, boolean utf8Names) throws Exception {
+        UserServiceImpl userService = new UserServiceImpl();
+        userService.setUtf8Names(utf8Names);
+        for (int i = 0; i < USERS; i++) {
+            userService.createUser(prefix + i, 20 + i % 50);
+        }
+        return userService.getAllUsers();
+    }
+
+    private static void run(PrintStream results, String name, List<User> users, boolean compact) throws Exception {
+        UserService.getAllUsers_result result = new UserService.getAllUsers_result().setSuccess(users);
+        for (int i = 0; i < WARMUP; i++) {
+            result.write(protocol(compact));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            result.write(protocol(compact));
+        }
+        long elapsed = System.nanoTime() - start;
+        results.printf("%-26s %12.1f %12.1f%n", name, elapsed / 1000.0 / ITERATIONS, (double) elapsed / ITERATIONS / USERS);
+    }
+
+    // A fresh buffer per reply, large enough never to grow
+    private static TProtocol protocol(boolean compact) throws Exception {
+        TMemoryBuffer buffer = new TMemoryBuffer(64 * 1024);
+        return compact ? new TCompactProtocol(buffer) : new TBinaryProtocol(buffer);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example;
+
+import UserService.*;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for writing stored UTF-8 names straight to the wire
+ */
+@DisplayName("UTF-8 Name Tests")
+class Utf8UserTest {
+
+    private static final String NAME = "José Müller 李小龍 🚀";
+
+    @Test
+    @DisplayName("Should write the same bytes as the generated encoding")
+    void testSameBytesAsGenerated() throws TException {
+        // Given
+        User plain = UserRecord.create(7L, NAME, 33, false).toUser();
+        User utf8 = UserRecord.create(7L, NAME, 33, true).toUser();
+
+        // When / Then
+        assertInstanceOf(Utf8User.class, utf8);
+        assertEquals(plain, utf8);
+        for (TProtocolFactory factory : new TProtocolFactory[] {
+                new TBinaryProtocol.Factory(), new TCompactProtocol.Factory(),
+                new TJSONProtocol.Factory(), new TTupleProtocol.Factory()}) {
+            assertArrayEquals(encode(plain, factory), encode(utf8, factory), factory.getClass().getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve UTF-8 names to binary, compact and JSON clients")
+    void testServesNames() throws TException {
+        // Given
+        UserServiceImpl userService = new UserServiceImpl();
+        userService.setUtf8Names(true);
+        User created = userService.createUser(NAME, 40);
+        userService.createUser("Ann", 22);
+        userService.updateUser(new User(created.getId(), NAME, 41));
+
+        for (TProtocolFactory factory : new TProtocolFactory[] {
+                new TBinaryProtocol.Factory(), new TCompactProtocol.Factory(), new TJSONProtocol.Factory()}) {
+            UserService.Client client = new UserService.Client(factory.getProtocol(
+                InMemoryTransport.serve(Server.createProcessor(userService, "binary"), factory)));
+
+            // When
+            User user = client.getUser(created.getId());
+            List<User> all = client.getAllUsers();
+
+            // Then
+            assertEquals(new User(created.getId(), NAME, 41), user);
+            assertEquals(2, all.size());
+            assertTrue(all.contains(user));
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode a name changed after the user was built")
+    void testChangedName() throws TException {
+        // Given
+        User user = UserRecord.create(7L, NAME, 33, true).toUser();
+
+        // When
+        user.setName("Renamed");
+
+        // Then
+        User read = new User();
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        user.write(new TBinaryProtocol(buffer));
+        read.read(new TBinaryProtocol(buffer));
+        assertEquals("Renamed", read.getName());
+        assertEquals(new User(7L, "Renamed", 33), read);
+    }
+
+    private static byte[] encode(User user, TProtocolFactory factory) throws TException {
+        TMemoryBuffer buffer = new TMemoryBuffer(64);
+        TProtocol protocol = factory.getProtocol(buffer);
+        user.write(protocol);
+        return Arrays.copyOf(buffer.getArray(), buffer.length());
+    }
+}
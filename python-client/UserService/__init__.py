@@ -1 +1 @@
-__all__ = ['ttypes', 'constants', 'UserService']
+__all__ = ['ttypes', 'constants', 'UserService', 'AdminService', 'BulkService', 'ReplicationService']
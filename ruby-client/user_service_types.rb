@@ -9,8 +9,28 @@ require 'thrift'
 module UserService
   class User; end
 
+  class UserFilter; end
+
+  class UserProjection; end
+
+  class UserView; end
+
+  class AgeCount; end
+
+  class InvalidationBatch; end
+
   class UserNotFoundException < ::Thrift::Exception; end
 
+  class MethodStats; end
+
+  class ServiceStats; end
+
+  class Mutation; end
+
+  class MutationBatch; end
+
+  class Snapshot; end
+
   class User
     include ::Thrift::Struct, ::Thrift::Struct_Union
     ID = 1
@@ -31,6 +51,104 @@ module UserService
     ::Thrift::Struct.generate_accessors self
   end
 
+  class UserFilter
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    MINAGE = 1
+    MAXAGE = 2
+    NAMEPREFIX = 3
+
+    FIELDS = {
+      MINAGE => {:type => ::Thrift::Types::I32, :name => 'minAge', :optional => true},
+      MAXAGE => {:type => ::Thrift::Types::I32, :name => 'maxAge', :optional => true},
+      NAMEPREFIX => {:type => ::Thrift::Types::STRING, :name => 'namePrefix', :optional => true}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class UserProjection
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    ID = 1
+    NAME = 2
+    AGE = 3
+
+    FIELDS = {
+      ID => {:type => ::Thrift::Types::BOOL, :name => 'id'},
+      NAME => {:type => ::Thrift::Types::BOOL, :name => 'name'},
+      AGE => {:type => ::Thrift::Types::BOOL, :name => 'age'}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class UserView
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    ID = 1
+    NAME = 2
+    AGE = 3
+
+    FIELDS = {
+      ID => {:type => ::Thrift::Types::I64, :name => 'id', :optional => true},
+      NAME => {:type => ::Thrift::Types::STRING, :name => 'name', :optional => true},
+      AGE => {:type => ::Thrift::Types::I32, :name => 'age', :optional => true}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class AgeCount
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    AGE = 1
+    COUNT = 2
+
+    FIELDS = {
+      AGE => {:type => ::Thrift::Types::I32, :name => 'age'},
+      COUNT => {:type => ::Thrift::Types::I64, :name => 'count'}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class InvalidationBatch
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    SEQUENCE = 1
+    USERIDS = 2
+    RESET = 3
+
+    FIELDS = {
+      SEQUENCE => {:type => ::Thrift::Types::I64, :name => 'sequence'},
+      USERIDS => {:type => ::Thrift::Types::LIST, :name => 'userIds', :element => {:type => ::Thrift::Types::I64}},
+      RESET => {:type => ::Thrift::Types::BOOL, :name => 'reset'}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
   class UserNotFoundException < ::Thrift::Exception
     include ::Thrift::Struct, ::Thrift::Struct_Union
     def initialize(message=nil)
@@ -52,4 +170,118 @@ module UserService
     ::Thrift::Struct.generate_accessors self
   end
 
+  class MethodStats
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    METHOD = 1
+    CALLS = 2
+    TOTALMICROS = 3
+    MAXMICROS = 4
+    ALLOCATEDBYTES = 5
+    BYTESIN = 6
+    BYTESOUT = 7
+
+    FIELDS = {
+      METHOD => {:type => ::Thrift::Types::STRING, :name => 'method'},
+      CALLS => {:type => ::Thrift::Types::I64, :name => 'calls'},
+      TOTALMICROS => {:type => ::Thrift::Types::I64, :name => 'totalMicros'},
+      MAXMICROS => {:type => ::Thrift::Types::I64, :name => 'maxMicros'},
+      ALLOCATEDBYTES => {:type => ::Thrift::Types::I64, :name => 'allocatedBytes'},
+      BYTESIN => {:type => ::Thrift::Types::I64, :name => 'bytesIn'},
+      BYTESOUT => {:type => ::Thrift::Types::I64, :name => 'bytesOut'}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class ServiceStats
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    USERCOUNT = 1
+    UPTIMEMILLIS = 2
+    PROTOCOL = 3
+    REPLICATIONLAGMUTATIONS = 4
+    REPLICATIONLAGMILLIS = 5
+    METHODS = 6
+
+    FIELDS = {
+      USERCOUNT => {:type => ::Thrift::Types::I64, :name => 'userCount'},
+      UPTIMEMILLIS => {:type => ::Thrift::Types::I64, :name => 'uptimeMillis'},
+      PROTOCOL => {:type => ::Thrift::Types::STRING, :name => 'protocol'},
+      REPLICATIONLAGMUTATIONS => {:type => ::Thrift::Types::I64, :name => 'replicationLagMutations', :optional => true},
+      REPLICATIONLAGMILLIS => {:type => ::Thrift::Types::I64, :name => 'replicationLagMillis', :optional => true},
+      METHODS => {:type => ::Thrift::Types::LIST, :name => 'methods', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::MethodStats}, :optional => true}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class Mutation
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    SEQUENCE = 1
+    USERID = 2
+    USER = 3
+    TIMESTAMPMILLIS = 4
+
+    FIELDS = {
+      SEQUENCE => {:type => ::Thrift::Types::I64, :name => 'sequence'},
+      USERID => {:type => ::Thrift::Types::I64, :name => 'userId'},
+      USER => {:type => ::Thrift::Types::STRUCT, :name => 'user', :class => ::UserService::User, :optional => true},
+      TIMESTAMPMILLIS => {:type => ::Thrift::Types::I64, :name => 'timestampMillis'}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class MutationBatch
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    MUTATIONS = 1
+    PRIMARYSEQUENCE = 2
+    SNAPSHOTREQUIRED = 3
+
+    FIELDS = {
+      MUTATIONS => {:type => ::Thrift::Types::LIST, :name => 'mutations', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::Mutation}},
+      PRIMARYSEQUENCE => {:type => ::Thrift::Types::I64, :name => 'primarySequence'},
+      SNAPSHOTREQUIRED => {:type => ::Thrift::Types::BOOL, :name => 'snapshotRequired'}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
+  class Snapshot
+    include ::Thrift::Struct, ::Thrift::Struct_Union
+    USERS = 1
+    SEQUENCE = 2
+
+    FIELDS = {
+      USERS => {:type => ::Thrift::Types::LIST, :name => 'users', :element => {:type => ::Thrift::Types::STRUCT, :class => ::UserService::User}},
+      SEQUENCE => {:type => ::Thrift::Types::I64, :name => 'sequence'}
+    }
+
+    def struct_fields; FIELDS; end
+
+    def validate
+    end
+
+    ::Thrift::Struct.generate_accessors self
+  end
+
 end
@@ -46,7 +46,33 @@ cd ..
 kill $SERVER_PID 2>/dev/null || true
 wait $SERVER_PID 2>/dev/null || true
 
+# Start server with protocol detection; the same compact client should now succeed
+echo ""
+echo -e "${YELLOW}Starting server with AUTO protocol detection...${NC}"
+export THRIFT_PROTOCOL=auto
+cd java-server
+java -cp "target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)" com.example.Server > "../server-auto.log" 2>&1 &
+SERVER_PID=$!
+cd ..
+
+sleep 3
+
+echo -e "${YELLOW}Connecting with COMPACT protocol (should succeed)...${NC}"
+export THRIFT_PROTOCOL=compact
+cd java-client
+if java -cp "target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)" com.example.JavaClient > "../client-auto.log" 2>&1; then
+    echo -e "${GREEN}✓ Auto-detecting server accepted the compact client${NC}"
+else
+    echo -e "${RED}✗ Auto-detecting server rejected the compact client${NC}"
+fi
+cd ..
+
+kill $SERVER_PID 2>/dev/null || true
+wait $SERVER_PID 2>/dev/null || true
+
 echo ""
 echo -e "${BLUE}Test completed. Check logs for details:${NC}"
 echo "  - server-mismatch.log"
 echo "  - client-mismatch.log"
+echo "  - server-auto.log"
+echo "  - client-auto.log"
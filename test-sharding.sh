@@ -0,0 +1,50 @@
+#!/bin/bash
+
+# Run several shard servers locally and exercise the sharded Java client
+# Usage: ./test-sharding.sh [shards] [protocol]
+# Example: ./test-sharding.sh 3 compact
+
+SHARDS=${1:-3}
+PROTOCOL=${2:-binary}
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+cd "$SCRIPT_DIR"
+
+# Colors
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+echo -e "${BLUE}Testing ${SHARDS} shards with protocol: ${PROTOCOL}${NC}"
+echo ""
+
+export THRIFT_PROTOCOL=$PROTOCOL
+
+# Start one server per shard; shard N listens on 9091 + N
+echo -e "${YELLOW}Starting ${SHARDS} shard servers...${NC}"
+cd java-server
+SERVER_CP="target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)"
+SERVER_PIDS=()
+for ((shard = 0; shard < SHARDS; shard++)); do
+    THRIFT_SHARD_ID=$shard java -cp "$SERVER_CP" com.example.Server > /tmp/thrift_shard_$shard.log 2>&1 &
+    SERVER_PIDS+=($!)
+done
+cd ..
+
+# Wait for servers
+sleep 3
+
+# Run the sharded Java client
+echo -e "${YELLOW}Running sharded Java client...${NC}"
+cd java-client
+THRIFT_SHARDS=$SHARDS java -cp "target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)" com.example.JavaClient
+cd ..
+
+# Stop servers
+for pid in "${SERVER_PIDS[@]}"; do
+    kill $pid 2>/dev/null || true
+    wait $pid 2>/dev/null || true
+done
+
+echo ""
+echo -e "${GREEN}Shard servers stopped (logs in /tmp/thrift_shard_*.log)${NC}"
@@ -8,10 +8,90 @@ struct User {
     3: i32 age
 }
 
+// Predicate for listUsers; unset fields do not filter
+struct UserFilter {
+    1: optional i32 minAge,
+    2: optional i32 maxAge,
+    3: optional string namePrefix
+}
+
+// Fields listUsers should return; unselected fields are left unset
+struct UserProjection {
+    1: bool id,
+    2: bool name,
+    3: bool age
+}
+
+// Projected view of a User; only the selected fields are set
+struct UserView {
+    1: optional i64 id,
+    2: optional string name,
+    3: optional i32 age
+}
+
+// Number of users at a given age
+struct AgeCount {
+    1: i32 age,
+    2: i64 count
+}
+
+// User IDs updated or deleted since a client's last poll.
+// reset means the log no longer reaches back that far and caches must be cleared.
+struct InvalidationBatch {
+    1: i64 sequence,
+    2: list<i64> userIds,
+    3: bool reset
+}
+
 exception UserNotFoundException {
     1: string message
 }
 
+// Calls to one method since the server started
+struct MethodStats {
+    1: string method,
+    2: i64 calls,
+    3: i64 totalMicros,
+    4: i64 maxMicros,
+    // Heap allocated by the worker thread while processing, reply included
+    5: i64 allocatedBytes,
+    6: i64 bytesIn,
+    7: i64 bytesOut
+}
+
+struct ServiceStats {
+    1: i64 userCount,
+    2: i64 uptimeMillis,
+    3: string protocol,
+    // Set on read replicas only
+    4: optional i64 replicationLagMutations,
+    5: optional i64 replicationLagMillis,
+    // Set when the server tracks per-method metrics (THRIFT_METHOD_METRICS)
+    6: optional list<MethodStats> methods
+}
+
+// One store change on the primary; user is unset for a delete
+struct Mutation {
+    1: i64 sequence,
+    2: i64 userId,
+    3: optional User user,
+    4: i64 timestampMillis
+}
+
+// Mutations after a replica's last applied sequence.
+// snapshotRequired means the log no longer reaches back that far.
+struct MutationBatch {
+    1: list<Mutation> mutations,
+    2: i64 primarySequence,
+    3: bool snapshotRequired
+}
+
+// Every user on the primary as of sequence
+struct Snapshot {
+    1: list<User> users,
+    2: i64 sequence
+}
+
 service UserService {
     // Create a new user
     User createUser(1: string name, 2: i32 age),
@@ -32,5 +112,59 @@ service UserService {
     string validateUserData(1: required string name, 2: required i32 age, 3: required bool isActive),
     
     // Oneway method for fire-and-forget calls (no response expected)
-    oneway void logUserActivity(1: string action, 2: i64 userId, 3: string timestamp)
+    oneway void logUserActivity(1: string action, 2: i64 userId, 3: string timestamp),
+
+    // Find users with exactly this name (served from the name index)
+    list<User> findUsersByName(1: string name),
+
+    // Find up to limit users whose name starts with prefix, ordered by name
+    list<User> findUsersByNamePrefix(1: string prefix, 2: i32 limit),
+
+    // Find up to limit users with minAge <= age <= maxAge and ID greater than cursor, ordered by ID
+    list<User> findUsersByAgeRange(1: i32 minAge, 2: i32 maxAge, 3: i64 cursor, 4: i32 limit),
+
+    // Number of users at each age in [minAge, maxAge], omitting ages with no users
+    list<AgeCount> countByAge(1: i32 minAge, 2: i32 maxAge),
+
+    // List users matching filter, returning only the fields selected by projection
+    list<UserView> listUsers(1: UserFilter filter, 2: UserProjection projection),
+
+    // User IDs invalidated after sinceSequence, for client-side caches
+    InvalidationBatch pollInvalidations(1: i64 sinceSequence)
+}
+
+// Admin/stats service, multiplexed on the same port as UserService
+service AdminService {
+    // Liveness check
+    bool ping(),
+
+    // Server statistics
+    ServiceStats getStats()
+}
+
+// Bulk operations, multiplexed on the same port as UserService
+service BulkService {
+    // Create several users in one call
+    list<User> createUsers(1: list<User> users),
+
+    // Get the users that exist among the given IDs
+    list<User> getUsers(1: list<i64> userIds),
+
+    // Delete the users that exist among the given IDs, returning how many were removed
+    i32 deleteUsers(1: list<i64> userIds),
+
+    // Migration: up to limit users whose ID hashes into the ring range (fromHash, toHash], in ID order after cursor
+    list<User> exportUsers(1: i64 fromHash, 2: i64 toHash, 3: i64 cursor, 4: i32 limit),
+
+    // Migration: store users under their existing IDs, replacing any with the same ID
+    i32 importUsers(1: list<User> users)
+}
+
+// Log shipping from a primary to read replicas, multiplexed on the same port as UserService
+service ReplicationService {
+    // Up to limit mutations after sinceSequence, in primary order
+    MutationBatch pullMutations(1: i64 sinceSequence, 2: i32 limit),
+
+    // Full copy of the store, for replicas that fell too far behind
+    Snapshot getSnapshot()
 }
\ No newline at end of file